@@ -33,6 +33,11 @@ dependencies {
     implementation("org.springframework.boot:spring-boot-starter-web")
     implementation("org.springframework.boot:spring-boot-starter-validation")
 
+    // Metrics (Actuator + Prometheus)
+    implementation("org.springframework.boot:spring-boot-starter-actuator")
+    implementation("org.hibernate.orm:hibernate-micrometer")
+    runtimeOnly("io.micrometer:micrometer-registry-prometheus")
+
     // Environment Variables
     implementation("me.paulschwarz:spring-dotenv:4.0.0")
 
@@ -44,6 +49,13 @@ dependencies {
     // JSON Logging
     implementation("net.logstash.logback:logstash-logback-encoder:8.0")
 
+    // Local Cache
+    implementation("com.github.ben-manes.caffeine:caffeine")
+
+    // Hibernate 2nd-level Cache (JCache + Caffeine)
+    implementation("org.hibernate.orm:hibernate-jcache")
+    implementation("com.github.ben-manes.caffeine:jcache")
+
     compileOnly("org.projectlombok:lombok")
     developmentOnly("org.springframework.boot:spring-boot-devtools")
     developmentOnly("org.springframework.boot:spring-boot-docker-compose")
@@ -58,9 +70,29 @@ dependencies {
 
 tasks.withType<Test> {
     useJUnitPlatform()
+}
+
+tasks.test {
+    useJUnitPlatform {
+        excludeTags("benchmark") // 성능 비교 테스트는 benchmark 태스크에서만 실행
+    }
     finalizedBy(tasks.jacocoTestReport) // 테스트 후 자동으로 리포트 생성
 }
 
+// 성능 비교 테스트 (@Tag("benchmark"))
+tasks.register<Test>("benchmark") {
+    description = "Runs benchmark-tagged tests."
+    group = "verification"
+    testClassesDirs = sourceSets.test.get().output.classesDirs
+    classpath = sourceSets.test.get().runtimeClasspath
+    useJUnitPlatform {
+        includeTags("benchmark")
+    }
+    testLogging {
+        showStandardStreams = true
+    }
+}
+
 tasks.jacocoTestReport {
     dependsOn(tasks.test) // 테스트 실행 후에 리포트 생성
     reports {
@@ -0,0 +1,28 @@
+package com.study.jwtauth.application.service;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션 커밋 이후 실행 (캐시 무효화용)
+ * - 트랜잭션 안이면 커밋 이후 (롤백 시 실행하지 않음), 트랜잭션 밖이면 즉시 실행
+ * - 커밋 전에 무효화하면 동시 요청이 커밋 전 값을 다시 캐시할 수 있음
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class AfterCommit {
+
+    static void run(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,89 @@
+package com.study.jwtauth.application.service;
+
+import com.study.jwtauth.domain.user.User;
+import com.study.jwtauth.domain.user.UserCacheRegions;
+import com.study.jwtauth.infrastructure.cache.CacheNames;
+import com.study.jwtauth.infrastructure.cache.PostDetailCache;
+import com.study.jwtauth.infrastructure.cache.TwoLevelCacheManager;
+import com.study.jwtauth.presentataion.dto.response.CacheStatsResponse;
+import com.study.jwtauth.presentataion.dto.response.EntityCacheStatsResponse;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.EntityStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 캐시 운영 (관리자용)
+ */
+@Service
+@RequiredArgsConstructor
+public class CacheAdminService {
+
+    private final TwoLevelCacheManager cacheManager;
+    private final PostDetailCache postDetailCache;
+    private final EntityManagerFactory entityManagerFactory;
+
+    private static final List<String> USER_CACHE_REGIONS = List.of(
+            UserCacheRegions.USER,
+            UserCacheRegions.USER_NATURAL_ID,
+            UserCacheRegions.USER_PROVIDERS,
+            UserCacheRegions.USER_PROVIDER,
+            UserCacheRegions.USER_QUERIES
+    );
+
+    // 캐시별 적중률 조회 (현재 노드 기준)
+    public List<CacheStatsResponse> getCacheStats() {
+        List<CacheStatsResponse> responses = new ArrayList<>();
+        cacheManager.stats().forEach(stats -> responses.add(CacheStatsResponse.from(stats)));
+        responses.add(CacheStatsResponse.ofLocal(
+                CacheNames.POST_DETAIL,
+                postDetailCache.stats(),
+                postDetailCache.estimatedSize()
+        ));
+        responses.sort(Comparator.comparing(CacheStatsResponse::name));
+        return responses;
+    }
+
+    // Hibernate 2차 캐시 통계 (현재 노드 기준, hibernate.generate_statistics가 켜져 있을 때만 집계 - 기본은 dev만)
+    public EntityCacheStatsResponse getEntityCacheStats() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        List<EntityCacheStatsResponse.Region> regions = new ArrayList<>();
+        for (String regionName : USER_CACHE_REGIONS) {
+            regions.add(toRegion(regionName, statistics.getCacheRegionStatistics(regionName)));
+        }
+
+        EntityStatistics userStatistics = statistics.getEntityStatistics(User.class.getName());
+        return new EntityCacheStatsResponse(
+                statistics.isStatisticsEnabled(),
+                regions,
+                userStatistics.getCacheHitCount(),
+                userStatistics.getLoadCount(),
+                statistics.getNaturalIdCacheHitCount(),
+                statistics.getNaturalIdQueryExecutionCount(),
+                statistics.getQueryCacheHitCount(),
+                statistics.getQueryCacheMissCount()
+        );
+    }
+
+    // 아직 한 번도 사용되지 않은 쿼리 영역은 통계가 없음
+    private static EntityCacheStatsResponse.Region toRegion(String name, CacheRegionStatistics region) {
+        if (region == null) {
+            return EntityCacheStatsResponse.Region.of(name, 0, 0, 0, 0);
+        }
+        return EntityCacheStatsResponse.Region.of(
+                name,
+                region.getHitCount(),
+                region.getMissCount(),
+                region.getPutCount(),
+                region.getElementCountInMemory()
+        );
+    }
+}
@@ -0,0 +1,25 @@
+package com.study.jwtauth.application.service;
+
+import com.study.jwtauth.domain.user.UserNicknameChangedEvent;
+import com.study.jwtauth.infrastructure.cache.CacheNames;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 도메인 이벤트에 따른 선언적 캐시 무효화
+ * - 서비스 메서드 인자만으로 무효화 대상을 알 수 없는 경우를 이벤트로 처리
+ */
+@Slf4j
+@Service
+public class CacheEvictionService {
+
+    // 닉네임 변경 (User.updateOidcInfo) - 작성자 닉네임이 포함된 댓글 캐시와 목록 검증값 전체 무효화 (드문 변경)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    @CacheEvict(cacheNames = {CacheNames.COMMENT, CacheNames.POST_COMMENTS, CacheNames.COMMENT_STAMPS}, allEntries = true)
+    public void onNicknameChanged(UserNicknameChangedEvent event) {
+        log.debug("닉네임 변경으로 댓글 캐시 무효화: userId={}", event.userId());
+    }
+}
@@ -1,28 +1,43 @@
 package com.study.jwtauth.application.service;
 
+import com.study.jwtauth.application.service.TotalCountService.Total;
 import com.study.jwtauth.domain.comment.Comment;
 import com.study.jwtauth.domain.comment.CommentRepository;
 import com.study.jwtauth.domain.comment.CommentStatus;
+import com.study.jwtauth.domain.comment.ReplyCountView;
 import com.study.jwtauth.domain.comment.exception.CommentNotFoundException;
 import com.study.jwtauth.domain.comment.exception.InvalidCommentDepthException;
 import com.study.jwtauth.domain.post.Post;
+import com.study.jwtauth.domain.post.PostActivityEvent;
+import com.study.jwtauth.domain.post.PostActivityType;
 import com.study.jwtauth.domain.post.PostRepository;
 import com.study.jwtauth.domain.post.PostStatus;
 import com.study.jwtauth.domain.post.exception.PostNotFoundException;
 import com.study.jwtauth.domain.user.User;
 import com.study.jwtauth.domain.user.UserRepository;
+import com.study.jwtauth.infrastructure.cache.CacheNames;
+import com.study.jwtauth.infrastructure.profiling.Profiling;
+import com.study.jwtauth.infrastructure.query.CommentQueryDao;
+import com.study.jwtauth.infrastructure.query.ContentStamp;
+import com.study.jwtauth.presentataion.dto.common.CountMode;
 import com.study.jwtauth.presentataion.dto.common.PageResponse;
 import com.study.jwtauth.presentataion.dto.request.CreateCommentRequest;
 import com.study.jwtauth.presentataion.dto.request.UpdateCommentRequest;
 import com.study.jwtauth.presentataion.dto.response.CommentResponse;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -30,9 +45,20 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class CommentService {
 
+    private static final String POST_COMMENTS_COUNT_KEY_PREFIX = "comments:post:";
+    private static final String REPLIES_COUNT_KEY_PREFIX = "comments:replies:";
+    private static final String AUTHOR_COMMENTS_COUNT_KEY_PREFIX = "comments:author:";
+    // 목록 검증값 캐시 키 (@Cacheable key 표현식과 같은 형식)
+    private static final String POST_STAMP_KEY_PREFIX = "post:";
+    private static final String REPLIES_STAMP_KEY_PREFIX = "replies:";
+
     private final CommentRepository commentRepository;
+    private final CommentQueryDao commentQueryDao;
     private final UserRepository userRepository;
     private final PostRepository postRepository;
+    private final TotalCountService totalCountService;
+    private final CacheManager cacheManager;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 댓글 작성
     @Transactional
@@ -42,12 +68,19 @@ public class CommentService {
 
         Comment comment = Comment.createComment(request.content(), postId, userId);
         Comment savedComment = commentRepository.save(comment);
+        eventPublisher.publishEvent(PostActivityEvent.of(post, PostActivityType.COMMENTED));
+        evictAfterCommit(CacheNames.POST_COMMENTS, postId);
+        evictAfterCommit(CacheNames.COMMENT_STAMPS, POST_STAMP_KEY_PREFIX + postId);
+        totalCountService.evictAfterCommit(
+                POST_COMMENTS_COUNT_KEY_PREFIX + postId,
+                AUTHOR_COMMENTS_COUNT_KEY_PREFIX + userId
+        );
 
         User author = userRepository.findById(userId).orElse(null);
         return CommentResponse.of(savedComment, author, 0L);
     }
 
-    // 답글 작성
+    // 답글 작성 (원 댓글의 답글 수가 바뀌므로 원 댓글과 댓글 목록 무효화)
     @Transactional
     public CommentResponse createReply(Long postId, Long parentCommentId, CreateCommentRequest request, Long userId) {
         Post post = postRepository.findByIdAndStatus(postId, PostStatus.ACTIVE)
@@ -62,36 +95,89 @@ public class CommentService {
 
         Comment comment = Comment.createReply(request.content(), postId, userId, parentCommentId);
         Comment savedComment = commentRepository.save(comment);
+        eventPublisher.publishEvent(PostActivityEvent.of(post, PostActivityType.COMMENTED));
+        evictAfterCommit(CacheNames.POST_COMMENTS, postId);
+        evictAfterCommit(CacheNames.COMMENT, parentCommentId);
+        evictAfterCommit(CacheNames.COMMENT_STAMPS, POST_STAMP_KEY_PREFIX + postId);
+        evictAfterCommit(CacheNames.COMMENT_STAMPS, REPLIES_STAMP_KEY_PREFIX + parentCommentId);
+        totalCountService.evictAfterCommit(
+                REPLIES_COUNT_KEY_PREFIX + parentCommentId,
+                AUTHOR_COMMENTS_COUNT_KEY_PREFIX + userId
+        );
 
         User author = userRepository.findById(userId).orElse(null);
         return CommentResponse.of(savedComment, author, 0L);
     }
 
-    // 게시글의 댓글 목록 조회
-    public PageResponse<CommentResponse> getCommentsByPostId(Long postId, Pageable pageable) {
-        Page<Comment> comments = commentRepository.findCommentsByPostIdAndStatus(postId, CommentStatus.ACTIVE, pageable);
+    // 게시글의 댓글 목록 조회 (기본 정렬·정확한 개수의 첫 페이지만 캐시)
+    // 댓글 수를 따로 유지하지 않으므로 APPROXIMATE는 CACHED로 동작
+    // 기본 정렬은 JDBC 읽기 경로 (작성자 닉네임·답글 수를 한 쿼리로), 정렬을 지정한 요청만 JPA 경로
+    @Cacheable(
+            cacheNames = CacheNames.POST_COMMENTS,
+            key = "#postId",
+            condition = "#pageable.pageNumber == 0 && #pageable.pageSize == 20 && #pageable.sort.unsorted"
+                    + " && #countMode.name() == 'EXACT'",
+            sync = true
+    )
+    public PageResponse<CommentResponse> getCommentsByPostId(Long postId, Pageable pageable, CountMode countMode) {
+        Slice<CommentResponse> comments = pageable.getSort().isUnsorted()
+                ? commentQueryDao.findCommentsByPostId(postId, pageable)
+                : toResponseSliceWithReplyCount(
+                        commentRepository.findCommentsByPostIdAndStatus(postId, CommentStatus.ACTIVE, pageable));
+        Total total = totalCountService.count(
+                countMode,
+                comments,
+                POST_COMMENTS_COUNT_KEY_PREFIX + postId,
+                () -> commentRepository.countByPostIdAndParentCommentIdIsNullAndStatus(postId, CommentStatus.ACTIVE)
+        );
+
+        return PageResponse.of(comments, comments.getContent(), total.value(), total.exact());
+    }
+
+    // 게시글의 댓글 목록 조건부 GET 검증값 (목록을 만들지 않고 집계 한 번)
+    // 목록 첫 페이지와 같은 시점에 무효화되므로 캐시 적중 시 집계 쿼리 없음
+    @Cacheable(cacheNames = CacheNames.COMMENT_STAMPS, key = "'post:' + #postId", sync = true)
+    public ContentStamp getCommentsStamp(Long postId) {
+        return commentQueryDao.findPostCommentsStamp(postId);
+    }
 
-        return convertToPageResponseWithReplyCount(comments);
+    // 답글 목록 조건부 GET 검증값
+    @Cacheable(cacheNames = CacheNames.COMMENT_STAMPS, key = "'replies:' + #commentId", sync = true)
+    public ContentStamp getRepliesStamp(Long commentId) {
+        return commentQueryDao.findRepliesStamp(commentId);
     }
 
     // 댓글의 답글 목록 조회
-    public PageResponse<CommentResponse> getRepliesByCommentId(Long commentId, Pageable pageable) {
+    public PageResponse<CommentResponse> getRepliesByCommentId(Long commentId, Pageable pageable, CountMode countMode) {
         commentRepository.findByIdAndStatus(commentId, CommentStatus.ACTIVE)
                 .orElseThrow(CommentNotFoundException::new);
 
-        Page<Comment> replies = commentRepository.findRepliesByParentCommentIdAndStatus(commentId, CommentStatus.ACTIVE, pageable);
+        Slice<Comment> replies = commentRepository.findRepliesByParentCommentIdAndStatus(commentId, CommentStatus.ACTIVE, pageable);
+        Total total = totalCountService.count(
+                countMode,
+                replies,
+                REPLIES_COUNT_KEY_PREFIX + commentId,
+                () -> commentRepository.countByParentCommentIdAndStatus(commentId, CommentStatus.ACTIVE)
+        );
 
-        return convertToPageResponse(replies);
+        return convertToPageResponse(replies, total);
     }
 
     // 사용자의 댓글/답글 목록 조회
-    public PageResponse<CommentResponse> getCommentsByAuthor(Long authorId, Pageable pageable) {
-        Page<Comment> comments = commentRepository.findCommentsByAuthorIdAndStatus(authorId, CommentStatus.ACTIVE, pageable);
+    public PageResponse<CommentResponse> getCommentsByAuthor(Long authorId, Pageable pageable, CountMode countMode) {
+        Slice<Comment> comments = commentRepository.findCommentsByAuthorIdAndStatus(authorId, CommentStatus.ACTIVE, pageable);
+        Total total = totalCountService.count(
+                countMode,
+                comments,
+                AUTHOR_COMMENTS_COUNT_KEY_PREFIX + authorId,
+                () -> commentRepository.countByAuthorIdAndStatus(authorId, CommentStatus.ACTIVE)
+        );
 
-        return convertToPageResponse(comments);
+        return convertToPageResponse(comments, total);
     }
 
     // 댓글/답글 상세 조회
+    @Cacheable(cacheNames = CacheNames.COMMENT, key = "#commentId", sync = true)
     public CommentResponse getComment(Long commentId) {
         Comment comment = commentRepository.findByIdAndStatus(commentId, CommentStatus.ACTIVE)
                 .orElseThrow(CommentNotFoundException::new);
@@ -105,13 +191,20 @@ public class CommentService {
         return CommentResponse.of(comment, author, replyCount);
     }
 
-    // 댓글/답글 수정
+    // 댓글/답글 수정 (expectedVersions: If-Match로 받은 버전 목록, null이면 검사하지 않음)
+    // 응답에 증가된 version을 담기 위해 커밋 전에 flush
     @Transactional
-    public CommentResponse updateComment(Long commentId, UpdateCommentRequest request, Long userId) {
+    public CommentResponse updateComment(Long commentId, UpdateCommentRequest request, Long userId,
+                                         Set<Long> expectedVersions) {
         Comment comment = commentRepository.findByIdAndStatus(commentId, CommentStatus.ACTIVE)
                 .orElseThrow(CommentNotFoundException::new);
 
+        comment.verifyVersion(expectedVersions);
         comment.update(request.content(), userId);
+        commentRepository.flush();
+        evictAfterCommit(CacheNames.COMMENT, commentId);
+        evictAfterCommit(CacheNames.POST_COMMENTS, comment.getPostId());
+        evictStampsAfterCommit(comment);
 
         User user = userRepository.findById(userId).orElse(null);
         Long replyCount = comment.isComment()
@@ -121,18 +214,53 @@ public class CommentService {
         return CommentResponse.of(comment, user, replyCount);
     }
 
-    // 댓글/답글 삭제
+    // 댓글/답글 삭제 (expectedVersions: If-Match로 받은 버전 목록, null이면 검사하지 않음)
+    // 삭제한 댓글과 게시글의 댓글 목록, 답글이면 답글 수가 바뀐 원 댓글 무효화
     @Transactional
-    public void deleteComment(Long commentId, Long userId) {
+    public void deleteComment(Long commentId, Long userId, Set<Long> expectedVersions) {
         Comment comment = commentRepository.findByIdAndStatus(commentId, CommentStatus.ACTIVE)
                 .orElseThrow(CommentNotFoundException::new);
 
+        comment.verifyVersion(expectedVersions);
         comment.delete(userId);
+        evictAfterCommit(CacheNames.COMMENT, commentId);
+        evictAfterCommit(CacheNames.POST_COMMENTS, comment.getPostId());
+        if (comment.isReply()) {
+            evictAfterCommit(CacheNames.COMMENT, comment.getParentCommentId());
+        }
+        evictStampsAfterCommit(comment);
+        totalCountService.evictAfterCommit(
+                comment.isReply()
+                        ? REPLIES_COUNT_KEY_PREFIX + comment.getParentCommentId()
+                        : POST_COMMENTS_COUNT_KEY_PREFIX + comment.getPostId(),
+                AUTHOR_COMMENTS_COUNT_KEY_PREFIX + comment.getAuthorId()
+        );
+    }
+
+    // 댓글 캐시 무효화 (커밋 이후 - 커밋 전 값이 다른 요청/노드에서 다시 캐시되지 않도록)
+    private void evictAfterCommit(String cacheName, Object key) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            AfterCommit.run(() -> cache.evict(key));
+        }
     }
 
-    // Page<Comment>를 PageResponse<CommentResponse>로 변환 (답글 개수 포함)
-    private PageResponse<CommentResponse> convertToPageResponseWithReplyCount(Page<Comment> commentPage) {
-        List<Comment> comments = commentPage.getContent();
+    // 댓글이 속한 게시글의 목록 검증값, 답글이면 원 댓글의 답글 목록 검증값 무효화
+    private void evictStampsAfterCommit(Comment comment) {
+        evictAfterCommit(CacheNames.COMMENT_STAMPS, POST_STAMP_KEY_PREFIX + comment.getPostId());
+        if (comment.isReply()) {
+            evictAfterCommit(CacheNames.COMMENT_STAMPS, REPLIES_STAMP_KEY_PREFIX + comment.getParentCommentId());
+        }
+    }
+
+    // Slice<Comment>를 Slice<CommentResponse>로 변환 (답글 개수 포함)
+    private Slice<CommentResponse> toResponseSliceWithReplyCount(Slice<Comment> commentSlice) {
+        return Profiling.convertPage("CommentResponse", commentSlice.getSize(),
+                () -> buildResponseSliceWithReplyCount(commentSlice));
+    }
+
+    private Slice<CommentResponse> buildResponseSliceWithReplyCount(Slice<Comment> commentSlice) {
+        List<Comment> comments = commentSlice.getContent();
 
         List<Long> authorIds = comments.stream()
                 .map(Comment::getAuthorId)
@@ -144,39 +272,41 @@ public class CommentService {
                 .stream()
                 .collect(Collectors.toMap(User::getId, user -> user));
 
-        Map<Long, Long> replyCountMap = comments.stream()
-                .collect(Collectors.toMap(
-                        Comment::getId,
-                        comment -> commentRepository.countByParentCommentIdAndStatus(
-                                comment.getId(),
-                                CommentStatus.ACTIVE
-                        )
-                ));
+        Map<Long, Long> replyCountMap = countReplies(comments);
 
         List<CommentResponse> commentResponses = comments.stream()
                 .map(comment -> {
                     User author = userMap.get(comment.getAuthorId());
-                    Long replyCount = replyCountMap.get(comment.getId());
+                    Long replyCount = replyCountMap.getOrDefault(comment.getId(), 0L);
                     return CommentResponse.of(comment, author, replyCount);
                 })
                 .toList();
 
-        return new PageResponse<>(
-                commentResponses,
-                commentPage.getNumber(),
-                commentPage.getSize(),
-                commentPage.getTotalElements(),
-                commentPage.getTotalPages(),
-                commentPage.isFirst(),
-                commentPage.isLast(),
-                commentPage.hasNext(),
-                commentPage.hasPrevious()
-        );
+        return new SliceImpl<>(commentResponses, commentSlice.getPageable(), commentSlice.hasNext());
     }
 
-    // Page<Comment>를 PageResponse<CommentResponse>로 변환 (답글 개수 없음)
-    private PageResponse<CommentResponse> convertToPageResponse(Page<Comment> commentPage) {
-        List<Comment> comments = commentPage.getContent();
+    // 댓글별 답글 수를 한 번에 집계 (댓글마다 COUNT하지 않도록)
+    private Map<Long, Long> countReplies(List<Comment> comments) {
+        if (comments.isEmpty()) {
+            return Map.of();
+        }
+        List<Long> commentIds = comments.stream()
+                .map(Comment::getId)
+                .toList();
+
+        return commentRepository.countRepliesByParentCommentIds(commentIds, CommentStatus.ACTIVE)
+                .stream()
+                .collect(Collectors.toMap(ReplyCountView::getParentCommentId, ReplyCountView::getReplyCount));
+    }
+
+    // Slice<Comment>를 PageResponse<CommentResponse>로 변환 (답글 개수 없음)
+    private PageResponse<CommentResponse> convertToPageResponse(Slice<Comment> commentSlice, Total total) {
+        return Profiling.convertPage("CommentResponse", commentSlice.getSize(),
+                () -> buildPageResponse(commentSlice, total));
+    }
+
+    private PageResponse<CommentResponse> buildPageResponse(Slice<Comment> commentSlice, Total total) {
+        List<Comment> comments = commentSlice.getContent();
 
         List<Long> authorIds = comments.stream()
                 .map(Comment::getAuthorId)
@@ -194,16 +324,6 @@ public class CommentService {
                 })
                 .toList();
 
-        return new PageResponse<>(
-                commentResponses,
-                commentPage.getNumber(),
-                commentPage.getSize(),
-                commentPage.getTotalElements(),
-                commentPage.getTotalPages(),
-                commentPage.isFirst(),
-                commentPage.isLast(),
-                commentPage.hasNext(),
-                commentPage.hasPrevious()
-        );
+        return PageResponse.of(commentSlice, commentResponses, total.value(), total.exact());
     }
 }
@@ -0,0 +1,24 @@
+package com.study.jwtauth.application.service;
+
+import com.study.jwtauth.infrastructure.logging.BoundedAsyncAppender;
+import com.study.jwtauth.presentataion.dto.response.AsyncLogStatsResponse;
+import org.springframework.stereotype.Service;
+
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 로깅 운영 (관리자용)
+ */
+@Service
+public class LoggingAdminService {
+
+    // 비동기 로그 큐 상태 (현재 노드 기준)
+    public List<AsyncLogStatsResponse> getAsyncLogStats() {
+        return BoundedAsyncAppender.registered()
+                .stream()
+                .map(appender -> AsyncLogStatsResponse.from(appender.stats()))
+                .sorted(Comparator.comparing(AsyncLogStatsResponse::name))
+                .toList();
+    }
+}
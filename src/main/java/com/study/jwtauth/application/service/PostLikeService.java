@@ -1,6 +1,9 @@
 package com.study.jwtauth.application.service;
 
+import com.study.jwtauth.application.service.TotalCountService.Total;
 import com.study.jwtauth.domain.post.Post;
+import com.study.jwtauth.domain.post.PostActivityEvent;
+import com.study.jwtauth.domain.post.PostActivityType;
 import com.study.jwtauth.domain.post.PostRepository;
 import com.study.jwtauth.domain.post.PostStatus;
 import com.study.jwtauth.domain.post.exception.PostNotFoundException;
@@ -10,14 +13,23 @@ import com.study.jwtauth.domain.postlike.exception.AlreadyLikedException;
 import com.study.jwtauth.domain.postlike.exception.PostLikeNotFoundException;
 import com.study.jwtauth.domain.user.User;
 import com.study.jwtauth.domain.user.UserRepository;
+import com.study.jwtauth.infrastructure.profiling.Profiling;
+import com.study.jwtauth.infrastructure.query.PostLikeQueryDao;
+import com.study.jwtauth.infrastructure.query.PostQueryDao;
+import com.study.jwtauth.presentataion.dto.common.CountMode;
 import com.study.jwtauth.presentataion.dto.common.PageResponse;
 import com.study.jwtauth.presentataion.dto.response.PostLikeResponse;
 import com.study.jwtauth.presentataion.dto.response.PostResponse;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 import java.util.List;
 import java.util.Map;
@@ -28,9 +40,16 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class PostLikeService {
 
+    private static final String POST_LIKES_COUNT_KEY_PREFIX = "likes:post:";
+    private static final String LIKED_POSTS_COUNT_KEY_PREFIX = "likes:user:";
+
     private final PostLikeRepository postLikeRepository;
+    private final PostLikeQueryDao postLikeQueryDao;
+    private final PostQueryDao postQueryDao;
     private final PostRepository postRepository;
     private final UserRepository userRepository;
+    private final TotalCountService totalCountService;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 게시글에 좋아요 추가
     @Transactional
@@ -46,6 +65,8 @@ public class PostLikeService {
         postLikeRepository.save(postLike);
 
         post.incrementLikeCount();
+        eventPublisher.publishEvent(PostActivityEvent.of(post, PostActivityType.LIKED));
+        totalCountService.evictAfterCommit(POST_LIKES_COUNT_KEY_PREFIX + postId, LIKED_POSTS_COUNT_KEY_PREFIX + userId);
     }
 
     // 게시글 좋아요 취소
@@ -55,9 +76,29 @@ public class PostLikeService {
                 .orElseThrow(PostLikeNotFoundException::new);
 
         postLikeRepository.delete(postLike);
+        totalCountService.evictAfterCommit(POST_LIKES_COUNT_KEY_PREFIX + postId, LIKED_POSTS_COUNT_KEY_PREFIX + userId);
 
         postRepository.findByIdAndStatus(postId, PostStatus.ACTIVE)
-                .ifPresent(Post::decrementLikeCount);
+                .ifPresent(post -> {
+                    post.decrementLikeCount();
+                    eventPublisher.publishEvent(PostActivityEvent.of(post, PostActivityType.UNLIKED));
+                });
+    }
+
+    // 게시글 삭제 반영 (트랜잭션 커밋 이후) - 좋아요한 사용자들의 "좋아요한 게시글" 개수 캐시 무효화
+    // 좋아요 기록은 남아 있으므로 삭제 이후에 조회 (커밋된 트랜잭션과 분리된 읽기 전용 트랜잭션)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onPostDeleted(PostActivityEvent event) {
+        if (event.type() != PostActivityType.DELETED) {
+            return;
+        }
+        String[] keys = postLikeRepository.findUserIdsByPostId(event.postId()).stream()
+                .map(userId -> LIKED_POSTS_COUNT_KEY_PREFIX + userId)
+                .toArray(String[]::new);
+        if (keys.length > 0) {
+            totalCountService.evictAfterCommit(keys);
+        }
     }
 
     // 특정 게시물의 좋아요 여부 확인
@@ -65,21 +106,46 @@ public class PostLikeService {
         return postLikeRepository.existsByPostIdAndUserId(postId, userId);
     }
 
-    // 게시글에 좋아요 누른 사용자 목록 조회
-    public PageResponse<PostLikeResponse> getPostLikes(Long postId, Pageable pageable) {
-        Page<PostLike> postLikes = postLikeRepository.findByPostId(postId, pageable);
-        return convertToPostLikePageResponse(postLikes);
+    // 게시글에 좋아요 누른 사용자 목록 조회 (근사 개수는 게시글의 likeCount)
+    // 기본 정렬(좋아요 최신순)은 JDBC 읽기 경로, 정렬을 지정한 요청만 JPA 경로
+    public PageResponse<PostLikeResponse> getPostLikes(Long postId, Pageable pageable, CountMode countMode) {
+        Slice<PostLikeResponse> postLikes = pageable.getSort().isUnsorted()
+                ? postLikeQueryDao.findByPostId(postId, pageable)
+                : toPostLikeResponseSlice(postLikeRepository.findByPostId(postId, pageable));
+        Total total = totalCountService.count(
+                countMode,
+                postLikes,
+                POST_LIKES_COUNT_KEY_PREFIX + postId,
+                () -> postLikeRepository.countByPostId(postId),
+                () -> postRepository.findById(postId).map(post -> post.getLikeCount().longValue())
+        );
+        return PageResponse.of(postLikes, postLikes.getContent(), total.value(), total.exact());
     }
 
     // 내가 좋아요한 게시글 목록 조회
-    public PageResponse<PostResponse> getLikedPosts(Long userId, Pageable pageable) {
-        Page<PostLike> postLikes = postLikeRepository.findByUserIdWithActivePost(userId, pageable);
-        return convertToPostPageResponse(postLikes);
+    // 게시글 삭제로 줄어드는 개수는 onPostDeleted에서 좋아요한 사용자별로 무효화
+    // 기본 정렬은 JDBC 읽기 경로 (좋아요·게시글·작성자를 한 쿼리로)
+    public PageResponse<PostResponse> getLikedPosts(Long userId, Pageable pageable, CountMode countMode) {
+        Slice<PostResponse> posts = pageable.getSort().isUnsorted()
+                ? postQueryDao.findActivePostsLikedBy(userId, pageable)
+                : toPostResponseSlice(postLikeRepository.findByUserIdWithActivePost(userId, pageable));
+        Total total = totalCountService.count(
+                countMode,
+                posts,
+                LIKED_POSTS_COUNT_KEY_PREFIX + userId,
+                () -> postLikeRepository.countByUserIdWithActivePost(userId)
+        );
+        return PageResponse.of(posts, posts.getContent(), total.value(), total.exact());
     }
 
-    // 헬퍼 - Page<PostLike>를 PageResponse<PostLikeResponse>로 변환
-    private PageResponse<PostLikeResponse> convertToPostLikePageResponse(Page<PostLike> postLikePage) {
-        List<PostLike> postLikes = postLikePage.getContent();
+    // 헬퍼 - Slice<PostLike>를 Slice<PostLikeResponse>로 변환
+    private Slice<PostLikeResponse> toPostLikeResponseSlice(Slice<PostLike> postLikeSlice) {
+        return Profiling.convertPage("PostLikeResponse", postLikeSlice.getSize(),
+                () -> buildPostLikeResponseSlice(postLikeSlice));
+    }
+
+    private Slice<PostLikeResponse> buildPostLikeResponseSlice(Slice<PostLike> postLikeSlice) {
+        List<PostLike> postLikes = postLikeSlice.getContent();
 
         List<Long> userIds = postLikes
                 .stream()
@@ -99,22 +165,17 @@ public class PostLikeService {
                 })
                 .toList();
 
-        return new PageResponse<>(
-                postLikeResponses,
-                postLikePage.getNumber(),
-                postLikePage.getSize(),
-                postLikePage.getTotalElements(),
-                postLikePage.getTotalPages(),
-                postLikePage.isFirst(),
-                postLikePage.isLast(),
-                postLikePage.hasNext(),
-                postLikePage.hasPrevious()
-        );
+        return new SliceImpl<>(postLikeResponses, postLikeSlice.getPageable(), postLikeSlice.hasNext());
     }
 
-    // 헬퍼 - Page<PostLike>를 PageResponse<PostResponse>로 변환
-    private PageResponse<PostResponse> convertToPostPageResponse(Page<PostLike> postLikePage) {
-        List<PostLike> postLikes = postLikePage.getContent();
+    // 헬퍼 - Slice<PostLike>를 Slice<PostResponse>로 변환
+    private Slice<PostResponse> toPostResponseSlice(Slice<PostLike> postLikeSlice) {
+        return Profiling.convertPage("PostResponse", postLikeSlice.getSize(),
+                () -> buildPostResponseSlice(postLikeSlice));
+    }
+
+    private Slice<PostResponse> buildPostResponseSlice(Slice<PostLike> postLikeSlice) {
+        List<PostLike> postLikes = postLikeSlice.getContent();
 
         List<Long> postIds = postLikes
                 .stream()
@@ -145,16 +206,6 @@ public class PostLikeService {
                 })
                 .toList();
 
-        return new PageResponse<>(
-                postResponses,
-                postLikePage.getNumber(),
-                postLikePage.getSize(),
-                postLikePage.getTotalElements(),
-                postLikePage.getTotalPages(),
-                postLikePage.isFirst(),
-                postLikePage.isLast(),
-                postLikePage.hasNext(),
-                postLikePage.hasPrevious()
-        );
+        return new SliceImpl<>(postResponses, postLikeSlice.getPageable(), postLikeSlice.hasNext());
     }
 }
@@ -0,0 +1,173 @@
+package com.study.jwtauth.application.service;
+
+import com.study.jwtauth.domain.post.PostActivityEvent;
+import com.study.jwtauth.domain.post.PostCounterView;
+import com.study.jwtauth.domain.post.PostRepository;
+import com.study.jwtauth.domain.post.PostViewedEvent;
+import com.study.jwtauth.infrastructure.config.RankingProperties;
+import com.study.jwtauth.infrastructure.config.TrendingProperties;
+import com.study.jwtauth.infrastructure.ranking.PostLeaderboard;
+import com.study.jwtauth.infrastructure.ranking.PostLeaderboard.Board;
+import com.study.jwtauth.infrastructure.ranking.TrendingBoard;
+import com.study.jwtauth.infrastructure.ranking.UniqueViewCounter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 인기글 랭킹 유지
+ * - 조회/좋아요 이벤트로 Redis Sorted Set과 고유 조회자 HyperLogLog를 증분 갱신
+ * - 주기적으로 DB 카운터(고유 조회자 수는 HyperLogLog 추정치) 기준 전체 재구축 (이벤트 유실/동시성 오차 보정)
+ *   조회수는 이 노드에서 아직 DB에 반영되지 않은 누적분(PostViewCountService)을 더함
+ *   (다른 노드의 누적분은 해당 노드의 flush 이후 다음 재구축에서 반영)
+ * - 조회/좋아요/댓글 이벤트를 시간 감쇠 트렌딩 점수에 누적
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostRankingService {
+
+    private final PostRepository postRepository;
+    private final PostLeaderboard postLeaderboard;
+    private final RankingProperties rankingProperties;
+    private final TrendingBoard trendingBoard;
+    private final TrendingProperties trendingProperties;
+    private final UniqueViewCounter uniqueViewCounter;
+    private final PostViewCountService postViewCountService;
+
+    // 게시글 활동 반영 (트랜잭션 커밋 이후)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onPostActivity(PostActivityEvent event) {
+        Long postId = event.postId();
+
+        switch (event.type()) {
+            case CREATED -> postLeaderboard.add(postId);
+            case DELETED -> {
+                postLeaderboard.remove(postId);
+                trendingBoard.remove(postId);
+                uniqueViewCounter.remove(postId);
+            }
+            case LIKED -> {
+                postLeaderboard.increment(Board.LIKES, postId, 1);
+                recordTrending(postId, trendingProperties.getLikeWeight());
+            }
+            case UNLIKED -> postLeaderboard.increment(Board.LIKES, postId, -1);
+            case COMMENTED -> recordTrending(postId, trendingProperties.getCommentWeight());
+            default -> {
+            }
+        }
+    }
+
+    // 게시글 조회 반영 (트랜잭션 커밋 이후)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    // 롤백된 조회는 기록하지 않고, Redis 지연이 조회 트랜잭션 시간에 더해지지 않음
+    public void onPostViewed(PostViewedEvent event) {
+        Long postId = event.postId();
+        postLeaderboard.increment(Board.VIEWS, postId, 1);
+        recordTrending(postId, trendingProperties.getViewWeight());
+
+        uniqueViewCounter.observe(postId, event.viewerKey())
+                .filter(UniqueViewCounter.Observation::newViewer)
+                .ifPresent(observation -> postLeaderboard.increment(Board.UNIQUE_VIEWS, postId, 1));
+    }
+
+    // 트렌딩 점수 누적 (좋아요 취소는 과거 기여분을 알 수 없으므로 시간 감쇠에 맡김)
+    private void recordTrending(Long postId, double weight) {
+        trendingBoard.record(postId, weight, System.currentTimeMillis());
+    }
+
+    // 애플리케이션 기동 시 랭킹 구축
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        rebuild();
+    }
+
+    // 주기적인 전체 재구축
+    @Scheduled(
+            initialDelayString = "${post.ranking.rebuild-interval:PT30M}",
+            fixedDelayString = "${post.ranking.rebuild-interval:PT30M}"
+    )
+    public void rebuild() {
+        Optional<String> lockToken = postLeaderboard.tryLockRebuild(rankingProperties.getRebuildLockTtl());
+        if (lockToken.isEmpty()) {
+            log.debug("다른 인스턴스에서 인기글 랭킹을 재구축 중이거나 Redis를 사용할 수 없습니다.");
+            return;
+        }
+
+        long start = System.currentTimeMillis();
+        Map<Board, String> stagingKeys = new EnumMap<>(Board.class);
+        try {
+            for (Board board : Board.values()) {
+                stagingKeys.put(board, postLeaderboard.newStagingKey(board));
+            }
+
+            long afterId = 0L;
+            long total = 0L;
+            List<PostCounterView> batch;
+            do {
+                long cursor = afterId;
+                Map<Long, Double> views = new LinkedHashMap<>();
+                batch = postViewCountService.withFlushPaused(() -> {
+                    List<PostCounterView> counters = postRepository.findActiveCounters(
+                            cursor,
+                            PageRequest.of(0, rankingProperties.getRebuildBatchSize())
+                    );
+                    for (PostCounterView counter : counters) {
+                        int viewCount = counter.getViewCount() + postViewCountService.pending(counter.getId());
+                        views.put(counter.getId(), (double) viewCount);
+                    }
+                    return counters;
+                });
+
+                Map<Long, Long> estimates = uniqueViewCounter.estimates(
+                        batch.stream().map(PostCounterView::getId).toList()
+                );
+
+                Map<Long, Double> likes = new LinkedHashMap<>();
+                Map<Long, Double> uniqueViews = new LinkedHashMap<>();
+                for (PostCounterView counter : batch) {
+                    likes.put(counter.getId(), counter.getLikeCount().doubleValue());
+                    uniqueViews.put(counter.getId(), estimates.getOrDefault(counter.getId(), 0L).doubleValue());
+                    afterId = counter.getId();
+                }
+                postLeaderboard.stage(stagingKeys.get(Board.VIEWS), views);
+                postLeaderboard.stage(stagingKeys.get(Board.LIKES), likes);
+                postLeaderboard.stage(stagingKeys.get(Board.UNIQUE_VIEWS), uniqueViews);
+                total += batch.size();
+            } while (batch.size() == rankingProperties.getRebuildBatchSize());
+
+            stagingKeys.forEach(postLeaderboard::publish);
+            stagingKeys.clear();
+
+            log.info("인기글 랭킹 재구축 완료: size={}, elapsed={}ms", total, System.currentTimeMillis() - start);
+        } catch (DataAccessException e) {
+            log.warn("인기글 랭킹 재구축 실패: {}", e.getMessage());
+        } finally {
+            // 교체하지 못한 임시 키는 진행 중 등록을 해제하여 증분 갱신이 더 이상 기록되지 않도록 함
+            stagingKeys.forEach(postLeaderboard::discard);
+            postLeaderboard.unlockRebuild(lockToken.get());
+        }
+    }
+
+    // 트렌딩 랭킹 크기 제한 (점수가 낮은 오래된 게시글 정리)
+    @Scheduled(
+            initialDelayString = "${post.trending.trim-interval:PT10M}",
+            fixedDelayString = "${post.trending.trim-interval:PT10M}"
+    )
+    public void trimTrending() {
+        trendingBoard.trim();
+    }
+}
@@ -1,26 +1,57 @@
 package com.study.jwtauth.application.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.study.jwtauth.application.service.TotalCountService.Total;
 import com.study.jwtauth.domain.post.Post;
+import com.study.jwtauth.domain.post.PostActivityEvent;
+import com.study.jwtauth.domain.post.PostActivityType;
 import com.study.jwtauth.domain.post.PostRepository;
 import com.study.jwtauth.domain.post.PostStatus;
+import com.study.jwtauth.domain.post.PostViewedEvent;
 import com.study.jwtauth.domain.post.exception.PostAccessDeniedException;
 import com.study.jwtauth.domain.post.exception.PostNotFoundException;
 import com.study.jwtauth.domain.user.User;
 import com.study.jwtauth.domain.user.UserRepository;
 import com.study.jwtauth.domain.user.exception.UserNotFoundException;
+import com.study.jwtauth.infrastructure.config.PageCacheProperties;
+import com.study.jwtauth.infrastructure.cache.EarlyRefreshCache;
+import com.study.jwtauth.infrastructure.cache.PostDetailCache;
+import com.study.jwtauth.infrastructure.profiling.Profiling;
+import com.study.jwtauth.infrastructure.query.ContentStamp;
+import com.study.jwtauth.infrastructure.query.PostCounters;
+import com.study.jwtauth.infrastructure.query.PostQueryDao;
+import com.study.jwtauth.infrastructure.ranking.PostLeaderboard;
+import com.study.jwtauth.infrastructure.ranking.PostLeaderboard.Board;
+import com.study.jwtauth.infrastructure.ranking.PostLeaderboard.RankedPage;
+import com.study.jwtauth.infrastructure.ranking.TrendingBoard;
+import com.study.jwtauth.infrastructure.ranking.UniqueViewCounter;
+import com.study.jwtauth.presentataion.dto.common.CountMode;
+import com.study.jwtauth.presentataion.dto.common.CursorResponse;
 import com.study.jwtauth.presentataion.dto.common.PageResponse;
 import com.study.jwtauth.presentataion.dto.request.CreatePostRequest;
 import com.study.jwtauth.presentataion.dto.request.UpdatePostRequest;
+import com.study.jwtauth.presentataion.dto.response.PostDetailResponse;
 import com.study.jwtauth.presentataion.dto.response.PostResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 @Service
@@ -28,8 +59,22 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class PostService {
 
+    private static final String ACTIVE_POSTS_COUNT_KEY = "posts:active";
+    private static final String AUTHOR_POSTS_COUNT_KEY_PREFIX = "posts:author:";
+
     private final PostRepository postRepository;
+    private final PostQueryDao postQueryDao;
     private final UserRepository userRepository;
+    private final PostLeaderboard postLeaderboard;
+    private final TrendingBoard trendingBoard;
+    private final UniqueViewCounter uniqueViewCounter;
+    private final PostDetailCache postDetailCache;
+    private final EarlyRefreshCache earlyRefreshCache;
+    private final PageCacheProperties pageCacheProperties;
+    private final TotalCountService totalCountService;
+    private final PostViewCountService postViewCountService;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 게시글 생성
     @Transactional
@@ -41,54 +86,119 @@ public class PostService {
         User user = userRepository.findById(authorId)
                 .orElseThrow(UserNotFoundException::new);
 
+        eventPublisher.publishEvent(PostActivityEvent.of(savedPost, PostActivityType.CREATED));
+        totalCountService.evictAfterCommit(ACTIVE_POSTS_COUNT_KEY, AUTHOR_POSTS_COUNT_KEY_PREFIX + authorId);
+        AfterCommit.run(earlyRefreshCache::clear);
+
         return PostResponse.of(savedPost, user.getNickname());
     }
 
-    // 게시글 상세 조회
-    @Transactional
-    public PostResponse getPost(Long postId) {
-        Post post = postRepository.findByIdAndStatus(postId, PostStatus.ACTIVE)
+    // 게시글 상세 조회 (viewerKey: 고유 조회자 식별자 - 사용자 ID 또는 클라이언트 IP)
+    // - 매 요청은 카운터/버전 한 행만 조회하고, 본문(작성자 닉네임 포함)은 버전으로 검증한 캐시에서 사용
+    // - 조회수 증가와 랭킹/고유 조회자/통계 반영은 커밋 이후 (PostViewedEvent, 조회 트랜잭션에서는 DB/Redis에 쓰지 않음)
+    // - notModified가 검증값(ContentStamp)과 일치한다고 판단하면 본문 없이 empty (304)
+    //   304 재검증도 게시글을 다시 본 것이므로 조회로 셈
+    public Optional<PostDetailResponse> getPost(Long postId, String viewerKey, Predicate<ContentStamp> notModified) {
+        PostCounters counters = postQueryDao.findActivePostCounters(postId)
                 .orElseThrow(PostNotFoundException::new);
 
-        post.incrementViewCount();
+        // 이번 조회를 포함한 조회수 (DB 값 + 아직 반영되지 않은 누적분)
+        int viewCount = counters.viewCount() + postViewCountService.pending(postId) + 1;
+        eventPublisher.publishEvent(new PostViewedEvent(
+                postId, counters.authorId(), counters.likeCount(), viewCount, viewerKey));
 
-        User author = userRepository.findById(post.getAuthorId())
-                .orElseThrow(UserNotFoundException::new);
+        if (notModified.test(counters.stamp())) {
+            return Optional.empty();
+        }
 
-        return PostResponse.of(post, author.getNickname());
+        PostDetailCache.Entry cached = postDetailCache.get(postId, counters.version(), this::loadDetail);
+
+        // 고유 조회자 기록(PFADD)은 커밋 이후이므로 처음 조회한 사용자의 응답에는 이번 조회가 빠질 수 있음
+        Long uniqueViewCount = uniqueViewCounter.estimates(List.of(postId)).get(postId);
+
+        return Optional.of(PostDetailResponse.of(cached.body(), counters, viewCount, uniqueViewCount));
     }
 
-    // 전체 작성글 조회
-    public PageResponse<PostResponse> getPosts(Pageable pageable) {
-        Page<Post> posts = postRepository.findByStatusOrderByCreatedAtDesc(PostStatus.ACTIVE, pageable);
-        return convertToPageResponse(posts);
+    // 전체 작성글 조회 (첫 페이지는 캐시, 근사 개수는 랭킹에 등록된 게시글 수)
+    // 기본 정렬은 JDBC 읽기 경로, 정렬을 지정한 요청만 JPA 경로
+    public PageResponse<PostResponse> getPosts(Pageable pageable, CountMode countMode) {
+        return firstPageCached("posts:" + countMode, pageable, () -> {
+            Slice<PostResponse> posts = pageable.getSort().isUnsorted()
+                    ? postQueryDao.findActivePosts(pageable)
+                    : toPostResponseSlice(postRepository.findByStatusOrderByCreatedAtDescIdDesc(PostStatus.ACTIVE, pageable));
+            Total total = totalCountService.count(
+                    countMode,
+                    posts,
+                    ACTIVE_POSTS_COUNT_KEY,
+                    () -> postRepository.countByStatus(PostStatus.ACTIVE),
+                    () -> postLeaderboard.size(Board.VIEWS)
+            );
+            return convertToPageResponse(posts, total);
+        });
     }
 
-    // 내 작성글 조회
-    public PageResponse<PostResponse> getMyPosts(Long userId, Pageable pageable) {
-        Page<Post> posts = postRepository.findByAuthorIdAndStatusOrderByCreatedAtDesc(userId, PostStatus.ACTIVE, pageable);
-        return convertToPageResponse(posts);
+    // 내 작성글 조회 (기본 정렬은 JDBC 읽기 경로)
+    public PageResponse<PostResponse> getMyPosts(Long userId, Pageable pageable, CountMode countMode) {
+        Slice<PostResponse> posts = pageable.getSort().isUnsorted()
+                ? postQueryDao.findActivePostsByAuthor(userId, pageable)
+                : toPostResponseSlice(postRepository.findByAuthorIdAndStatusOrderByCreatedAtDescIdDesc(userId, PostStatus.ACTIVE, pageable));
+        Total total = totalCountService.count(
+                countMode,
+                posts,
+                AUTHOR_POSTS_COUNT_KEY_PREFIX + userId,
+                () -> postRepository.countByAuthorIdAndStatus(userId, PostStatus.ACTIVE)
+        );
+        return convertToPageResponse(posts, total);
     }
 
-    // 인기글 조회(조회수)
+    // 인기글 조회(조회수) - Redis 랭킹 우선, 사용할 수 없으면 DB 조회 (첫 페이지는 캐시)
     public PageResponse<PostResponse> getMostViewedPosts(Pageable pageable) {
-        Page<Post> posts = postRepository.findMostViewedPosts(pageable);
-        return convertToPageResponse(posts);
+        return firstPageCached("popular:views", pageable, () ->
+                postLeaderboard.page(Board.VIEWS, 0, pageable.getOffset(), pageable.getPageSize())
+                        .map(rankedPage -> convertToPageResponse(rankedPage, pageable))
+                        .orElseGet(() -> convertToPageResponse(postRepository.findMostViewedPosts(pageable)))
+        );
     }
 
-    // 인기글 조회(좋아요 수)
+    // 인기글 조회(좋아요 수) - Redis 랭킹 우선, 사용할 수 없으면 DB 조회
+    // 첫 페이지는 설정된 기준값(post.page-cache.like-thresholds)일 때만 캐시, 음수 기준값은 0으로 취급
     public PageResponse<PostResponse> getMostLikedPosts(int threshold, Pageable pageable) {
-        Page<Post> posts = postRepository.findMostLikedPosts(threshold, pageable);
-        return convertToPageResponse(posts);
+        int minLikes = Math.max(0, threshold);
+        Supplier<PageResponse<PostResponse>> loader = () ->
+                postLeaderboard.page(Board.LIKES, minLikes, pageable.getOffset(), pageable.getPageSize())
+                        .map(rankedPage -> convertToPageResponse(rankedPage, pageable))
+                        .orElseGet(() -> convertToPageResponse(postRepository.findMostLikedPosts(minLikes, pageable)));
+        if (!pageCacheProperties.getLikeThresholds().contains(minLikes)) {
+            return loader.get();
+        }
+        return firstPageCached("popular:likes:" + minLikes, pageable, loader);
     }
 
-    // 게시글 수정
+    // 트렌딩 게시글 조회 (시간 감쇠 점수, 커서 기반)
+    public CursorResponse<PostResponse> getTrendingPosts(String cursor, int size) {
+        return trendingBoard.page(cursor, size)
+                .map(page -> CursorResponse.of(toPostResponses(findActivePostsInOrder(page.postIds())), page.nextCursor()))
+                .orElseGet(CursorResponse::empty);
+    }
+
+    // 인기글 조회(고유 조회자 수) - Redis 랭킹 우선, 사용할 수 없으면 DB 조회수 기준으로 대체
+    public PageResponse<PostResponse> getMostUniqueViewedPosts(Pageable pageable) {
+        return postLeaderboard.page(Board.UNIQUE_VIEWS, 0, pageable.getOffset(), pageable.getPageSize())
+                .map(rankedPage -> convertToPageResponse(rankedPage, pageable))
+                .orElseGet(() -> convertToPageResponse(postRepository.findMostViewedPosts(pageable)));
+    }
+
+    // 게시글 수정 (expectedVersions: If-Match로 받은 버전 목록, null이면 검사하지 않음)
+    // 응답에 증가된 version을 담기 위해 커밋 전에 flush
     @Transactional
-    public PostResponse updatePost(Long postId, UpdatePostRequest request, Long userId) {
+    public PostResponse updatePost(Long postId, UpdatePostRequest request, Long userId, Set<Long> expectedVersions) {
         Post post = postRepository.findByIdAndStatus(postId, PostStatus.ACTIVE)
                 .orElseThrow(PostNotFoundException::new);
 
+        post.verifyVersion(expectedVersions);
         post.update(request.title(), request.content(), userId);
+        postRepository.flush();
+        eventPublisher.publishEvent(PostActivityEvent.of(post, PostActivityType.UPDATED));
 
         User author = userRepository.findById(userId)
                 .orElseThrow(UserNotFoundException::new);
@@ -96,18 +206,71 @@ public class PostService {
         return PostResponse.of(post, author);
     }
 
-    // 게시글 삭제
+    // 게시글 삭제 (expectedVersions: If-Match로 받은 버전 목록, null이면 검사하지 않음)
     @Transactional
-    public void deletePost(Long postId, Long userId) {
+    public void deletePost(Long postId, Long userId, Set<Long> expectedVersions) {
         Post post = postRepository.findByIdAndStatus(postId, PostStatus.ACTIVE)
                 .orElseThrow(PostNotFoundException::new);
 
+        post.verifyVersion(expectedVersions);
         post.delete(userId);
+        eventPublisher.publishEvent(PostActivityEvent.of(post, PostActivityType.DELETED));
+        totalCountService.evictAfterCommit(ACTIVE_POSTS_COUNT_KEY, AUTHOR_POSTS_COUNT_KEY_PREFIX + post.getAuthorId());
+        AfterCommit.run(earlyRefreshCache::clear);
+    }
+
+    // 헬퍼 - 거의 모든 세션이 요청하는 첫 페이지만 확률적 조기 갱신 캐시로 제공
+    // 게시글 생성/삭제 시 커밋 이후 전체 무효화, 그 밖의 변경(조회수/좋아요/수정)은 논리적 만료로 반영
+    private PageResponse<PostResponse> firstPageCached(String prefix, Pageable pageable,
+                                                       Supplier<PageResponse<PostResponse>> loader) {
+        if (pageable.getPageNumber() != 0 || pageable.getPageSize() > pageCacheProperties.getMaxPageSize()) {
+            return loader.get();
+        }
+        String key = prefix + ":" + pageable.getPageSize() + ":" + pageable.getSort();
+        return earlyRefreshCache.get(key, loader);
+    }
+
+    // 헬퍼 - 게시글 상세 본문 적재 (게시글/작성자 조회 + 카운터를 제외한 JSON 직렬화)
+    // 캐시에 넣을 값이므로 호출자가 먼저 읽은 값이 아닌 적재 시점의 게시글을 사용
+    private PostDetailCache.Entry loadDetail(Long postId) {
+        Post post = postRepository.findByIdAndStatus(postId, PostStatus.ACTIVE)
+                .orElseThrow(PostNotFoundException::new);
+        User author = userRepository.findById(post.getAuthorId())
+                .orElseThrow(UserNotFoundException::new);
+
+        try {
+            PostDetailResponse.Body body = PostDetailResponse.Body.of(post, author.getNickname());
+            return new PostDetailCache.Entry(post.getAuthorId(), post.getVersion(), body.serialize(objectMapper));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
     }
 
     // 헬퍼 - Page<Post>를 PageResponse<PostResponse>로 변환
     private PageResponse<PostResponse> convertToPageResponse(Page<Post> postPage) {
-        List<Post> posts = postPage.getContent();
+        return Profiling.convertPage("PostResponse", postPage.getSize(),
+                () -> PageResponse.of(postPage, toPostResponses(postPage.getContent())));
+    }
+
+    // 헬퍼 - Slice<PostResponse>와 전체 개수를 PageResponse<PostResponse>로 변환 (고유 조회자 수 반영)
+    private PageResponse<PostResponse> convertToPageResponse(Slice<PostResponse> postSlice, Total total) {
+        return Profiling.convertPage("PostResponse", postSlice.getSize(),
+                () -> PageResponse.of(postSlice, withUniqueViewCounts(postSlice.getContent()), total.value(), total.exact()));
+    }
+
+    // 헬퍼 - JPA로 조회한 Slice<Post>를 Slice<PostResponse>로 변환 (고유 조회자 수 제외)
+    private Slice<PostResponse> toPostResponseSlice(Slice<Post> postSlice) {
+        return Profiling.convertPage("PostResponse", postSlice.getSize(),
+                () -> new SliceImpl<>(toPostResponsesWithAuthor(postSlice.getContent()), postSlice.getPageable(), postSlice.hasNext()));
+    }
+
+    // 헬퍼 - 작성자와 고유 조회자 수를 한 번에 조회하여 PostResponse 목록으로 변환 (순서 유지)
+    private List<PostResponse> toPostResponses(List<Post> posts) {
+        return withUniqueViewCounts(toPostResponsesWithAuthor(posts));
+    }
+
+    // 헬퍼 - 작성자를 한 번에 조회하여 PostResponse 목록으로 변환 (순서 유지)
+    private List<PostResponse> toPostResponsesWithAuthor(List<Post> posts) {
         List<Long> authorIds = posts
                 .stream()
                 .map(Post::getAuthorId)
@@ -118,23 +281,38 @@ public class PostService {
                 .stream()
                 .collect(Collectors.toMap(User::getId, user -> user));
 
-        List<PostResponse> postResponses = posts.stream()
-                .map(post -> {
-                    User author = authorMap.get(post.getAuthorId());
-                    return PostResponse.of(post, author);
-                })
+        return posts.stream()
+                .map(post -> PostResponse.of(post, authorMap.get(post.getAuthorId())))
                 .toList();
+    }
 
-        return new PageResponse<>(
-                postResponses,
-                postPage.getNumber(),
-                postPage.getSize(),
-                postPage.getTotalElements(),
-                postPage.getTotalPages(),
-                postPage.isFirst(),
-                postPage.isLast(),
-                postPage.hasNext(),
-                postPage.hasPrevious()
+    // 헬퍼 - 고유 조회자 수를 한 번에 조회하여 반영
+    private List<PostResponse> withUniqueViewCounts(List<PostResponse> posts) {
+        Map<Long, Long> uniqueViewCounts = uniqueViewCounter.estimates(
+                posts.stream().map(PostResponse::id).toList()
         );
+
+        return posts.stream()
+                .map(post -> post.withUniqueViewCount(uniqueViewCounts.get(post.id())))
+                .toList();
+    }
+
+    // 헬퍼 - 랭킹 페이지(게시글 ID 목록)를 PageResponse<PostResponse>로 변환 (ID 순서 유지)
+    private PageResponse<PostResponse> convertToPageResponse(RankedPage rankedPage, Pageable pageable) {
+        List<Post> posts = findActivePostsInOrder(rankedPage.postIds());
+        return convertToPageResponse(new PageImpl<>(posts, pageable, rankedPage.total()));
+    }
+
+    // 헬퍼 - ID 목록 순서대로 활성 게시글 조회 (삭제된 게시글 제외)
+    private List<Post> findActivePostsInOrder(List<Long> postIds) {
+        Map<Long, Post> postMap = postRepository.findAllById(postIds)
+                .stream()
+                .filter(Post::isActive)
+                .collect(Collectors.toMap(Post::getId, post -> post));
+
+        return postIds.stream()
+                .map(postMap::get)
+                .filter(Objects::nonNull)
+                .toList();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,69 @@
+package com.study.jwtauth.application.service;
+
+import com.study.jwtauth.domain.post.Post;
+import com.study.jwtauth.domain.post.PostActivityEvent;
+import com.study.jwtauth.domain.post.PostRepository;
+import com.study.jwtauth.domain.post.PostStatus;
+import com.study.jwtauth.domain.post.PostViewedEvent;
+import com.study.jwtauth.domain.post.exception.PostAccessDeniedException;
+import com.study.jwtauth.domain.post.exception.PostNotFoundException;
+import com.study.jwtauth.infrastructure.stats.PostActivityStats;
+import com.study.jwtauth.infrastructure.stats.PostActivityStats.Metric;
+import com.study.jwtauth.presentataion.dto.response.PostStatsResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 게시글 활동 통계 (작성자용)
+ * - 조회/좋아요/댓글 이벤트를 Redis 시간별/일별 카운터에 기록 (모든 노드 합산)
+ * - 활동이 기록된 게시글은 posts 테이블을 조회하지 않고 기록된 작성자 ID로 권한 확인
+ */
+@Service
+@RequiredArgsConstructor
+public class PostStatsService {
+
+    private final PostActivityStats postActivityStats;
+    private final PostRepository postRepository;
+
+    // 게시글 활동 반영 (트랜잭션 커밋 이후)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onPostActivity(PostActivityEvent event) {
+        Post post = event.post();
+        long now = System.currentTimeMillis();
+
+        switch (event.type()) {
+            case LIKED -> postActivityStats.record(post.getId(), post.getAuthorId(), Metric.LIKES, now);
+            case COMMENTED -> postActivityStats.record(post.getId(), post.getAuthorId(), Metric.COMMENTS, now);
+            case DELETED -> postActivityStats.remove(post.getId(), now);
+            default -> {
+            }
+        }
+    }
+
+    // 게시글 조회 반영 (트랜잭션 커밋 이후)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onPostViewed(PostViewedEvent event) {
+        postActivityStats.record(event.postId(), event.authorId(), Metric.VIEWS, System.currentTimeMillis());
+    }
+
+    // 게시글 활동 통계 조회 (작성자만)
+    public PostStatsResponse getStats(Long postId, Long userId) {
+        Long authorId = postActivityStats.findAuthorId(postId)
+                .orElseGet(() -> findAuthorIdOf(postId));
+
+        if (!authorId.equals(userId)) {
+            throw new PostAccessDeniedException();
+        }
+
+        return PostStatsResponse.of(postId, postActivityStats.snapshot(postId, System.currentTimeMillis()));
+    }
+
+    // 최근 활동이 없는 게시글은 존재 여부와 작성자 확인을 위해서만 DB 조회
+    private Long findAuthorIdOf(Long postId) {
+        return postRepository.findByIdAndStatus(postId, PostStatus.ACTIVE)
+                .map(Post::getAuthorId)
+                .orElseThrow(PostNotFoundException::new);
+    }
+}
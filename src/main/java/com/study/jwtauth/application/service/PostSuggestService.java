@@ -0,0 +1,161 @@
+package com.study.jwtauth.application.service;
+
+import com.study.jwtauth.domain.post.Post;
+import com.study.jwtauth.domain.post.PostActivityEvent;
+import com.study.jwtauth.domain.post.PostRepository;
+import com.study.jwtauth.domain.post.PostTitleView;
+import com.study.jwtauth.domain.post.PostViewedEvent;
+import com.study.jwtauth.infrastructure.config.SuggestProperties;
+import com.study.jwtauth.infrastructure.search.PostTitleIndex;
+import com.study.jwtauth.presentataion.dto.response.PostSuggestionResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * 게시글 제목 자동완성
+ * - 메모리 내 접두어 인덱스에서 조회하여 키 입력마다 DB를 조회하지 않음
+ * - 게시글 작성/수정/삭제/좋아요/조회 이벤트로 증분 갱신, 주기적으로 전체 재구축
+ * - 재구축 중에 들어온 변경은 기록해 두었다가 교체 직전에 새 인덱스에 다시 적용
+ *   (변경은 모두 절대값 반영이므로 DB 조회 결과에 이미 포함된 변경을 다시 적용해도 결과가 같음)
+ */
+@Slf4j
+@Service
+public class PostSuggestService {
+
+    private final PostRepository postRepository;
+    private final SuggestProperties suggestProperties;
+
+    private volatile PostTitleIndex index;
+
+    // 변경 적용(읽기 잠금, 동시 실행)과 인덱스 교체(쓰기 잠금)를 배타적으로 실행하여 교체 중 변경이 유실되지 않도록 함
+    private final ReentrantReadWriteLock swapLock = new ReentrantReadWriteLock();
+
+    // 재구축 중에 적용된 변경 (재구축 중이 아니면 null)
+    private volatile Queue<Consumer<PostTitleIndex>> replay;
+
+    public PostSuggestService(PostRepository postRepository, SuggestProperties suggestProperties) {
+        this.postRepository = postRepository;
+        this.suggestProperties = suggestProperties;
+        this.index = newIndex();
+    }
+
+    // 제목 자동완성 조회
+    public List<PostSuggestionResponse> suggest(String query, int limit) {
+        return index.suggest(query, limit)
+                .stream()
+                .map(PostSuggestionResponse::from)
+                .toList();
+    }
+
+    // 게시글 활동 반영 (트랜잭션 커밋 이후)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onPostActivity(PostActivityEvent event) {
+        Post post = event.post();
+
+        Long postId = post.getId();
+        long weight = weightOf(post.getLikeCount(), post.getViewCount());
+        switch (event.type()) {
+            case CREATED, UPDATED -> {
+                String title = post.getTitle();
+                apply(target -> target.put(postId, title, weight));
+            }
+            case DELETED -> apply(target -> target.remove(postId));
+            case LIKED, UNLIKED -> apply(target -> target.updateWeight(postId, weight, true));
+        }
+    }
+
+    // 게시글 조회 반영 (트랜잭션 커밋 이후)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onPostViewed(PostViewedEvent event) {
+        Long postId = event.postId();
+        long weight = weightOf(event.likeCount(), event.viewCount());
+        apply(target -> target.updateWeight(postId, weight, false));
+    }
+
+    // 현재 인덱스에 반영하고, 재구축 중이면 새 인덱스에 다시 적용하도록 기록
+    private void apply(Consumer<PostTitleIndex> change) {
+        swapLock.readLock().lock();
+        try {
+            change.accept(index);
+            Queue<Consumer<PostTitleIndex>> pending = replay;
+            if (pending != null) {
+                pending.add(change);
+            }
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    // 애플리케이션 기동 시 인덱스 적재
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        rebuild();
+    }
+
+    // 조회수 변화에 따른 후보 순위 보정을 위해 주기적으로 전체 재구축
+    @Scheduled(
+            initialDelayString = "${post.suggest.rebuild-interval:PT10M}",
+            fixedDelayString = "${post.suggest.rebuild-interval:PT10M}"
+    )
+    public synchronized void rebuild() {
+        long start = System.currentTimeMillis();
+
+        // DB 조회 전부터 기록 (조회 이후 커밋된 변경이 새 인덱스에서 빠지지 않도록)
+        Queue<Consumer<PostTitleIndex>> pending = new ConcurrentLinkedQueue<>();
+        this.replay = pending;
+        PostTitleIndex rebuilt = newIndex();
+        int replayed = 0;
+        try {
+            List<PostTitleView> titles = postRepository.findActiveTitles(
+                    PageRequest.of(0, suggestProperties.getMaxPosts())
+            );
+            titles.forEach(view -> rebuilt.put(
+                    view.getId(),
+                    view.getTitle(),
+                    weightOf(view.getLikeCount(), view.getViewCount())
+            ));
+
+            swapLock.writeLock().lock();
+            try {
+                for (Consumer<PostTitleIndex> change : pending) {
+                    change.accept(rebuilt);
+                    replayed++;
+                }
+                this.index = rebuilt;
+            } finally {
+                swapLock.writeLock().unlock();
+            }
+        } finally {
+            this.replay = null;
+        }
+
+        log.info("게시글 자동완성 인덱스 재구축 완료: size={}, replayed={}, elapsed={}ms",
+                rebuilt.size(), replayed, System.currentTimeMillis() - start);
+    }
+
+    private PostTitleIndex newIndex() {
+        return new PostTitleIndex(
+                suggestProperties.getMaxPosts(),
+                suggestProperties.getMaxKeyLength(),
+                suggestProperties.getMaxKeysPerTitle(),
+                suggestProperties.getCandidatesPerNode()
+        );
+    }
+
+    private long weightOf(Integer likeCount, Integer viewCount) {
+        return likeCount * suggestProperties.getLikeWeight()
+                + viewCount * suggestProperties.getViewWeight();
+    }
+}
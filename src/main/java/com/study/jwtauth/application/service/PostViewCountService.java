@@ -0,0 +1,107 @@
+package com.study.jwtauth.application.service;
+
+import com.study.jwtauth.domain.post.PostRepository;
+import com.study.jwtauth.domain.post.PostViewedEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * 게시글 조회수 지연 반영 (write-behind)
+ *
+ * - 상세 조회는 조회수를 노드 메모리에 누적만 하고, flush-interval마다 게시글별 UPDATE 한 번으로 반영
+ *   (조회 트랜잭션이 게시글 행을 쓰거나 잠그지 않음)
+ * - 아직 반영되지 않은 조회수는 같은 노드의 상세 응답에 더해서 보여줌
+ * - 종료 시 남은 누적분을 반영하며, 비정상 종료 시 반영 전 조회수는 유실될 수 있음
+ *   (인기글 랭킹은 주기적 재구축 시 DB 조회수 + 누적분 기준으로 보정됨)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostViewCountService {
+
+    private final PostRepository postRepository;
+
+    private final Map<Long, Integer> pending = new ConcurrentHashMap<>();
+
+    // DB 조회수와 누적분을 함께 읽는 동안 누적분이 DB로 옮겨지지 않도록 막음
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    // 게시글 조회 반영 (트랜잭션 커밋 이후)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onPostViewed(PostViewedEvent event) {
+        pending.merge(event.postId(), 1, Integer::sum);
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 조회수 (현재 노드 기준)
+     */
+    public int pending(Long postId) {
+        return pending.getOrDefault(postId, 0);
+    }
+
+    /**
+     * flush를 멈춘 상태에서 조회 (DB 조회수 + pending()을 합산할 때 사용)
+     * 두 값을 읽는 사이에 flush가 끼어들면 같은 조회수가 양쪽에서 모두 빠지거나 두 번 더해짐
+     */
+    public <T> T withFlushPaused(Supplier<T> reader) {
+        flushLock.lock();
+        try {
+            return reader.get();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @Scheduled(
+            initialDelayString = "${post.view-count.flush-interval:PT5S}",
+            fixedDelayString = "${post.view-count.flush-interval:PT5S}"
+    )
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        flushLock.lock();
+        try {
+            flushPending();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void flushPending() {
+        int flushed = 0;
+        for (Long postId : List.copyOf(pending.keySet())) {
+            // 꺼낸 뒤에 들어온 조회는 새 항목으로 누적되어 다음 주기에 반영
+            Integer delta = pending.remove(postId);
+            if (delta == null) {
+                continue;
+            }
+            try {
+                postRepository.incrementViewCount(postId, delta);
+                flushed++;
+            } catch (DataAccessException e) {
+                pending.merge(postId, delta, Integer::sum);
+                log.warn("조회수 반영 실패: postId={}, delta={}, cause={}", postId, delta, e.getMessage());
+            }
+        }
+        log.debug("조회수 반영: posts={}", flushed);
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
@@ -0,0 +1,133 @@
+package com.study.jwtauth.application.service;
+
+import com.study.jwtauth.infrastructure.config.ProfilingProperties;
+import com.study.jwtauth.infrastructure.profiling.RecordingInProgressException;
+import com.study.jwtauth.presentataion.dto.response.JfrRecordingResponse;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * JFR 기록 운영 (관리자용)
+ *
+ * - 지정한 시간 동안 JDK 기본 이벤트(CPU 샘플, GC, 락 등)와 애플리케이션 이벤트(com.study.jwtauth.*)를 기록
+ * - 시간이 지나면 JFR이 자동으로 종료하고 서버 로컬 디스크에 .jfr 파일로 저장
+ * - 노드당 동시에 하나만 기록
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProfilingAdminService {
+
+    private static final DateTimeFormatter FILE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+    private static final Duration MIN_DURATION = Duration.ofSeconds(1);
+
+    private final ProfilingProperties properties;
+
+    private final AtomicReference<ActiveRecording> active = new AtomicReference<>();
+
+    private record ActiveRecording(Recording recording, Path file, LocalDateTime startedAt) {
+    }
+
+    /**
+     * 기록 시작 (duration이 null이면 기본값, 최대값을 넘으면 최대값으로 제한)
+     */
+    public JfrRecordingResponse startRecording(Duration duration) {
+        releaseFinished();
+        Duration bounded = bound(duration);
+        LocalDateTime startedAt = LocalDateTime.now();
+        Path file = Path.of(properties.getDirectory())
+                .toAbsolutePath()
+                .resolve("jwtauth-" + startedAt.format(FILE_TIME) + ".jfr");
+
+        Recording recording = newRecording(file, bounded);
+        ActiveRecording started = new ActiveRecording(recording, file, startedAt);
+        if (!active.compareAndSet(null, started)) {
+            recording.close();
+            throw new RecordingInProgressException();
+        }
+
+        try {
+            recording.start();
+        } catch (RuntimeException e) {
+            // 시작하지 못한 기록이 자리를 차지하면 이후 요청이 모두 409가 되므로 비우고 자원 해제
+            active.compareAndSet(started, null);
+            recording.close();
+            throw e;
+        }
+        log.info("JFR 기록 시작: file={}, duration={}", file, bounded);
+        return toResponse(started);
+    }
+
+    // 진행 중이거나 마지막으로 시작한 기록
+    public Optional<JfrRecordingResponse> getCurrentRecording() {
+        return Optional.ofNullable(active.get()).map(ProfilingAdminService::toResponse);
+    }
+
+    private Recording newRecording(Path file, Duration duration) {
+        try {
+            Files.createDirectories(file.getParent());
+            Recording recording = new Recording(Configuration.getConfiguration(properties.getSettings()));
+            recording.setName(file.getFileName().toString());
+            recording.setToDisk(true);
+            recording.setDuration(duration);
+            recording.setDestination(file);
+            return recording;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (ParseException e) {
+            throw new IllegalStateException("JFR 설정을 읽을 수 없습니다: " + properties.getSettings(), e);
+        }
+    }
+
+    // 기록 시간이 지나 종료된 기록은 파일 저장이 끝났으므로 자원 해제 후 새 기록 허용
+    private void releaseFinished() {
+        ActiveRecording current = active.get();
+        if (current == null) {
+            return;
+        }
+        RecordingState state = current.recording().getState();
+        if (state == RecordingState.STOPPED || state == RecordingState.CLOSED) {
+            if (active.compareAndSet(current, null)) {
+                current.recording().close();
+            }
+        }
+    }
+
+    private Duration bound(Duration duration) {
+        if (duration == null) {
+            return properties.getDefaultDuration();
+        }
+        if (duration.compareTo(MIN_DURATION) < 0) {
+            return MIN_DURATION;
+        }
+        return duration.compareTo(properties.getMaxDuration()) > 0 ? properties.getMaxDuration() : duration;
+    }
+
+    private static JfrRecordingResponse toResponse(ActiveRecording active) {
+        Recording recording = active.recording();
+        Duration duration = recording.getDuration();
+        return new JfrRecordingResponse(
+                recording.getId(),
+                recording.getName(),
+                recording.getState().name(),
+                active.file().toString(),
+                active.startedAt(),
+                duration != null ? duration.toSeconds() : 0
+        );
+    }
+}
@@ -0,0 +1,32 @@
+package com.study.jwtauth.application.service;
+
+import com.study.jwtauth.infrastructure.datasource.SqlStatementStats;
+import com.study.jwtauth.presentataion.dto.response.SqlStatementStatsResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * SQL 실행 통계 (관리자용)
+ */
+@Service
+@RequiredArgsConstructor
+public class SqlAdminService {
+
+    private static final int MAX_LIMIT = 200;
+
+    private final SqlStatementStats sqlStatementStats;
+
+    // 총 소요 시간이 큰 문장 형태 순 (현재 노드 기준)
+    public List<SqlStatementStatsResponse> getStatementStats(int limit) {
+        return sqlStatementStats.top(Math.max(1, Math.min(limit, MAX_LIMIT)))
+                .stream()
+                .map(SqlStatementStatsResponse::from)
+                .toList();
+    }
+
+    public void resetStatementStats() {
+        sqlStatementStats.reset();
+    }
+}
@@ -0,0 +1,81 @@
+package com.study.jwtauth.application.service;
+
+import com.study.jwtauth.infrastructure.cache.CacheNames;
+import com.study.jwtauth.presentataion.dto.common.CountMode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * 페이지 응답의 전체 개수 계산
+ *
+ * - EXACT: 매 요청 COUNT 쿼리
+ * - CACHED: COUNT 결과를 2단계 캐시(pageCounts)에 보관, 쓰기 트랜잭션 커밋 후 무효화 (정확한 값으로 취급)
+ * - APPROXIMATE: 별도로 유지되는 카운터 사용 (랭킹 ZCARD, 게시글 likeCount 등)
+ *   카운터가 없거나 사용할 수 없으면 CACHED로 동작
+ *
+ * 모든 방식 공통: 마지막 페이지면 전체 개수를 현재 페이지로 알 수 있으므로 COUNT 없이 정확한 값 반환
+ */
+@Slf4j
+@Service
+public class TotalCountService {
+
+    private final Cache cache;
+
+    public TotalCountService(CacheManager cacheManager) {
+        this.cache = cacheManager.getCache(CacheNames.PAGE_COUNTS);
+    }
+
+    /**
+     * 전체 개수
+     *
+     * @param value 전체 개수
+     * @param exact 정확한 값 여부
+     */
+    public record Total(long value, boolean exact) {
+    }
+
+    public Total count(CountMode mode, Slice<?> slice, String key, LongSupplier exactCounter) {
+        return count(mode, slice, key, exactCounter, Optional::empty);
+    }
+
+    public Total count(CountMode mode, Slice<?> slice, String key, LongSupplier exactCounter,
+                       Supplier<Optional<Long>> approximateCounter) {
+        if (!slice.hasNext() && (slice.hasContent() || slice.isFirst())) {
+            return new Total((long) slice.getNumber() * slice.getSize() + slice.getNumberOfElements(), true);
+        }
+
+        return switch (mode) {
+            case EXACT -> new Total(exactCounter.getAsLong(), true);
+            case CACHED -> cached(key, exactCounter);
+            case APPROXIMATE -> approximateCounter.get()
+                    .map(value -> new Total(value, false))
+                    .orElseGet(() -> cached(key, exactCounter));
+        };
+    }
+
+    /**
+     * 캐시된 개수 무효화 (트랜잭션 안이면 커밋 이후 - 커밋 전 개수가 다시 캐시되지 않도록)
+     */
+    public void evictAfterCommit(String... keys) {
+        AfterCommit.run(() -> evict(keys));
+    }
+
+    private Total cached(String key, LongSupplier exactCounter) {
+        Long value = cache.get(key, exactCounter::getAsLong);
+        return new Total(value != null ? value : exactCounter.getAsLong(), true);
+    }
+
+    private void evict(String... keys) {
+        for (String key : keys) {
+            cache.evict(key);
+        }
+        log.debug("전체 개수 캐시 무효화: keys={}", (Object) keys);
+    }
+}
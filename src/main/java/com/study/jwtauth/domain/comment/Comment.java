@@ -1,22 +1,30 @@
 package com.study.jwtauth.domain.comment;
 
 import com.study.jwtauth.domain.comment.exception.CommentAccessDeniedException;
+import com.study.jwtauth.domain.comment.exception.CommentVersionConflictException;
 import com.study.jwtauth.domain.comment.exception.InvalidCommentContentException;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.time.LocalDateTime;
 import java.util.Objects;
+import java.util.Set;
 
+/**
+ * 댓글/답글
+ * 내용/상태 변경은 낙관적 잠금(version)으로 동시 수정 감지, 변경된 컬럼만 UPDATE
+ */
 @Entity
 @Table(name = "comments")
 @EntityListeners(AuditingEntityListener.class)
+@DynamicUpdate
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Comment {
@@ -25,7 +33,8 @@ public class Comment {
     private static final int MAX_CONTENT_LENGTH = 1000;
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "comment_id_generator")
+    @SequenceGenerator(name = "comment_id_generator", sequenceName = "comments_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, length = MAX_CONTENT_LENGTH)
@@ -55,6 +64,11 @@ public class Comment {
     @Column(nullable = false)
     private LocalDateTime updatedAt;
 
+    // 기존 행은 db/version-column-migration.sql로 0부터 시작
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     @Builder(access = AccessLevel.PRIVATE)
     private Comment(String content, Long postId, Long authorId, Long parentCommentId, Integer depth) {
         validateComment(content);
@@ -100,6 +114,13 @@ public class Comment {
         this.status = CommentStatus.DELETED;
     }
 
+    // 클라이언트가 조회한 버전 중 현재 버전이 있는지 확인 (expectedVersions가 null이면 검사하지 않음)
+    public void verifyVersion(Set<Long> expectedVersions) {
+        if (expectedVersions != null && !expectedVersions.contains(this.version)) {
+            throw new CommentVersionConflictException();
+        }
+    }
+
     public boolean isActive(){
         return this.status == CommentStatus.ACTIVE;
     }
@@ -1,11 +1,13 @@
 package com.study.jwtauth.domain.comment;
 
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
@@ -13,13 +15,15 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
     // 댓글 조회 (댓글 ID, 상태)
     Optional<Comment> findByIdAndStatus(Long id, CommentStatus status);
 
+    // 목록 조회는 COUNT 없이 size + 1건 조회 (전체 개수는 TotalCountService에서)
+
     // 게시글의 활성 댓글 조회
     @Query("""
     select c from Comment c
     where c.postId = :postId and c.parentCommentId is null and c.status = :status
-    order by c.createdAt desc 
+    order by c.createdAt desc, c.id desc
     """)
-    Page<Comment> findCommentsByPostIdAndStatus(@Param("postId") Long postId, @Param("status") CommentStatus status, Pageable pageable);
+    Slice<Comment> findCommentsByPostIdAndStatus(@Param("postId") Long postId, @Param("status") CommentStatus status, Pageable pageable);
 
     // 게시글의 댓글의 답글 목록 조회
     @Query("""
@@ -27,7 +31,7 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
     where c.parentCommentId = :parentCommentId and c.status = :status
     order by c.createdAt asc
     """)
-    Page<Comment> findRepliesByParentCommentIdAndStatus(@Param("parentCommentId") Long parentCommentId, @Param("status") CommentStatus status, Pageable pageable);
+    Slice<Comment> findRepliesByParentCommentIdAndStatus(@Param("parentCommentId") Long parentCommentId, @Param("status") CommentStatus status, Pageable pageable);
 
     // 특정 사용자의 활성 댓글 조회
     @Query("""
@@ -35,11 +39,25 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
     where c.authorId = :authorId and c.status = :status
     order by c.createdAt desc 
     """)
-    Page<Comment> findCommentsByAuthorIdAndStatus(@Param("authorId") Long authorId, @Param("status") CommentStatus status, Pageable pageable);
+    Slice<Comment> findCommentsByAuthorIdAndStatus(@Param("authorId") Long authorId, @Param("status") CommentStatus status, Pageable pageable);
 
     // 특정 게시물의 활성 댓글 수 조회(답글 포함)
     long countByPostIdAndStatus(Long postId, CommentStatus status);
 
     // 특정 게시물의 답글 개수 조회
     long countByParentCommentIdAndStatus(Long parentCommentId, CommentStatus status);
+
+    // 여러 댓글의 답글 수 한 번에 조회 (답글이 없는 댓글은 결과에 없음)
+    @Query("""
+    select c.parentCommentId as parentCommentId, count(c) as replyCount from Comment c
+    where c.parentCommentId in :parentCommentIds and c.status = :status
+    group by c.parentCommentId
+    """)
+    List<ReplyCountView> countRepliesByParentCommentIds(@Param("parentCommentIds") Collection<Long> parentCommentIds, @Param("status") CommentStatus status);
+
+    // 특정 게시물의 활성 댓글 수 조회(답글 제외)
+    long countByPostIdAndParentCommentIdIsNullAndStatus(Long postId, CommentStatus status);
+
+    // 특정 사용자의 활성 댓글/답글 수 조회
+    long countByAuthorIdAndStatus(Long authorId, CommentStatus status);
 }
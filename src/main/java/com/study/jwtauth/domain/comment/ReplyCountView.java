@@ -0,0 +1,12 @@
+package com.study.jwtauth.domain.comment;
+
+/**
+ * 댓글별 답글 수 Projection
+ * - 댓글 목록의 답글 수를 한 번에 집계
+ */
+public interface ReplyCountView {
+
+    Long getParentCommentId();
+
+    Long getReplyCount();
+}
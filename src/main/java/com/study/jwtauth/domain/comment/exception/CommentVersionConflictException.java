@@ -0,0 +1,15 @@
+package com.study.jwtauth.domain.comment.exception;
+
+import com.study.jwtauth.domain.exception.BusinessException;
+import com.study.jwtauth.domain.exception.ErrorCode;
+
+public class CommentVersionConflictException extends BusinessException {
+
+    public CommentVersionConflictException() {
+        super(ErrorCode.COMMENT_VERSION_CONFLICT);
+    }
+
+    public CommentVersionConflictException(String message) {
+        super(ErrorCode.COMMENT_VERSION_CONFLICT, message);
+    }
+}
@@ -14,6 +14,7 @@ public enum ErrorCode {
     INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "C003", "서버 에러가 발생했습니다."),
     INVALID_TYPE_VALUE(HttpStatus.BAD_REQUEST, "C004", "잘못된 타입입니다."),
     ACCESS_DENIED(HttpStatus.FORBIDDEN, "C005", "접근이 거부되었습니다."),
+    CONCURRENT_MODIFICATION(HttpStatus.CONFLICT, "C006", "다른 요청에 의해 변경되었습니다. 다시 조회한 뒤 시도해주세요."),
 
     // User
     USER_NOT_FOUND(HttpStatus.NOT_FOUND, "U001", "존재하지 않는 사용자입니다."),
@@ -44,6 +45,8 @@ public enum ErrorCode {
     POST_ACCESS_DENIED(HttpStatus.FORBIDDEN, "P002", "게시글에 대한 권한이 없습니다."),
     INVALID_POST_TITLE(HttpStatus.BAD_REQUEST, "P003", "게시글 제목이 유효하지 않습니다."),
     INVALID_POST_CONTENT(HttpStatus.BAD_REQUEST, "P004", "게시글 내용이 유효하지 않습니다."),
+    POST_VERSION_CONFLICT(HttpStatus.PRECONDITION_FAILED, "P005", "게시글이 다른 요청에 의해 변경되었습니다. 다시 조회한 뒤 시도해주세요."),
+    INVALID_POST_CURSOR(HttpStatus.BAD_REQUEST, "P006", "유효하지 않은 게시글 목록 커서입니다."),
 
     // PostLike
     ALREADY_LIKED(HttpStatus.CONFLICT, "PL001", "이미 좋아요를 누른 게시글입니다."),
@@ -54,7 +57,11 @@ public enum ErrorCode {
     COMMENT_NOT_FOUND(HttpStatus.NOT_FOUND, "CM001", "존재하지 않는 댓글입니다."),
     COMMENT_ACCESS_DENIED(HttpStatus.FORBIDDEN, "CM002", "댓글에 대한 권한이 없습니다."),
     INVALID_COMMENT_CONTENT(HttpStatus.BAD_REQUEST, "CM003", "댓글 내용이 유효하지 않습니다."),
-    INVALID_COMMENT_DEPTH(HttpStatus.BAD_REQUEST, "CM004", "답글의 답글을 작성할 수 없습니다.")
+    INVALID_COMMENT_DEPTH(HttpStatus.BAD_REQUEST, "CM004", "답글의 답글을 작성할 수 없습니다."),
+    COMMENT_VERSION_CONFLICT(HttpStatus.PRECONDITION_FAILED, "CM005", "댓글이 다른 요청에 의해 변경되었습니다. 다시 조회한 뒤 시도해주세요."),
+
+    // Admin
+    RECORDING_IN_PROGRESS(HttpStatus.CONFLICT, "AD001", "이미 진행 중인 프로파일링 기록이 있습니다.")
     ;
 
     private final HttpStatus status;
@@ -3,21 +3,32 @@ package com.study.jwtauth.domain.post;
 import com.study.jwtauth.domain.post.exception.InvalidContentException;
 import com.study.jwtauth.domain.post.exception.InvalidTitleException;
 import com.study.jwtauth.domain.post.exception.PostAccessDeniedException;
+import com.study.jwtauth.domain.post.exception.PostVersionConflictException;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.OptimisticLock;
 import org.springframework.data.annotation.CreatedDate;
-import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.time.LocalDateTime;
 import java.util.Objects;
-
+import java.util.Set;
+
+/**
+ * 게시글 Aggregate Root
+ *
+ * - 제목/본문/상태 변경은 낙관적 잠금(version)으로 동시 수정 감지 (If-Match 조건부 요청과 함께 사용)
+ * - 조회수/좋아요 수는 편집 대상이 아니므로 version을 올리지 않음 (조회가 편집을 충돌시키지 않도록)
+ * - 변경된 컬럼만 UPDATE
+ */
 @Entity
 @Table(name = "posts")
 @EntityListeners(AuditingEntityListener.class)
+@DynamicUpdate
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Post {
@@ -29,7 +40,8 @@ public class Post {
     private static final int POPULAR_THRESHOLD = 10;
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "post_id_generator")
+    @SequenceGenerator(name = "post_id_generator", sequenceName = "posts_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, length = MAX_TITLE_LENGTH)
@@ -42,9 +54,11 @@ public class Post {
     @Column(nullable = false)
     private Long authorId;
 
+    @OptimisticLock(excluded = true)
     @Column(nullable = false)
     private Integer viewCount = 0;
 
+    @OptimisticLock(excluded = true)
     @Column(nullable = false)
     private Integer likeCount = 0;
 
@@ -56,10 +70,15 @@ public class Post {
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
-    @LastModifiedDate
+    // 제목/본문/상태가 바뀐 시각 (조회수/좋아요 갱신으로는 바뀌지 않도록 감사 리스너 대신 도메인에서 갱신)
     @Column(nullable = false)
     private LocalDateTime updatedAt;
 
+    // 기존 행은 db/version-column-migration.sql로 0부터 시작
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     @Builder(access = AccessLevel.PRIVATE)
     public Post(String title, String content, Long authorId){
         validateTitle(title);
@@ -71,6 +90,14 @@ public class Post {
         this.status = PostStatus.ACTIVE;
     }
 
+    // 감사 리스너가 createdAt을 채운 뒤 호출됨 (엔티티 리스너가 엔티티 콜백보다 먼저 실행)
+    @PrePersist
+    private void initUpdatedAt() {
+        if (this.updatedAt == null) {
+            this.updatedAt = this.createdAt != null ? this.createdAt : LocalDateTime.now();
+        }
+    }
+
     public static Post create(String title, String content, Long authorId) {
         return Post.builder()
                 .title(title)
@@ -86,16 +113,24 @@ public class Post {
 
         this.title = title;
         this.content = content;
+        this.updatedAt = LocalDateTime.now();
     }
 
     public void delete(Long requestUserId) {
         validateAuthor(requestUserId);
 
         this.status = PostStatus.DELETED;
+        this.updatedAt = LocalDateTime.now();
     }
 
-    public void incrementViewCount() {
-        this.viewCount += 1;
+    /**
+     * 클라이언트가 조회한 버전 중 현재 버전이 있는지 확인 (expectedVersions가 null이면 검사하지 않음)
+     * 조회 이후 커밋된 변경은 여기서, 조회~커밋 사이의 동시 변경은 flush 시 version 조건으로 감지
+     */
+    public void verifyVersion(Set<Long> expectedVersions) {
+        if (expectedVersions != null && !expectedVersions.contains(this.version)) {
+            throw new PostVersionConflictException();
+        }
     }
 
     public void incrementLikeCount() {
@@ -109,7 +144,12 @@ public class Post {
     }
 
     public boolean isPopular() {
-        return this.likeCount >= POPULAR_THRESHOLD;
+        return isPopular(this.likeCount);
+    }
+
+    // 엔티티 없이 조회한 좋아요 수로 인기글 여부 판단 (읽기 전용 조회용)
+    public static boolean isPopular(int likeCount) {
+        return likeCount >= POPULAR_THRESHOLD;
     }
 
     public boolean isActive() {
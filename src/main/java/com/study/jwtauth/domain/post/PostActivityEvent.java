@@ -0,0 +1,18 @@
+package com.study.jwtauth.domain.post;
+
+/**
+ * 게시글 활동 이벤트
+ * - 서비스 계층에서 발행하고, 트랜잭션 커밋 이후 리스너가 파생 데이터를 갱신
+ */
+public record PostActivityEvent(
+        Post post,
+        PostActivityType type
+) {
+    public static PostActivityEvent of(Post post, PostActivityType type) {
+        return new PostActivityEvent(post, type);
+    }
+
+    public Long postId() {
+        return post.getId();
+    }
+}
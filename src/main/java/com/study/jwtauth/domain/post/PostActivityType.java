@@ -0,0 +1,25 @@
+package com.study.jwtauth.domain.post;
+
+/**
+ * 게시글 활동 유형 Enum
+ * - 랭킹/검색 인덱스 등 파생 데이터 갱신에 사용
+ * - 조회는 엔티티 없이 처리하므로 PostViewedEvent로 따로 발행
+ */
+public enum PostActivityType {
+    CREATED("작성"),
+    UPDATED("수정"),
+    DELETED("삭제"),
+    LIKED("좋아요"),
+    UNLIKED("좋아요 취소"),
+    COMMENTED("댓글 작성");
+
+    private final String description;
+
+    PostActivityType(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
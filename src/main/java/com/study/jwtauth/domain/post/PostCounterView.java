@@ -0,0 +1,14 @@
+package com.study.jwtauth.domain.post;
+
+/**
+ * 게시글 카운터 Projection
+ * - 랭킹 재구축 시 id와 카운터만 조회
+ */
+public interface PostCounterView {
+
+    Long getId();
+
+    Integer getViewCount();
+
+    Integer getLikeCount();
+}
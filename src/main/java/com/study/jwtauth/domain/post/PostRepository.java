@@ -2,9 +2,12 @@ package com.study.jwtauth.domain.post;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -14,9 +17,16 @@ public interface PostRepository extends JpaRepository<Post, Long> {
     // 기본 조회
     Optional<Post> findByIdAndStatus(Long id, PostStatus status);
 
-    Page<Post> findByStatusOrderByCreatedAtDesc(PostStatus status, Pageable pageable);
+    // 누적된 조회수 반영 (엔티티를 읽지 않고 한 문장으로, version은 올리지 않음)
+    @Transactional
+    @Modifying
+    @Query("UPDATE Post p SET p.viewCount = p.viewCount + :delta WHERE p.id = :id")
+    int incrementViewCount(@Param("id") Long id, @Param("delta") int delta);
 
-    Page<Post> findByAuthorIdAndStatusOrderByCreatedAtDesc(Long authorId, PostStatus status, Pageable pageable);
+    // 목록 조회 (COUNT 없이 size + 1건 조회, 전체 개수는 TotalCountService에서)
+    Slice<Post> findByStatusOrderByCreatedAtDescIdDesc(PostStatus status, Pageable pageable);
+
+    Slice<Post> findByAuthorIdAndStatusOrderByCreatedAtDescIdDesc(Long authorId, PostStatus status, Pageable pageable);
 
 
     // 인기글 조회 (좋아요 기준)
@@ -42,6 +52,20 @@ public interface PostRepository extends JpaRepository<Post, Long> {
             "ORDER BY p.createdAt DESC")
     Page<Post> findByKeyword(@Param("keyword") String keyword, Pageable pageable);
 
+    // 자동완성 인덱스 적재 (인기순 상위 N개)
+    @Query("SELECT p.id AS id, p.title AS title, p.likeCount AS likeCount, p.viewCount AS viewCount " +
+            "FROM Post p " +
+            "WHERE p.status = 'ACTIVE' " +
+            "ORDER BY p.likeCount DESC, p.viewCount DESC")
+    List<PostTitleView> findActiveTitles(Pageable pageable);
+
+    // 랭킹 재구축용 카운터 조회 (id 기준 keyset 페이징)
+    @Query("SELECT p.id AS id, p.viewCount AS viewCount, p.likeCount AS likeCount " +
+            "FROM Post p " +
+            "WHERE p.status = 'ACTIVE' AND p.id > :afterId " +
+            "ORDER BY p.id ASC")
+    List<PostCounterView> findActiveCounters(@Param("afterId") Long afterId, Pageable pageable);
+
 
     // 통계/집계
     long countByAuthorIdAndStatus(Long authorId, PostStatus status);
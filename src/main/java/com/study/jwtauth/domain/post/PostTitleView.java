@@ -0,0 +1,16 @@
+package com.study.jwtauth.domain.post;
+
+/**
+ * 게시글 제목 인덱스 적재용 Projection
+ * - 본문 등 불필요한 컬럼을 읽지 않도록 필요한 필드만 조회
+ */
+public interface PostTitleView {
+
+    Long getId();
+
+    String getTitle();
+
+    Integer getLikeCount();
+
+    Integer getViewCount();
+}
@@ -0,0 +1,17 @@
+package com.study.jwtauth.domain.post;
+
+/**
+ * 게시글 조회 이벤트
+ * - 상세 조회는 엔티티를 읽지 않으므로 조회 시점의 카운터만 담아 발행
+ * - 트랜잭션 커밋 이후 리스너가 조회수/랭킹/통계를 갱신 (조회 트랜잭션에서는 쓰지 않음)
+ *
+ * @param viewerKey 고유 조회자 식별자 (u:{userId} 또는 ip:{clientIp})
+ */
+public record PostViewedEvent(
+        Long postId,
+        Long authorId,
+        int likeCount,
+        int viewCount,
+        String viewerKey
+) {
+}
@@ -0,0 +1,11 @@
+package com.study.jwtauth.domain.post.exception;
+
+import com.study.jwtauth.domain.exception.BusinessException;
+import com.study.jwtauth.domain.exception.ErrorCode;
+
+public class InvalidCursorException extends BusinessException {
+
+    public InvalidCursorException() {
+        super(ErrorCode.INVALID_POST_CURSOR);
+    }
+}
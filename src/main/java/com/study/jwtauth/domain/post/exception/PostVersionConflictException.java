@@ -0,0 +1,15 @@
+package com.study.jwtauth.domain.post.exception;
+
+import com.study.jwtauth.domain.exception.BusinessException;
+import com.study.jwtauth.domain.exception.ErrorCode;
+
+public class PostVersionConflictException extends BusinessException {
+
+    public PostVersionConflictException() {
+        super(ErrorCode.POST_VERSION_CONFLICT);
+    }
+
+    public PostVersionConflictException(String message) {
+        super(ErrorCode.POST_VERSION_CONFLICT, message);
+    }
+}
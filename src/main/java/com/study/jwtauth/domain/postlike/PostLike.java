@@ -22,7 +22,8 @@ import java.time.LocalDateTime;
 public class PostLike {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "post_like_id_generator")
+    @SequenceGenerator(name = "post_like_id_generator", sequenceName = "post_likes_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
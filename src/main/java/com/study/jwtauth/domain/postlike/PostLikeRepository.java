@@ -2,6 +2,7 @@ package com.study.jwtauth.domain.postlike;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -27,13 +28,14 @@ public interface PostLikeRepository extends JpaRepository<PostLike, Long> {
     void deleteByPostIdAndUserId(Long postId, Long userId);
 
     /**
-     * 특정 게시글의 좋아요 목록 조회 (페이징)
+     * 특정 게시글의 좋아요 목록 조회 (페이징, COUNT 없이 size + 1건 조회)
      */
-    Page<PostLike> findByPostId(Long postId, Pageable pageable);
+    Slice<PostLike> findByPostId(Long postId, Pageable pageable);
 
     /**
      * 특정 사용자가 좋아요한 게시글 목록 조회 (ACTIVE만, INNER JOIN)
      * Native Query를 사용하여 삭제된 게시글을 DB 레벨에서 필터링
+     * COUNT 없이 size + 1건 조회 (전체 개수는 countByUserIdWithActivePost)
      */
     @Query(value = """
         SELECT pl.*
@@ -41,10 +43,29 @@ public interface PostLikeRepository extends JpaRepository<PostLike, Long> {
         INNER JOIN posts p ON pl.post_id = p.id
         WHERE pl.user_id = :userId
           AND p.status = 'ACTIVE'
-        ORDER BY pl.liked_at DESC
+        ORDER BY pl.liked_at DESC, pl.id DESC
         """,
         nativeQuery = true)
-    Page<PostLike> findByUserIdWithActivePost(@Param("userId") Long userId, Pageable pageable);
+    Slice<PostLike> findByUserIdWithActivePost(@Param("userId") Long userId, Pageable pageable);
+
+    /**
+     * 특정 사용자가 좋아요한 활성 게시글 수
+     */
+    @Query(value = """
+        SELECT COUNT(*)
+        FROM post_likes pl
+        INNER JOIN posts p ON pl.post_id = p.id
+        WHERE pl.user_id = :userId
+          AND p.status = 'ACTIVE'
+        """,
+        nativeQuery = true)
+    long countByUserIdWithActivePost(@Param("userId") Long userId);
+
+    /**
+     * 특정 게시글에 좋아요한 사용자 ID 목록 (게시글 삭제 시 사용자별 개수 캐시 무효화용)
+     */
+    @Query("SELECT pl.userId FROM PostLike pl WHERE pl.postId = :postId")
+    List<Long> findUserIdsByPostId(@Param("postId") Long postId);
 
     /**
      * 특정 사용자가 좋아요한 게시글 목록 조회 (페이징)
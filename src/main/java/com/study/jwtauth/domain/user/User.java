@@ -5,6 +5,10 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -17,8 +21,16 @@ import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
 
+/**
+ * 사용자 Aggregate Root
+ *
+ * 로그인/토큰 재발급/OIDC 등 요청마다 조회되지만 거의 바뀌지 않으므로 Hibernate 2차 캐시 사용
+ * (엔티티 + email 자연 키 + providers 컬렉션, 다른 노드에는 UserCacheInvalidator가 무효화 전파)
+ */
 @Entity
 @Table(name="users")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = UserCacheRegions.USER)
+@NaturalIdCache(region = UserCacheRegions.USER_NATURAL_ID)
 @EntityListeners(AuditingEntityListener.class)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -28,9 +40,11 @@ public class User implements Serializable {
     private static final long serialVersionUID = 1L;
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_id_generator")
+    @SequenceGenerator(name = "user_id_generator", sequenceName = "users_seq", allocationSize = 50)
     private Long id;
 
+    @NaturalId
     @Column(unique = true, nullable = false, length = 100)
     private String email;
 
@@ -41,6 +55,7 @@ public class User implements Serializable {
     @Column(nullable = false)
     private Role role = Role.USER;
 
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = UserCacheRegions.USER_PROVIDERS)
     @OneToMany(mappedBy = "user", cascade = CascadeType.ALL, orphanRemoval = true)
     private final Set<UserProvider> providers = new HashSet<>();
 
@@ -0,0 +1,27 @@
+package com.study.jwtauth.domain.user;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * User Aggregate의 Hibernate 2차 캐시 영역 이름
+ * 엔티티 매핑, 쿼리 힌트, 캐시 설정(application.conf)에서 함께 사용
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class UserCacheRegions {
+
+    // User 엔티티 (ID → 엔티티 상태)
+    public static final String USER = "user";
+
+    // email 자연 키 → User ID
+    public static final String USER_NATURAL_ID = "user-natural-id";
+
+    // User.providers 컬렉션 (User ID → UserProvider ID 목록)
+    public static final String USER_PROVIDERS = "user-providers";
+
+    // UserProvider 엔티티
+    public static final String USER_PROVIDER = "user-provider";
+
+    // provider/providerId, email 조회 쿼리 결과
+    public static final String USER_QUERIES = "user-queries";
+}
@@ -0,0 +1,12 @@
+package com.study.jwtauth.domain.user;
+
+import java.util.Optional;
+
+/**
+ * email(자연 키) 기반 User 조회
+ * 쿼리 메서드 대신 Hibernate 자연 키 조회를 사용하여 2차 캐시(자연 키 → ID → 엔티티)를 거치도록 함
+ */
+public interface UserNaturalIdRepository {
+
+    Optional<User> findByEmail(String email);
+}
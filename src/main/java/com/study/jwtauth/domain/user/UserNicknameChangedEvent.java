@@ -0,0 +1,10 @@
+package com.study.jwtauth.domain.user;
+
+/**
+ * 사용자 닉네임 변경 이벤트
+ * - 닉네임을 포함해 캐시된 데이터(게시글 상세 등)를 무효화하는 데 사용
+ */
+public record UserNicknameChangedEvent(
+        Long userId
+) {
+}
@@ -1,19 +1,31 @@
 package com.study.jwtauth.domain.user;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
 
-public interface UserRepository extends JpaRepository<User, Long> {
-
-    Optional<User> findByEmail(String email);
+/**
+ * User 저장소
+ *
+ * - findById: 엔티티 캐시
+ * - findByEmail: 자연 키 캐시 (UserNaturalIdRepository)
+ * - providers fetch join 조회: 쿼리 캐시 (결과 ID는 쿼리 캐시, 엔티티/컬렉션은 각 영역에서 조회)
+ */
+public interface UserRepository extends JpaRepository<User, Long>, UserNaturalIdRepository {
 
     /**
      * email로 사용자 조회 (providers fetch join)
      * 인증 시 providers를 함께 조회하여 N+1 문제 방지
      */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = UserCacheRegions.USER_QUERIES)
+    })
     @Query("SELECT u FROM User u LEFT JOIN FETCH u.providers WHERE u.email = :email")
     Optional<User> findByEmailWithProvider(@Param("email") String email);
 
@@ -31,6 +43,10 @@ public interface UserRepository extends JpaRepository<User, Long> {
      * provider와 providerId로 사용자 조회 (providers fetch join)
      * OAuth2 로그인 시 사용
      */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = UserCacheRegions.USER_QUERIES)
+    })
     @Query("SELECT u FROM User u JOIN FETCH u.providers p WHERE p.provider = :provider AND p.providerId = :providerId")
     Optional<User> findByProviderAndProviderId(@Param("provider") String provider, @Param("providerId") String providerId);
 }
@@ -0,0 +1,94 @@
+package com.study.jwtauth.infrastructure.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.study.jwtauth.infrastructure.config.TwoLevelCacheProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * 노드 간 로컬 캐시 무효화 메시지 (Redis Pub/Sub)
+ *
+ * - 데이터를 변경한 노드가 (캐시 이름, 키)를 발행하고, 다른 노드는 자신의 로컬 캐시에서 제거
+ * - 메시지에 발행 노드 ID를 담아 자신이 보낸 메시지는 무시
+ * - key가 null이면 해당 캐시 전체 삭제
+ * - Pub/Sub은 전달을 보장하지 않으므로 로컬 캐시는 짧은 TTL과 함께 사용
+ */
+@Slf4j
+@Component
+public class CacheInvalidationBus implements MessageListener {
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final String channel;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final Map<String, Consumer<String>> handlers = new ConcurrentHashMap<>();
+
+    public CacheInvalidationBus(StringRedisTemplate redisTemplate,
+                                ObjectMapper objectMapper,
+                                TwoLevelCacheProperties properties) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.channel = properties.getChannel();
+    }
+
+    /**
+     * 무효화 메시지
+     */
+    public record InvalidationMessage(String nodeId, String cacheName, String key) {
+    }
+
+    public String getChannel() {
+        return channel;
+    }
+
+    /**
+     * 다른 노드에서 온 무효화 메시지 처리기 등록 (캐시 이름당 하나)
+     */
+    public void subscribe(String cacheName, Consumer<String> handler) {
+        handlers.put(cacheName, handler);
+    }
+
+    /**
+     * 무효화 메시지 발행 (실패해도 요청 흐름을 막지 않음 - 로컬 TTL로 보정)
+     */
+    public void publish(String cacheName, String key) {
+        try {
+            String payload = objectMapper.writeValueAsString(new InvalidationMessage(nodeId, cacheName, key));
+            redisTemplate.convertAndSend(channel, payload);
+        } catch (JsonProcessingException | DataAccessException e) {
+            log.warn("캐시 무효화 메시지 발행 실패: cache={}, key={}, cause={}", cacheName, key, e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        InvalidationMessage invalidation;
+        try {
+            invalidation = objectMapper.readValue(message.getBody(), InvalidationMessage.class);
+        } catch (IOException e) {
+            log.warn("잘못된 캐시 무효화 메시지: {}", e.getMessage());
+            return;
+        }
+
+        if (nodeId.equals(invalidation.nodeId())) {
+            return;
+        }
+
+        Consumer<String> handler = handlers.get(invalidation.cacheName());
+        if (handler != null) {
+            handler.accept(invalidation.key());
+        }
+    }
+}
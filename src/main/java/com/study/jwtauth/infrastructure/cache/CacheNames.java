@@ -0,0 +1,30 @@
+package com.study.jwtauth.infrastructure.cache;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * 캐시 이름 상수
+ * 서비스 계층의 @Cacheable / @CacheEvict와 캐시 설정에서 함께 사용
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class CacheNames {
+
+    // 게시글 상세 본문 (PostDetailCache, 로컬 전용 + 무효화 메시지만 공유)
+    public static final String POST_DETAIL = "postDetail";
+
+    // 댓글/답글 상세
+    public static final String COMMENT = "comment";
+
+    // 게시글의 댓글 목록 첫 페이지
+    public static final String POST_COMMENTS = "postComments";
+
+    // 댓글/답글 목록 조건부 GET 검증값 (키: "post:{postId}", "replies:{commentId}", 목록과 함께 무효화)
+    public static final String COMMENT_STAMPS = "commentStamps";
+
+    // 게시글 목록/인기글 첫 페이지 (확률적 조기 갱신)
+    public static final String POST_PAGES = "postPages";
+
+    // 목록 API의 전체 개수 (CountMode.CACHED)
+    public static final String PAGE_COUNTS = "pageCounts";
+}
@@ -0,0 +1,161 @@
+package com.study.jwtauth.infrastructure.cache;
+
+import com.study.jwtauth.infrastructure.config.PageCacheProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.Serializable;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 확률적 조기 갱신 캐시 (XFetch)
+ *
+ * - 값과 함께 계산 소요 시간(delta)과 논리적 만료 시각을 저장
+ * - 조회 시 now - delta * beta * ln(rand) >= expiry 이면 만료 전에 다시 계산
+ *   (만료가 가까울수록, 계산이 오래 걸리는 값일수록 갱신 확률이 높아져 요청/노드별 갱신 시점이 분산됨)
+ * - 주기마다 조회가 많은 hot 키는 만료 전에 백그라운드에서 갱신 (노드 간 Redis 락으로 한 번만)
+ * - 한 주기 동안 조회되지 않은 cold 키는 추적을 중단하고 TTL로 만료되게 둠
+ *
+ * 저장소는 2단계 캐시(postPages)를 사용하므로 다른 노드가 갱신한 값도 공유됨
+ */
+@Slf4j
+@Component
+public class EarlyRefreshCache {
+
+    private static final String REFRESH_LOCK_PREFIX = "page-cache:refresh-lock:";
+
+    private final Cache cache;
+    private final StringRedisTemplate redisTemplate;
+    private final PageCacheProperties properties;
+
+    private final Map<String, TrackedKey> trackedKeys = new ConcurrentHashMap<>();
+
+    public EarlyRefreshCache(CacheManager cacheManager,
+                             StringRedisTemplate redisTemplate,
+                             PageCacheProperties properties) {
+        this.cache = cacheManager.getCache(CacheNames.POST_PAGES);
+        this.redisTemplate = redisTemplate;
+        this.properties = properties;
+    }
+
+    /**
+     * 캐시 항목 (값 + 계산 소요 시간 + 논리적 만료 시각)
+     */
+    public record Stamped(Serializable value, long computeMillis, long expiresAtMillis) implements Serializable {
+    }
+
+    private record TrackedKey(Supplier<? extends Serializable> loader, LongAdder hits) {
+    }
+
+    /**
+     * 캐시 조회 (없거나 조기 갱신 대상이면 loader로 계산)
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends Serializable> T get(String key, Supplier<T> loader) {
+        TrackedKey tracked = track(key, loader);
+        if (tracked == null) {
+            // 추적 가능한 키 수 초과 - 캐시하지 않음
+            return loader.get();
+        }
+        tracked.hits().increment();
+
+        Stamped stamped = cache.get(key, () -> compute(loader));
+        if (shouldRefreshEarly(stamped, System.currentTimeMillis())) {
+            stamped = compute(loader);
+            cache.put(key, stamped);
+        }
+        return (T) stamped.value();
+    }
+
+    /**
+     * 전체 무효화 (게시글 생성/삭제로 목록 구성이 바뀐 경우, 2단계 캐시 무효화 메시지로 모든 노드에 전파)
+     * 추적 중인 키는 유지하여 다음 조회나 백그라운드 갱신에서 다시 계산
+     */
+    public void clear() {
+        cache.clear();
+    }
+
+    /**
+     * hot 키 백그라운드 갱신, cold 키 추적 중단
+     */
+    @Scheduled(
+            initialDelayString = "${post.page-cache.refresh-interval:PT10S}",
+            fixedDelayString = "${post.page-cache.refresh-interval:PT10S}"
+    )
+    public void refreshHotKeys() {
+        long now = System.currentTimeMillis();
+        long refreshAheadMillis = properties.getRefreshAhead().toMillis();
+
+        trackedKeys.forEach((key, tracked) -> {
+            long hits = tracked.hits().sumThenReset();
+            if (hits == 0) {
+                trackedKeys.remove(key, tracked);
+                return;
+            }
+            if (hits < properties.getHotThreshold()) {
+                return;
+            }
+
+            Stamped stamped = cache.get(key, Stamped.class);
+            if (stamped != null && stamped.expiresAtMillis() - now > refreshAheadMillis) {
+                return;
+            }
+            if (!tryLockRefresh(key)) {
+                return;
+            }
+            try {
+                cache.put(key, compute(tracked.loader()));
+                log.debug("목록 캐시 백그라운드 갱신: key={}, hits={}", key, hits);
+            } catch (RuntimeException e) {
+                log.warn("목록 캐시 백그라운드 갱신 실패: key={}, cause={}", key, e.getMessage());
+            }
+        });
+    }
+
+    private TrackedKey track(String key, Supplier<? extends Serializable> loader) {
+        TrackedKey tracked = trackedKeys.get(key);
+        if (tracked != null) {
+            return tracked;
+        }
+        if (trackedKeys.size() >= properties.getMaxKeys()) {
+            return null;
+        }
+        return trackedKeys.computeIfAbsent(key, k -> new TrackedKey(loader, new LongAdder()));
+    }
+
+    private Stamped compute(Supplier<? extends Serializable> loader) {
+        long start = System.currentTimeMillis();
+        Serializable value = loader.get();
+        long end = System.currentTimeMillis();
+        return new Stamped(value, Math.max(1, end - start), end + properties.getTtl().toMillis());
+    }
+
+    // XFetch: ln(rand)는 음수이므로 만료 시각을 delta * beta * |ln(rand)| 만큼 앞당겨 비교
+    private boolean shouldRefreshEarly(Stamped stamped, long now) {
+        double random = 1.0 - ThreadLocalRandom.current().nextDouble(); // (0, 1]
+        double gap = stamped.computeMillis() * properties.getBeta() * Math.log(random);
+        return now - gap >= stamped.expiresAtMillis();
+    }
+
+    // 여러 노드가 같은 키를 동시에 백그라운드 갱신하지 않도록 (갱신 주기 동안 유효)
+    private boolean tryLockRefresh(String key) {
+        try {
+            Duration ttl = properties.getRefreshInterval();
+            Boolean acquired = redisTemplate.opsForValue().setIfAbsent(REFRESH_LOCK_PREFIX + key, "1", ttl);
+            return Boolean.TRUE.equals(acquired);
+        } catch (DataAccessException e) {
+            // Redis를 사용할 수 없으면 노드별로 갱신
+            return true;
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.study.jwtauth.infrastructure.cache;
+
+import com.fasterxml.jackson.core.SerializableString;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.study.jwtauth.domain.post.PostActivityEvent;
+import com.study.jwtauth.domain.user.UserNicknameChangedEvent;
+import com.study.jwtauth.infrastructure.config.PostDetailCacheProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.function.Function;
+
+/**
+ * 게시글 상세 응답 캐시 (직렬화된 JSON)
+ *
+ * - 값: 조회수/좋아요 수 등 자주 바뀌는 카운터를 제외한 JSON 본문 (UTF-8 인코딩 결과까지 보관)
+ * - 같은 키에 대한 동시 미스는 Caffeine이 한 번의 로드로 합침 (single-flight)
+ * - 항목에 적재 시점의 게시글 version을 보관하고 조회 시 현재 version과 비교
+ *   (수정 커밋/무효화와 적재가 엇갈려 이전 본문이 캐시되어도 다음 조회에서 교체됨)
+ * - 게시글 수정/삭제, 작성자 닉네임 변경 시 무효화 (다른 노드에는 무효화 메시지로 전파)
+ */
+@Component
+public class PostDetailCache {
+
+    /**
+     * 캐시 항목
+     *
+     * @param authorId 작성자 ID (닉네임 변경 시 무효화 대상 탐색용)
+     * @param version  본문을 읽은 시점의 게시글 version
+     * @param body     카운터를 제외한 JSON 객체 본문 (닫는 중괄호 제외)
+     */
+    public record Entry(Long authorId, long version, SerializableString body) {
+    }
+
+    private static final String AUTHOR_KEY_PREFIX = "author:";
+
+    private final Cache<Long, Entry> cache;
+    private final CacheInvalidationBus invalidationBus;
+
+    public PostDetailCache(PostDetailCacheProperties properties, CacheInvalidationBus invalidationBus) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getExpireAfterWrite())
+                .recordStats()
+                .build();
+        this.invalidationBus = invalidationBus;
+        invalidationBus.subscribe(CacheNames.POST_DETAIL, this::onRemoteInvalidation);
+    }
+
+    /**
+     * 캐시 조회, 없거나 version보다 오래된 항목이면 loader로 적재 (동시 요청은 로드 완료까지 대기)
+     */
+    public Entry get(Long postId, long version, Function<Long, Entry> loader) {
+        Entry entry = cache.get(postId, loader);
+        if (entry.version() >= version) {
+            return entry;
+        }
+        return cache.asMap().compute(postId, (id, current) ->
+                current != null && current.version() >= version ? current : loader.apply(id));
+    }
+
+    public void invalidate(Long postId) {
+        cache.invalidate(postId);
+        invalidationBus.publish(CacheNames.POST_DETAIL, String.valueOf(postId));
+    }
+
+    /**
+     * 작성자의 게시글 전체 무효화 (닉네임 변경 시)
+     */
+    public void invalidateByAuthor(Long authorId) {
+        removeByAuthor(authorId);
+        invalidationBus.publish(CacheNames.POST_DETAIL, AUTHOR_KEY_PREFIX + authorId);
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    public long estimatedSize() {
+        return cache.estimatedSize();
+    }
+
+    // 다른 노드의 변경 반영 (로컬만)
+    private void onRemoteInvalidation(String key) {
+        if (key == null) {
+            cache.invalidateAll();
+        } else if (key.startsWith(AUTHOR_KEY_PREFIX)) {
+            removeByAuthor(Long.valueOf(key.substring(AUTHOR_KEY_PREFIX.length())));
+        } else {
+            cache.invalidate(Long.valueOf(key));
+        }
+    }
+
+    private void removeByAuthor(Long authorId) {
+        cache.asMap()
+                .entrySet()
+                .removeIf(entry -> entry.getValue().authorId().equals(authorId));
+    }
+
+    // 게시글 수정/삭제 시 무효화 (커밋 이후 - 커밋 전 값이 다시 캐시되지 않도록)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onPostActivity(PostActivityEvent event) {
+        switch (event.type()) {
+            case UPDATED, DELETED -> invalidate(event.postId());
+            default -> {
+            }
+        }
+    }
+
+    // 작성자 닉네임 변경 시 해당 작성자의 게시글 전체 무효화
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onNicknameChanged(UserNicknameChangedEvent event) {
+        invalidateByAuthor(event.userId());
+    }
+}
@@ -0,0 +1,213 @@
+package com.study.jwtauth.infrastructure.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.dao.DataAccessException;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 2단계 캐시 (L1: 노드별 Caffeine, L2: 공유 Redis)
+ *
+ * - 조회: L1 → L2 → 원본 순서, L2에서 찾은 값은 L1에 채움
+ *   (미스 후 원본 로드는 get(key, valueLoader)로 채우며 무효화 메시지를 발행하지 않음)
+ * - 변경(put/evict/clear): L2 반영 후 L1 반영, 다른 노드에는 무효화 메시지 발행
+ *   put은 기존 값을 바꾸는 쓰기로 취급하므로 @Cacheable은 sync = true로 선언하여
+ *   미스 후 저장이 put(노드 전체 무효화 발행)이 아닌 get(key, valueLoader)로 처리되게 함
+ * - 같은 노드에서 같은 키의 동시 미스는 L1(Caffeine) 로드 한 번으로 합침
+ * - Redis 장애 시 L1만으로 동작
+ *
+ * 키는 문자열로 정규화하여 L1/L2/무효화 메시지에서 같은 값을 사용
+ * null 값은 캐시하지 않음
+ */
+@Slf4j
+public class TwoLevelCache implements Cache {
+
+    private final String name;
+    private final com.github.benmanes.caffeine.cache.Cache<String, Object> local;
+    private final Cache remote;
+    private final CacheInvalidationBus invalidationBus;
+
+    private final LongAdder localHits = new LongAdder();
+    private final LongAdder remoteHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder puts = new LongAdder();
+
+    public TwoLevelCache(String name,
+                         com.github.benmanes.caffeine.cache.Cache<String, Object> local,
+                         Cache remote,
+                         CacheInvalidationBus invalidationBus) {
+        this.name = name;
+        this.local = local;
+        this.remote = remote;
+        this.invalidationBus = invalidationBus;
+    }
+
+    /**
+     * 캐시 통계 (노드 기준)
+     */
+    public record Stats(String name, long localHits, long remoteHits, long misses, long localSize) {
+
+        public double hitRatio() {
+            long requests = localHits + remoteHits + misses;
+            return requests == 0 ? 0.0 : (double) (localHits + remoteHits) / requests;
+        }
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return local;
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        String cacheKey = keyOf(key);
+
+        Object value = local.getIfPresent(cacheKey);
+        if (value != null) {
+            localHits.increment();
+            return new SimpleValueWrapper(value);
+        }
+
+        value = getRemote(cacheKey);
+        if (value != null) {
+            remoteHits.increment();
+            local.put(cacheKey, value);
+            return new SimpleValueWrapper(value);
+        }
+
+        misses.increment();
+        return null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper != null ? wrapper.get() : null;
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException(
+                    "Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        String cacheKey = keyOf(key);
+
+        Object value = local.getIfPresent(cacheKey);
+        if (value != null) {
+            localHits.increment();
+            return (T) value;
+        }
+        return (T) local.get(cacheKey, k -> loadThrough(k, key, valueLoader));
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        if (value == null) {
+            evict(key);
+            return;
+        }
+        String cacheKey = keyOf(key);
+        puts.increment();
+        putRemote(cacheKey, value);
+        local.put(cacheKey, value);
+        invalidationBus.publish(name, cacheKey);
+    }
+
+    @Override
+    public void evict(Object key) {
+        String cacheKey = keyOf(key);
+        try {
+            remote.evict(cacheKey);
+        } catch (DataAccessException e) {
+            log.warn("L2 캐시 삭제 실패: cache={}, key={}, cause={}", name, cacheKey, e.getMessage());
+        }
+        local.invalidate(cacheKey);
+        invalidationBus.publish(name, cacheKey);
+    }
+
+    @Override
+    public void clear() {
+        try {
+            remote.clear();
+        } catch (DataAccessException e) {
+            log.warn("L2 캐시 전체 삭제 실패: cache={}, cause={}", name, e.getMessage());
+        }
+        local.invalidateAll();
+        invalidationBus.publish(name, null);
+    }
+
+    /**
+     * 다른 노드의 변경으로 로컬 캐시만 무효화 (key가 null이면 전체)
+     */
+    public void invalidateLocal(String cacheKey) {
+        if (cacheKey == null) {
+            local.invalidateAll();
+        } else {
+            local.invalidate(cacheKey);
+        }
+    }
+
+    public Stats stats() {
+        return new Stats(name, localHits.sum(), remoteHits.sum(), misses.sum(), local.estimatedSize());
+    }
+
+    // 저장 횟수 (직접 저장 + 미스 후 원본 로드)
+    public long putCount() {
+        return puts.sum();
+    }
+
+    // L1 미스 시 L2 확인 후 원본 로드 (Caffeine 로드 함수 안에서 실행되어 키별로 한 번만 수행)
+    private Object loadThrough(String cacheKey, Object originalKey, Callable<?> valueLoader) {
+        Object value = getRemote(cacheKey);
+        if (value != null) {
+            remoteHits.increment();
+            return value;
+        }
+
+        misses.increment();
+        try {
+            value = valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(originalKey, valueLoader, e);
+        }
+        if (value != null) {
+            puts.increment();
+            putRemote(cacheKey, value);
+        }
+        return value;
+    }
+
+    private Object getRemote(String cacheKey) {
+        try {
+            ValueWrapper wrapper = remote.get(cacheKey);
+            return wrapper != null ? wrapper.get() : null;
+        } catch (DataAccessException e) {
+            log.warn("L2 캐시 조회 실패: cache={}, key={}, cause={}", name, cacheKey, e.getMessage());
+            return null;
+        }
+    }
+
+    private void putRemote(String cacheKey, Object value) {
+        try {
+            remote.put(cacheKey, value);
+        } catch (DataAccessException e) {
+            log.warn("L2 캐시 저장 실패: cache={}, key={}, cause={}", name, cacheKey, e.getMessage());
+        }
+    }
+
+    private static String keyOf(Object key) {
+        return String.valueOf(key);
+    }
+}
@@ -0,0 +1,73 @@
+package com.study.jwtauth.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.study.jwtauth.infrastructure.config.TwoLevelCacheProperties;
+import com.study.jwtauth.infrastructure.config.TwoLevelCacheProperties.Spec;
+import com.study.jwtauth.infrastructure.metrics.TwoLevelCacheMeterBinder;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.cache.RedisCacheManager;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 2단계 캐시 매니저
+ * - 캐시 이름별로 로컬 Caffeine 캐시와 RedisCache를 묶어 TwoLevelCache를 생성
+ * - 생성 시 무효화 메시지 처리기를 등록하여 다른 노드의 변경을 로컬 캐시에 반영
+ * - 캐시는 처음 사용할 때 생성되므로 메트릭도 생성 시점에 등록 (MeterRegistry가 있을 때)
+ */
+public class TwoLevelCacheManager implements CacheManager {
+
+    private final RedisCacheManager remoteCacheManager;
+    private final CacheInvalidationBus invalidationBus;
+    private final TwoLevelCacheProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, TwoLevelCache> caches = new ConcurrentHashMap<>();
+
+    public TwoLevelCacheManager(RedisCacheManager remoteCacheManager,
+                                CacheInvalidationBus invalidationBus,
+                                TwoLevelCacheProperties properties,
+                                MeterRegistry meterRegistry) {
+        this.remoteCacheManager = remoteCacheManager;
+        this.invalidationBus = invalidationBus;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        return caches.computeIfAbsent(name, this::createCache);
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return List.copyOf(caches.keySet());
+    }
+
+    public List<TwoLevelCache.Stats> stats() {
+        return caches.values()
+                .stream()
+                .map(TwoLevelCache::stats)
+                .toList();
+    }
+
+    private TwoLevelCache createCache(String name) {
+        Spec spec = properties.specOf(name);
+        com.github.benmanes.caffeine.cache.Cache<String, Object> local = Caffeine.newBuilder()
+                .maximumSize(spec.getLocalMaximumSize())
+                .expireAfterWrite(spec.getLocalTtl())
+                .build();
+
+        TwoLevelCache cache = new TwoLevelCache(name, local, remoteCacheManager.getCache(name), invalidationBus);
+        invalidationBus.subscribe(name, cache::invalidateLocal);
+        if (meterRegistry != null) {
+            TwoLevelCacheMeterBinder.bind(cache, meterRegistry);
+        }
+        return cache;
+    }
+}
@@ -0,0 +1,124 @@
+package com.study.jwtauth.infrastructure.cache;
+
+import com.study.jwtauth.domain.user.User;
+import com.study.jwtauth.domain.user.UserCacheRegions;
+import com.study.jwtauth.domain.user.UserProvider;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Cache;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitInsertEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.stereotype.Component;
+
+/**
+ * User Aggregate 2차 캐시의 노드 간 무효화
+ *
+ * - Hibernate 2차 캐시는 노드별 로컬(Caffeine JCache)이므로, 커밋된 User/UserProvider 변경을 무효화 메시지로 전파
+ * - 받는 노드는 해당 사용자의 엔티티/providers 컬렉션과 자연 키, 쿼리 캐시 영역을 제거
+ *   (쿼리 캐시는 "없음" 결과도 보관하므로 다른 노드의 신규 가입/연동을 놓치지 않도록 영역 전체 제거)
+ * - 변경한 노드의 캐시는 Hibernate가 직접 갱신하므로 메시지만 발행
+ * - 메시지 유실은 영역 TTL(application.conf)로 보정
+ */
+@Slf4j
+@Component
+public class UserCacheInvalidator implements PostCommitInsertEventListener,
+        PostCommitUpdateEventListener, PostCommitDeleteEventListener {
+
+    static final String CACHE_NAME = "hibernate:user";
+
+    private static final String PROVIDERS_ROLE = User.class.getName() + ".providers";
+
+    private final Cache cache;
+    private final CacheInvalidationBus invalidationBus;
+
+    public UserCacheInvalidator(EntityManagerFactory entityManagerFactory, CacheInvalidationBus invalidationBus) {
+        SessionFactoryImplementor sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        this.cache = sessionFactory.getCache();
+        this.invalidationBus = invalidationBus;
+
+        EventListenerRegistry registry = sessionFactory.getServiceRegistry().getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_COMMIT_INSERT, this);
+        registry.appendListeners(EventType.POST_COMMIT_UPDATE, this);
+        registry.appendListeners(EventType.POST_COMMIT_DELETE, this);
+        invalidationBus.subscribe(CACHE_NAME, this::onRemoteInvalidation);
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        publish(event.getEntity());
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        publish(event.getEntity());
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        publish(event.getEntity());
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return isUserAggregate(persister.getMappedClass());
+    }
+
+    // 롤백된 변경은 전파할 필요 없음
+    @Override
+    public void onPostInsertCommitFailed(PostInsertEvent event) {
+    }
+
+    @Override
+    public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+    }
+
+    @Override
+    public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+    }
+
+    private void publish(Object entity) {
+        Long userId = userIdOf(entity);
+        if (userId != null) {
+            invalidationBus.publish(CACHE_NAME, String.valueOf(userId));
+        }
+    }
+
+    // 다른 노드의 변경 반영 (key가 null이면 User Aggregate 영역 전체)
+    private void onRemoteInvalidation(String key) {
+        if (key == null) {
+            cache.evictEntityData(User.class);
+            cache.evictEntityData(UserProvider.class);
+            cache.evictCollectionData(PROVIDERS_ROLE);
+        } else {
+            Long userId = Long.valueOf(key);
+            cache.evictEntityData(User.class, userId);
+            cache.evictCollectionData(PROVIDERS_ROLE, userId);
+        }
+        // 자연 키 영역은 email 값으로만 개별 제거할 수 있어 전체 제거 (email은 변경되지 않으므로 재적재 비용만 발생)
+        cache.evictNaturalIdData(User.class);
+        cache.evictQueryRegion(UserCacheRegions.USER_QUERIES);
+        log.debug("User 2차 캐시 원격 무효화: userId={}", key);
+    }
+
+    private static boolean isUserAggregate(Class<?> type) {
+        return User.class.equals(type) || UserProvider.class.equals(type);
+    }
+
+    private static Long userIdOf(Object entity) {
+        if (entity instanceof User user) {
+            return user.getId();
+        }
+        if (entity instanceof UserProvider provider && provider.getUser() != null) {
+            return provider.getUser().getId();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,27 @@
+package com.study.jwtauth.infrastructure.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * API 접근 로그 설정 (요청당 한 건, 정상 응답은 샘플링)
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "logging.access")
+public class AccessLogProperties {
+
+    // 정상(2xx/3xx)이면서 느리지 않은 요청을 남길 비율 (0.0 ~ 1.0)
+    private double sampleRate = 0.1;
+
+    // 이 시간 이상 걸린 요청은 샘플링과 무관하게 기록
+    private Duration slowThreshold = Duration.ofMillis(1000);
+
+    // 요청별 CPU 시간/할당 바이트 측정 (접근 로그 + 엔드포인트별 메트릭), 끄면 측정 필터가 동작하지 않음
+    private boolean resourceAccounting = false;
+}
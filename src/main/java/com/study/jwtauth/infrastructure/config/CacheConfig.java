@@ -0,0 +1,59 @@
+package com.study.jwtauth.infrastructure.config;
+
+import com.study.jwtauth.infrastructure.cache.CacheInvalidationBus;
+import com.study.jwtauth.infrastructure.cache.TwoLevelCacheManager;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 캐시 설정
+ * - @Cacheable 등 선언적 캐시는 2단계 캐시(로컬 Caffeine + Redis)를 사용
+ * - 노드 간 로컬 캐시 무효화는 Redis Pub/Sub 채널로 전달
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    @Bean
+    public TwoLevelCacheManager cacheManager(RedisConnectionFactory connectionFactory,
+                                             CacheInvalidationBus invalidationBus,
+                                             TwoLevelCacheProperties properties,
+                                             ObjectProvider<MeterRegistry> meterRegistry) {
+        // L2 값은 JDK 직렬화 (캐시 대상 DTO는 Serializable)
+        RedisCacheConfiguration defaults = RedisCacheConfiguration.defaultCacheConfig()
+                .entryTtl(properties.getDefaults().getRemoteTtl())
+                .disableCachingNullValues();
+
+        Map<String, RedisCacheConfiguration> perCache = new HashMap<>();
+        properties.getCaches().keySet().forEach(name ->
+                perCache.put(name, defaults.entryTtl(properties.specOf(name).getRemoteTtl())));
+
+        RedisCacheManager remoteCacheManager = RedisCacheManager.builder(connectionFactory)
+                .cacheDefaults(defaults)
+                .withInitialCacheConfigurations(perCache)
+                .build();
+        remoteCacheManager.initializeCaches();
+
+        return new TwoLevelCacheManager(remoteCacheManager, invalidationBus, properties, meterRegistry.getIfAvailable());
+    }
+
+    @Bean
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                           CacheInvalidationBus invalidationBus) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(invalidationBus, new ChannelTopic(invalidationBus.getChannel()));
+        return container;
+    }
+}
@@ -0,0 +1,43 @@
+package com.study.jwtauth.infrastructure.config;
+
+import com.study.jwtauth.infrastructure.datasource.InstrumentedDataSource;
+import com.study.jwtauth.infrastructure.datasource.StatementListener;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.function.SingletonSupplier;
+
+import javax.sql.DataSource;
+import java.util.function.Supplier;
+
+/**
+ * SQL 실행 관찰 설정
+ *
+ * - 애플리케이션이 사용하는 DataSource(dataSource 빈)를 InstrumentedDataSource로 감쌈
+ *   (라우팅 사용 시 LazyConnectionDataSourceProxy 바깥이므로 주 DB/복제본 문장을 모두 관찰)
+ * - 느린 SQL 기록/문장 형태별 집계(SqlStatementStats)와 요청별 문장 수 예산(@QueryBudget)에 사용
+ */
+@Configuration
+public class DataSourceInstrumentationConfig {
+
+    private static final String DATA_SOURCE_BEAN_NAME = "dataSource";
+
+    @Bean
+    public static BeanPostProcessor instrumentedDataSourcePostProcessor(ObjectProvider<StatementListener> listener) {
+        Supplier<StatementListener> resolved = SingletonSupplier.of(
+                () -> listener.getIfAvailable(() -> StatementListener.NONE));
+
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (DATA_SOURCE_BEAN_NAME.equals(beanName)
+                        && bean instanceof DataSource dataSource
+                        && !(bean instanceof InstrumentedDataSource)) {
+                    return new InstrumentedDataSource(dataSource, resolved);
+                }
+                return bean;
+            }
+        };
+    }
+}
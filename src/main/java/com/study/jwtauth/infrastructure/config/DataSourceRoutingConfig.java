@@ -0,0 +1,85 @@
+package com.study.jwtauth.infrastructure.config;
+
+import com.study.jwtauth.infrastructure.datasource.ReadYourWritesTracker;
+import com.study.jwtauth.infrastructure.datasource.ReplicaDataSources;
+import com.study.jwtauth.infrastructure.datasource.ReplicaRoutingDataSource;
+import com.study.jwtauth.presentataion.interceptor.ReadYourWritesInterceptor;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * 읽기/쓰기 DataSource 라우팅 설정 (datasource.routing.enabled=true)
+ *
+ * - 주 DB: spring.datasource / spring.datasource.hikari
+ * - 복제본: datasource.routing.replicas
+ * - 애플리케이션이 사용하는 DataSource는 LazyConnectionDataSourceProxy(라우팅 DataSource)
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "datasource.routing", name = "enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName(ReplicaRoutingDataSource.PRIMARY);
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaDataSources replicaDataSources(DataSourceRoutingProperties properties,
+                                                 ObjectProvider<MeterRegistry> meterRegistry) {
+        return new ReplicaDataSources(properties, meterRegistry.getIfAvailable());
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource routingDataSource(HikariDataSource primaryDataSource,
+                                                      ReplicaDataSources replicaDataSources) {
+        return new ReplicaRoutingDataSource(primaryDataSource, replicaDataSources);
+    }
+
+    // 트랜잭션 시작 후 첫 쿼리 시점에 커넥션을 얻어야 읽기 전용 여부로 라우팅 가능
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource routingDataSource) {
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    // 트랜잭션이 끝나면 커넥션 반납
+    // (기본값은 세션이 커넥션을 계속 잡고 있어, OSIV로 세션이 요청 전체에 걸치면 다음 트랜잭션이 다시 라우팅되지 않음)
+    @Bean
+    public HibernatePropertiesCustomizer connectionReleaseCustomizer() {
+        return hibernateProperties -> hibernateProperties.put(
+                AvailableSettings.CONNECTION_HANDLING,
+                PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION
+        );
+    }
+
+    // Redis가 없으면 노드별 로컬 기록만 사용
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(ObjectProvider<StringRedisTemplate> redisTemplate,
+                                                       DataSourceRoutingProperties properties) {
+        return new ReadYourWritesTracker(redisTemplate.getIfAvailable(), properties);
+    }
+
+    @Bean
+    public ReadYourWritesInterceptor readYourWritesInterceptor(ReadYourWritesTracker tracker) {
+        return new ReadYourWritesInterceptor(tracker);
+    }
+}
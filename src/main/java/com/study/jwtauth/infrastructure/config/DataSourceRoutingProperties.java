@@ -0,0 +1,52 @@
+package com.study.jwtauth.infrastructure.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 읽기/쓰기 DataSource 라우팅 설정
+ * - 주(primary) DB는 spring.datasource 설정을 그대로 사용
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "datasource.routing")
+public class DataSourceRoutingProperties {
+
+    // 라우팅 사용 여부 (false면 spring.datasource 하나만 사용)
+    private boolean enabled = false;
+
+    // 읽기 전용 트랜잭션을 보낼 복제본 목록
+    private List<Replica> replicas = new ArrayList<>();
+
+    // 복제본 상태 확인 주기
+    private Duration healthCheckInterval = Duration.ofSeconds(5);
+
+    // 복제본 커넥션 획득/검증 제한 시간 (장애 시 빠르게 주 DB로 대체)
+    private Duration healthCheckTimeout = Duration.ofSeconds(1);
+
+    // 쓰기 이후 해당 사용자의 읽기를 주 DB로 보내는 시간 (복제 지연 보정)
+    private Duration readYourWritesWindow = Duration.ofSeconds(5);
+
+    @Getter
+    @Setter
+    public static class Replica {
+
+        // 풀 이름 (로그/메트릭 식별용, 없으면 replica-{순번})
+        private String name;
+
+        private String url;
+
+        private String username;
+
+        private String password;
+
+        private int maximumPoolSize = 10;
+    }
+}
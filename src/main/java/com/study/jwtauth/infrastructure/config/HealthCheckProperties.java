@@ -0,0 +1,24 @@
+package com.study.jwtauth.infrastructure.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 준비 상태(readiness) 확인 설정 (DB/Redis 확인 결과 캐시)
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "health-check")
+public class HealthCheckProperties {
+
+    // 확인 결과 재사용 시간 (로드밸런서/컨테이너가 자주 호출해도 DB/Redis에는 이 주기로만 접근)
+    private Duration cacheTtl = Duration.ofSeconds(5);
+
+    // DB 커넥션 획득 + 유효성 확인, Redis 연결 + PING 대기 시간 (넘으면 DOWN)
+    private Duration timeout = Duration.ofSeconds(1);
+}
@@ -0,0 +1,43 @@
+package com.study.jwtauth.infrastructure.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 목록 첫 페이지 캐시(확률적 조기 갱신) 설정
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "post.page-cache")
+public class PageCacheProperties {
+
+    // 논리적 만료 시간
+    private Duration ttl = Duration.ofSeconds(60);
+
+    // 조기 갱신 강도 (클수록 만료 전에 더 일찍 갱신, 1.0이 권장값)
+    private double beta = 1.0;
+
+    // 백그라운드 갱신 주기 (hot 키 판정 구간)
+    private Duration refreshInterval = Duration.ofSeconds(10);
+
+    // 한 주기 동안 이 횟수 이상 조회된 키는 만료 전에 백그라운드에서 갱신
+    private long hotThreshold = 5;
+
+    // 만료까지 이 시간 이하로 남은 hot 키를 백그라운드에서 갱신
+    private Duration refreshAhead = Duration.ofSeconds(20);
+
+    // 캐시할 최대 페이지 크기 (더 큰 요청은 캐시하지 않음)
+    private int maxPageSize = 50;
+
+    // 추적할 최대 키 수 (초과 시 새 키는 캐시하지 않음)
+    private int maxKeys = 200;
+
+    // 캐시할 인기글(좋아요) 기준값 - 그 밖의 값은 캐시하지 않음 (사용자 입력으로 키가 늘어나 추적 한도를 채우지 않도록)
+    private List<Integer> likeThresholds = List.of(0, 10, 50, 100);
+}
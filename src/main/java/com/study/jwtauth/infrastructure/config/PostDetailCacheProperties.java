@@ -0,0 +1,24 @@
+package com.study.jwtauth.infrastructure.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 게시글 상세 응답 캐시 설정
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "post.detail-cache")
+public class PostDetailCacheProperties {
+
+    // 캐시할 최대 게시글 수
+    private long maximumSize = 10000;
+
+    // 마지막 기록 이후 유지 시간 (무효화 누락 시 최대 지연)
+    private Duration expireAfterWrite = Duration.ofMinutes(10);
+}
@@ -0,0 +1,30 @@
+package com.study.jwtauth.infrastructure.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * JFR 기록(관리자 API) 설정
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "profiling.jfr")
+public class ProfilingProperties {
+
+    // 기록 파일(.jfr) 저장 디렉터리
+    private String directory = "./profiles";
+
+    // JDK 기본 설정 이름 (default: 상시 사용 수준, profile: 샘플링 주기가 짧아 부하가 조금 더 큼)
+    private String settings = "profile";
+
+    // 기록 시간을 지정하지 않았을 때
+    private Duration defaultDuration = Duration.ofSeconds(30);
+
+    // 요청 가능한 최대 기록 시간
+    private Duration maxDuration = Duration.ofMinutes(5);
+}
@@ -0,0 +1,22 @@
+package com.study.jwtauth.infrastructure.config;
+
+import com.study.jwtauth.presentataion.interceptor.QueryBudgetInterceptor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * SQL 문장 수 예산 검사 설정 (query-budget.enabled=true)
+ *
+ * - 요청별 문장 수(InstrumentedDataSource가 세는 StatementCounter)가 @QueryBudget을 넘으면
+ *   QueryBudgetInterceptor가 경고 로그
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "query-budget", name = "enabled", havingValue = "true")
+public class QueryBudgetConfig {
+
+    @Bean
+    public QueryBudgetInterceptor queryBudgetInterceptor(QueryBudgetProperties properties) {
+        return new QueryBudgetInterceptor(properties);
+    }
+}
@@ -0,0 +1,22 @@
+package com.study.jwtauth.infrastructure.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 엔드포인트별 SQL 문장 수 예산 검사 설정 (@QueryBudget)
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "query-budget")
+public class QueryBudgetProperties {
+
+    // 요청마다 실행한 문장 수를 세고 예산을 넘으면 경고 로그 (개발 환경용)
+    private boolean enabled = false;
+
+    // @QueryBudget이 없는 핸들러의 예산
+    private int defaultBudget = 10;
+}
@@ -0,0 +1,24 @@
+package com.study.jwtauth.infrastructure.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 인기글 랭킹(Redis Sorted Set) 설정
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "post.ranking")
+public class RankingProperties {
+
+    // 재구축 시 DB에서 한 번에 읽어올 게시글 수
+    private int rebuildBatchSize = 1000;
+
+    // 여러 인스턴스가 동시에 재구축하지 않도록 잡는 락의 유효 시간
+    private Duration rebuildLockTtl = Duration.ofMinutes(5);
+}
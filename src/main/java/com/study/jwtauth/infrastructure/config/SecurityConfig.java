@@ -1,14 +1,22 @@
 package com.study.jwtauth.infrastructure.config;
 
+import com.study.jwtauth.domain.user.Role;
+import com.study.jwtauth.infrastructure.metrics.JwtVerificationMetrics;
+import com.study.jwtauth.infrastructure.metrics.TimedPasswordEncoder;
 import com.study.jwtauth.infrastructure.security.jwt.JwtAccessDeniedHandler;
 import com.study.jwtauth.infrastructure.security.jwt.JwtAuthenticationEntryPoint;
 import com.study.jwtauth.infrastructure.security.jwt.JwtAuthenticationFilter;
 import com.study.jwtauth.infrastructure.security.jwt.JwtProvider;
 import com.study.jwtauth.infrastructure.security.oidc.CustomOidcUserService;
 import com.study.jwtauth.infrastructure.security.oidc.OidcSuccessHandler;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
+import org.springframework.boot.actuate.autoconfigure.web.server.ManagementServerProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -16,6 +24,7 @@ import org.springframework.security.config.annotation.web.configuration.EnableWe
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
@@ -29,9 +38,10 @@ import java.util.List;
  * Spring Security 설정
  *
  * Filter 실행 순서:
- * 1. MdcLoggingFilter (@Component + @Order로 자동 등록)
+ * 1. MdcLoggingFilter (@Component + @Order로 자동 등록, 상태 확인 요청은 건너뜀)
  * 2. SecurityFilterChain (이 클래스에서 정의)
- *    - JwtAuthenticationFilter
+ *    - Actuator(/actuator/**): 관리 포트(management.server.port)로 들어온 요청만 허용하는 별도 체인 (JWT/OAuth2 필터 없음)
+ *    - 그 외: JwtAuthenticationFilter
  *    - UsernamePasswordAuthenticationFilter
  *    - ...
  */
@@ -45,10 +55,12 @@ public class SecurityConfig {
     private final JwtAccessDeniedHandler jwtAccessDeniedHandler;
     private final CustomOidcUserService customOidcUserService;
     private final OidcSuccessHandler oidcSuccessHandler;
+    private final JwtVerificationMetrics jwtVerificationMetrics;
 
+    // BCrypt 해시/검증 시간을 password.encoder 메트릭으로 기록
     @Bean
-    BCryptPasswordEncoder bCryptPasswordEncoder() {
-        return new BCryptPasswordEncoder();
+    PasswordEncoder passwordEncoder(MeterRegistry meterRegistry) {
+        return new TimedPasswordEncoder(new BCryptPasswordEncoder(), meterRegistry);
     }
 
     @Bean
@@ -58,7 +70,7 @@ public class SecurityConfig {
 
     @Bean
     public JwtAuthenticationFilter jwtAuthenticationFilter() {
-        return new JwtAuthenticationFilter(jwtProvider);
+        return new JwtAuthenticationFilter(jwtProvider, jwtVerificationMetrics);
     }
 
     /**
@@ -91,7 +103,8 @@ public class SecurityConfig {
         // 브라우저에 노출할 헤더
         configuration.setExposedHeaders(Arrays.asList(
                 "Authorization",
-                "Content-Type"
+                "Content-Type",
+                "X-Request-Id"
         ));
 
         // Preflight 요청 캐시 시간 (1시간)
@@ -103,6 +116,35 @@ public class SecurityConfig {
         return source;
     }
 
+    /**
+     * Actuator 전용 필터 체인 (상태 확인, Prometheus 수집)
+     * - Actuator는 외부에 공개하지 않는 관리 포트에서만 제공하고, 내부 네트워크의 로드밸런서/수집기만 접근
+     * - 관리 포트를 서비스 포트와 같게 설정하더라도 공개 포트로 들어온 요청은 거부
+     * - 세션/요청 캐시/CSRF 없이 처리하여 주기적인 호출의 보안 처리 비용을 최소화
+     */
+    @Bean
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public SecurityFilterChain managementFilterChain(HttpSecurity http, ManagementServerProperties managementServerProperties)
+            throws Exception {
+        Integer managementPort = managementServerProperties.getPort();
+        http
+                .securityMatcher(EndpointRequest.toAnyEndpoint())
+                .csrf(AbstractHttpConfigurer::disable)
+                .formLogin(AbstractHttpConfigurer::disable)
+                .httpBasic(AbstractHttpConfigurer::disable)
+                .requestCache(AbstractHttpConfigurer::disable)
+                .sessionManagement(session -> session
+                        .sessionCreationPolicy(SessionCreationPolicy.STATELESS)
+                )
+                .authorizeHttpRequests(auth -> auth
+                        .requestMatchers(request -> managementPort != null && request.getLocalPort() == managementPort)
+                        .permitAll()
+                        .anyRequest().denyAll()
+                );
+
+        return http.build();
+    }
+
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
         http
@@ -138,6 +180,8 @@ public class SecurityConfig {
                                 "/login/oauth2/**",
                                 "/oauth2/**"
                         ).permitAll()
+                        // 관리자 엔드포인트
+                        .requestMatchers("/api/admin/**").hasAuthority(Role.ADMIN.name())
                         // 그 외 모든 요청은 인증 필요
                         .anyRequest().authenticated()
                 )
@@ -0,0 +1,27 @@
+package com.study.jwtauth.infrastructure.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 느린 SQL 기록 / 문장 형태별 집계 설정 (SqlStatementStats)
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "datasource.slow-query")
+public class SlowQueryProperties {
+
+    // 이 시간 이상 걸린 문장만 로그로 기록 (리터럴은 ?로 바꾼 형태)
+    private Duration threshold = Duration.ofMillis(500);
+
+    // 집계할 최대 문장 형태 수 (초과분은 하나의 항목으로 합산)
+    private int maxStatements = 500;
+
+    // 로그/집계에 남길 SQL 최대 길이
+    private int maxSqlLength = 2000;
+}
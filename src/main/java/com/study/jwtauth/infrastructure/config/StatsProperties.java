@@ -0,0 +1,30 @@
+package com.study.jwtauth.infrastructure.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 게시글 활동 통계(Redis 시간별/일별 카운터) 설정
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "post.stats")
+public class StatsProperties {
+
+    // 시간 단위로 보관할 구간 수 (키 TTL = hourlyBuckets + 1 시간)
+    private int hourlyBuckets = 48;
+
+    // 일 단위로 보관할 구간 수 (키 TTL = dailyBuckets + 1 일)
+    private int dailyBuckets = 30;
+
+    // Redis 반영 주기 (노드별 미반영분을 모아서 HINCRBY)
+    private Duration flushInterval = Duration.ofSeconds(5);
+
+    // 노드별 미반영 (게시글, 시간, 항목) 키 최대 수 (Redis 장애 시 메모리 보호, 초과분은 버림)
+    private int maxPendingKeys = 50000;
+}
@@ -0,0 +1,32 @@
+package com.study.jwtauth.infrastructure.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 게시글 제목 자동완성 인덱스 설정
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "post.suggest")
+public class SuggestProperties {
+
+    // 인덱스에 유지할 최대 게시글 수 (초과 시 가중치가 가장 낮은 게시글부터 제거)
+    private int maxPosts = 20000;
+
+    // 인덱싱할 접두어 최대 길이
+    private int maxKeyLength = 20;
+
+    // 제목 하나당 인덱싱할 단어 시작 위치 수
+    private int maxKeysPerTitle = 4;
+
+    // 노드별로 유지할 후보 게시글 수
+    private int candidatesPerNode = 10;
+
+    // 가중치 = likeCount * likeWeight + viewCount * viewWeight
+    private long likeWeight = 10;
+    private long viewWeight = 1;
+}
@@ -0,0 +1,33 @@
+package com.study.jwtauth.infrastructure.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * 트렌딩(시간 감쇠) 랭킹 설정
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "post.trending")
+public class TrendingProperties {
+
+    // 이벤트 가중치가 절반으로 줄어드는 시간
+    private Duration halfLife = Duration.ofHours(6);
+
+    // 이벤트별 가중치
+    private double viewWeight = 1.0;
+    private double likeWeight = 5.0;
+    private double commentWeight = 3.0;
+
+    // 로그 점수 계산 기준 시각 (변경 시 랭킹 초기화 필요)
+    private Instant epoch = Instant.parse("2025-01-01T00:00:00Z");
+
+    // 유지할 최대 게시글 수 (초과분은 주기적으로 정리)
+    private long maxSize = 10000;
+}
@@ -0,0 +1,63 @@
+package com.study.jwtauth.infrastructure.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 2단계 캐시(로컬 L1 + Redis L2) 설정
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "cache.two-level")
+public class TwoLevelCacheProperties {
+
+    // 무효화 메시지를 주고받는 Redis 채널
+    private String channel = "cache:invalidation";
+
+    // 캐시별 설정이 없을 때 사용하는 기본값
+    private Spec defaults = Spec.of(1000L, Duration.ofMinutes(1), Duration.ofMinutes(10));
+
+    // 캐시 이름별 설정 (지정한 항목만 기본값을 덮어씀)
+    private Map<String, Spec> caches = new HashMap<>();
+
+    public Spec specOf(String cacheName) {
+        Spec spec = caches.get(cacheName);
+        if (spec == null) {
+            return defaults;
+        }
+        return Spec.of(
+                spec.getLocalMaximumSize() != null ? spec.getLocalMaximumSize() : defaults.getLocalMaximumSize(),
+                spec.getLocalTtl() != null ? spec.getLocalTtl() : defaults.getLocalTtl(),
+                spec.getRemoteTtl() != null ? spec.getRemoteTtl() : defaults.getRemoteTtl()
+        );
+    }
+
+    @Getter
+    @Setter
+    public static class Spec {
+
+        // 노드별 로컬 캐시 최대 항목 수
+        private Long localMaximumSize;
+
+        // 로컬 캐시 유지 시간 (무효화 메시지 유실 시 최대 지연)
+        private Duration localTtl;
+
+        // Redis 캐시 유지 시간
+        private Duration remoteTtl;
+
+        static Spec of(Long localMaximumSize, Duration localTtl, Duration remoteTtl) {
+            Spec spec = new Spec();
+            spec.setLocalMaximumSize(localMaximumSize);
+            spec.setLocalTtl(localTtl);
+            spec.setRemoteTtl(remoteTtl);
+            return spec;
+        }
+    }
+}
@@ -1,11 +1,19 @@
 package com.study.jwtauth.infrastructure.config;
 
+import com.study.jwtauth.infrastructure.profiling.ProfilingJackson2HttpMessageConverter;
 import com.study.jwtauth.presentataion.interceptor.ApiLoggingInterceptor;
+import com.study.jwtauth.presentataion.interceptor.QueryBudgetInterceptor;
+import com.study.jwtauth.presentataion.interceptor.ReadYourWritesInterceptor;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import java.util.List;
+
 /**
  * Web MVC 설정
  */
@@ -15,6 +23,12 @@ public class WebConfig implements WebMvcConfigurer {
 
     private final ApiLoggingInterceptor apiLoggingInterceptor;
 
+    // 읽기/쓰기 DataSource 라우팅을 사용할 때만 존재
+    private final ObjectProvider<ReadYourWritesInterceptor> readYourWritesInterceptor;
+
+    // SQL 문장 수 예산 검사를 켰을 때만 존재 (query-budget.enabled=true)
+    private final ObjectProvider<QueryBudgetInterceptor> queryBudgetInterceptor;
+
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
         registry.addInterceptor(apiLoggingInterceptor)
@@ -23,5 +37,21 @@ public class WebConfig implements WebMvcConfigurer {
                         "/api/auth/signup"    // 회원가입만 제외 (민감 정보)
                         // 로그인/로그아웃은 인터셉터에 포함 (API 로그 + 인증 로그 분리)
                 );
+
+        readYourWritesInterceptor.ifAvailable(interceptor ->
+                registry.addInterceptor(interceptor).addPathPatterns("/api/**"));
+
+        queryBudgetInterceptor.ifAvailable(interceptor ->
+                registry.addInterceptor(interceptor).addPathPatterns("/api/**"));
+    }
+
+    // JSON 변환기를 응답 직렬화 JFR 이벤트를 기록하는 변환기로 교체 (같은 ObjectMapper 사용)
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.replaceAll(converter ->
+                converter instanceof MappingJackson2HttpMessageConverter jackson
+                        && !(converter instanceof ProfilingJackson2HttpMessageConverter)
+                        ? new ProfilingJackson2HttpMessageConverter(jackson.getObjectMapper())
+                        : converter);
     }
 }
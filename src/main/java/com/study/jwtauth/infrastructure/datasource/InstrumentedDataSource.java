@@ -0,0 +1,113 @@
+package com.study.jwtauth.infrastructure.datasource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.function.Supplier;
+
+/**
+ * SQL 문장 실행을 관찰하는 DataSource
+ *
+ * - 커넥션이 만든 Statement의 execute* 호출마다 현재 스레드의 StatementCounter를 증가 (측정 중일 때만 셈)
+ * - execute* 소요 시간을 재어 StatementListener(느린 쿼리 기록/문장별 집계)에 SQL과 함께 전달
+ * - JPA/JdbcClient/네이티브 쿼리를 구분하지 않고 DB로 보낸 문장을 모두 관찰
+ * - 바인딩 파라미터 값은 읽지 않음 (PreparedStatement는 ?가 포함된 원문만 전달)
+ */
+public class InstrumentedDataSource extends DelegatingDataSource {
+
+    private static final String EXECUTE_PREFIX = "execute";
+    private static final String ADD_BATCH = "addBatch";
+
+    // 리스너 빈은 첫 문장 실행 시점에 조회 (DataSource보다 늦게 생성될 수 있음)
+    private final Supplier<StatementListener> listener;
+
+    public InstrumentedDataSource(DataSource targetDataSource, Supplier<StatementListener> listener) {
+        super(targetDataSource);
+        this.listener = listener;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return instrumentedConnection(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return instrumentedConnection(obtainTargetDataSource().getConnection(username, password));
+    }
+
+    private Connection instrumentedConnection(Connection connection) {
+        return proxy(Connection.class, (method, args) -> {
+            Object result = invoke(connection, method, args);
+            String sql = args != null && args.length > 0 && args[0] instanceof String text ? text : null;
+            if (result instanceof CallableStatement statement) {
+                return instrumentedStatement(CallableStatement.class, statement, sql);
+            }
+            if (result instanceof PreparedStatement statement) {
+                return instrumentedStatement(PreparedStatement.class, statement, sql);
+            }
+            if (result instanceof Statement statement) {
+                return instrumentedStatement(Statement.class, statement, null);
+            }
+            return result;
+        });
+    }
+
+    // 실패한 문장도 DB까지 갔으므로 셈
+    private <T extends Statement> T instrumentedStatement(Class<T> type, T statement, String preparedSql) {
+        String[] batchSql = {preparedSql};
+        return proxy(type, (method, args) -> {
+            String name = method.getName();
+            if (!name.startsWith(EXECUTE_PREFIX)) {
+                if (name.equals(ADD_BATCH) && args != null && args.length == 1 && args[0] instanceof String sql) {
+                    batchSql[0] = sql;
+                }
+                return invoke(statement, method, args);
+            }
+
+            StatementCounter.increment();
+            String sql = args != null && args.length > 0 && args[0] instanceof String text ? text : batchSql[0];
+            long start = System.nanoTime();
+            try {
+                return invoke(statement, method, args);
+            } finally {
+                if (sql != null) {
+                    listener.get().afterExecute(sql, System.nanoTime() - start);
+                }
+            }
+        });
+    }
+
+    private interface Invocation {
+        Object proceed(Method method, Object[] args) throws Throwable;
+    }
+
+    private static <T> T proxy(Class<T> type, Invocation invocation) {
+        Object proxy = Proxy.newProxyInstance(
+                InstrumentedDataSource.class.getClassLoader(),
+                new Class<?>[]{type},
+                (self, method, args) -> switch (method.getName()) {
+                    case "equals" -> self == args[0];
+                    case "hashCode" -> System.identityHashCode(self);
+                    default -> invocation.proceed(method, args);
+                }
+        );
+        return type.cast(proxy);
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+}
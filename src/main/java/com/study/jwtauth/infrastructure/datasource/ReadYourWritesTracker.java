@@ -0,0 +1,62 @@
+package com.study.jwtauth.infrastructure.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.study.jwtauth.infrastructure.config.DataSourceRoutingProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+
+/**
+ * 사용자별 최근 쓰기 기록 (read-your-writes)
+ *
+ * - 쓰기 요청이 성공하면 일정 시간 동안 해당 사용자의 읽기를 주 DB로 보냄 (복제 지연으로 방금 쓴 값이 안 보이는 문제 방지)
+ * - 같은 노드는 로컬 캐시로, 다른 노드로 간 요청은 Redis 키(TTL)로 확인
+ * - Redis가 없거나 장애 시 로컬 기록만 사용
+ */
+@Slf4j
+public class ReadYourWritesTracker {
+
+    private static final String KEY_PREFIX = "ryw:user:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final Duration window;
+    private final Cache<Long, Boolean> recentWriters;
+
+    public ReadYourWritesTracker(StringRedisTemplate redisTemplate, DataSourceRoutingProperties properties) {
+        this.redisTemplate = redisTemplate;
+        this.window = properties.getReadYourWritesWindow();
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(window)
+                .maximumSize(100_000)
+                .build();
+    }
+
+    public void markWrite(Long userId) {
+        recentWriters.put(userId, Boolean.TRUE);
+        if (redisTemplate == null) {
+            return;
+        }
+        try {
+            redisTemplate.opsForValue().set(KEY_PREFIX + userId, "1", window);
+        } catch (DataAccessException e) {
+            log.warn("최근 쓰기 기록 실패: userId={}, cause={}", userId, e.getMessage());
+        }
+    }
+
+    public boolean isWithinWindow(Long userId) {
+        if (recentWriters.getIfPresent(userId) != null) {
+            return true;
+        }
+        if (redisTemplate == null) {
+            return false;
+        }
+        try {
+            return Boolean.TRUE.equals(redisTemplate.hasKey(KEY_PREFIX + userId));
+        } catch (DataAccessException e) {
+            return false;
+        }
+    }
+}
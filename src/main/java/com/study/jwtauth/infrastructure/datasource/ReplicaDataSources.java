@@ -0,0 +1,129 @@
+package com.study.jwtauth.infrastructure.datasource;
+
+import com.study.jwtauth.infrastructure.config.DataSourceRoutingProperties;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 복제본 커넥션 풀과 상태
+ *
+ * - 주기적으로 커넥션을 검증하여 정상/장애 상태를 갱신
+ * - 요청 중 커넥션 획득에 실패한 복제본은 즉시 장애로 표시 (다음 상태 확인에서 복구)
+ * - 복제본이 기동 시점에 내려가 있어도 애플리케이션 기동은 막지 않음
+ * - 복제본 풀은 빈이 아니므로 커넥션 풀 메트릭(hikaricp.*)을 직접 연결
+ */
+@Slf4j
+public class ReplicaDataSources {
+
+    private final Map<String, HikariDataSource> replicas = new LinkedHashMap<>();
+    private final Set<String> healthy = ConcurrentHashMap.newKeySet();
+    private final int validationTimeoutSeconds;
+
+    private volatile List<String> healthySnapshot = List.of();
+
+    public ReplicaDataSources(DataSourceRoutingProperties properties, MeterRegistry meterRegistry) {
+        long timeoutMillis = Math.max(250, properties.getHealthCheckTimeout().toMillis());
+        this.validationTimeoutSeconds = (int) Math.max(1, properties.getHealthCheckTimeout().toSeconds());
+
+        List<DataSourceRoutingProperties.Replica> configured = properties.getReplicas();
+        for (int i = 0; i < configured.size(); i++) {
+            DataSourceRoutingProperties.Replica replica = configured.get(i);
+            String name = replica.getName() != null ? replica.getName() : "replica-" + i;
+
+            HikariDataSource dataSource = DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .url(replica.getUrl())
+                    .username(replica.getUsername())
+                    .password(replica.getPassword())
+                    .build();
+            dataSource.setPoolName(name);
+            dataSource.setReadOnly(true);
+            dataSource.setMaximumPoolSize(replica.getMaximumPoolSize());
+            dataSource.setConnectionTimeout(timeoutMillis);
+            dataSource.setInitializationFailTimeout(-1);
+            if (meterRegistry != null) {
+                dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+            }
+
+            replicas.put(name, dataSource);
+            healthy.add(name);
+        }
+        refreshSnapshot();
+    }
+
+    public Map<String, DataSource> asMap() {
+        return Collections.unmodifiableMap(replicas);
+    }
+
+    /**
+     * 현재 정상인 복제본 이름 (등록 순서)
+     */
+    public List<String> healthyReplicas() {
+        return healthySnapshot;
+    }
+
+    /**
+     * 복제본 장애 표시 (다음 상태 확인까지 라우팅 대상에서 제외)
+     */
+    public void markDown(String name, SQLException cause) {
+        if (healthy.remove(name)) {
+            refreshSnapshot();
+            log.warn("복제본 장애, 주 DB로 대체합니다: replica={}, cause={}", name, cause.getMessage());
+        }
+    }
+
+    /**
+     * 복제본 상태 확인 (커넥션 획득 + 검증)
+     */
+    @Scheduled(
+            initialDelayString = "${datasource.routing.health-check-interval:PT5S}",
+            fixedDelayString = "${datasource.routing.health-check-interval:PT5S}"
+    )
+    public void checkReplicas() {
+        replicas.forEach((name, dataSource) -> {
+            try (Connection connection = dataSource.getConnection()) {
+                if (connection.isValid(validationTimeoutSeconds)) {
+                    markUp(name);
+                } else {
+                    markDown(name, new SQLException("connection is not valid"));
+                }
+            } catch (SQLException e) {
+                markDown(name, e);
+            }
+        });
+    }
+
+    // 빈 소멸 시 복제본 풀 종료
+    public void close() {
+        replicas.values().forEach(HikariDataSource::close);
+    }
+
+    private void markUp(String name) {
+        if (healthy.add(name)) {
+            refreshSnapshot();
+            log.info("복제본 복구: replica={}", name);
+        }
+    }
+
+    // 라우팅마다 Set을 복사하지 않도록 변경 시점에만 목록 갱신 (등록 순서 유지)
+    private synchronized void refreshSnapshot() {
+        healthySnapshot = replicas.keySet()
+                .stream()
+                .filter(healthy::contains)
+                .toList();
+    }
+}
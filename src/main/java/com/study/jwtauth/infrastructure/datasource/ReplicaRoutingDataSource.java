@@ -0,0 +1,68 @@
+package com.study.jwtauth.infrastructure.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 읽기/쓰기 라우팅 DataSource
+ *
+ * - 읽기 전용 트랜잭션 → 정상 복제본 중 하나 (라운드 로빈)
+ * - 그 외 (쓰기 트랜잭션, 트랜잭션 밖, 주 DB 고정 요청, 정상 복제본 없음) → 주 DB
+ * - 복제본 커넥션 획득 실패 시 해당 복제본을 장애로 표시하고 주 DB 커넥션 반환
+ *
+ * 트랜잭션의 읽기 전용 여부는 트랜잭션 시작 이후에 정해지므로
+ * 반드시 LazyConnectionDataSourceProxy로 감싸 실제 쿼리 시점에 커넥션을 얻도록 사용
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public static final String PRIMARY = "primary";
+
+    private final ReplicaDataSources replicas;
+    private final AtomicInteger sequence = new AtomicInteger();
+
+    public ReplicaRoutingDataSource(DataSource primary, ReplicaDataSources replicas) {
+        Map<Object, Object> targets = new HashMap<>(replicas.asMap());
+        targets.put(PRIMARY, primary);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+        this.replicas = replicas;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly() || RoutingContext.isPinnedToPrimary()) {
+            return PRIMARY;
+        }
+
+        List<String> healthy = replicas.healthyReplicas();
+        if (healthy.isEmpty()) {
+            return PRIMARY;
+        }
+        return healthy.get(Math.floorMod(sequence.getAndIncrement(), healthy.size()));
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        Object key = determineCurrentLookupKey();
+        DataSource target = getResolvedDataSources().get(key);
+        if (PRIMARY.equals(key)) {
+            return target.getConnection();
+        }
+
+        try {
+            return target.getConnection();
+        } catch (SQLException e) {
+            replicas.markDown((String) key, e);
+            return getResolvedDataSources().get(PRIMARY).getConnection();
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.study.jwtauth.infrastructure.datasource;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * 현재 스레드(요청)의 라우팅 힌트
+ * - 주 DB 고정: 읽기 전용 트랜잭션이어도 복제본 대신 주 DB 사용 (쓰기 요청, read-your-writes)
+ * - 요청 처리가 끝나면 반드시 clear
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class RoutingContext {
+
+    private static final ThreadLocal<Boolean> PINNED_TO_PRIMARY = new ThreadLocal<>();
+
+    public static void pinToPrimary() {
+        PINNED_TO_PRIMARY.set(Boolean.TRUE);
+    }
+
+    public static boolean isPinnedToPrimary() {
+        return Boolean.TRUE.equals(PINNED_TO_PRIMARY.get());
+    }
+
+    public static void clear() {
+        PINNED_TO_PRIMARY.remove();
+    }
+}
@@ -0,0 +1,135 @@
+package com.study.jwtauth.infrastructure.datasource;
+
+import com.study.jwtauth.infrastructure.config.SlowQueryProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+/**
+ * SQL 문장 형태별 실행 통계 + 느린 문장 기록 (InstrumentedDataSource 리스너)
+ *
+ * - 문장 형태: 문자열/숫자 리터럴과 IN 목록을 ?로 바꾸고 공백을 정리한 SQL
+ *   (바인딩 파라미터 값은 전달받지 않으므로 로그와 관리자 API에 값이 남지 않음)
+ * - 형태별 실행 횟수, 총/최대 소요 시간, 느린 실행 횟수를 누적 (현재 노드, 시작 또는 초기화 이후)
+ * - threshold 이상 걸린 문장만 WARN 로그 (show-sql 대신 운영 환경에서 사용)
+ */
+@Slf4j
+@Component
+public class SqlStatementStats implements StatementListener {
+
+    static final String OTHER = "(other)";
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern IN_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)+\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final SlowQueryProperties properties;
+
+    private final Map<String, Aggregate> aggregates = new ConcurrentHashMap<>();
+
+    // 원문 SQL -> 형태 (대부분 같은 PreparedStatement SQL이 반복되므로 정규식 변환을 한 번만)
+    private final Map<String, String> shapes = new ConcurrentHashMap<>();
+
+    public SqlStatementStats(SlowQueryProperties properties) {
+        this.properties = properties;
+    }
+
+    /**
+     * 문장 형태별 통계
+     *
+     * @param totalNanos 총 소요 시간 (ns)
+     * @param maxNanos   최대 소요 시간 (ns)
+     * @param slowCount  threshold 이상 걸린 횟수
+     */
+    public record Snapshot(String sql, long count, long totalNanos, long maxNanos, long slowCount) {
+    }
+
+    private static final class Aggregate {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Long::max, 0);
+        private final LongAdder slowCount = new LongAdder();
+    }
+
+    @Override
+    public void afterExecute(String sql, long elapsedNanos) {
+        String shape = shapeOf(sql);
+        boolean slow = elapsedNanos >= properties.getThreshold().toNanos();
+
+        Aggregate aggregate = aggregateOf(shape);
+        aggregate.count.increment();
+        aggregate.totalNanos.add(elapsedNanos);
+        aggregate.maxNanos.accumulate(elapsedNanos);
+        if (slow) {
+            aggregate.slowCount.increment();
+            log.warn("느린 SQL: elapsed={}ms, sql={}", elapsedNanos / 1_000_000, shape);
+        }
+    }
+
+    /**
+     * 총 소요 시간이 큰 순서로 limit개
+     */
+    public List<Snapshot> top(int limit) {
+        return aggregates.entrySet()
+                .stream()
+                .map(entry -> snapshot(entry.getKey(), entry.getValue()))
+                .sorted(Comparator.comparingLong(Snapshot::totalNanos).reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    /**
+     * 집계 초기화
+     */
+    public void reset() {
+        aggregates.clear();
+    }
+
+    private Aggregate aggregateOf(String shape) {
+        Aggregate aggregate = aggregates.get(shape);
+        if (aggregate != null) {
+            return aggregate;
+        }
+        String key = aggregates.size() < properties.getMaxStatements() ? shape : OTHER;
+        return aggregates.computeIfAbsent(key, k -> new Aggregate());
+    }
+
+    private String shapeOf(String sql) {
+        String shape = shapes.get(sql);
+        if (shape != null) {
+            return shape;
+        }
+        shape = normalize(sql, properties.getMaxSqlLength());
+        // 리터럴이 섞인 SQL은 원문이 계속 달라지므로 캐시 크기 제한
+        if (shapes.size() < properties.getMaxStatements() * 2) {
+            shapes.put(sql, shape);
+        }
+        return shape;
+    }
+
+    static String normalize(String sql, int maxLength) {
+        String shape = STRING_LITERAL.matcher(sql).replaceAll("?");
+        shape = NUMBER_LITERAL.matcher(shape).replaceAll("?");
+        shape = IN_LIST.matcher(shape).replaceAll("(?...)");
+        shape = WHITESPACE.matcher(shape).replaceAll(" ").trim();
+        return shape.length() > maxLength ? shape.substring(0, maxLength) + "..." : shape;
+    }
+
+    private static Snapshot snapshot(String sql, Aggregate aggregate) {
+        return new Snapshot(
+                sql,
+                aggregate.count.sum(),
+                aggregate.totalNanos.sum(),
+                aggregate.maxNanos.get(),
+                aggregate.slowCount.sum()
+        );
+    }
+}
@@ -0,0 +1,59 @@
+package com.study.jwtauth.infrastructure.datasource;
+
+/**
+ * 현재 스레드에서 실행된 SQL 문장 수 측정 (InstrumentedDataSource가 증가시킴)
+ *
+ * - start()로 측정을 시작하고 close()로 끝냄 (try-with-resources)
+ * - 측정 중이 아닐 때 실행된 문장은 세지 않음
+ * - 측정이 중첩되면 안쪽 측정의 문장 수는 끝날 때 바깥 측정에도 더해짐
+ * - executeBatch()는 DB 왕복 한 번이므로 한 문장으로 셈
+ */
+public final class StatementCounter implements AutoCloseable {
+
+    private static final ThreadLocal<StatementCounter> CURRENT = new ThreadLocal<>();
+
+    private final StatementCounter outer;
+    private int count;
+    private boolean closed;
+
+    private StatementCounter(StatementCounter outer) {
+        this.outer = outer;
+    }
+
+    /**
+     * 현재 스레드에서 측정 시작
+     */
+    public static StatementCounter start() {
+        StatementCounter counter = new StatementCounter(CURRENT.get());
+        CURRENT.set(counter);
+        return counter;
+    }
+
+    static void increment() {
+        StatementCounter counter = CURRENT.get();
+        if (counter != null) {
+            counter.count++;
+        }
+    }
+
+    /**
+     * 측정 시작 이후 실행된 문장 수
+     */
+    public int count() {
+        return count;
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        if (outer != null) {
+            outer.count += count;
+            CURRENT.set(outer);
+        } else {
+            CURRENT.remove();
+        }
+    }
+}
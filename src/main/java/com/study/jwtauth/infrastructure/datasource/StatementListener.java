@@ -0,0 +1,19 @@
+package com.study.jwtauth.infrastructure.datasource;
+
+/**
+ * InstrumentedDataSource가 실행한 SQL 문장 통지
+ */
+@FunctionalInterface
+public interface StatementListener {
+
+    StatementListener NONE = (sql, elapsedNanos) -> {
+    };
+
+    /**
+     * 문장 실행 후 호출 (실패한 문장 포함, 요청 스레드에서 호출되므로 가볍게 처리)
+     *
+     * @param sql          실행한 SQL (PreparedStatement는 바인딩 전 ?가 포함된 원문, 배치는 마지막에 준비한 SQL)
+     * @param elapsedNanos execute* 호출 소요 시간 (ResultSet을 읽는 시간은 제외)
+     */
+    void afterExecute(String sql, long elapsedNanos);
+}
@@ -0,0 +1,53 @@
+package com.study.jwtauth.infrastructure.health;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+
+import java.time.Duration;
+
+/**
+ * 확인 결과를 ttl 동안 재사용하는 HealthIndicator
+ *
+ * - 동시에 여러 요청이 와도 만료 시점에 한 번만 확인 (나머지는 이전 결과 또는 확인 결과를 공유)
+ * - 확인 중 예외는 DOWN으로 기록
+ */
+abstract class CachedHealthIndicator implements HealthIndicator {
+
+    private final long ttlNanos;
+
+    private volatile Health cached;
+    private volatile long checkedAt;
+
+    protected CachedHealthIndicator(Duration ttl) {
+        this.ttlNanos = ttl.toNanos();
+    }
+
+    @Override
+    public Health health() {
+        Health current = cached;
+        if (current != null && System.nanoTime() - checkedAt < ttlNanos) {
+            return current;
+        }
+        return refresh();
+    }
+
+    private synchronized Health refresh() {
+        Health current = cached;
+        if (current != null && System.nanoTime() - checkedAt < ttlNanos) {
+            return current;
+        }
+
+        Health.Builder builder = new Health.Builder();
+        try {
+            check(builder);
+        } catch (Exception e) {
+            builder.down(e);
+        }
+        current = builder.build();
+        cached = current;
+        checkedAt = System.nanoTime();
+        return current;
+    }
+
+    protected abstract void check(Health.Builder builder) throws Exception;
+}
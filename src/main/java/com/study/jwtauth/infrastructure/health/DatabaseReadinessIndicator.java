@@ -0,0 +1,82 @@
+package com.study.jwtauth.infrastructure.health;
+
+import com.study.jwtauth.infrastructure.config.HealthCheckProperties;
+import jakarta.annotation.PreDestroy;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * DB 연결 확인 (readiness 그룹의 db)
+ *
+ * - 쓰기 DB(주 DB)에서 커넥션을 얻어 Connection.isValid로 확인 (SQL 문장을 실행하지 않음)
+ * - 커넥션 획득은 풀이 고갈되거나 DB가 응답하지 않으면 Hikari connectionTimeout(기본 30초)까지 막히므로
+ *   별도 스레드에서 실행하고 health-check.timeout까지만 기다림 (넘으면 DOWN, 진행 중인 확인은 다음 확인에서 재사용)
+ * - 복제본 상태는 ReplicaDataSources가 따로 확인하며, 복제본이 없어도 주 DB로 읽을 수 있으므로 포함하지 않음
+ * - 빈 이름이 dbHealthIndicator이므로 Actuator 기본 DB 확인(매 호출마다 검증 쿼리 실행)을 대신함
+ */
+@Component("dbHealthIndicator")
+public class DatabaseReadinessIndicator extends CachedHealthIndicator {
+
+    private final DataSource dataSource;
+    private final Duration timeout;
+    private final int validTimeoutSeconds;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "db-readiness");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // 제한 시간 안에 끝나지 않은 확인 (끝나기 전까지 새 확인을 쌓지 않음, check는 동기화된 refresh에서만 호출됨)
+    private Future<Boolean> pending;
+
+    public DatabaseReadinessIndicator(DataSource dataSource, HealthCheckProperties properties) {
+        super(properties.getCacheTtl());
+        this.dataSource = dataSource;
+        this.timeout = properties.getTimeout();
+        this.validTimeoutSeconds = (int) Math.max(1, properties.getTimeout().toSeconds());
+    }
+
+    @Override
+    protected void check(Health.Builder builder) throws Exception {
+        Future<Boolean> attempt = pending != null && !pending.isDone() ? pending : executor.submit(this::isValid);
+        pending = attempt;
+
+        boolean valid;
+        try {
+            valid = attempt.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            builder.down().withDetail("reason", "connection check timed out after " + timeout.toMillis() + "ms");
+            return;
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof Exception cause ? cause : e;
+        }
+
+        if (valid) {
+            builder.up();
+        } else {
+            builder.down().withDetail("reason", "connection is not valid");
+        }
+    }
+
+    private boolean isValid() throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            return connection.isValid(validTimeoutSeconds);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+}
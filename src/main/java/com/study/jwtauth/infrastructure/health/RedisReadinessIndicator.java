@@ -0,0 +1,73 @@
+package com.study.jwtauth.infrastructure.health;
+
+import com.study.jwtauth.infrastructure.config.HealthCheckProperties;
+import jakarta.annotation.PreDestroy;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Redis 연결 확인 (readiness 그룹의 redis) - PING
+ *
+ * - 연결/PING은 Redis가 응답하지 않으면 클라이언트 명령 시간 제한까지 막히므로
+ *   별도 스레드에서 실행하고 health-check.timeout까지만 기다림 (넘으면 DOWN, 진행 중인 확인은 다음 확인에서 재사용)
+ * - 빈 이름이 redisHealthIndicator이므로 Actuator 기본 Redis 확인(INFO 명령)을 대신함
+ */
+@Component("redisHealthIndicator")
+public class RedisReadinessIndicator extends CachedHealthIndicator {
+
+    private final RedisConnectionFactory connectionFactory;
+    private final Duration timeout;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "redis-readiness");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // 제한 시간 안에 끝나지 않은 확인 (끝나기 전까지 새 확인을 쌓지 않음, check는 동기화된 refresh에서만 호출됨)
+    private Future<String> pending;
+
+    public RedisReadinessIndicator(RedisConnectionFactory connectionFactory, HealthCheckProperties properties) {
+        super(properties.getCacheTtl());
+        this.connectionFactory = connectionFactory;
+        this.timeout = properties.getTimeout();
+    }
+
+    @Override
+    protected void check(Health.Builder builder) throws Exception {
+        Future<String> attempt = pending != null && !pending.isDone() ? pending : executor.submit(this::ping);
+        pending = attempt;
+
+        String pong;
+        try {
+            pong = attempt.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            builder.down().withDetail("reason", "ping timed out after " + timeout.toMillis() + "ms");
+            return;
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof Exception cause ? cause : e;
+        }
+
+        builder.up().withDetail("ping", pong);
+    }
+
+    private String ping() {
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            return connection.ping();
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,61 @@
+package com.study.jwtauth.infrastructure.logging;
+
+import com.study.jwtauth.infrastructure.config.AccessLogProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * API 접근 로그 샘플링
+ *
+ * - 에러(4xx/5xx, 예외)와 느린 요청은 항상 기록
+ * - 나머지는 requestId 해시로 결정하여 같은 requestId는 어느 노드에서 판단해도 같은 결과
+ *   (X-Request-Id를 이어받은 재시도/다른 노드 요청도 함께 남거나 함께 빠짐)
+ * - 샘플링은 접근 로그(ApiLoggingInterceptor)에만 적용되며, 같은 요청의 다른 애플리케이션 로그는
+ *   샘플링 여부와 관계없이 로그 레벨에 따라 기록됨 (requestId로 접근 로그와 연결)
+ */
+@Component
+@RequiredArgsConstructor
+public class AccessLogSampler {
+
+    private static final int BUCKETS = 10_000;
+
+    private final AccessLogProperties properties;
+
+    /**
+     * 접근 로그 기록 여부
+     */
+    public boolean shouldLog(String requestId, int status, long durationMillis, boolean failed) {
+        if (failed || status >= 400 || isSlow(durationMillis)) {
+            return true;
+        }
+        return isSampled(requestId);
+    }
+
+    public boolean isSlow(long durationMillis) {
+        return durationMillis >= properties.getSlowThreshold().toMillis();
+    }
+
+    /**
+     * 정상 요청 샘플 대상 여부 (같은 requestId는 항상 같은 결과)
+     */
+    public boolean isSampled(String requestId) {
+        double sampleRate = properties.getSampleRate();
+        if (sampleRate >= 1.0 || requestId == null) {
+            return true;
+        }
+        if (sampleRate <= 0.0) {
+            return false;
+        }
+        return bucket(requestId) < sampleRate * BUCKETS;
+    }
+
+    public double getSampleRate() {
+        return Math.max(0.0, Math.min(1.0, properties.getSampleRate()));
+    }
+
+    // String.hashCode는 비슷한 문자열끼리 값이 몰리므로 곱셈 해시로 섞은 뒤 상위 비트 사용
+    static int bucket(String requestId) {
+        long mixed = requestId.hashCode() * 0x9E3779B97F4A7C15L;
+        return (int) ((mixed >>> 33) % BUCKETS);
+    }
+}
@@ -0,0 +1,311 @@
+package com.study.jwtauth.infrastructure.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.OutputStreamAppender;
+import ch.qos.logback.core.UnsynchronizedAppenderBase;
+import ch.qos.logback.core.spi.AppenderAttachable;
+import ch.qos.logback.core.spi.AppenderAttachableImpl;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 비동기 로그 Appender (고정 크기 큐 + 배치 기록)
+ *
+ * - 요청 스레드는 이벤트를 큐에 넣기만 하고, 전용 스레드가 배치 단위로 하위 Appender에 기록
+ * - 큐 여유 공간이 discardingThreshold 이하이면 discardLevel 이하 이벤트(기본 INFO 이하)를 버림
+ *   WARN/ERROR는 설정과 무관하게 버리지 않음 (큐가 가득 차면 공간이 날 때까지 대기)
+ * - 하위 Appender가 immediateFlush=false이면 배치를 다 기록해 큐가 비었을 때 또는 flushInterval마다 flush
+ * - 큐 깊이/버린 이벤트 수는 registered()로 조회 (관리자 API, AsyncLogMeterBinder의 Micrometer 메트릭)
+ *
+ * logback-spring.xml 설정 예:
+ * <pre>
+ * &lt;appender name="ASYNC_API" class="...BoundedAsyncAppender"&gt;
+ *     &lt;queueSize&gt;8192&lt;/queueSize&gt;
+ *     &lt;discardingThreshold&gt;1638&lt;/discardingThreshold&gt;
+ *     &lt;appender-ref ref="API_JSON_FILE"/&gt;
+ * &lt;/appender&gt;
+ * </pre>
+ */
+public class BoundedAsyncAppender extends UnsynchronizedAppenderBase<ILoggingEvent>
+        implements AppenderAttachable<ILoggingEvent> {
+
+    private static final Map<String, BoundedAsyncAppender> REGISTRY = new ConcurrentHashMap<>();
+
+    private static final int UNDEFINED = -1;
+
+    private final AppenderAttachableImpl<ILoggingEvent> appenders = new AppenderAttachableImpl<>();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder waited = new LongAdder();
+
+    private BlockingQueue<ILoggingEvent> queue;
+    private Thread worker;
+
+    // 설정값
+    private int queueSize = 8192;
+    private int discardingThreshold = UNDEFINED;
+    private Level discardLevel = Level.INFO;
+    private int batchSize = 256;
+    private long flushIntervalMillis = 1000;
+    private long maxShutdownMillis = 3000;
+    private boolean includeCallerData = false;
+
+    /**
+     * 큐 상태 (노드 기준)
+     *
+     * @param dropped 버린 이벤트 수 (시작 이후 누적)
+     * @param waited  큐가 가득 차 WARN/ERROR가 대기한 횟수 (시작 이후 누적)
+     */
+    public record Stats(String name, int capacity, int depth, long dropped, long waited) {
+    }
+
+    /**
+     * 현재 실행 중인 비동기 Appender 목록
+     */
+    public static Collection<BoundedAsyncAppender> registered() {
+        return List.copyOf(REGISTRY.values());
+    }
+
+    /**
+     * 이름으로 실행 중인 비동기 Appender 조회 (로깅 설정을 다시 읽으면 같은 이름의 새 인스턴스로 바뀜)
+     */
+    public static Optional<BoundedAsyncAppender> registered(String name) {
+        return Optional.ofNullable(REGISTRY.get(name));
+    }
+
+    public Stats stats() {
+        BlockingQueue<ILoggingEvent> current = queue;
+        int depth = current != null ? current.size() : 0;
+        return new Stats(getName(), queueSize, depth, dropped.sum(), waited.sum());
+    }
+
+    @Override
+    public void start() {
+        if (isStarted()) {
+            return;
+        }
+        if (queueSize < 1) {
+            addError("queueSize는 1 이상이어야 합니다: " + queueSize);
+            return;
+        }
+        if (!appenders.iteratorForAppenders().hasNext()) {
+            addWarn("연결된 appender가 없습니다: " + getName());
+        }
+        if (discardingThreshold == UNDEFINED) {
+            discardingThreshold = queueSize / 5;
+        }
+
+        queue = new ArrayBlockingQueue<>(queueSize);
+        worker = new Thread(this::drainLoop, "async-log-" + getName());
+        worker.setDaemon(true);
+
+        super.start();
+        worker.start();
+        REGISTRY.put(getName(), this);
+    }
+
+    @Override
+    public void stop() {
+        if (!isStarted()) {
+            return;
+        }
+        super.stop();
+        REGISTRY.remove(getName(), this);
+
+        // 남은 이벤트를 최대 maxShutdownMillis 동안 기록
+        worker.interrupt();
+        try {
+            worker.join(maxShutdownMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (worker.isAlive()) {
+            addWarn("종료 대기 시간 초과, 기록하지 못한 이벤트: " + queue.size());
+        }
+        appenders.detachAndStopAllAppenders();
+    }
+
+    @Override
+    protected void append(ILoggingEvent event) {
+        boolean discardable = isDiscardable(event);
+        if (discardable && queue.remainingCapacity() <= discardingThreshold) {
+            dropped.increment();
+            return;
+        }
+
+        // 호출 스레드의 MDC/메시지를 고정 (기록 시점에는 MDC가 이미 비워졌을 수 있음)
+        event.prepareForDeferredProcessing();
+        if (includeCallerData) {
+            event.getCallerData();
+        }
+
+        if (queue.offer(event)) {
+            return;
+        }
+        if (discardable) {
+            dropped.increment();
+            return;
+        }
+        putUninterruptibly(event);
+    }
+
+    // WARN/ERROR - 공간이 날 때까지 대기 (인터럽트되어도 이벤트는 넣고 인터럽트 상태만 복원)
+    private void putUninterruptibly(ILoggingEvent event) {
+        waited.increment();
+        boolean interrupted = false;
+        while (true) {
+            try {
+                queue.put(event);
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private boolean isDiscardable(ILoggingEvent event) {
+        Level level = event.getLevel();
+        return !level.isGreaterOrEqual(Level.WARN) && discardLevel.isGreaterOrEqual(level);
+    }
+
+    private void drainLoop() {
+        List<ILoggingEvent> batch = new ArrayList<>(batchSize);
+        long lastFlush = System.currentTimeMillis();
+
+        while (isStarted()) {
+            try {
+                ILoggingEvent first = queue.poll(flushIntervalMillis, TimeUnit.MILLISECONDS);
+                if (first != null) {
+                    batch.add(first);
+                    queue.drainTo(batch, batchSize - 1);
+                    appendBatch(batch);
+                }
+            } catch (InterruptedException e) {
+                break;
+            }
+
+            long now = System.currentTimeMillis();
+            if (queue.isEmpty() || now - lastFlush >= flushIntervalMillis) {
+                flush();
+                lastFlush = now;
+            }
+        }
+
+        // 종료 - 남은 이벤트 모두 기록
+        while (queue.drainTo(batch, batchSize) > 0) {
+            appendBatch(batch);
+        }
+        flush();
+    }
+
+    private void appendBatch(List<ILoggingEvent> batch) {
+        for (ILoggingEvent event : batch) {
+            appenders.appendLoopOnAppenders(event);
+        }
+        batch.clear();
+    }
+
+    // 즉시 flush하지 않는 하위 Appender의 버퍼를 내보냄 (하위 Appender에는 이 스레드만 기록하므로 별도 잠금 불필요)
+    private void flush() {
+        Iterator<Appender<ILoggingEvent>> iterator = appenders.iteratorForAppenders();
+        while (iterator.hasNext()) {
+            if (iterator.next() instanceof OutputStreamAppender<ILoggingEvent> appender
+                    && !appender.isImmediateFlush()
+                    && appender.isStarted()) {
+                OutputStream outputStream = appender.getOutputStream();
+                if (outputStream == null) {
+                    continue;
+                }
+                try {
+                    outputStream.flush();
+                } catch (IOException e) {
+                    addWarn("로그 flush 실패: " + appender.getName(), e);
+                }
+            }
+        }
+    }
+
+    // AppenderAttachable
+
+    @Override
+    public void addAppender(Appender<ILoggingEvent> newAppender) {
+        appenders.addAppender(newAppender);
+    }
+
+    @Override
+    public Iterator<Appender<ILoggingEvent>> iteratorForAppenders() {
+        return appenders.iteratorForAppenders();
+    }
+
+    @Override
+    public Appender<ILoggingEvent> getAppender(String name) {
+        return appenders.getAppender(name);
+    }
+
+    @Override
+    public boolean isAttached(Appender<ILoggingEvent> appender) {
+        return appenders.isAttached(appender);
+    }
+
+    @Override
+    public void detachAndStopAllAppenders() {
+        appenders.detachAndStopAllAppenders();
+    }
+
+    @Override
+    public boolean detachAppender(Appender<ILoggingEvent> appender) {
+        return appenders.detachAppender(appender);
+    }
+
+    @Override
+    public boolean detachAppender(String name) {
+        return appenders.detachAppender(name);
+    }
+
+    // 설정 (logback-spring.xml)
+
+    public void setQueueSize(int queueSize) {
+        this.queueSize = queueSize;
+    }
+
+    public void setDiscardingThreshold(int discardingThreshold) {
+        this.discardingThreshold = discardingThreshold;
+    }
+
+    // WARN 이상을 지정해도 INFO까지만 버림
+    public void setDiscardLevel(String discardLevel) {
+        this.discardLevel = Level.toLevel(discardLevel, Level.INFO);
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    public void setFlushIntervalMillis(long flushIntervalMillis) {
+        this.flushIntervalMillis = Math.max(1, flushIntervalMillis);
+    }
+
+    public void setMaxShutdownMillis(long maxShutdownMillis) {
+        this.maxShutdownMillis = maxShutdownMillis;
+    }
+
+    public void setIncludeCallerData(boolean includeCallerData) {
+        this.includeCallerData = includeCallerData;
+    }
+}
@@ -0,0 +1,73 @@
+package com.study.jwtauth.infrastructure.logging;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 요청 ID 생성/검증 유틸리티 클래스
+ *
+ * - ULID 형식 (26자 Crockford Base32): 앞 48비트는 밀리초 시각, 뒤 80비트는 난수
+ *   → 문자열 정렬 순서가 생성 시각 순서와 같아 로그를 시간순으로 찾기 쉬움
+ * - 난수는 스레드별 ThreadLocalRandom 사용 (UUID.randomUUID()의 공유 SecureRandom과 달리 잠금/경합 없음)
+ *   요청 추적용 식별자이므로 예측 불가능성은 필요하지 않음
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class RequestIdGenerator {
+
+    private static final char[] ENCODING = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+    private static final int LENGTH = 26;
+
+    // 상위 요청 ID 허용 길이 (UUID 36자, ULID 26자, 로드밸런서 추적 ID 등)
+    private static final int MAX_INCOMING_LENGTH = 64;
+
+    /**
+     * 새 요청 ID 생성
+     */
+    public static String next() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return encode(System.currentTimeMillis(), random.nextInt() & 0xFFFF, random.nextLong());
+    }
+
+    /**
+     * @param randomHigh 난수 상위 16비트
+     * @param randomLow  난수 하위 64비트
+     */
+    static String encode(long timestamp, long randomHigh, long randomLow) {
+        char[] chars = new char[LENGTH];
+        // 시각 48비트 → 10자 (맨 앞 문자는 상위 3비트)
+        for (int i = 9; i >= 0; i--) {
+            chars[i] = ENCODING[(int) (timestamp & 0x1F)];
+            timestamp >>>= 5;
+        }
+        // 난수 80비트 → 16자 (randomHigh 16비트 + randomLow 64비트)
+        for (int i = 25; i >= 10; i--) {
+            chars[i] = ENCODING[(int) (randomLow & 0x1F)];
+            randomLow = (randomLow >>> 5) | ((randomHigh & 0x1F) << 59);
+            randomHigh >>>= 5;
+        }
+        return new String(chars);
+    }
+
+    /**
+     * 상위(로드밸런서/호출 서비스)에서 전달된 요청 ID 검증
+     * 로그/응답 헤더에 그대로 쓰이므로 영문, 숫자, '-', '_', '.', ':'만 허용
+     */
+    public static boolean isValid(String requestId) {
+        if (requestId == null || requestId.isEmpty() || requestId.length() > MAX_INCOMING_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < requestId.length(); i++) {
+            char c = requestId.charAt(i);
+            boolean allowed = (c >= '0' && c <= '9')
+                    || (c >= 'A' && c <= 'Z')
+                    || (c >= 'a' && c <= 'z')
+                    || c == '-' || c == '_' || c == '.' || c == ':';
+            if (!allowed) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
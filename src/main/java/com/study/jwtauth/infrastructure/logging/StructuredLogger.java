@@ -1,116 +1,86 @@
 package com.study.jwtauth.infrastructure.logging;
 
+import com.study.jwtauth.infrastructure.metrics.RequestResourceUsage;
 import org.slf4j.Logger;
-import org.slf4j.MDC;
+import org.slf4j.event.Level;
+import org.slf4j.spi.LoggingEventBuilder;
 
 import java.util.Map;
-import java.util.UUID;
 
 /**
  * 구조화된 로깅을 위한 유틸리티 클래스
- * MDC(Mapped Diagnostic Context)를 사용하여 JSON 로그에 추가 정보를 포함
+ * SLF4J key-value 필드를 로그 이벤트에 직접 붙여 JSON 로그에 추가 정보를 포함
+ *
+ * - MDC(ThreadLocal)를 수정하지 않으므로 MdcLoggingFilter가 설정한 requestId/clientIp가 요청 끝까지 유지됨
+ * - 로그 레벨이 꺼져 있으면 필드를 만들지 않음 (atLevel()이 NOP 빌더 반환)
+ * - 필드 값은 기존 MDC 기반 출력과 같도록 문자열로 기록
  */
 public class StructuredLogger {
 
     /**
-     * API 요청 로그 작성
-     * requestId, clientIp는 MdcLoggingFilter에서 이미 설정됨
+     * API 접근 로그 작성 (요청당 한 건, 요청 완료 시점)
+     * requestId, clientIp는 MdcLoggingFilter가 설정한 MDC 값으로 기록됨
+     * - 예외 또는 5xx: ERROR / 느린 요청: WARN / 그 외: INFO
+     *
+     * @param sampleRate 정상 요청 샘플링 비율 (로그 분석 시 건수 환산용)
+     * @param usage      요청 CPU 시간/할당 바이트 (측정하지 않았으면 null)
      */
-    public static void logApiRequest(Logger logger, String method, String uri,
-                                     Long userId, String userEmail, String userAgent) {
-        try {
-            // requestId, clientIp는 Filter에서 이미 설정되어 있음
-            MDC.put("method", method);
-            MDC.put("uri", uri);
-            if (userId != null) {
-                MDC.put("userId", userId.toString());
-            }
-            if (userEmail != null) {
-                MDC.put("userEmail", userEmail);
-            }
-            if (userAgent != null) {
-                MDC.put("userAgent", userAgent);
-            }
-
-            logger.info("API Request");
-        } finally {
-            // userId, userEmail은 response에서도 사용하므로 유지
-            MDC.remove("userAgent");
+    public static void logApiAccess(Logger logger, String method, String uri,
+                                    Long userId, String userEmail, String userAgent,
+                                    int status, long duration, boolean slow, String error, double sampleRate,
+                                    RequestResourceUsage.Snapshot usage) {
+        Level level = error != null || status >= 500 ? Level.ERROR : slow ? Level.WARN : Level.INFO;
+        LoggingEventBuilder event = logger.atLevel(level)
+                .addKeyValue("method", method)
+                .addKeyValue("uri", uri);
+        addIfPresent(event, "userId", userId);
+        addIfPresent(event, "userEmail", userEmail);
+        addIfPresent(event, "userAgent", userAgent);
+        event.addKeyValue("status", String.valueOf(status))
+                .addKeyValue("duration", String.valueOf(duration))
+                .addKeyValue("sampleRate", String.valueOf(sampleRate));
+        addIfPresent(event, "error", error);
+        if (usage != null) {
+            addIfMeasured(event, "cpuTimeMicros", usage.cpuMicros());
+            addIfMeasured(event, "allocatedBytes", usage.allocatedBytes());
         }
-    }
 
-    /**
-     * API 응답 로그 작성
-     */
-    public static void logApiResponse(Logger logger, String method, String uri,
-                                      Long userId, String userEmail,
-                                      int status, long duration, String error) {
-        try {
-            MDC.put("status", String.valueOf(status));
-            MDC.put("duration", String.valueOf(duration));
-            if (error != null) {
-                MDC.put("error", error);
-                logger.error("API Response - Error");
-            } else {
-                logger.info("API Response");
-            }
-        } finally {
-            // 모든 MDC 제거
-            MDC.clear();
-        }
+        event.log(level == Level.WARN ? "API Access - Slow" : "API Access");
     }
 
     /**
      * 인증 성공 로그 작성
      */
     public static void logAuthSuccess(Logger logger, String email, Long userId, String provider) {
-        try {
-            MDC.put("email", email);
-            if (userId != null) {
-                MDC.put("userId", userId.toString());
-            }
-            MDC.put("provider", provider != null ? provider : "local");
-            MDC.put("result", "success");
-
-            logger.info("Authentication successful");
-        } finally {
-            MDC.clear();
-        }
+        LoggingEventBuilder event = logger.atInfo()
+                .addKeyValue("email", email);
+        addIfPresent(event, "userId", userId);
+        event.addKeyValue("provider", provider != null ? provider : "local")
+                .addKeyValue("result", "success")
+                .log("Authentication successful");
     }
 
     /**
      * 인증 실패 로그 작성
      */
     public static void logAuthFailure(Logger logger, String email, String provider, String reason) {
-        try {
-            if (email != null) {
-                MDC.put("email", email);
-            }
-            MDC.put("provider", provider != null ? provider : "local");
-            MDC.put("result", "failure");
-            MDC.put("reason", reason);
-
-            logger.warn("Authentication failed");
-        } finally {
-            MDC.clear();
-        }
+        LoggingEventBuilder event = logger.atWarn();
+        addIfPresent(event, "email", email);
+        event.addKeyValue("provider", provider != null ? provider : "local")
+                .addKeyValue("result", "failure")
+                .addKeyValue("reason", reason)
+                .log("Authentication failed");
     }
 
     /**
      * 로그아웃 로그 작성
      */
     public static void logLogout(Logger logger, String email, Long userId) {
-        try {
-            MDC.put("email", email);
-            if (userId != null) {
-                MDC.put("userId", userId.toString());
-            }
-            MDC.put("result", "success");
-
-            logger.info("User logged out");
-        } finally {
-            MDC.clear();
-        }
+        LoggingEventBuilder event = logger.atInfo()
+                .addKeyValue("email", email);
+        addIfPresent(event, "userId", userId);
+        event.addKeyValue("result", "success")
+                .log("User logged out");
     }
 
     /**
@@ -119,88 +89,69 @@ public class StructuredLogger {
     public static void logError(Logger logger, String errorType, String errorCode,
                                Long userId, String userEmail, String requestUri,
                                String message, Throwable throwable) {
-        try {
-            MDC.put("errorType", errorType);
-            if (errorCode != null) {
-                MDC.put("errorCode", errorCode);
-            }
-            if (userId != null) {
-                MDC.put("userId", userId.toString());
-            }
-            if (userEmail != null) {
-                MDC.put("userEmail", userEmail);
-            }
-            if (requestUri != null) {
-                MDC.put("requestUri", requestUri);
-            }
-
-            if (throwable != null) {
-                logger.error(message, throwable);
-            } else {
-                logger.error(message);
-            }
-        } finally {
-            MDC.clear();
+        LoggingEventBuilder event = logger.atError()
+                .addKeyValue("errorType", errorType);
+        addIfPresent(event, "errorCode", errorCode);
+        addIfPresent(event, "userId", userId);
+        addIfPresent(event, "userEmail", userEmail);
+        addIfPresent(event, "requestUri", requestUri);
+        if (throwable != null) {
+            event.setCause(throwable);
         }
+        event.log(message);
     }
 
     /**
      * 비즈니스 예외 로그 작성
      */
     public static void logBusinessError(Logger logger, String errorCode, String message) {
-        try {
-            MDC.put("errorType", "BusinessException");
-            MDC.put("errorCode", errorCode);
-
-            logger.error(message);
-        } finally {
-            MDC.clear();
-        }
+        logger.atError()
+                .addKeyValue("errorType", "BusinessException")
+                .addKeyValue("errorCode", errorCode)
+                .log(message);
     }
 
     /**
      * JWT 검증 실패 로그 작성
      */
     public static void logJwtValidationFailure(Logger logger, String requestUri, String errorType, String message) {
-        try {
-            if (requestUri != null) {
-                MDC.put("requestUri", requestUri);
-            }
-            MDC.put("errorType", errorType);
-
-            logger.error(message);
-        } finally {
-            MDC.clear();
-        }
+        LoggingEventBuilder event = logger.atError();
+        addIfPresent(event, "requestUri", requestUri);
+        event.addKeyValue("errorType", errorType)
+                .log(message);
     }
 
     /**
      * 인증/권한 예외 로그 작성
      */
     public static void logSecurityError(Logger logger, String requestUri, String errorType, String message) {
-        try {
-            if (requestUri != null) {
-                MDC.put("requestUri", requestUri);
-            }
-            MDC.put("errorType", errorType);
-
-            logger.error(message);
-        } finally {
-            MDC.clear();
-        }
+        LoggingEventBuilder event = logger.atError();
+        addIfPresent(event, "requestUri", requestUri);
+        event.addKeyValue("errorType", errorType)
+                .log(message);
     }
 
     /**
      * 커스텀 필드와 함께 로그 작성
      */
     public static void logWithContext(Logger logger, String message, Map<String, String> context) {
-        try {
-            if (context != null) {
-                context.forEach(MDC::put);
-            }
-            logger.info(message);
-        } finally {
-            MDC.clear();
+        LoggingEventBuilder event = logger.atInfo();
+        if (context != null) {
+            context.forEach(event::addKeyValue);
+        }
+        event.log(message);
+    }
+
+    private static void addIfPresent(LoggingEventBuilder event, String key, Object value) {
+        if (value != null) {
+            event.addKeyValue(key, value.toString());
+        }
+    }
+
+    // 측정하지 못한 값(-1)은 생략
+    private static void addIfMeasured(LoggingEventBuilder event, String key, long value) {
+        if (value >= 0) {
+            event.addKeyValue(key, String.valueOf(value));
         }
     }
 }
@@ -0,0 +1,60 @@
+package com.study.jwtauth.infrastructure.metrics;
+
+import com.study.jwtauth.infrastructure.logging.BoundedAsyncAppender;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * 비동기 로그 Appender 큐 메트릭 (appender 태그로 구분)
+ *
+ * - logging.async.queue.depth / logging.async.queue.capacity: 큐에 쌓인 이벤트 수 / 큐 크기
+ * - logging.async.dropped: 큐 여유 공간 부족으로 버린 이벤트 수
+ * - logging.async.waited: 큐가 가득 차 WARN/ERROR 기록이 대기한 횟수
+ *
+ * 로깅 설정은 애플리케이션 컨텍스트보다 먼저 적용되므로 바인딩 시점에 실행 중인 Appender를 등록하고,
+ * 수집할 때마다 이름으로 현재 인스턴스를 찾아 읽음 (설정을 다시 읽어 인스턴스가 바뀌어도 같은 미터 사용, 누적 값은 새 인스턴스 기준)
+ */
+@Component
+public class AsyncLogMeterBinder implements MeterBinder {
+
+    // 미터는 상태 객체(Appender 이름)를 약한 참조로 보관하므로 이 빈에서 강한 참조를 유지
+    private final List<String> appenderNames = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (BoundedAsyncAppender appender : BoundedAsyncAppender.registered()) {
+            String name = appender.getName();
+            appenderNames.add(name);
+            Gauge.builder("logging.async.queue.depth", name, statOf(s -> s.depth()))
+                    .tag("appender", name)
+                    .description("비동기 로그 큐에 쌓인 이벤트 수")
+                    .register(registry);
+            Gauge.builder("logging.async.queue.capacity", name, statOf(s -> s.capacity()))
+                    .tag("appender", name)
+                    .description("비동기 로그 큐 크기")
+                    .register(registry);
+            FunctionCounter.builder("logging.async.dropped", name, statOf(s -> s.dropped()))
+                    .tag("appender", name)
+                    .description("큐 여유 공간 부족으로 버린 로그 이벤트 수")
+                    .register(registry);
+            FunctionCounter.builder("logging.async.waited", name, statOf(s -> s.waited()))
+                    .tag("appender", name)
+                    .description("큐가 가득 차 WARN/ERROR 기록이 대기한 횟수")
+                    .register(registry);
+        }
+    }
+
+    // 이름으로 현재 Appender의 상태를 읽음 (종료된 경우 NaN - 수집에서 제외됨)
+    private static ToDoubleFunction<String> statOf(ToDoubleFunction<BoundedAsyncAppender.Stats> stat) {
+        return name -> BoundedAsyncAppender.registered(name)
+                .map(appender -> stat.applyAsDouble(appender.stats()))
+                .orElse(Double.NaN);
+    }
+}
@@ -0,0 +1,37 @@
+package com.study.jwtauth.infrastructure.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT 검증 시간/결과 메트릭 (jwt.verification{outcome})
+ *
+ * 결과별 Timer를 미리 등록해 두어 요청마다 태그 조회/Timer 생성 없이 기록만 수행
+ */
+@Component
+public class JwtVerificationMetrics {
+
+    public enum Outcome {
+        VALID, EXPIRED, INVALID
+    }
+
+    private final Map<Outcome, Timer> timers = new EnumMap<>(Outcome.class);
+
+    public JwtVerificationMetrics(MeterRegistry registry) {
+        for (Outcome outcome : Outcome.values()) {
+            timers.put(outcome, Timer.builder("jwt.verification")
+                    .description("JWT 서명/만료 검증 및 인증 정보 생성 시간")
+                    .tag("outcome", outcome.name().toLowerCase())
+                    .register(registry));
+        }
+    }
+
+    public void record(Outcome outcome, long startNanos) {
+        timers.get(outcome).record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+}
@@ -0,0 +1,60 @@
+package com.study.jwtauth.infrastructure.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 엔드포인트별 요청 CPU 시간/할당 바이트 메트릭
+ * - http.server.requests.cpu{method, uri}: 요청 처리 스레드의 CPU 시간
+ * - http.server.requests.allocation{method, uri}: 요청 처리 중 할당한 힙 바이트
+ * uri는 URI 패턴(예: /api/posts/{postId})이므로 태그 수가 엔드포인트 수로 제한됨
+ *
+ * (method, uri)별 Timer/DistributionSummary를 처음 기록할 때 한 번 등록해 두고,
+ * 이후 요청은 빌더/태그 생성과 레지스트리 조회 없이 기록만 수행
+ */
+@Component
+@RequiredArgsConstructor
+public class RequestResourceMetrics {
+
+    private final MeterRegistry registry;
+    private final Map<Endpoint, Meters> meters = new ConcurrentHashMap<>();
+
+    private record Endpoint(String method, String uri) {
+    }
+
+    // JVM이 지원하지 않는 항목(-1)은 등록하지 않음 (null)
+    private record Meters(Timer cpu, DistributionSummary allocation) {
+    }
+
+    public void record(String method, String uri, RequestResourceUsage.Snapshot usage) {
+        Meters endpointMeters = meters.computeIfAbsent(new Endpoint(method, uri), endpoint -> register(endpoint, usage));
+        if (endpointMeters.cpu() != null && usage.cpuNanos() >= 0) {
+            endpointMeters.cpu().record(usage.cpuNanos(), TimeUnit.NANOSECONDS);
+        }
+        if (endpointMeters.allocation() != null && usage.allocatedBytes() >= 0) {
+            endpointMeters.allocation().record(usage.allocatedBytes());
+        }
+    }
+
+    // 지원 여부는 JVM 단위로 고정이므로 첫 기록의 값으로 판단
+    private Meters register(Endpoint endpoint, RequestResourceUsage.Snapshot usage) {
+        Timer cpu = usage.cpuNanos() < 0 ? null : Timer.builder("http.server.requests.cpu")
+                .description("요청 처리 CPU 시간")
+                .tags("method", endpoint.method(), "uri", endpoint.uri())
+                .register(registry);
+        DistributionSummary allocation = usage.allocatedBytes() < 0 ? null : DistributionSummary
+                .builder("http.server.requests.allocation")
+                .description("요청 처리 중 할당한 힙 바이트")
+                .baseUnit("bytes")
+                .tags("method", endpoint.method(), "uri", endpoint.uri())
+                .register(registry);
+        return new Meters(cpu, allocation);
+    }
+}
@@ -0,0 +1,107 @@
+package com.study.jwtauth.infrastructure.metrics;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * 요청 단위 CPU 시간/할당 바이트 누적 (JVM 스레드 카운터 기반)
+ *
+ * - 요청을 처리하는 스레드에서 resume() ~ suspend() 구간의 증가량을 누적
+ *   (비동기 처리로 다른 스레드에서 이어서 처리하면 그 스레드에서 다시 resume)
+ * - 스레드 카운터를 지원하지 않는 JVM이면 -1
+ * - 한 요청의 구간은 순차적으로 실행되지만 스레드가 바뀌므로 가시성을 위해 synchronized
+ */
+public class RequestResourceUsage {
+
+    public static final String ATTRIBUTE = RequestResourceUsage.class.getName();
+
+    private static final long UNSUPPORTED = -1L;
+
+    private static final com.sun.management.ThreadMXBean THREADS = threadMXBean();
+    private static final boolean CPU_SUPPORTED = THREADS != null
+            && THREADS.isCurrentThreadCpuTimeSupported() && THREADS.isThreadCpuTimeEnabled();
+    private static final boolean ALLOCATION_SUPPORTED = THREADS != null
+            && THREADS.isThreadAllocatedMemorySupported() && THREADS.isThreadAllocatedMemoryEnabled();
+
+    private long cpuNanos;
+    private long allocatedBytes;
+
+    // 진행 중인 구간 (없으면 segmentThread == null)
+    private Thread segmentThread;
+    private long segmentCpuStart;
+    private long segmentAllocationStart;
+
+    /**
+     * 누적 사용량
+     *
+     * @param cpuNanos       CPU 시간 (ns, 미지원이면 -1)
+     * @param allocatedBytes 할당 바이트 (미지원이면 -1)
+     */
+    public record Snapshot(long cpuNanos, long allocatedBytes) {
+
+        public long cpuMicros() {
+            return cpuNanos < 0 ? UNSUPPORTED : cpuNanos / 1_000;
+        }
+    }
+
+    public static boolean isSupported() {
+        return CPU_SUPPORTED || ALLOCATION_SUPPORTED;
+    }
+
+    /**
+     * 현재 스레드에서 구간 시작
+     */
+    public synchronized void resume() {
+        if (segmentThread != null) {
+            closeSegment();
+        }
+        segmentThread = Thread.currentThread();
+        segmentCpuStart = currentCpu();
+        segmentAllocationStart = currentAllocation();
+    }
+
+    /**
+     * 현재 스레드의 구간 종료
+     */
+    public synchronized void suspend() {
+        if (segmentThread != null) {
+            closeSegment();
+        }
+    }
+
+    /**
+     * 지금까지의 누적 사용량 (진행 중인 구간은 현재 스레드에서 호출할 때만 포함)
+     */
+    public synchronized Snapshot snapshot() {
+        long cpu = cpuNanos;
+        long allocated = allocatedBytes;
+        if (segmentThread == Thread.currentThread()) {
+            cpu += currentCpu() - segmentCpuStart;
+            allocated += currentAllocation() - segmentAllocationStart;
+        }
+        return new Snapshot(CPU_SUPPORTED ? cpu : UNSUPPORTED, ALLOCATION_SUPPORTED ? allocated : UNSUPPORTED);
+    }
+
+    // 다른 스레드에서 닫히는 구간은 해당 스레드의 카운터를 읽을 수 없으므로 버림
+    private void closeSegment() {
+        if (segmentThread == Thread.currentThread()) {
+            cpuNanos += currentCpu() - segmentCpuStart;
+            allocatedBytes += currentAllocation() - segmentAllocationStart;
+        }
+        segmentThread = null;
+    }
+
+    private static long currentCpu() {
+        return CPU_SUPPORTED ? THREADS.getCurrentThreadCpuTime() : 0;
+    }
+
+    private static long currentAllocation() {
+        return ALLOCATION_SUPPORTED ? THREADS.getCurrentThreadAllocatedBytes() : 0;
+    }
+
+    private static com.sun.management.ThreadMXBean threadMXBean() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threads) {
+            return threads;
+        }
+        return null;
+    }
+}
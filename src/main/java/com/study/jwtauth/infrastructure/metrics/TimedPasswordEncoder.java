@@ -0,0 +1,58 @@
+package com.study.jwtauth.infrastructure.metrics;
+
+import com.study.jwtauth.infrastructure.profiling.PasswordMatchEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 해시 시간을 기록하는 PasswordEncoder (password.encoder{operation})
+ *
+ * BCrypt는 의도적으로 느린 연산이므로 비용(strength) 조정 시 근거가 되도록 encode/matches 시간을 분리 기록
+ * matches는 JFR 기록 중일 때 PasswordMatch 이벤트도 남김
+ */
+public class TimedPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordEncoder delegate;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+
+    public TimedPasswordEncoder(PasswordEncoder delegate, MeterRegistry registry) {
+        this.delegate = delegate;
+        this.encodeTimer = timer(registry, "encode");
+        this.matchesTimer = timer(registry, "matches");
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return encodeTimer.record(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        PasswordMatchEvent event = PasswordMatchEvent.start();
+        long start = System.nanoTime();
+        boolean matched = false;
+        try {
+            matched = delegate.matches(rawPassword, encodedPassword);
+            return matched;
+        } finally {
+            matchesTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            event.complete(matched);
+        }
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    private static Timer timer(MeterRegistry registry, String operation) {
+        return Timer.builder("password.encoder")
+                .description("비밀번호 해시/검증 시간")
+                .tag("operation", operation)
+                .register(registry);
+    }
+}
@@ -0,0 +1,79 @@
+package com.study.jwtauth.infrastructure.metrics;
+
+import com.study.jwtauth.infrastructure.cache.TwoLevelCache;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.binder.cache.CacheMeterBinder;
+
+import java.util.List;
+
+/**
+ * 2단계 캐시 메트릭
+ *
+ * - 표준 캐시 메트릭: cache.gets{result=hit|miss}, cache.puts, cache.size (적중률 = hit / (hit + miss))
+ * - 단계별 적중: cache.level.hits{level=local|remote}
+ * 모두 TwoLevelCache가 이미 세는 카운터를 수집 시점에 읽기만 함 (요청 경로 추가 비용 없음)
+ */
+public class TwoLevelCacheMeterBinder extends CacheMeterBinder<TwoLevelCache> {
+
+    public TwoLevelCacheMeterBinder(TwoLevelCache cache, Iterable<Tag> tags) {
+        super(cache, cache.getName(), tags);
+    }
+
+    public static void bind(TwoLevelCache cache, MeterRegistry registry) {
+        new TwoLevelCacheMeterBinder(cache, List.of()).bindTo(registry);
+    }
+
+    @Override
+    protected Long size() {
+        TwoLevelCache cache = getCache();
+        return cache != null ? cache.stats().localSize() : null;
+    }
+
+    @Override
+    protected long hitCount() {
+        TwoLevelCache cache = getCache();
+        if (cache == null) {
+            return 0;
+        }
+        TwoLevelCache.Stats stats = cache.stats();
+        return stats.localHits() + stats.remoteHits();
+    }
+
+    @Override
+    protected Long missCount() {
+        TwoLevelCache cache = getCache();
+        return cache != null ? cache.stats().misses() : null;
+    }
+
+    // 로컬 캐시는 통계를 기록하지 않으므로 제공하지 않음
+    @Override
+    protected Long evictionCount() {
+        return null;
+    }
+
+    @Override
+    protected long putCount() {
+        TwoLevelCache cache = getCache();
+        return cache != null ? cache.putCount() : 0;
+    }
+
+    @Override
+    protected void bindImplementationSpecificMetrics(MeterRegistry registry) {
+        TwoLevelCache cache = getCache();
+        if (cache == null) {
+            return;
+        }
+        FunctionCounter.builder("cache.level.hits", cache, c -> c.stats().localHits())
+                .tags(getTagsWithCacheName())
+                .tag("level", "local")
+                .description("L1(로컬 Caffeine) 적중 수")
+                .register(registry);
+        FunctionCounter.builder("cache.level.hits", cache, c -> c.stats().remoteHits())
+                .tags(getTagsWithCacheName())
+                .tag("level", "remote")
+                .description("L2(Redis) 적중 수")
+                .register(registry);
+    }
+}
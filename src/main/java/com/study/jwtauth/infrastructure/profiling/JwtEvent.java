@@ -0,0 +1,51 @@
+package com.study.jwtauth.infrastructure.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JWT 파싱/서명 검증 JFR 이벤트
+ */
+@Name("com.study.jwtauth.Jwt")
+@Label("JWT Parse/Verify")
+@Category({"JwtAuth", "Security"})
+@Description("JWT 서명 검증 및 클레임 파싱")
+@StackTrace(false)
+public class JwtEvent extends Event {
+
+    public static final String VERIFY = "verify";
+    public static final String PARSE = "parse";
+
+    public static final String VALID = "valid";
+    public static final String EXPIRED = "expired";
+    public static final String INVALID = "invalid";
+
+    @Label("Endpoint")
+    private String endpoint;
+
+    @Label("Operation")
+    private String operation;
+
+    @Label("Outcome")
+    private String outcome;
+
+    public static JwtEvent start(String operation) {
+        JwtEvent event = new JwtEvent();
+        event.operation = operation;
+        event.begin();
+        return event;
+    }
+
+    public void complete(String outcome) {
+        end();
+        if (shouldCommit()) {
+            this.endpoint = Profiling.endpoint();
+            this.outcome = outcome;
+            commit();
+        }
+    }
+}
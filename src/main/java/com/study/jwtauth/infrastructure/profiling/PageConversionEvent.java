@@ -0,0 +1,32 @@
+package com.study.jwtauth.infrastructure.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 조회 결과(엔티티/행)를 응답 DTO 페이지로 변환하는 구간 JFR 이벤트
+ * 변환 중 작성자/개수 조회는 RepositoryCall 이벤트로 함께 기록됨
+ */
+@Name("com.study.jwtauth.PageConversion")
+@Label("Page Conversion")
+@Category({"JwtAuth", "Response"})
+@Description("엔티티/조회 결과를 응답 DTO 페이지로 변환")
+@StackTrace(false)
+class PageConversionEvent extends Event {
+
+    @Label("Endpoint")
+    String endpoint;
+
+    @Label("Target Type")
+    String targetType;
+
+    @Label("Page Size")
+    int pageSize;
+
+    @Label("Row Count")
+    long rowCount;
+}
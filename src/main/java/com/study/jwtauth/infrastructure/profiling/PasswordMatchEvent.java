@@ -0,0 +1,40 @@
+package com.study.jwtauth.infrastructure.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 비밀번호 검증(PasswordEncoder.matches) JFR 이벤트
+ */
+@Name("com.study.jwtauth.PasswordMatch")
+@Label("Password Match")
+@Category({"JwtAuth", "Security"})
+@Description("비밀번호 해시 비교 (BCrypt)")
+@StackTrace(false)
+public class PasswordMatchEvent extends Event {
+
+    @Label("Endpoint")
+    private String endpoint;
+
+    @Label("Matched")
+    private boolean matched;
+
+    public static PasswordMatchEvent start() {
+        PasswordMatchEvent event = new PasswordMatchEvent();
+        event.begin();
+        return event;
+    }
+
+    public void complete(boolean matched) {
+        end();
+        if (shouldCommit()) {
+            this.endpoint = Profiling.endpoint();
+            this.matched = matched;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.study.jwtauth.infrastructure.profiling;
+
+import com.study.jwtauth.presentataion.dto.common.CursorResponse;
+import com.study.jwtauth.presentataion.dto.common.PageResponse;
+import com.study.jwtauth.presentataion.dto.common.SliceResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * JFR 이벤트 공통 처리
+ *
+ * - 이벤트 필드(엔드포인트, 행 수 등)는 기록이 확정된 뒤(shouldCommit)에만 계산
+ *   → 기록 중이 아닐 때는 이벤트 객체 생성 외 추가 비용 없음
+ * - 엔드포인트는 "메서드 URI 패턴" (예: GET /api/posts/{postId}), 핸들러 매핑 전이면 실제 URI
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class Profiling {
+
+    static final int UNKNOWN = -1;
+
+    /**
+     * 응답 DTO 페이지 변환 구간 기록
+     *
+     * @param targetType 변환 대상 DTO 이름
+     * @param pageSize   요청 페이지 크기
+     */
+    public static <T> T convertPage(String targetType, int pageSize, Supplier<T> conversion) {
+        PageConversionEvent event = new PageConversionEvent();
+        if (!event.isEnabled()) {
+            return conversion.get();
+        }
+
+        event.begin();
+        T result = conversion.get();
+        event.end();
+        if (event.shouldCommit()) {
+            event.endpoint = endpoint();
+            event.targetType = targetType;
+            event.pageSize = pageSize;
+            event.rowCount = rowCount(result);
+            event.commit();
+        }
+        return result;
+    }
+
+    /**
+     * 현재 요청의 엔드포인트 (요청 스레드가 아니면 null)
+     */
+    static String endpoint() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (!(attributes instanceof ServletRequestAttributes servletAttributes)) {
+            return null;
+        }
+        HttpServletRequest request = servletAttributes.getRequest();
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return request.getMethod() + " " + (pattern != null ? pattern : request.getRequestURI());
+    }
+
+    /**
+     * 결과의 행 수 (목록/페이지/Optional, 단건은 1, 알 수 없으면 -1)
+     */
+    static long rowCount(Object result) {
+        if (result == null) {
+            return 0;
+        }
+        if (result instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if (result instanceof Slice<?> slice) {
+            return slice.getNumberOfElements();
+        }
+        if (result instanceof PageResponse<?> page) {
+            return page.content().size();
+        }
+        if (result instanceof SliceResponse<?> slice) {
+            return slice.content().size();
+        }
+        if (result instanceof CursorResponse<?> cursor) {
+            return cursor.content().size();
+        }
+        if (result instanceof Optional<?> optional) {
+            return optional.isPresent() ? 1 : 0;
+        }
+        if (result instanceof Iterable<?> || result instanceof Number || result instanceof Boolean) {
+            return UNKNOWN;
+        }
+        return 1;
+    }
+
+    /**
+     * 결과/인자에서 페이지 크기 추출 (없으면 -1)
+     */
+    static int pageSize(Object value) {
+        if (value instanceof Pageable pageable) {
+            return pageable.isPaged() ? pageable.getPageSize() : UNKNOWN;
+        }
+        if (value instanceof Slice<?> slice) {
+            return slice.getSize();
+        }
+        if (value instanceof PageResponse<?> page) {
+            return page.pageSize();
+        }
+        if (value instanceof SliceResponse<?> slice) {
+            return slice.pageSize();
+        }
+        return UNKNOWN;
+    }
+
+    static int pageSize(Object[] arguments) {
+        for (Object argument : arguments) {
+            if (argument instanceof Pageable) {
+                return pageSize(argument);
+            }
+        }
+        return UNKNOWN;
+    }
+}
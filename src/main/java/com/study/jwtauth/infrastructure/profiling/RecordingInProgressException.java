@@ -0,0 +1,11 @@
+package com.study.jwtauth.infrastructure.profiling;
+
+import com.study.jwtauth.domain.exception.BusinessException;
+import com.study.jwtauth.domain.exception.ErrorCode;
+
+public class RecordingInProgressException extends BusinessException {
+
+    public RecordingInProgressException() {
+        super(ErrorCode.RECORDING_IN_PROGRESS);
+    }
+}
@@ -0,0 +1,41 @@
+package com.study.jwtauth.infrastructure.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+/**
+ * Repository/조회 DAO 메서드 호출 JFR 이벤트
+ * 어느 서비스 코드에서 호출했는지 보이도록 스택 트레이스 포함
+ * 호출마다 스택 트레이스를 남기면 비용이 크므로 1ms 이상 걸린 호출만 기록 (JFR 설정의 threshold로 조정)
+ */
+@Name("com.study.jwtauth.RepositoryCall")
+@Label("Repository Call")
+@Category({"JwtAuth", "Persistence"})
+@Description("Spring Data Repository 및 JDBC 조회 DAO 호출")
+@Threshold("1 ms")
+class RepositoryCallEvent extends Event {
+
+    @Label("Endpoint")
+    String endpoint;
+
+    @Label("Repository")
+    String repository;
+
+    @Label("Method")
+    String method;
+
+    @Label("Page Size")
+    @Description("Pageable 인자의 페이지 크기 (없으면 -1)")
+    int pageSize;
+
+    @Label("Row Count")
+    @Description("반환된 행 수 (목록/페이지 크기, Optional은 0 또는 1, 알 수 없으면 -1)")
+    long rowCount;
+
+    @Label("Failed")
+    boolean failed;
+}
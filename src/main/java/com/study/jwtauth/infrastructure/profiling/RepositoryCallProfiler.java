@@ -0,0 +1,88 @@
+package com.study.jwtauth.infrastructure.profiling;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.framework.Advised;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.stereotype.Component;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository 호출마다 RepositoryCall JFR 이벤트 기록
+ *
+ * - Spring Data Repository: 생성 전 RepositoryFactory에 인터셉터 추가 (Repository 인터페이스 이름으로 기록)
+ * - @Repository 조회 DAO(JDBC): 예외 변환 프록시에 인터셉터 추가, 프록시가 없으면 새로 생성
+ * 기록 중이 아니면 이벤트 활성 여부만 확인하고 바로 호출
+ */
+@Component
+public class RepositoryCallProfiler implements BeanPostProcessor {
+
+    @Override
+    public Object postProcessBeforeInitialization(Object bean, String beanName) {
+        if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+            factoryBean.addRepositoryFactoryCustomizer(factory ->
+                    factory.addRepositoryProxyPostProcessor((proxyFactory, repositoryInformation) ->
+                            proxyFactory.addAdvice(new Interceptor(
+                                    repositoryInformation.getRepositoryInterface().getSimpleName()))));
+        }
+        return bean;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        // Spring Data Repository 프록시는 생성 시점에 이미 처리됨
+        if (bean instanceof org.springframework.data.repository.Repository<?, ?>
+                || bean instanceof RepositoryFactoryBeanSupport<?, ?, ?>) {
+            return bean;
+        }
+        Class<?> targetClass = AopUtils.getTargetClass(bean);
+        if (AnnotationUtils.findAnnotation(targetClass, Repository.class) == null) {
+            return bean;
+        }
+
+        Interceptor interceptor = new Interceptor(targetClass.getSimpleName());
+        if (bean instanceof Advised advised && !advised.isFrozen()) {
+            advised.addAdvice(interceptor);
+            return bean;
+        }
+        ProxyFactory proxyFactory = new ProxyFactory(bean);
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAdvice(interceptor);
+        return proxyFactory.getProxy(targetClass.getClassLoader());
+    }
+
+    private record Interceptor(String repository) implements MethodInterceptor {
+
+        @Override
+        public Object invoke(MethodInvocation invocation) throws Throwable {
+            RepositoryCallEvent event = new RepositoryCallEvent();
+            if (!event.isEnabled() || invocation.getMethod().getDeclaringClass() == Object.class) {
+                return invocation.proceed();
+            }
+
+            event.begin();
+            Object result = null;
+            boolean failed = true;
+            try {
+                result = invocation.proceed();
+                failed = false;
+                return result;
+            } finally {
+                event.end();
+                if (event.shouldCommit()) {
+                    event.endpoint = Profiling.endpoint();
+                    event.repository = repository;
+                    event.method = invocation.getMethod().getName();
+                    event.pageSize = Profiling.pageSize(invocation.getArguments());
+                    event.rowCount = failed ? Profiling.UNKNOWN : Profiling.rowCount(result);
+                    event.failed = failed;
+                    event.commit();
+                }
+            }
+        }
+    }
+}
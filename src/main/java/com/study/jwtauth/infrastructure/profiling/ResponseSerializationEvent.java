@@ -0,0 +1,37 @@
+package com.study.jwtauth.infrastructure.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 응답 본문 JSON 직렬화 JFR 이벤트
+ */
+@Name("com.study.jwtauth.ResponseSerialization")
+@Label("Response Serialization")
+@Category({"JwtAuth", "Response"})
+@Description("응답 본문 JSON 직렬화 및 출력")
+@StackTrace(false)
+class ResponseSerializationEvent extends Event {
+
+    @Label("Endpoint")
+    String endpoint;
+
+    @Label("Response Type")
+    @Description("ApiResponse이면 data의 타입")
+    String responseType;
+
+    @Label("Page Size")
+    int pageSize;
+
+    @Label("Row Count")
+    long rowCount;
+
+    @Label("Bytes Written")
+    @DataAmount
+    long bytes;
+}
@@ -0,0 +1,126 @@
+package com.study.jwtauth.infrastructure.query;
+
+import com.study.jwtauth.domain.comment.CommentStatus;
+import com.study.jwtauth.presentataion.dto.response.CommentResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 댓글 목록 읽기 전용 조회 (JDBC)
+ *
+ * - 작성자 닉네임은 조인, 답글 수는 상관 서브쿼리로 한 번에 조회 (댓글별 COUNT 쿼리 없음)
+ * - 엔티티/영속성 컨텍스트/스냅샷을 만들지 않음
+ */
+@Repository
+@RequiredArgsConstructor
+public class CommentQueryDao {
+
+    private static final RowMapper<CommentResponse> COMMENT_ROW_MAPPER = (rs, rowNum) -> new CommentResponse(
+            rs.getLong("id"),
+            rs.getString("content"),
+            rs.getLong("post_id"),
+            rs.getLong("author_id"),
+            QuerySupport.nicknameOrUnknown(rs.getString("author_nickname")),
+            rs.getObject("parent_comment_id", Long.class),
+            rs.getInt("depth"),
+            rs.getLong("reply_count"),
+            rs.getObject("created_at", LocalDateTime.class),
+            rs.getObject("updated_at", LocalDateTime.class),
+            rs.getObject("version", Long.class)
+    );
+
+    // 목록 본문에는 작성자 닉네임도 포함되므로 작성자들의 최종 변경 시각도 검증값에 포함
+    private static final String SELECT_STAMP = """
+            SELECT COUNT(*) AS comment_count, COALESCE(MAX(c.id), 0) AS max_id,
+                   COALESCE(SUM(c.version), 0) AS version_sum, MAX(c.updated_at) AS last_modified,
+                   MAX(u.updated_at) AS author_last_modified
+            FROM comments c
+            LEFT JOIN users u ON u.id = c.author_id
+            """;
+
+    private static final RowMapper<ContentStamp> STAMP_ROW_MAPPER = (rs, rowNum) -> {
+        LocalDateTime lastModified = rs.getObject("last_modified", LocalDateTime.class);
+        LocalDateTime authorLastModified = rs.getObject("author_last_modified", LocalDateTime.class);
+        return ContentStamp.of(
+                latest(lastModified, authorLastModified),
+                rs.getLong("comment_count"),
+                rs.getLong("max_id"),
+                rs.getLong("version_sum"),
+                authorLastModified
+        );
+    };
+
+    private final JdbcClient jdbcClient;
+
+    /**
+     * 게시글의 활성 댓글(답글 제외) 최신순 + 답글 수
+     * (CommentRepository.findCommentsByPostIdAndStatus + countByParentCommentIdAndStatus와 동일)
+     */
+    public Slice<CommentResponse> findCommentsByPostId(Long postId, Pageable pageable) {
+        String sql = """
+                SELECT c.id, c.content, c.post_id, c.author_id, u.nickname AS author_nickname,
+                       c.parent_comment_id, c.depth, c.created_at, c.updated_at, c.version,
+                       (SELECT COUNT(*)
+                          FROM comments r
+                         WHERE r.parent_comment_id = c.id AND r.status = :status) AS reply_count
+                FROM comments c
+                LEFT JOIN users u ON u.id = c.author_id
+                WHERE c.post_id = :postId AND c.parent_comment_id IS NULL AND c.status = :status
+                ORDER BY c.created_at DESC, c.id DESC
+                LIMIT :limit OFFSET :offset
+                """;
+
+        return QuerySupport.toSlice(
+                jdbcClient.sql(sql)
+                        .param("postId", postId)
+                        .param("status", CommentStatus.ACTIVE.name())
+                        .param("limit", pageable.getPageSize() + 1)
+                        .param("offset", pageable.getOffset())
+                        .query(COMMENT_ROW_MAPPER)
+                        .list(),
+                pageable
+        );
+    }
+
+    /**
+     * 게시글의 댓글 목록 조건부 GET 검증값 (삭제·답글 포함 전체 댓글의 개수/최대 ID/버전 합계 + 작성자 최종 변경 시각)
+     * 어느 댓글이든 작성/수정/삭제되거나 작성자 닉네임이 바뀌면 값이 바뀜 (post_id 인덱스 범위 집계)
+     */
+    public ContentStamp findPostCommentsStamp(Long postId) {
+        String sql = SELECT_STAMP + """
+                WHERE c.post_id = :postId
+                """;
+
+        return jdbcClient.sql(sql)
+                .param("postId", postId)
+                .query(STAMP_ROW_MAPPER)
+                .single();
+    }
+
+    /**
+     * 답글 목록 조건부 GET 검증값
+     */
+    public ContentStamp findRepliesStamp(Long parentCommentId) {
+        String sql = SELECT_STAMP + """
+                WHERE c.parent_comment_id = :parentCommentId
+                """;
+
+        return jdbcClient.sql(sql)
+                .param("parentCommentId", parentCommentId)
+                .query(STAMP_ROW_MAPPER)
+                .single();
+    }
+
+    private static LocalDateTime latest(LocalDateTime a, LocalDateTime b) {
+        if (a == null) {
+            return b;
+        }
+        return b != null && b.isAfter(a) ? b : a;
+    }
+}
@@ -0,0 +1,23 @@
+package com.study.jwtauth.infrastructure.query;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+/**
+ * 조건부 GET 검증값 (응답 본문을 만들지 않고 버전/카운터/변경 시각만으로 계산)
+ *
+ * @param fingerprint  ETag 값 (버전/카운터를 '-'로 이은 문자열, 첫 값이 엔티티 버전인 경우 If-Match에도 사용)
+ * @param lastModified 마지막 변경 시각 (알 수 없으면 null)
+ * 목록 검증값은 L2 캐시에 저장되므로 Serializable
+ */
+public record ContentStamp(String fingerprint, LocalDateTime lastModified) implements Serializable {
+
+    public static ContentStamp of(LocalDateTime lastModified, Object... parts) {
+        String fingerprint = Arrays.stream(parts)
+                .map(String::valueOf)
+                .collect(Collectors.joining("-"));
+        return new ContentStamp(fingerprint, lastModified);
+    }
+}
@@ -0,0 +1,32 @@
+package com.study.jwtauth.infrastructure.query;
+
+import com.study.jwtauth.domain.post.Post;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 상세 응답의 실시간 값 (본문 없이 PK로 한 행만 조회)
+ *
+ * @param version         엔티티 버전 (캐시된 본문 검증과 ETag에 사용)
+ * @param authorUpdatedAt 작성자 최종 변경 시각 (본문의 작성자 닉네임 변경을 ETag에 반영, 탈퇴한 작성자는 null)
+ */
+public record PostCounters(
+        Long id,
+        Long authorId,
+        Long version,
+        int likeCount,
+        int viewCount,
+        LocalDateTime authorUpdatedAt
+) {
+    public boolean isPopular() {
+        return Post.isPopular(likeCount);
+    }
+
+    /**
+     * 조건부 GET 검증값 (버전-좋아요 수-작성자 변경 시각)
+     * 조회수는 요청마다 바뀌므로 제외하고(약한 ETag), 카운터 변경을 알 수 없는 수정 시각은 사용하지 않음
+     */
+    public ContentStamp stamp() {
+        return ContentStamp.of(null, version, likeCount, authorUpdatedAt);
+    }
+}
@@ -0,0 +1,56 @@
+package com.study.jwtauth.infrastructure.query;
+
+import com.study.jwtauth.presentataion.dto.response.PostLikeResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 좋아요 목록 읽기 전용 조회 (JDBC)
+ *
+ * - 사용자 닉네임을 SQL 조인으로 함께 조회하여 응답 레코드로 바로 매핑
+ * - 엔티티/영속성 컨텍스트/스냅샷을 만들지 않음
+ */
+@Repository
+@RequiredArgsConstructor
+public class PostLikeQueryDao {
+
+    private static final RowMapper<PostLikeResponse> POST_LIKE_ROW_MAPPER = (rs, rowNum) -> new PostLikeResponse(
+            rs.getLong("id"),
+            rs.getLong("post_id"),
+            rs.getLong("user_id"),
+            QuerySupport.nicknameOrUnknown(rs.getString("user_nickname")),
+            rs.getObject("liked_at", LocalDateTime.class)
+    );
+
+    private final JdbcClient jdbcClient;
+
+    /**
+     * 게시글에 좋아요한 사용자 목록, 좋아요 최신순
+     */
+    public Slice<PostLikeResponse> findByPostId(Long postId, Pageable pageable) {
+        String sql = """
+                SELECT pl.id, pl.post_id, pl.user_id, u.nickname AS user_nickname, pl.liked_at
+                FROM post_likes pl
+                LEFT JOIN users u ON u.id = pl.user_id
+                WHERE pl.post_id = :postId
+                ORDER BY pl.liked_at DESC, pl.id DESC
+                LIMIT :limit OFFSET :offset
+                """;
+
+        return QuerySupport.toSlice(
+                jdbcClient.sql(sql)
+                        .param("postId", postId)
+                        .param("limit", pageable.getPageSize() + 1)
+                        .param("offset", pageable.getOffset())
+                        .query(POST_LIKE_ROW_MAPPER)
+                        .list(),
+                pageable
+        );
+    }
+}
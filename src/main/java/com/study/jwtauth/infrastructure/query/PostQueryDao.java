@@ -0,0 +1,149 @@
+package com.study.jwtauth.infrastructure.query;
+
+import com.study.jwtauth.domain.post.Post;
+import com.study.jwtauth.domain.post.PostStatus;
+import com.study.jwtauth.presentataion.dto.response.PostResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * 게시글 목록 읽기 전용 조회 (JDBC)
+ *
+ * - 작성자 닉네임을 SQL 조인으로 함께 조회하여 응답 레코드로 바로 매핑
+ * - 엔티티/영속성 컨텍스트/스냅샷을 만들지 않음
+ * - 정렬은 쿼리에 고정 (Pageable의 정렬은 사용하지 않음 - 정렬이 지정된 요청은 JPA 경로 사용)
+ */
+@Repository
+@RequiredArgsConstructor
+public class PostQueryDao {
+
+    private static final String SELECT_POST = """
+            SELECT p.id, p.title, p.content, p.author_id, u.nickname AS author_nickname,
+                   p.like_count, p.view_count, p.created_at, p.updated_at, p.version
+            """;
+
+    private static final RowMapper<PostResponse> POST_ROW_MAPPER = (rs, rowNum) -> {
+        int likeCount = rs.getInt("like_count");
+        return new PostResponse(
+                rs.getLong("id"),
+                rs.getString("title"),
+                rs.getString("content"),
+                rs.getLong("author_id"),
+                QuerySupport.nicknameOrUnknown(rs.getString("author_nickname")),
+                likeCount,
+                rs.getInt("view_count"),
+                null,
+                Post.isPopular(likeCount),
+                rs.getObject("created_at", LocalDateTime.class),
+                rs.getObject("updated_at", LocalDateTime.class),
+                rs.getObject("version", Long.class)
+        );
+    };
+
+    private final JdbcClient jdbcClient;
+
+    /**
+     * 활성 게시글 최신순 (PostRepository.findByStatusOrderByCreatedAtDescIdDesc와 동일)
+     */
+    public Slice<PostResponse> findActivePosts(Pageable pageable) {
+        String sql = SELECT_POST + """
+                FROM posts p
+                LEFT JOIN users u ON u.id = p.author_id
+                WHERE p.status = :status
+                ORDER BY p.created_at DESC, p.id DESC
+                LIMIT :limit OFFSET :offset
+                """;
+
+        return QuerySupport.toSlice(
+                jdbcClient.sql(sql)
+                        .param("status", PostStatus.ACTIVE.name())
+                        .param("limit", pageable.getPageSize() + 1)
+                        .param("offset", pageable.getOffset())
+                        .query(POST_ROW_MAPPER)
+                        .list(),
+                pageable
+        );
+    }
+
+    /**
+     * 작성자의 활성 게시글 최신순 (PostRepository.findByAuthorIdAndStatusOrderByCreatedAtDescIdDesc와 동일)
+     */
+    public Slice<PostResponse> findActivePostsByAuthor(Long authorId, Pageable pageable) {
+        String sql = SELECT_POST + """
+                FROM posts p
+                LEFT JOIN users u ON u.id = p.author_id
+                WHERE p.author_id = :authorId AND p.status = :status
+                ORDER BY p.created_at DESC, p.id DESC
+                LIMIT :limit OFFSET :offset
+                """;
+
+        return QuerySupport.toSlice(
+                jdbcClient.sql(sql)
+                        .param("authorId", authorId)
+                        .param("status", PostStatus.ACTIVE.name())
+                        .param("limit", pageable.getPageSize() + 1)
+                        .param("offset", pageable.getOffset())
+                        .query(POST_ROW_MAPPER)
+                        .list(),
+                pageable
+        );
+    }
+
+    /**
+     * 사용자가 좋아요한 활성 게시글, 좋아요 최신순 (PostLikeRepository.findByUserIdWithActivePost와 동일)
+     */
+    public Slice<PostResponse> findActivePostsLikedBy(Long userId, Pageable pageable) {
+        String sql = SELECT_POST + """
+                FROM post_likes pl
+                INNER JOIN posts p ON p.id = pl.post_id
+                LEFT JOIN users u ON u.id = p.author_id
+                WHERE pl.user_id = :userId AND p.status = :status
+                ORDER BY pl.liked_at DESC, pl.id DESC
+                LIMIT :limit OFFSET :offset
+                """;
+
+        return QuerySupport.toSlice(
+                jdbcClient.sql(sql)
+                        .param("userId", userId)
+                        .param("status", PostStatus.ACTIVE.name())
+                        .param("limit", pageable.getPageSize() + 1)
+                        .param("offset", pageable.getOffset())
+                        .query(POST_ROW_MAPPER)
+                        .list(),
+                pageable
+        );
+    }
+
+    /**
+     * 게시글 상세 응답의 작성자/버전/카운터 (본문은 PostDetailCache에서)
+     */
+    public Optional<PostCounters> findActivePostCounters(Long postId) {
+        String sql = """
+                SELECT p.id, p.author_id, p.version, p.like_count, p.view_count,
+                       u.updated_at AS author_updated_at
+                FROM posts p
+                LEFT JOIN users u ON u.id = p.author_id
+                WHERE p.id = :postId AND p.status = :status
+                """;
+
+        return jdbcClient.sql(sql)
+                .param("postId", postId)
+                .param("status", PostStatus.ACTIVE.name())
+                .query((rs, rowNum) -> new PostCounters(
+                        rs.getLong("id"),
+                        rs.getLong("author_id"),
+                        rs.getObject("version", Long.class),
+                        rs.getInt("like_count"),
+                        rs.getInt("view_count"),
+                        rs.getObject("author_updated_at", LocalDateTime.class)
+                ))
+                .optional();
+    }
+}
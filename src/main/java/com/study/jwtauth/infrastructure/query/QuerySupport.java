@@ -0,0 +1,30 @@
+package com.study.jwtauth.infrastructure.query;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+
+import java.util.List;
+
+/**
+ * 읽기 전용 조회 공통 처리
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class QuerySupport {
+
+    // 탈퇴 등으로 사용자를 찾을 수 없을 때 (엔티티 기반 응답 변환과 같은 값)
+    private static final String UNKNOWN_NICKNAME = "알 수 없음";
+
+    static String nicknameOrUnknown(String nickname) {
+        return nickname != null ? nickname : UNKNOWN_NICKNAME;
+    }
+
+    // size + 1건 조회 결과를 Slice로 변환 (COUNT 없이 다음 페이지 여부 판단)
+    static <T> Slice<T> toSlice(List<T> rows, Pageable pageable) {
+        boolean hasNext = rows.size() > pageable.getPageSize();
+        List<T> content = hasNext ? rows.subList(0, pageable.getPageSize()) : rows;
+        return new SliceImpl<>(content, pageable, hasNext);
+    }
+}
@@ -0,0 +1,275 @@
+package com.study.jwtauth.infrastructure.ranking;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Redis Sorted Set 기반 인기글 랭킹
+ *
+ * - member: 0으로 채운 19자리 게시글 ID (동점일 때 ZREVRANGE가 최신 게시글을 먼저 반환하도록)
+ * - score: 조회수 / 좋아요 수 / 추정 고유 조회자 수
+ * - 조회/좋아요 이벤트마다 ZINCRBY로 증분 갱신하고, 주기적인 전체 재구축으로 오차를 보정
+ * - 재구축 중에는 증분 갱신을 임시 키에도 함께 반영하여 RENAME 교체 시 유실되지 않도록 함
+ *   (진행 중인 임시 키 이름을 "{랭킹 키}:rebuilding"에 기록, 스크립트가 이 키를 읽으므로 단일 노드 Redis 전제)
+ *
+ * Redis 장애 시 조회는 Optional.empty()를 반환하여 호출 측이 DB 조회로 대체할 수 있게 함
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostLeaderboard {
+
+    private static final String KEY_PREFIX = "leaderboard:post:";
+    private static final String REBUILD_LOCK_KEY = KEY_PREFIX + "rebuild-lock";
+    private static final String REBUILDING_SUFFIX = ":rebuilding";
+    private static final Duration STAGING_TTL = Duration.ofHours(1);
+
+    // KEYS[1]: 랭킹 키, KEYS[2]: 진행 중인 임시 키 이름, ARGV[1]: member, ARGV[2]: 증감값
+    // 임시 키는 첫 배치 기록 이후에만 갱신 (그 이전 변경은 이후 배치의 DB 값에 반영됨)
+    private static final RedisScript<Long> INCREMENT_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('ZINCRBY', KEYS[1], ARGV[2], ARGV[1])
+            local staging = redis.call('GET', KEYS[2])
+            if staging and redis.call('EXISTS', staging) == 1 then
+                redis.call('ZINCRBY', staging, ARGV[2], ARGV[1])
+            end
+            return 1
+            """, Long.class);
+
+    // KEYS[1]: 랭킹 키, KEYS[2]: 진행 중인 임시 키 이름, ARGV[1]: member
+    private static final RedisScript<Long> ADD_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('ZADD', KEYS[1], 'NX', 0, ARGV[1])
+            local staging = redis.call('GET', KEYS[2])
+            if staging and redis.call('EXISTS', staging) == 1 then
+                redis.call('ZADD', staging, 'NX', 0, ARGV[1])
+            end
+            return 1
+            """, Long.class);
+
+    private static final RedisScript<Long> REMOVE_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('ZREM', KEYS[1], ARGV[1])
+            local staging = redis.call('GET', KEYS[2])
+            if staging then
+                redis.call('ZREM', staging, ARGV[1])
+            end
+            return 1
+            """, Long.class);
+
+    // KEYS[1]: 랭킹 키, KEYS[2]: 임시 키, KEYS[3]: 진행 중인 임시 키 이름
+    // 교체와 진행 표시 삭제를 원자적으로 처리하여 교체 직후의 증분이 사라진 임시 키로 가지 않도록 함
+    private static final RedisScript<Long> PUBLISH_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('DEL', KEYS[3])
+            if redis.call('EXISTS', KEYS[2]) == 1 then
+                redis.call('RENAME', KEYS[2], KEYS[1])
+                redis.call('PERSIST', KEYS[1])
+            else
+                redis.call('DEL', KEYS[1])
+            end
+            return 1
+            """, Long.class);
+
+    // 락 값이 자신이 발급한 토큰일 때만 삭제 (TTL 만료 후 다른 인스턴스가 획득한 락을 지우지 않도록)
+    private static final RedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    /**
+     * 랭킹 종류
+     */
+    public enum Board {
+        VIEWS("views"),
+        LIKES("likes"),
+        UNIQUE_VIEWS("unique-views");
+
+        private final String key;
+
+        Board(String key) {
+            this.key = KEY_PREFIX + key;
+        }
+
+        public String getKey() {
+            return key;
+        }
+    }
+
+    /**
+     * 랭킹 페이지 (게시글 ID 목록 + 전체 개수)
+     */
+    public record RankedPage(List<Long> postIds, long total) {
+    }
+
+    /**
+     * 신규 게시글 등록 (점수 0)
+     */
+    public void add(Long postId) {
+        execute(() -> {
+            for (Board board : Board.values()) {
+                redisTemplate.execute(ADD_SCRIPT, keys(board), member(postId));
+            }
+        });
+    }
+
+    /**
+     * 점수 증감
+     */
+    public void increment(Board board, Long postId, double delta) {
+        execute(() -> redisTemplate.execute(INCREMENT_SCRIPT, keys(board), member(postId), Double.toString(delta)));
+    }
+
+    /**
+     * 삭제된 게시글 제거
+     */
+    public void remove(Long postId) {
+        execute(() -> {
+            for (Board board : Board.values()) {
+                redisTemplate.execute(REMOVE_SCRIPT, keys(board), member(postId));
+            }
+        });
+    }
+
+    /**
+     * 점수 내림차순 페이지 조회 (minScore 이상만)
+     * EXISTS + ZCOUNT + ZREVRANGEBYSCORE를 파이프라인으로 한 번에 요청
+     * 랭킹 키가 없으면 Optional.empty(), 키가 있으나 minScore 이상인 게시글이 없으면 빈 페이지
+     * (빈 Sorted Set은 Redis에 남지 않으므로 게시글이 하나도 없는 랭킹도 구축 전과 같이 DB 조회로 대체)
+     */
+    public Optional<RankedPage> page(Board board, double minScore, long offset, int size) {
+        try {
+            List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection stringConnection = (StringRedisConnection) connection;
+                stringConnection.exists(board.getKey());
+                stringConnection.zCount(board.getKey(), minScore, Double.POSITIVE_INFINITY);
+                stringConnection.zRevRangeByScore(board.getKey(), minScore, Double.POSITIVE_INFINITY, offset, size);
+                return null;
+            });
+
+            if (!Boolean.TRUE.equals(results.get(0))) {
+                // 랭킹이 아직 구축되지 않았거나 비어 있음 (호출 측에서 DB 조회로 대체)
+                return Optional.empty();
+            }
+
+            long total = ((Number) results.get(1)).longValue();
+            Collection<?> members = (Collection<?>) results.get(2);
+            List<Long> postIds = new ArrayList<>(members.size());
+            for (Object member : members) {
+                postIds.add(Long.parseLong(String.valueOf(member)));
+            }
+            return Optional.of(new RankedPage(postIds, total));
+        } catch (DataAccessException e) {
+            log.warn("인기글 랭킹 조회 실패, DB 조회로 대체합니다: board={}, cause={}", board, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 랭킹에 등록된 게시글 수 (게시글 생성/삭제 시 함께 갱신되므로 활성 게시글 수의 근사값)
+     */
+    public Optional<Long> size(Board board) {
+        try {
+            Long size = redisTemplate.opsForZSet().zCard(board.getKey());
+            return size == null || size == 0 ? Optional.empty() : Optional.of(size);
+        } catch (DataAccessException e) {
+            log.warn("인기글 랭킹 크기 조회 실패: board={}, cause={}", board, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 전체 재구축용 임시 키 생성
+     * 임시 키에 기록한 뒤 RENAME으로 교체하여 재구축 중에도 기존 랭킹을 그대로 제공
+     * 교체 전까지의 증분 갱신이 임시 키에도 반영되도록 진행 중인 임시 키로 등록
+     */
+    public String newStagingKey(Board board) {
+        String stagingKey = board.getKey() + ":staging:" + UUID.randomUUID();
+        redisTemplate.opsForValue().set(rebuildingKey(board), stagingKey, STAGING_TTL);
+        return stagingKey;
+    }
+
+    /**
+     * 임시 키에 점수 기록 (배치 단위)
+     */
+    public void stage(String stagingKey, Map<Long, Double> scores) {
+        if (scores.isEmpty()) {
+            return;
+        }
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            scores.forEach((postId, score) -> stringConnection.zAdd(stagingKey, score, member(postId)));
+            stringConnection.expire(stagingKey, STAGING_TTL.toSeconds());
+            return null;
+        });
+    }
+
+    /**
+     * 임시 키를 실제 랭킹으로 교체
+     */
+    public void publish(Board board, String stagingKey) {
+        redisTemplate.execute(PUBLISH_SCRIPT, List.of(board.getKey(), stagingKey, rebuildingKey(board)));
+    }
+
+    /**
+     * 실패한 재구축의 임시 키 정리 (진행 중 등록 해제)
+     */
+    public void discard(Board board, String stagingKey) {
+        execute(() -> redisTemplate.delete(List.of(stagingKey, rebuildingKey(board))));
+    }
+
+    /**
+     * 재구축 락 획득 (여러 인스턴스 중 하나만 재구축)
+     * 획득할 때마다 새 토큰을 발급하고, 해제는 같은 토큰으로만 가능
+     */
+    public Optional<String> tryLockRebuild(Duration ttl) {
+        String token = UUID.randomUUID().toString();
+        try {
+            Boolean acquired = redisTemplate.opsForValue().setIfAbsent(REBUILD_LOCK_KEY, token, ttl);
+            return Boolean.TRUE.equals(acquired) ? Optional.of(token) : Optional.empty();
+        } catch (DataAccessException e) {
+            log.warn("인기글 랭킹 재구축 락 획득 실패: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    public void unlockRebuild(String token) {
+        execute(() -> redisTemplate.execute(UNLOCK_SCRIPT, List.of(REBUILD_LOCK_KEY), token));
+    }
+
+    private static List<String> keys(Board board) {
+        return List.of(board.getKey(), rebuildingKey(board));
+    }
+
+    private static String rebuildingKey(Board board) {
+        return board.getKey() + REBUILDING_SUFFIX;
+    }
+
+    private static String member(Long postId) {
+        return String.format("%019d", postId);
+    }
+
+    // 증분 갱신 실패는 재구축에서 보정되므로 요청 흐름을 막지 않음
+    private void execute(Runnable command) {
+        try {
+            command.run();
+        } catch (DataAccessException e) {
+            log.warn("인기글 랭킹 갱신 실패: {}", e.getMessage());
+        }
+    }
+}
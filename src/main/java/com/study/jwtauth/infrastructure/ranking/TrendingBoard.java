@@ -0,0 +1,211 @@
+package com.study.jwtauth.infrastructure.ranking;
+
+import com.study.jwtauth.domain.post.exception.InvalidCursorException;
+import com.study.jwtauth.infrastructure.config.TrendingProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 시간 감쇠 트렌딩 랭킹 (Redis Sorted Set)
+ *
+ * 점수 = log( Σ weight_i * 2^((t_i - epoch) / halfLife) )
+ * - 이벤트 시각이 늦을수록 지수적으로 큰 값을 더하므로, 모든 점수를 매번 감쇠시키지 않아도
+ *   상대 순위가 "지금 기준 감쇠된 합"과 동일
+ * - 선형 값은 시간이 지나면 double 범위를 넘으므로 로그 공간에서 log-sum-exp로 누적
+ * - 누적은 Lua 스크립트(ZSCORE + ZADD)로 원자적으로 처리하며 갱신 비용은 O(log n)
+ */
+@Slf4j
+@Component
+public class TrendingBoard {
+
+    private static final String KEY = "trending:post";
+
+    private static final RedisScript<String> LOG_ADD_SCRIPT = new DefaultRedisScript<>("""
+            local current = redis.call('ZSCORE', KEYS[1], ARGV[1])
+            local score = tonumber(ARGV[2])
+            if current then
+                local c = tonumber(current)
+                local hi = math.max(c, score)
+                local lo = math.min(c, score)
+                score = hi + math.log(1 + math.exp(lo - hi))
+            end
+            redis.call('ZADD', KEYS[1], score, ARGV[1])
+            return tostring(score)
+            """, String.class);
+
+    // 커서(점수, member) 다음 위치부터 count개를 점수 내림차순으로 반환 ([member, score, ...])
+    // - 커서 항목이 같은 점수로 남아 있으면 그 순위 다음부터
+    // - 점수가 바뀌었거나 제거되었으면 (점수가 더 큰 항목 수 + 같은 점수에서 member가 같거나 큰 항목 수)부터
+    //   같은 점수는 member 역순으로 정렬되므로 동점 항목이 많아도 건너뛰거나 중복되지 않음
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> PAGE_AFTER_SCRIPT = new DefaultRedisScript<>("""
+            local score = tonumber(ARGV[1])
+            local current = redis.call('ZSCORE', KEYS[1], ARGV[2])
+            local start
+            if current and tonumber(current) == score then
+                start = redis.call('ZREVRANK', KEYS[1], ARGV[2]) + 1
+            else
+                start = redis.call('ZCOUNT', KEYS[1], '(' .. ARGV[1], '+inf')
+                for _, member in ipairs(redis.call('ZRANGEBYSCORE', KEYS[1], ARGV[1], ARGV[1])) do
+                    if member >= ARGV[2] then
+                        start = start + 1
+                    end
+                end
+            end
+            return redis.call('ZREVRANGE', KEYS[1], start, start + tonumber(ARGV[3]) - 1, 'WITHSCORES')
+            """, List.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final TrendingProperties trendingProperties;
+    private final double decayPerSecond;
+
+    public TrendingBoard(StringRedisTemplate redisTemplate, TrendingProperties trendingProperties) {
+        this.redisTemplate = redisTemplate;
+        this.trendingProperties = trendingProperties;
+        this.decayPerSecond = Math.log(2) / trendingProperties.getHalfLife().toSeconds();
+    }
+
+    /**
+     * 트렌딩 페이지 (게시글 ID 목록 + 다음 커서)
+     */
+    public record TrendingPage(List<Long> postIds, String nextCursor) {
+    }
+
+    /**
+     * 이벤트 가중치 누적
+     */
+    public void record(Long postId, double weight, long occurredAtMillis) {
+        if (weight <= 0) {
+            return;
+        }
+        double elapsedSeconds = (occurredAtMillis - trendingProperties.getEpoch().toEpochMilli()) / 1000.0;
+        double logScore = Math.log(weight) + decayPerSecond * elapsedSeconds;
+
+        try {
+            redisTemplate.execute(LOG_ADD_SCRIPT, List.of(KEY), member(postId), Double.toString(logScore));
+        } catch (DataAccessException e) {
+            log.warn("트렌딩 랭킹 갱신 실패: postId={}, cause={}", postId, e.getMessage());
+        }
+    }
+
+    /**
+     * 삭제된 게시글 제거
+     */
+    public void remove(Long postId) {
+        try {
+            redisTemplate.opsForZSet().remove(KEY, member(postId));
+        } catch (DataAccessException e) {
+            log.warn("트렌딩 랭킹 제거 실패: postId={}, cause={}", postId, e.getMessage());
+        }
+    }
+
+    /**
+     * 커서 기반 조회 (점수 내림차순)
+     * 커서 형식: "{score}_{postId}" - 마지막으로 반환한 항목 (동점은 postId 역순으로 이어서 조회)
+     *
+     * @throws InvalidCursorException 커서 형식이 올바르지 않은 경우
+     */
+    public Optional<TrendingPage> page(String cursor, int size) {
+        Cursor parsed = Cursor.parse(cursor);
+        try {
+            List<Entry> entries;
+            if (parsed == null) {
+                entries = Entry.fromTuples(redisTemplate.opsForZSet().reverseRangeWithScores(KEY, 0, size));
+            } else {
+                entries = Entry.fromFlatList(redisTemplate.execute(PAGE_AFTER_SCRIPT, List.of(KEY),
+                        Double.toString(parsed.score()), parsed.member(), Integer.toString(size + 1)));
+            }
+            if (entries == null) {
+                return Optional.empty();
+            }
+
+            // size + 1번째 항목이 있으면 다음 페이지가 존재
+            List<Long> postIds = entries.stream()
+                    .limit(size)
+                    .map(entry -> Long.parseLong(entry.member()))
+                    .toList();
+            String nextCursor = entries.size() > size ? Cursor.format(entries.get(size - 1)) : null;
+            return Optional.of(new TrendingPage(postIds, nextCursor));
+        } catch (DataAccessException e) {
+            log.warn("트렌딩 랭킹 조회 실패: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 최대 크기를 넘는 하위 항목 정리
+     */
+    public void trim() {
+        try {
+            redisTemplate.opsForZSet().removeRange(KEY, 0, -(trendingProperties.getMaxSize() + 1));
+        } catch (DataAccessException e) {
+            log.warn("트렌딩 랭킹 정리 실패: {}", e.getMessage());
+        }
+    }
+
+    private static String member(Long postId) {
+        return String.format("%019d", postId);
+    }
+
+    private record Entry(String member, double score) {
+
+        private static List<Entry> fromTuples(Set<TypedTuple<String>> tuples) {
+            if (tuples == null) {
+                return null;
+            }
+            List<Entry> entries = new ArrayList<>(tuples.size());
+            for (TypedTuple<String> tuple : tuples) {
+                entries.add(new Entry(tuple.getValue(), tuple.getScore() == null ? 0 : tuple.getScore()));
+            }
+            return entries;
+        }
+
+        private static List<Entry> fromFlatList(List<?> values) {
+            if (values == null) {
+                return null;
+            }
+            List<Entry> entries = new ArrayList<>(values.size() / 2);
+            for (int i = 0; i + 1 < values.size(); i += 2) {
+                entries.add(new Entry(String.valueOf(values.get(i)), Double.parseDouble(String.valueOf(values.get(i + 1)))));
+            }
+            return entries;
+        }
+    }
+
+    private record Cursor(double score, String member) {
+
+        private static Cursor parse(String cursor) {
+            if (cursor == null || cursor.isBlank()) {
+                return null;
+            }
+            int separator = cursor.lastIndexOf('_');
+            if (separator <= 0) {
+                throw new InvalidCursorException();
+            }
+            try {
+                double score = Double.parseDouble(cursor.substring(0, separator));
+                long postId = Long.parseLong(cursor.substring(separator + 1));
+                if (!Double.isFinite(score) || postId <= 0) {
+                    throw new InvalidCursorException();
+                }
+                return new Cursor(score, member(postId));
+            } catch (NumberFormatException e) {
+                throw new InvalidCursorException();
+            }
+        }
+
+        private static String format(Entry entry) {
+            return entry.score() + "_" + Long.parseLong(entry.member());
+        }
+    }
+}
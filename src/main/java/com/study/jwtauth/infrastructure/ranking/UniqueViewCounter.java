@@ -0,0 +1,106 @@
+package com.study.jwtauth.infrastructure.ranking;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 게시글별 고유 조회자 수 추정 (Redis HyperLogLog)
+ *
+ * - key: post:uv:{postId}, 원소: 조회자 식별자 (u:{userId} 또는 ip:{clientIp})
+ * - 게시글당 최대 12KB로 고정되며 표준 오차는 약 0.81%
+ * - 모든 노드가 같은 키에 PFADD 하므로 별도 병합 없이 전체 조회자 수를 추정
+ *   (여러 스케치를 합칠 때는 PFCOUNT/PFMERGE에 여러 키를 넘기면 됨)
+ *
+ * Redis 장애 시 조회수 집계가 요청 흐름을 막지 않도록 빈 결과를 반환
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UniqueViewCounter {
+
+    private static final String KEY_PREFIX = "post:uv:";
+
+    private final StringRedisTemplate redisTemplate;
+
+    /**
+     * 조회 기록 결과
+     *
+     * @param newViewer 처음 조회한 사용자로 추정되는지 (PFADD가 스케치를 변경했는지)
+     * @param estimate  기록 이후 추정 고유 조회자 수
+     */
+    public record Observation(boolean newViewer, long estimate) {
+    }
+
+    /**
+     * 조회자 기록 + 추정치 조회 (PFADD + PFCOUNT를 파이프라인으로 한 번에 요청)
+     */
+    public Optional<Observation> observe(Long postId, String viewerKey) {
+        try {
+            List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection stringConnection = (StringRedisConnection) connection;
+                stringConnection.pfAdd(key(postId), viewerKey);
+                stringConnection.pfCount(key(postId));
+                return null;
+            });
+
+            boolean newViewer = ((Number) results.get(0)).longValue() == 1L;
+            long estimate = ((Number) results.get(1)).longValue();
+            return Optional.of(new Observation(newViewer, estimate));
+        } catch (DataAccessException e) {
+            log.warn("고유 조회자 기록 실패: postId={}, cause={}", postId, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 여러 게시글의 추정 고유 조회자 수 (PFCOUNT 파이프라인)
+     */
+    public Map<Long, Long> estimates(Collection<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return Map.of();
+        }
+        List<Long> ids = List.copyOf(postIds);
+        try {
+            List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection stringConnection = (StringRedisConnection) connection;
+                ids.forEach(postId -> stringConnection.pfCount(key(postId)));
+                return null;
+            });
+
+            Map<Long, Long> estimates = new HashMap<>(ids.size() * 2);
+            for (int i = 0; i < ids.size(); i++) {
+                estimates.put(ids.get(i), ((Number) results.get(i)).longValue());
+            }
+            return estimates;
+        } catch (DataAccessException e) {
+            log.warn("고유 조회자 수 조회 실패: size={}, cause={}", ids.size(), e.getMessage());
+            return Map.of();
+        }
+    }
+
+    /**
+     * 삭제된 게시글의 스케치 제거
+     */
+    public void remove(Long postId) {
+        try {
+            redisTemplate.delete(key(postId));
+        } catch (DataAccessException e) {
+            log.warn("고유 조회자 스케치 제거 실패: postId={}, cause={}", postId, e.getMessage());
+        }
+    }
+
+    private static String key(Long postId) {
+        return KEY_PREFIX + postId;
+    }
+}
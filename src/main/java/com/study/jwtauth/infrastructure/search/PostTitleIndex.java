@@ -0,0 +1,452 @@
+package com.study.jwtauth.infrastructure.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 게시글 제목 접두어 인덱스 (Trie)
+ *
+ * - 정규화된 제목과 각 단어 시작 위치부터의 부분 문자열을 키로 사용
+ * - 각 노드는 하위 트리에서 가중치가 높은 후보를 최대 candidatesPerNode개 유지하므로
+ *   조회는 접두어 길이만큼 노드를 따라간 뒤 소수의 후보만 정렬하면 됨
+ * - 게시글 수, 접두어 길이, 제목당 키 수를 제한하여 메모리 사용량을 제한
+ *   (가득 차면 가중치 순으로 정렬된 집합에서 가장 낮은 게시글을 O(log n)으로 찾아 제거)
+ *
+ * 조회수 변경은 잦기 때문에 가중치만 갱신하고(후보 재배치 없음),
+ * 후보 재배치는 작성/수정/좋아요 시점과 주기적인 재구축에서 처리
+ */
+public class PostTitleIndex {
+
+    private static final Entry[] EMPTY = new Entry[0];
+    private static final Comparator<Entry> BY_WEIGHT_DESC =
+            Comparator.comparingLong(Entry::weight).reversed().thenComparing(Entry::id, Comparator.reverseOrder());
+
+    private final int maxPosts;
+    private final int maxKeyLength;
+    private final int maxKeysPerTitle;
+    private final int candidatesPerNode;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Node root = new Node();
+    private final Map<Long, Entry> entries = new HashMap<>();
+
+    // entries와 같은 게시글을 가중치 내림차순으로 보관 (마지막이 제거 대상)
+    // 가중치만 바꾸는 갱신은 읽기 잠금에서 실행되므로 이 집합 자체로 동기화
+    private final TreeSet<Entry> byWeight = new TreeSet<>(BY_WEIGHT_DESC);
+
+    public PostTitleIndex(int maxPosts, int maxKeyLength, int maxKeysPerTitle, int candidatesPerNode) {
+        this.maxPosts = maxPosts;
+        this.maxKeyLength = maxKeyLength;
+        this.maxKeysPerTitle = maxKeysPerTitle;
+        this.candidatesPerNode = candidatesPerNode;
+    }
+
+    /**
+     * 게시글 등록 또는 제목 변경 반영
+     */
+    public void put(Long postId, String title, long weight) {
+        List<String> keys = keysOf(title);
+        if (keys.isEmpty()) {
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            Entry previous = entries.get(postId);
+            if (previous != null) {
+                removeInternal(previous);
+            }
+
+            if (entries.size() >= maxPosts && !evictLowestBelow(weight)) {
+                return;
+            }
+
+            Entry entry = new Entry(postId, title, keys, weight);
+            entries.put(postId, entry);
+            synchronized (byWeight) {
+                byWeight.add(entry);
+            }
+            for (String key : keys) {
+                Node node = root;
+                for (int i = 0; i < key.length(); i++) {
+                    node = node.childOrCreate(key.charAt(i));
+                    offer(node, entry);
+                }
+                node.addTerminal(entry);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 게시글 제거
+     */
+    public void remove(Long postId) {
+        lock.writeLock().lock();
+        try {
+            Entry entry = entries.get(postId);
+            if (entry != null) {
+                removeInternal(entry);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 가중치 갱신
+     * reposition이 false이면 가중치 값만 바꾸고 노드별 후보 목록은 그대로 둠 (조회 시 재정렬됨)
+     */
+    public void updateWeight(Long postId, long weight, boolean reposition) {
+        if (!reposition) {
+            lock.readLock().lock();
+            try {
+                Entry entry = entries.get(postId);
+                if (entry != null) {
+                    reweigh(entry, weight);
+                }
+            } finally {
+                lock.readLock().unlock();
+            }
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            Entry entry = entries.get(postId);
+            if (entry == null) {
+                return;
+            }
+            reweigh(entry, weight);
+            for (String key : entry.keys) {
+                Node node = root;
+                for (int i = 0; i < key.length() && node != null; i++) {
+                    node = node.child(key.charAt(i));
+                    if (node != null) {
+                        offer(node, entry);
+                    }
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 접두어로 게시글 후보 조회 (가중치 내림차순)
+     */
+    public List<Suggestion> suggest(String prefix, int limit) {
+        String key = normalize(prefix);
+        if (key.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        if (key.length() > maxKeyLength) {
+            key = key.substring(0, maxKeyLength);
+        }
+
+        Entry[] candidates;
+        lock.readLock().lock();
+        try {
+            Node node = root;
+            for (int i = 0; i < key.length() && node != null; i++) {
+                node = node.child(key.charAt(i));
+            }
+            if (node == null) {
+                return List.of();
+            }
+            candidates = node.candidates;
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        Entry[] sorted = Arrays.copyOf(candidates, candidates.length);
+        Arrays.sort(sorted, BY_WEIGHT_DESC);
+
+        List<Suggestion> result = new ArrayList<>(Math.min(limit, sorted.length));
+        for (int i = 0; i < sorted.length && result.size() < limit; i++) {
+            result.add(new Suggestion(sorted[i].id, sorted[i].title, sorted[i].weight));
+        }
+        return result;
+    }
+
+    public boolean contains(Long postId) {
+        lock.readLock().lock();
+        try {
+            return entries.containsKey(postId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 검색어/제목 정규화 (NFKC, 소문자, 연속 공백 축약)
+     */
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+
+        StringBuilder sb = new StringBuilder(normalized.length());
+        boolean pendingSpace = false;
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (Character.isWhitespace(c)) {
+                pendingSpace = sb.length() > 0;
+                continue;
+            }
+            if (pendingSpace) {
+                sb.append(' ');
+                pendingSpace = false;
+            }
+            sb.append(c);
+        }
+        return sb.toString();
+    }
+
+    // 제목 전체 + 각 단어 시작 위치부터의 부분 문자열을 키로 사용
+    private List<String> keysOf(String title) {
+        String normalized = normalize(title);
+        Set<String> keys = new LinkedHashSet<>();
+        for (int i = 0; i < normalized.length() && keys.size() < maxKeysPerTitle; i++) {
+            if (i == 0 || normalized.charAt(i - 1) == ' ') {
+                int end = Math.min(normalized.length(), i + maxKeyLength);
+                keys.add(normalized.substring(i, end));
+            }
+        }
+        return List.copyOf(keys);
+    }
+
+    private void removeInternal(Entry entry) {
+        entries.remove(entry.id);
+        synchronized (byWeight) {
+            byWeight.remove(entry);
+        }
+        for (String key : entry.keys) {
+            Node[] path = new Node[key.length() + 1];
+            path[0] = root;
+            int depth = 0;
+            while (depth < key.length()) {
+                Node next = path[depth].child(key.charAt(depth));
+                if (next == null) {
+                    break;
+                }
+                path[++depth] = next;
+            }
+            if (depth == key.length()) {
+                path[depth].removeTerminal(entry);
+            }
+
+            // 가장 깊은 노드부터 후보를 다시 채우고, 비어 있는 노드는 잘라냄
+            for (int i = depth; i >= 1; i--) {
+                Node node = path[i];
+                if (node.isEmpty()) {
+                    path[i - 1].removeChild(key.charAt(i - 1));
+                    continue;
+                }
+                if (node.hasCandidate(entry)) {
+                    refill(node);
+                }
+            }
+        }
+    }
+
+    // 정렬 위치가 가중치로 정해지므로 집합에서 뺀 뒤 바꾸고 다시 넣음
+    private void reweigh(Entry entry, long weight) {
+        synchronized (byWeight) {
+            if (entry.weight == weight) {
+                return;
+            }
+            byWeight.remove(entry);
+            entry.weight = weight;
+            byWeight.add(entry);
+        }
+    }
+
+    // 새 게시글이 가중치 하한보다 높으면 가장 낮은 게시글을 제거하고 자리를 만듦
+    private boolean evictLowestBelow(long weight) {
+        Entry lowest;
+        synchronized (byWeight) {
+            lowest = byWeight.isEmpty() ? null : byWeight.last();
+        }
+        if (lowest == null || lowest.weight >= weight) {
+            return false;
+        }
+        removeInternal(lowest);
+        return true;
+    }
+
+    private void offer(Node node, Entry entry) {
+        Entry[] current = node.candidates;
+        for (Entry candidate : current) {
+            if (candidate == entry) {
+                return;
+            }
+        }
+
+        if (current.length < candidatesPerNode) {
+            Entry[] next = Arrays.copyOf(current, current.length + 1);
+            next[current.length] = entry;
+            node.candidates = next;
+            return;
+        }
+
+        int lowestIndex = 0;
+        for (int i = 1; i < current.length; i++) {
+            if (BY_WEIGHT_DESC.compare(current[i], current[lowestIndex]) > 0) {
+                lowestIndex = i;
+            }
+        }
+        if (BY_WEIGHT_DESC.compare(entry, current[lowestIndex]) < 0) {
+            Entry[] next = current.clone();
+            next[lowestIndex] = entry;
+            node.candidates = next;
+        }
+    }
+
+    // 자식 노드의 후보 + 해당 노드에서 끝나는 키의 게시글 중 상위 후보로 재구성
+    private void refill(Node node) {
+        Set<Entry> pool = new LinkedHashSet<>();
+        for (Node child : node.children) {
+            pool.addAll(Arrays.asList(child.candidates));
+        }
+        pool.addAll(node.terminals);
+
+        Entry[] merged = pool.toArray(EMPTY);
+        Arrays.sort(merged, BY_WEIGHT_DESC);
+        node.candidates = merged.length > candidatesPerNode
+                ? Arrays.copyOf(merged, candidatesPerNode)
+                : merged;
+    }
+
+    /**
+     * 자동완성 결과
+     */
+    public record Suggestion(Long postId, String title, long weight) {
+    }
+
+    private static final class Entry {
+        private final Long id;
+        private final String title;
+        private final List<String> keys;
+        private volatile long weight;
+
+        private Entry(Long id, String title, List<String> keys, long weight) {
+            this.id = id;
+            this.title = title;
+            this.keys = keys;
+            this.weight = weight;
+        }
+
+        private Long id() {
+            return id;
+        }
+
+        private long weight() {
+            return weight;
+        }
+    }
+
+    /**
+     * Trie 노드
+     * 자식 수가 적으므로 Map 대신 정렬되지 않은 배열로 보관하여 메모리를 절약
+     */
+    private static final class Node {
+        private static final char[] NO_LABELS = new char[0];
+        private static final Node[] NO_CHILDREN = new Node[0];
+
+        private char[] labels = NO_LABELS;
+        private Node[] children = NO_CHILDREN;
+        private List<Entry> terminals = List.of();
+        private volatile Entry[] candidates = EMPTY;
+
+        private Node child(char c) {
+            char[] current = labels;
+            for (int i = 0; i < current.length; i++) {
+                if (current[i] == c) {
+                    return children[i];
+                }
+            }
+            return null;
+        }
+
+        private Node childOrCreate(char c) {
+            Node existing = child(c);
+            if (existing != null) {
+                return existing;
+            }
+            Node created = new Node();
+            int size = labels.length;
+            labels = Arrays.copyOf(labels, size + 1);
+            children = Arrays.copyOf(children, size + 1);
+            labels[size] = c;
+            children[size] = created;
+            return created;
+        }
+
+        private void removeChild(char c) {
+            for (int i = 0; i < labels.length; i++) {
+                if (labels[i] == c) {
+                    int last = labels.length - 1;
+                    labels[i] = labels[last];
+                    children[i] = children[last];
+                    labels = Arrays.copyOf(labels, last);
+                    children = Arrays.copyOf(children, last);
+                    return;
+                }
+            }
+        }
+
+        private void addTerminal(Entry entry) {
+            if (terminals.contains(entry)) {
+                return;
+            }
+            List<Entry> next = new ArrayList<>(terminals.size() + 1);
+            next.addAll(terminals);
+            next.add(entry);
+            terminals = next;
+        }
+
+        private void removeTerminal(Entry entry) {
+            if (!terminals.contains(entry)) {
+                return;
+            }
+            List<Entry> next = new ArrayList<>(terminals);
+            next.remove(entry);
+            terminals = next.isEmpty() ? List.of() : next;
+        }
+
+        private boolean hasCandidate(Entry entry) {
+            for (Entry candidate : candidates) {
+                if (candidate == entry) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private boolean isEmpty() {
+            return labels.length == 0 && terminals.isEmpty();
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package com.study.jwtauth.infrastructure.security.jwt;
 
 import com.study.jwtauth.infrastructure.logging.StructuredLogger;
+import com.study.jwtauth.infrastructure.metrics.JwtVerificationMetrics;
+import com.study.jwtauth.infrastructure.metrics.JwtVerificationMetrics.Outcome;
 import com.study.jwtauth.infrastructure.security.exception.ExpiredTokenException;
 import com.study.jwtauth.infrastructure.security.exception.InvalidTokenException;
 import jakarta.servlet.FilterChain;
@@ -22,13 +24,22 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private static final String AUTHORIZATION_HEADER = "Authorization";
     private static final String BEARER_PREFIX = "Bearer ";
+    private static final String ACTUATOR_PREFIX = "/actuator/";
 
     private final JwtProvider jwtProvider;
+    private final JwtVerificationMetrics verificationMetrics;
+
+    // 메트릭 수집/상태 확인 요청은 토큰 검증 대상이 아님
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return request.getRequestURI().startsWith(request.getContextPath() + ACTUATOR_PREFIX);
+    }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
 
+        long start = System.nanoTime();
         try {
             // 1. Request Header에서 JWT 토큰 추출
             String token = resolveToken(request);
@@ -37,10 +48,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             if (StringUtils.hasText(token)) {
                 jwtProvider.validateToken(token);
                 Authentication authentication = jwtProvider.getAuthentication(token);
+                verificationMetrics.record(Outcome.VALID, start);
                 SecurityContextHolder.getContext().setAuthentication(authentication);
                 log.debug("Security Context에 '{}' 인증 정보를 저장했습니다.", authentication.getName());
             }
         } catch (ExpiredTokenException e) {
+            verificationMetrics.record(Outcome.EXPIRED, start);
             StructuredLogger.logJwtValidationFailure(
                     log,
                     request.getRequestURI(),
@@ -50,6 +63,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             // 예외를 request attribute에 저장하여 AuthenticationEntryPoint에서 처리
             request.setAttribute("exception", e);
         } catch (InvalidTokenException e) {
+            verificationMetrics.record(Outcome.INVALID, start);
             StructuredLogger.logJwtValidationFailure(
                     log,
                     request.getRequestURI(),
@@ -2,6 +2,7 @@ package com.study.jwtauth.infrastructure.security.jwt;
 
 import com.study.jwtauth.domain.user.Role;
 import com.study.jwtauth.infrastructure.config.JwtProperties;
+import com.study.jwtauth.infrastructure.profiling.JwtEvent;
 import com.study.jwtauth.infrastructure.security.CustomUserDetails;
 import com.study.jwtauth.infrastructure.security.exception.ExpiredTokenException;
 import com.study.jwtauth.infrastructure.security.exception.InvalidTokenException;
@@ -96,16 +97,20 @@ public class JwtProvider {
      * 토큰 유효성 검증
      */
     public boolean validateToken(String token) {
+        JwtEvent event = JwtEvent.start(JwtEvent.VERIFY);
+        String outcome = JwtEvent.INVALID;
         try {
             Jwts.parser()
                     .verifyWith(key)
                     .build()
                     .parseSignedClaims(token);
+            outcome = JwtEvent.VALID;
             return true;
         } catch (SecurityException | MalformedJwtException e) {
             log.debug("잘못된 JWT 서명입니다.", e);
             throw new InvalidTokenException("잘못된 JWT 서명입니다.");
         } catch (ExpiredJwtException e) {
+            outcome = JwtEvent.EXPIRED;
             log.debug("만료된 JWT 토큰입니다.", e);
             throw new ExpiredTokenException("만료된 JWT 토큰입니다.");
         } catch (UnsupportedJwtException e) {
@@ -114,6 +119,8 @@ public class JwtProvider {
         } catch (IllegalArgumentException e) {
             log.debug("JWT 토큰이 잘못되었습니다.", e);
             throw new InvalidTokenException("JWT 토큰이 잘못되었습니다.");
+        } finally {
+            event.complete(outcome);
         }
     }
 
@@ -128,14 +135,21 @@ public class JwtProvider {
      * 토큰 파싱
      */
     private Claims parseClaims(String token) {
+        JwtEvent event = JwtEvent.start(JwtEvent.PARSE);
+        String outcome = JwtEvent.INVALID;
         try {
-            return Jwts.parser()
+            Claims claims = Jwts.parser()
                     .verifyWith(key)
                     .build()
                     .parseSignedClaims(token)
                     .getPayload();
+            outcome = JwtEvent.VALID;
+            return claims;
         } catch (ExpiredJwtException e) {
+            outcome = JwtEvent.EXPIRED;
             return e.getClaims();
+        } finally {
+            event.complete(outcome);
         }
     }
 
@@ -1,9 +1,11 @@
 package com.study.jwtauth.infrastructure.security.oidc;
 
 import com.study.jwtauth.domain.user.User;
+import com.study.jwtauth.domain.user.UserNicknameChangedEvent;
 import com.study.jwtauth.domain.user.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.security.oauth2.client.oidc.userinfo.OidcUserRequest;
 import org.springframework.security.oauth2.client.oidc.userinfo.OidcUserService;
@@ -27,6 +29,7 @@ import java.util.Set;
 public class CustomOidcUserService extends OidcUserService {
 
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional
@@ -73,7 +76,11 @@ public class CustomOidcUserService extends OidcUserService {
                 .map(user -> {
                     // 기존 사용자: 정보 업데이트
                     log.info("기존 OIDC 사용자 업데이트: userId={}, provider={}", user.getId(), provider);
+                    boolean nicknameChanged = !user.getNickname().equals(name);
                     user.updateOidcInfo(name);
+                    if (nicknameChanged) {
+                        eventPublisher.publishEvent(new UserNicknameChangedEvent(user.getId()));
+                    }
                     return userRepository.save(user);
                 })
                 .orElseGet(() -> {
@@ -0,0 +1,36 @@
+package com.study.jwtauth.infrastructure.security.util;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * 클라이언트 IP 추출 유틸리티 클래스
+ * 프록시/로드밸런서를 거친 요청의 실제 IP를 헤더에서 추출
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class ClientIpUtil {
+
+    /**
+     * 클라이언트 실제 IP 추출 (프록시/로드밸런서 고려)
+     */
+    public static String extract(HttpServletRequest request) {
+        String ip = request.getHeader("X-Forwarded-For");
+        if (ip == null || ip.isEmpty() || "unknown".equalsIgnoreCase(ip)) {
+            ip = request.getHeader("Proxy-Client-IP");
+        }
+        if (ip == null || ip.isEmpty() || "unknown".equalsIgnoreCase(ip)) {
+            ip = request.getHeader("WL-Proxy-Client-IP");
+        }
+        if (ip == null || ip.isEmpty() || "unknown".equalsIgnoreCase(ip)) {
+            ip = request.getRemoteAddr();
+        }
+
+        // X-Forwarded-For는 "client, proxy1, proxy2" 형식일 수 있음
+        if (ip != null && ip.contains(",")) {
+            ip = ip.split(",")[0].trim();
+        }
+
+        return ip;
+    }
+}
@@ -0,0 +1,301 @@
+package com.study.jwtauth.infrastructure.stats;
+
+import com.study.jwtauth.infrastructure.config.StatsProperties;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 게시글 시간별/일별 활동 카운터 (Redis Hash, 모든 노드 합산)
+ *
+ * - 키: stats:post:{postId}:h:{epoch 시간 번호}, stats:post:{postId}:d:{epoch 일 번호}
+ *   필드: views / likes / comments, 보관 기간(hourlyBuckets 시간 / dailyBuckets 일)이 지나면 TTL로 만료
+ * - 일별 값은 기록할 때 시간/일 키에 함께 더하므로 조회 시 합산하지 않음
+ * - 작성자 ID를 stats:post:{postId}:author에 함께 보관하여 통계 조회 시 posts 테이블을 조회하지 않고 권한 확인
+ * - 이벤트마다 Redis에 쓰지 않고 노드별로 누적한 뒤 주기적으로 HINCRBY를 파이프라인으로 반영
+ *   (조회 시 이 노드의 미반영분은 더하고, 다른 노드의 미반영분은 반영 주기만큼 늦게 보임)
+ * - 반영 실패분은 다음 주기에 다시 시도 (누적 키가 maxPendingKeys를 넘으면 버림)
+ *
+ * 시간 경계는 UTC 기준
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostActivityStats {
+
+    private static final String KEY_PREFIX = "stats:post:";
+    private static final long HOUR_MILLIS = 60 * 60 * 1000L;
+    private static final long HOURS_PER_DAY = 24;
+    private static final long HOUR_SECONDS = 60 * 60L;
+    private static final long DAY_SECONDS = HOURS_PER_DAY * HOUR_SECONDS;
+
+    private final StringRedisTemplate redisTemplate;
+    private final StatsProperties statsProperties;
+
+    private final Map<PendingKey, Long> pending = new ConcurrentHashMap<>();
+    private final Map<Long, Long> pendingAuthors = new ConcurrentHashMap<>();
+
+    /**
+     * 집계 항목 (Hash 필드 이름)
+     */
+    public enum Metric {
+        VIEWS("views"),
+        LIKES("likes"),
+        COMMENTS("comments");
+
+        private final String field;
+
+        Metric(String field) {
+            this.field = field;
+        }
+
+        public String getField() {
+            return field;
+        }
+    }
+
+    /**
+     * 구간별 집계 값
+     */
+    public record Bucket(Instant start, long views, long likes, long comments) {
+    }
+
+    /**
+     * 조회 시점 스냅샷 (오래된 구간부터 현재 구간 순서)
+     *
+     * @param complete Redis 반영분을 포함했는지 (Redis를 사용할 수 없으면 false, 이 노드의 미반영분만 포함)
+     */
+    public record Snapshot(List<Bucket> hourly, List<Bucket> daily, boolean complete) {
+    }
+
+    // 미반영 누적 단위 (게시글, 시간 번호, 항목)
+    private record PendingKey(Long postId, long hour, Metric metric) {
+    }
+
+    /**
+     * 활동 1건 기록 (다음 반영 주기에 Redis에 더함)
+     */
+    public void record(Long postId, Long authorId, Metric metric, long nowMillis) {
+        if (pending.size() >= statsProperties.getMaxPendingKeys()) {
+            log.warn("게시글 활동 통계 미반영분이 한도를 넘어 버립니다: postId={}", postId);
+            return;
+        }
+        pending.merge(new PendingKey(postId, Math.floorDiv(nowMillis, HOUR_MILLIS), metric), 1L, Long::sum);
+        pendingAuthors.put(postId, authorId);
+    }
+
+    /**
+     * 활동이 기록된 게시글의 작성자 ID (기록이 없거나 Redis를 사용할 수 없으면 empty)
+     */
+    public Optional<Long> findAuthorId(Long postId) {
+        Long pendingAuthor = pendingAuthors.get(postId);
+        if (pendingAuthor != null) {
+            return Optional.of(pendingAuthor);
+        }
+        try {
+            return Optional.ofNullable(redisTemplate.opsForValue().get(authorKey(postId))).map(Long::valueOf);
+        } catch (DataAccessException e) {
+            log.warn("게시글 작성자 조회 실패, DB 조회로 대체합니다: postId={}, cause={}", postId, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 현재 시각 기준 스냅샷 (모든 노드의 반영분 + 이 노드의 미반영분)
+     * - hourly: 최근 hourlyBuckets 시간
+     * - daily: 최근 dailyBuckets 일
+     * - Redis를 사용할 수 없으면 이 노드의 미반영분만 담은 불완전한 스냅샷 (complete = false)
+     */
+    public Snapshot snapshot(Long postId, long nowMillis) {
+        long currentHour = Math.floorDiv(nowMillis, HOUR_MILLIS);
+        long oldestHour = currentHour - statsProperties.getHourlyBuckets() + 1;
+        long currentDay = Math.floorDiv(currentHour, HOURS_PER_DAY);
+        long oldestDay = currentDay - statsProperties.getDailyBuckets() + 1;
+        String[] fields = fields();
+
+        List<Object> results;
+        boolean complete = true;
+        try {
+            results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection stringConnection = (StringRedisConnection) connection;
+                for (long hour = oldestHour; hour <= currentHour; hour++) {
+                    stringConnection.hMGet(hourKey(postId, hour), fields);
+                }
+                for (long day = oldestDay; day <= currentDay; day++) {
+                    stringConnection.hMGet(dayKey(postId, day), fields);
+                }
+                return null;
+            });
+        } catch (DataAccessException e) {
+            log.warn("게시글 활동 통계 조회 실패, 이 노드의 미반영분만 반환합니다: postId={}, cause={}", postId, e.getMessage());
+            results = List.of();
+            complete = false;
+        }
+
+        int hours = (int) (currentHour - oldestHour + 1);
+        long[][] hourly = new long[hours][Metric.values().length];
+        long[][] daily = new long[(int) (currentDay - oldestDay + 1)][Metric.values().length];
+        for (int i = 0; i < results.size(); i++) {
+            addCounts(i < hours ? hourly[i] : daily[i - hours], results.get(i));
+        }
+
+        pending.forEach((key, count) -> {
+            if (!key.postId().equals(postId)) {
+                return;
+            }
+            int m = key.metric().ordinal();
+            if (key.hour() >= oldestHour && key.hour() <= currentHour) {
+                hourly[(int) (key.hour() - oldestHour)][m] += count;
+            }
+            long day = Math.floorDiv(key.hour(), HOURS_PER_DAY);
+            if (day >= oldestDay && day <= currentDay) {
+                daily[(int) (day - oldestDay)][m] += count;
+            }
+        });
+
+        return new Snapshot(
+                toBuckets(hourly, oldestHour * HOUR_MILLIS, HOUR_MILLIS),
+                toBuckets(daily, oldestDay * HOURS_PER_DAY * HOUR_MILLIS, HOURS_PER_DAY * HOUR_MILLIS),
+                complete
+        );
+    }
+
+    /**
+     * 삭제된 게시글의 통계 제거 (보관 기간 안의 키와 미반영분)
+     */
+    public void remove(Long postId, long nowMillis) {
+        pending.keySet().removeIf(key -> key.postId().equals(postId));
+        pendingAuthors.remove(postId);
+
+        long currentHour = Math.floorDiv(nowMillis, HOUR_MILLIS);
+        long currentDay = Math.floorDiv(currentHour, HOURS_PER_DAY);
+        List<String> keys = new ArrayList<>();
+        keys.add(authorKey(postId));
+        for (long hour = currentHour - statsProperties.getHourlyBuckets() + 1; hour <= currentHour; hour++) {
+            keys.add(hourKey(postId, hour));
+        }
+        for (long day = currentDay - statsProperties.getDailyBuckets() + 1; day <= currentDay; day++) {
+            keys.add(dayKey(postId, day));
+        }
+        try {
+            redisTemplate.delete(keys);
+        } catch (DataAccessException e) {
+            log.warn("게시글 활동 통계 삭제 실패 (TTL로 만료됨): postId={}, cause={}", postId, e.getMessage());
+        }
+    }
+
+    /**
+     * 노드별 미반영분을 Redis에 반영 (시간/일 키에 HINCRBY, 보관 기간으로 TTL 갱신)
+     */
+    @Scheduled(
+            initialDelayString = "${post.stats.flush-interval:PT5S}",
+            fixedDelayString = "${post.stats.flush-interval:PT5S}"
+    )
+    public void flush() {
+        Map<PendingKey, Long> counts = drain(pending);
+        Map<Long, Long> authors = drain(pendingAuthors);
+        if (counts.isEmpty() && authors.isEmpty()) {
+            return;
+        }
+
+        long hourTtl = (statsProperties.getHourlyBuckets() + 1) * HOUR_SECONDS;
+        long dayTtl = (statsProperties.getDailyBuckets() + 1) * DAY_SECONDS;
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection stringConnection = (StringRedisConnection) connection;
+                counts.forEach((key, count) -> {
+                    String hourKey = hourKey(key.postId(), key.hour());
+                    String dayKey = dayKey(key.postId(), Math.floorDiv(key.hour(), HOURS_PER_DAY));
+                    stringConnection.hIncrBy(hourKey, key.metric().getField(), count);
+                    stringConnection.expire(hourKey, hourTtl);
+                    stringConnection.hIncrBy(dayKey, key.metric().getField(), count);
+                    stringConnection.expire(dayKey, dayTtl);
+                });
+                authors.forEach((postId, authorId) ->
+                        stringConnection.setEx(authorKey(postId), dayTtl, String.valueOf(authorId)));
+                return null;
+            });
+        } catch (DataAccessException e) {
+            log.warn("게시글 활동 통계 반영 실패, 다음 주기에 다시 시도합니다: keys={}, cause={}", counts.size(), e.getMessage());
+            counts.forEach((key, count) -> {
+                if (pending.containsKey(key) || pending.size() < statsProperties.getMaxPendingKeys()) {
+                    pending.merge(key, count, Long::sum);
+                }
+            });
+            authors.forEach(pendingAuthors::putIfAbsent);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    // 꺼낸 항목만 제거 (꺼내는 동안 들어온 값은 다음 주기에 반영)
+    private static <K, V> Map<K, V> drain(Map<K, V> source) {
+        Map<K, V> drained = new HashMap<>();
+        for (K key : source.keySet()) {
+            V value = source.remove(key);
+            if (value != null) {
+                drained.put(key, value);
+            }
+        }
+        return drained;
+    }
+
+    // HMGET 결과(필드 순서 = Metric 순서, 없는 필드는 null)를 더함
+    private static void addCounts(long[] counts, Object values) {
+        if (values instanceof List<?> list) {
+            for (int m = 0; m < counts.length && m < list.size(); m++) {
+                Object value = list.get(m);
+                if (value != null) {
+                    counts[m] += Long.parseLong(String.valueOf(value));
+                }
+            }
+        }
+    }
+
+    private static List<Bucket> toBuckets(long[][] counts, long firstStartMillis, long widthMillis) {
+        List<Bucket> buckets = new ArrayList<>(counts.length);
+        for (int i = 0; i < counts.length; i++) {
+            long[] c = counts[i];
+            buckets.add(new Bucket(Instant.ofEpochMilli(firstStartMillis + i * widthMillis), c[0], c[1], c[2]));
+        }
+        return buckets;
+    }
+
+    private static String[] fields() {
+        Metric[] metrics = Metric.values();
+        String[] fields = new String[metrics.length];
+        for (int m = 0; m < metrics.length; m++) {
+            fields[m] = metrics[m].getField();
+        }
+        return fields;
+    }
+
+    private static String hourKey(Long postId, long hour) {
+        return KEY_PREFIX + postId + ":h:" + hour;
+    }
+
+    private static String dayKey(Long postId, long day) {
+        return KEY_PREFIX + postId + ":d:" + day;
+    }
+
+    private static String authorKey(Long postId) {
+        return KEY_PREFIX + postId + ":author";
+    }
+}
@@ -0,0 +1,108 @@
+package com.study.jwtauth.presentataion.api;
+
+import com.study.jwtauth.application.service.CacheAdminService;
+import com.study.jwtauth.application.service.LoggingAdminService;
+import com.study.jwtauth.application.service.ProfilingAdminService;
+import com.study.jwtauth.application.service.SqlAdminService;
+import com.study.jwtauth.presentataion.dto.common.ApiResponse;
+import com.study.jwtauth.presentataion.dto.response.AsyncLogStatsResponse;
+import com.study.jwtauth.presentataion.dto.response.CacheStatsResponse;
+import com.study.jwtauth.presentataion.dto.response.EntityCacheStatsResponse;
+import com.study.jwtauth.presentataion.dto.response.JfrRecordingResponse;
+import com.study.jwtauth.presentataion.dto.response.SqlStatementStatsResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 관리자 API 컨트롤러 (ADMIN 권한 필요)
+ */
+@RestController
+@RequestMapping("/api/admin")
+@RequiredArgsConstructor
+public class AdminController {
+
+    private final CacheAdminService cacheAdminService;
+    private final LoggingAdminService loggingAdminService;
+    private final ProfilingAdminService profilingAdminService;
+    private final SqlAdminService sqlAdminService;
+
+    /**
+     * 캐시별 적중률 조회 (현재 노드 기준)
+     */
+    @GetMapping("/caches")
+    @QueryBudget(0)
+    public ApiResponse<List<CacheStatsResponse>> getCacheStats() {
+        List<CacheStatsResponse> response = cacheAdminService.getCacheStats();
+        return ApiResponse.ok(response);
+    }
+
+    /**
+     * Hibernate 2차 캐시(User Aggregate) 적중률 조회 (현재 노드 기준)
+     */
+    @GetMapping("/caches/entities")
+    @QueryBudget(0)
+    public ApiResponse<EntityCacheStatsResponse> getEntityCacheStats() {
+        EntityCacheStatsResponse response = cacheAdminService.getEntityCacheStats();
+        return ApiResponse.ok(response);
+    }
+
+    /**
+     * 비동기 로그 큐 깊이/버린 이벤트 수 조회 (현재 노드 기준)
+     */
+    @GetMapping("/logging")
+    @QueryBudget(0)
+    public ApiResponse<List<AsyncLogStatsResponse>> getAsyncLogStats() {
+        List<AsyncLogStatsResponse> response = loggingAdminService.getAsyncLogStats();
+        return ApiResponse.ok(response);
+    }
+
+    /**
+     * JFR 기록 시작 - duration(예: 30s, PT2M) 동안 기록 후 서버 로컬 디스크에 .jfr 파일로 저장
+     */
+    @PostMapping("/profiling/recordings")
+    @QueryBudget(0)
+    public ApiResponse<JfrRecordingResponse> startRecording(@RequestParam(required = false) Duration duration) {
+        JfrRecordingResponse response = profilingAdminService.startRecording(duration);
+        return ApiResponse.created(response);
+    }
+
+    /**
+     * 현재(마지막) JFR 기록 상태 조회 (현재 노드 기준, 없으면 data가 null)
+     */
+    @GetMapping("/profiling/recordings/current")
+    @QueryBudget(0)
+    public ApiResponse<JfrRecordingResponse> getCurrentRecording() {
+        JfrRecordingResponse response = profilingAdminService.getCurrentRecording().orElse(null);
+        return ApiResponse.ok(response);
+    }
+
+    /**
+     * SQL 문장 형태별 실행 횟수/소요 시간 조회 - 총 소요 시간 순 상위 limit개 (현재 노드 기준)
+     */
+    @GetMapping("/sql/statements")
+    @QueryBudget(0)
+    public ApiResponse<List<SqlStatementStatsResponse>> getSqlStatementStats(
+            @RequestParam(defaultValue = "20") int limit
+    ) {
+        List<SqlStatementStatsResponse> response = sqlAdminService.getStatementStats(limit);
+        return ApiResponse.ok(response);
+    }
+
+    /**
+     * SQL 문장 통계 초기화 (현재 노드 기준)
+     */
+    @DeleteMapping("/sql/statements")
+    @QueryBudget(0)
+    public ApiResponse<Void> resetSqlStatementStats() {
+        sqlAdminService.resetStatementStats();
+        return ApiResponse.ok(null);
+    }
+}
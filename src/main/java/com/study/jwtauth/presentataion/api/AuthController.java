@@ -33,6 +33,7 @@ public class AuthController {
      * POST /api/auth/signup
      */
     @PostMapping("/signup")
+    @QueryBudget(6)
     public ApiResponse<UserResponse> signup(@Valid @RequestBody SignUpRequest request) {
         // ApiLoggingInterceptor에서 제외된 경로이므로 여기서 로깅
         log.info("회원가입 요청: email={}", request.email());
@@ -47,6 +48,7 @@ public class AuthController {
      * POST /api/auth/login
      */
     @PostMapping("/login")
+    @QueryBudget(1)
     public ApiResponse<TokenResponse> login(@Valid @RequestBody LoginRequest request) {
         // API 로그는 ApiLoggingInterceptor, 인증 로그는 AuthService에서 기록
         TokenResponse response = authService.login(request);
@@ -59,6 +61,7 @@ public class AuthController {
      * POST /api/auth/refresh
      */
     @PostMapping("/refresh")
+    @QueryBudget(1)
     public ApiResponse<TokenResponse> refresh(@Valid @RequestBody RefreshTokenRequest request) {
         // API 로그는 ApiLoggingInterceptor에서 기록
         TokenResponse response = authService.refresh(request);
@@ -71,6 +74,7 @@ public class AuthController {
      * POST /api/auth/logout
      */
     @PostMapping("/logout")
+    @QueryBudget(1)
     public ApiResponse<Void> logout(@AuthenticationPrincipal CustomUserDetails userDetails) {
         // API 로그는 ApiLoggingInterceptor, 인증 로그는 AuthService에서 기록
         authService.logout(userDetails.getEmail());
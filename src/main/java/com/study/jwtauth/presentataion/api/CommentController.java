@@ -3,6 +3,7 @@ package com.study.jwtauth.presentataion.api;
 import com.study.jwtauth.application.service.CommentService;
 import com.study.jwtauth.infrastructure.security.CustomUserDetails;
 import com.study.jwtauth.presentataion.dto.common.ApiResponse;
+import com.study.jwtauth.presentataion.dto.common.CountMode;
 import com.study.jwtauth.presentataion.dto.common.PageResponse;
 import com.study.jwtauth.presentataion.dto.response.CommentResponse;
 import lombok.RequiredArgsConstructor;
@@ -13,6 +14,7 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -23,12 +25,14 @@ public class CommentController {
 
     // 사용자가 작성한 댓글 목록 조회
     @GetMapping("/my")
+    @QueryBudget(3)
     public ApiResponse<PageResponse<CommentResponse>> getMyComments(
             @AuthenticationPrincipal CustomUserDetails userDetails,
-            @PageableDefault(size = 20) Pageable pageable
+            @PageableDefault(size = 20) Pageable pageable,
+            @RequestParam(defaultValue = "EXACT") CountMode count
     ){
         Long userId = userDetails.getId();
-        PageResponse<CommentResponse> response = commentService.getCommentsByAuthor(userId, pageable);
+        PageResponse<CommentResponse> response = commentService.getCommentsByAuthor(userId, pageable, count);
         return ApiResponse.ok(response);
     }
 }
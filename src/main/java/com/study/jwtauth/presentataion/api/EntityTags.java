@@ -0,0 +1,96 @@
+package com.study.jwtauth.presentataion.api;
+
+import com.study.jwtauth.infrastructure.query.ContentStamp;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.time.ZoneId;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * ETag 기반 조건부 요청 처리
+ *
+ * - 수정 응답 ETag: "버전" (예: "3")
+ * - 조회 응답 ETag: W/"버전-카운터..." (ContentStamp, 본문의 카운터가 조금 달라도 같은 표현으로 취급하는 약한 ETag)
+ * - If-Match: 나열된 강한 태그 중 하나라도 현재 버전("버전")과 같으면 일치, 없거나 *이면 검사하지 않음
+ *   (강한 비교 - 약한 태그와 조회 응답의 ContentStamp 태그는 어떤 버전과도 일치하지 않음,
+ *    클라이언트는 수정 응답의 ETag 또는 응답 본문의 version으로 "버전"을 보냄)
+ * - If-None-Match / If-Modified-Since: 일치하면 본문 없이 304
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class EntityTags {
+
+    private static final String ANY = "*";
+    private static final String WEAK_PREFIX = "W/";
+
+    // 브라우저/프록시가 보관하되 사용할 때마다 재검증 (사용자별 응답이 섞이지 않도록 private)
+    private static final String REVALIDATE = CacheControl.noCache().cachePrivate().getHeaderValue();
+
+    static String of(Long version) {
+        return "\"" + version + "\"";
+    }
+
+    static void write(HttpServletResponse response, Long version) {
+        if (version != null) {
+            response.setHeader(HttpHeaders.ETAG, of(version));
+        }
+    }
+
+    /**
+     * If-Match 헤더에서 일치로 인정할 버전 목록 추출 (검사하지 않을 때 null)
+     * 일치할 수 있는 태그가 하나도 없으면 빈 집합 (어떤 버전과도 일치하지 않으므로 412로 응답됨)
+     */
+    static Set<Long> expectedVersions(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals(ANY)) {
+            return null;
+        }
+
+        Set<Long> versions = new HashSet<>();
+        for (String tag : ifMatch.split(",")) {
+            parseStrongVersion(tag.trim()).ifPresent(versions::add);
+        }
+        return versions;
+    }
+
+    // 강한 태그 "버전"만 인정 (약한 태그, 형식이 잘못된 태그는 무시)
+    private static Optional<Long> parseStrongVersion(String tag) {
+        if (tag.startsWith(WEAK_PREFIX) || tag.length() < 2 || !tag.startsWith("\"") || !tag.endsWith("\"")) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(Long.parseLong(tag.substring(1, tag.length() - 1)));
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 조건부 GET 처리 - 검증값이 If-None-Match / If-Modified-Since와 일치하면 true (304와 헤더가 설정됨)
+     * 일치하지 않으면 ETag / Last-Modified / Cache-Control만 설정하고 false
+     * 컨트롤러는 true일 때 null을 반환하여 본문 생성과 직렬화를 건너뜀
+     */
+    static boolean checkNotModified(ServletWebRequest request, ContentStamp stamp) {
+        HttpServletResponse response = request.getResponse();
+        if (response != null) {
+            response.setHeader(HttpHeaders.CACHE_CONTROL, REVALIDATE);
+        }
+        return request.checkNotModified(weak(stamp.fingerprint()), lastModifiedMillis(stamp));
+    }
+
+    private static String weak(String fingerprint) {
+        return WEAK_PREFIX + "\"" + fingerprint + "\"";
+    }
+
+    private static long lastModifiedMillis(ContentStamp stamp) {
+        if (stamp.lastModified() == null) {
+            return -1L;
+        }
+        return stamp.lastModified().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -9,6 +9,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class HomeController {
 
     @GetMapping("/")
+    @QueryBudget(0)
     public String home(){
         return "Hello World";
     }
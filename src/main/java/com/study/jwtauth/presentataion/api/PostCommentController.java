@@ -1,19 +1,26 @@
 package com.study.jwtauth.presentataion.api;
 
 import com.study.jwtauth.application.service.CommentService;
+import com.study.jwtauth.infrastructure.query.ContentStamp;
 import com.study.jwtauth.infrastructure.security.CustomUserDetails;
 import com.study.jwtauth.presentataion.dto.common.ApiResponse;
+import com.study.jwtauth.presentataion.dto.common.CountMode;
 import com.study.jwtauth.presentataion.dto.common.PageResponse;
 import com.study.jwtauth.presentataion.dto.request.CreateCommentRequest;
 import com.study.jwtauth.presentataion.dto.request.UpdateCommentRequest;
 import com.study.jwtauth.presentataion.dto.response.CommentResponse;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.util.Objects;
 
 
 @RestController
@@ -24,6 +31,7 @@ public class PostCommentController {
 
     // 댓글 작성
     @PostMapping
+    @QueryBudget(4)
     @ResponseStatus(HttpStatus.CREATED)
     public ApiResponse<CommentResponse> createComment(
             @PathVariable Long postId,
@@ -37,6 +45,7 @@ public class PostCommentController {
 
     // 답글 작성
     @PostMapping("/{commentId}/replies")
+    @QueryBudget(5)
     @ResponseStatus(HttpStatus.CREATED)
     public ApiResponse<CommentResponse> createReply(
             @PathVariable Long postId,
@@ -50,58 +59,90 @@ public class PostCommentController {
     }
 
     // 댓글/답글 상세 조회
+    // 응답은 캐시되므로 캐시된 값의 버전/답글 수/작성자 닉네임으로 ETag 계산, 일치하면 직렬화 없이 304
+    // (닉네임 변경 시 캐시된 응답이 무효화되므로 새 닉네임으로 다시 계산됨)
+    // 약한 ETag이므로 If-Match에는 쓸 수 없음 (수정/삭제 시 본문의 version으로 "버전"을 보냄)
     @GetMapping("/{commentId}")
+    @QueryBudget(3)
     public ApiResponse<CommentResponse> getComment(
             @PathVariable Long postId,
-            @PathVariable Long commentId
+            @PathVariable Long commentId,
+            ServletWebRequest webRequest
     ){
         CommentResponse commentResponse = commentService.getComment(commentId);
+        ContentStamp stamp = ContentStamp.of(
+                commentResponse.updatedAt(), commentResponse.version(), commentResponse.replyCount(),
+                Integer.toHexString(Objects.hashCode(commentResponse.authorNickname())));
+        if (EntityTags.checkNotModified(webRequest, stamp)) {
+            return null;
+        }
         return ApiResponse.ok(commentResponse);
     }
 
     // 특정 게시글의 댓글 목록 조회
+    // 게시글의 댓글 전체 집계(개수/최대 ID/버전 합계)로 ETag 계산, 일치하면 목록 조회 없이 304
+    // 집계 결과는 첫 페이지와 함께 캐시되고 같은 쓰기에서 무효화되므로 캐시 적중 시 쿼리 없음
     @GetMapping
+    @QueryBudget(5)
     public ApiResponse<PageResponse<CommentResponse>> getComments(
             @PathVariable Long postId,
-            @PageableDefault(size = 20) Pageable pageable
+            @PageableDefault(size = 20) Pageable pageable,
+            @RequestParam(defaultValue = "EXACT") CountMode count,
+            ServletWebRequest webRequest
     ){
-        PageResponse<CommentResponse> response = commentService.getCommentsByPostId(postId, pageable);
+        if (EntityTags.checkNotModified(webRequest, commentService.getCommentsStamp(postId))) {
+            return null;
+        }
+        PageResponse<CommentResponse> response = commentService.getCommentsByPostId(postId, pageable, count);
         return ApiResponse.ok(response);
     }
 
-    // 특정 댓글의 답글 목록 조회
+    // 특정 댓글의 답글 목록 조회 (캐시된 답글 집계로 ETag 계산, 일치하면 304)
     @GetMapping("/{commentId}/replies")
+    @QueryBudget(5)
     public ApiResponse<PageResponse<CommentResponse>> getReplies(
             @PathVariable Long postId,
             @PathVariable Long commentId,
-            @PageableDefault(size = 20) Pageable pageable
+            @PageableDefault(size = 20) Pageable pageable,
+            @RequestParam(defaultValue = "EXACT") CountMode count,
+            ServletWebRequest webRequest
     ){
-        PageResponse<CommentResponse> response = commentService.getRepliesByCommentId(commentId, pageable);
+        if (EntityTags.checkNotModified(webRequest, commentService.getRepliesStamp(commentId))) {
+            return null;
+        }
+        PageResponse<CommentResponse> response = commentService.getRepliesByCommentId(commentId, pageable, count);
         return ApiResponse.ok(response);
     }
 
-    // 댓글/답글 수정
+    // 댓글/답글 수정 (If-Match가 있으면 버전이 일치할 때만 수정, 불일치 시 412)
     @PutMapping("/{commentId}")
+    @QueryBudget(4)
     public ApiResponse<CommentResponse> updateComment(
             @PathVariable Long postId,
             @PathVariable Long commentId,
             @Valid @RequestBody UpdateCommentRequest request,
-            @AuthenticationPrincipal CustomUserDetails userDetails
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            HttpServletResponse servletResponse
     ){
         Long userId = userDetails.getId();
-        CommentResponse response = commentService.updateComment(commentId, request, userId);
+        CommentResponse response = commentService.updateComment(
+                commentId, request, userId, EntityTags.expectedVersions(ifMatch));
+        EntityTags.write(servletResponse, response.version());
         return ApiResponse.ok(response);
     }
 
-    // 댓글/답글 삭제
+    // 댓글/답글 삭제 (If-Match가 있으면 버전이 일치할 때만 삭제)
     @DeleteMapping("/{commentId}")
+    @QueryBudget(2)
     public ApiResponse<Void> deleteComment(
             @PathVariable Long postId,
             @PathVariable Long commentId,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @AuthenticationPrincipal CustomUserDetails userDetails
     ){
         Long userId = userDetails.getId();
-        commentService.deleteComment(commentId, userId);
+        commentService.deleteComment(commentId, userId, EntityTags.expectedVersions(ifMatch));
         return ApiResponse.ok(null);
     }
 }
@@ -2,21 +2,35 @@ package com.study.jwtauth.presentataion.api;
 
 import com.study.jwtauth.application.service.PostLikeService;
 import com.study.jwtauth.application.service.PostService;
+import com.study.jwtauth.application.service.PostStatsService;
+import com.study.jwtauth.application.service.PostSuggestService;
 import com.study.jwtauth.infrastructure.security.CustomUserDetails;
+import com.study.jwtauth.infrastructure.security.util.ClientIpUtil;
 import com.study.jwtauth.presentataion.dto.common.ApiResponse;
+import com.study.jwtauth.presentataion.dto.common.CountMode;
+import com.study.jwtauth.presentataion.dto.common.CursorResponse;
 import com.study.jwtauth.presentataion.dto.common.PageResponse;
 import com.study.jwtauth.presentataion.dto.request.CreatePostRequest;
 import com.study.jwtauth.presentataion.dto.request.UpdatePostRequest;
+import com.study.jwtauth.presentataion.dto.response.PostDetailResponse;
 import com.study.jwtauth.presentataion.dto.response.PostLikeResponse;
 import com.study.jwtauth.presentataion.dto.response.PostResponse;
+import com.study.jwtauth.presentataion.dto.response.PostStatsResponse;
+import com.study.jwtauth.presentataion.dto.response.PostSuggestionResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.util.List;
 
 /**
  * 게시글 API 컨트롤러
@@ -26,13 +40,19 @@ import org.springframework.web.bind.annotation.*;
 @RequiredArgsConstructor
 public class PostController {
 
+    private static final int MAX_SUGGESTION_LIMIT = 10;
+    private static final int MAX_TRENDING_SIZE = 50;
+
     private final PostService postService;
     private final PostLikeService postLikeService;
+    private final PostSuggestService postSuggestService;
+    private final PostStatsService postStatsService;
 
     /**
      * 게시글 작성
      * */
     @PostMapping
+    @QueryBudget(3)
     @ResponseStatus(HttpStatus.CREATED)
     public ApiResponse<PostResponse> createPost(
             @Valid @RequestBody CreatePostRequest request,
@@ -44,22 +64,65 @@ public class PostController {
     }
 
     /**
-     * 게시글 목록 조회
+     * 게시글 목록 조회 (전체 개수는 기본적으로 캐시된 값)
      */
     @GetMapping
+    @QueryBudget(3)
     public ApiResponse<PageResponse<PostResponse>> getPosts(
-            @PageableDefault(size = 10) Pageable pageable
+            @PageableDefault(size = 10) Pageable pageable,
+            @RequestParam(defaultValue = "CACHED") CountMode count
+    ) {
+        PageResponse<PostResponse> response = postService.getPosts(pageable, count);
+        return ApiResponse.ok(response);
+    }
+
+    /**
+     * 게시글 제목 자동완성
+     */
+    @GetMapping("/suggestions")
+    @QueryBudget(0)
+    public ApiResponse<List<PostSuggestionResponse>> getSuggestions(
+            @RequestParam("q") String query,
+            @RequestParam(defaultValue = "5") int limit
     ) {
-        PageResponse<PostResponse> response = postService.getPosts(pageable);
+        List<PostSuggestionResponse> response = postSuggestService.suggest(
+                query,
+                Math.min(limit, MAX_SUGGESTION_LIMIT)
+        );
         return ApiResponse.ok(response);
     }
 
     /**
      * 게시글 상세 조회
+     * - ETag(버전-좋아요 수)를 본문 없이 카운터 한 행으로 먼저 계산
+     *   (좋아요/조회는 수정 시각을 바꾸지 않으므로 Last-Modified는 보내지 않음)
+     * - If-None-Match가 일치하면 304 (본문 조회/직렬화 없음, 조회수는 증가)
+     * - 약한 ETag이므로 If-Match에는 쓸 수 없음 (수정/삭제 시 본문의 version으로 "버전"을 보냄)
      */
     @GetMapping("/{id}")
-    public ApiResponse<PostResponse> getPost(@PathVariable Long id) {
-        PostResponse response = postService.getPost(id);
+    @QueryBudget(3)
+    public ApiResponse<PostDetailResponse> getPost(
+            @PathVariable Long id,
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            HttpServletRequest request,
+            ServletWebRequest webRequest
+    ) {
+        return postService.getPost(id, viewerKey(userDetails, request),
+                        stamp -> EntityTags.checkNotModified(webRequest, stamp))
+                .map(ApiResponse::ok)
+                .orElse(null);
+    }
+
+    /**
+     * 게시글 활동 통계 조회 (작성자만, 시간별/일별 조회수·좋아요·댓글)
+     */
+    @GetMapping("/{id}/stats")
+    @QueryBudget(1)
+    public ApiResponse<PostStatsResponse> getPostStats(
+            @PathVariable Long id,
+            @AuthenticationPrincipal CustomUserDetails userDetails
+    ) {
+        PostStatsResponse response = postStatsService.getStats(id, userDetails.getId());
         return ApiResponse.ok(response);
     }
 
@@ -67,19 +130,22 @@ public class PostController {
      * 내가 쓴 글 조회
      */
     @GetMapping("/my")
+    @QueryBudget(3)
     public ApiResponse<PageResponse<PostResponse>> getMyPosts(
             @PageableDefault(size = 10) Pageable pageable,
+            @RequestParam(defaultValue = "EXACT") CountMode count,
             @AuthenticationPrincipal CustomUserDetails userDetails
     ) {
         Long userId = userDetails.getId();
-        PageResponse<PostResponse> response = postService.getMyPosts(userId, pageable);
+        PageResponse<PostResponse> response = postService.getMyPosts(userId, pageable, count);
         return ApiResponse.ok(response);
     }
 
     /**
-     * 인기글 조회 (조회수 or 좋아요 수)
+     * 인기글 조회 (조회수 or 좋아요 수 or 고유 조회자 수)
      */
     @GetMapping("/popular")
+    @QueryBudget(3)
     public ApiResponse<PageResponse<PostResponse>> getMostViewedPosts(
             @RequestParam(defaultValue = "views") String sortBy,
             @RequestParam(defaultValue = "0") Integer threshold,
@@ -88,6 +154,8 @@ public class PostController {
         PageResponse<PostResponse> response;
         if(sortBy.equals("likes")) {
             response = postService.getMostLikedPosts(threshold, pageable);
+        } else if (sortBy.equals("uniqueViews")) {
+            response = postService.getMostUniqueViewedPosts(pageable);
         } else {
             response = postService.getMostViewedPosts(pageable);
         }
@@ -95,29 +163,51 @@ public class PostController {
     }
 
     /**
-     * 게시글 수정
+     * 트렌딩 게시글 조회 (최근 활동 기준, 커서 기반, 형식이 잘못된 커서는 400)
+     */
+    @GetMapping("/trending")
+    @QueryBudget(2)
+    public ApiResponse<CursorResponse<PostResponse>> getTrendingPosts(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        CursorResponse<PostResponse> response = postService.getTrendingPosts(
+                cursor,
+                Math.max(1, Math.min(size, MAX_TRENDING_SIZE))
+        );
+        return ApiResponse.ok(response);
+    }
+
+    /**
+     * 게시글 수정 (If-Match가 있으면 버전이 일치할 때만 수정, 불일치 시 412)
      */
     @PutMapping("/{id}")
+    @QueryBudget(3)
     public ApiResponse<PostResponse> updatePost(
             @PathVariable Long id,
             @Valid @RequestBody UpdatePostRequest request,
-            @AuthenticationPrincipal CustomUserDetails userDetails
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            HttpServletResponse servletResponse
     ) {
         Long userId = userDetails.getId();
-        PostResponse response = postService.updatePost(id, request, userId);
+        PostResponse response = postService.updatePost(id, request, userId, EntityTags.expectedVersions(ifMatch));
+        EntityTags.write(servletResponse, response.version());
         return ApiResponse.ok(response);
     }
 
     /**
-     * 게시글 삭제 (Soft Delete)
+     * 게시글 삭제 (Soft Delete, If-Match가 있으면 버전이 일치할 때만 삭제)
      */
     @DeleteMapping("/{id}")
+    @QueryBudget(2)
     public ApiResponse<Void> deletePost(
             @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @AuthenticationPrincipal CustomUserDetails userDetails
     ) {
         Long userId = userDetails.getId();
-        postService.deletePost(id, userId);
+        postService.deletePost(id, userId, EntityTags.expectedVersions(ifMatch));
         return ApiResponse.ok(null);
     }
 
@@ -125,6 +215,7 @@ public class PostController {
      * 게시글 좋아요 추가
      */
     @PostMapping("/{id}/likes")
+    @QueryBudget(5)
     @ResponseStatus(HttpStatus.CREATED)
     public ApiResponse<Void> likePost(
             @PathVariable Long id,
@@ -139,6 +230,7 @@ public class PostController {
      * 게시글 좋아요 취소
      */
     @DeleteMapping("/{id}/likes")
+    @QueryBudget(4)
     public ApiResponse<Void> unlikePost(
             @PathVariable Long id,
             @AuthenticationPrincipal CustomUserDetails userDetails
@@ -152,6 +244,7 @@ public class PostController {
      * 내 좋아요 여부 확인
      */
     @GetMapping("/{id}/likes/me")
+    @QueryBudget(1)
     public ApiResponse<Boolean> checkLikeStatus(
             @PathVariable Long id,
             @AuthenticationPrincipal CustomUserDetails userDetails
@@ -162,14 +255,16 @@ public class PostController {
     }
 
     /**
-     * 게시글에 좋아요 누른 사용자 목록 조회
+     * 게시글에 좋아요 누른 사용자 목록 조회 (전체 개수는 기본적으로 게시글의 좋아요 수)
      */
     @GetMapping("/{id}/likes")
+    @QueryBudget(3)
     public ApiResponse<PageResponse<PostLikeResponse>> getPostLikes(
             @PathVariable Long id,
-            @PageableDefault(size = 10) Pageable pageable
+            @PageableDefault(size = 10) Pageable pageable,
+            @RequestParam(defaultValue = "APPROXIMATE") CountMode count
     ){
-        PageResponse<PostLikeResponse> response = postLikeService.getPostLikes(id, pageable);
+        PageResponse<PostLikeResponse> response = postLikeService.getPostLikes(id, pageable, count);
         return ApiResponse.ok(response);
     }
 
@@ -178,12 +273,22 @@ public class PostController {
      * 특정 사용자가 좋아요한 게시글 목록 조회
      */
     @GetMapping("/liked")
+    @QueryBudget(4)
     public ApiResponse<PageResponse<PostResponse>> getLikedPosts(
             @PageableDefault(size = 10) Pageable pageable,
+            @RequestParam(defaultValue = "EXACT") CountMode count,
             @AuthenticationPrincipal CustomUserDetails userDetails
     ){
         Long userId = userDetails.getId();
-        PageResponse<PostResponse> response = postLikeService.getLikedPosts(userId, pageable);
+        PageResponse<PostResponse> response = postLikeService.getLikedPosts(userId, pageable, count);
         return ApiResponse.ok(response);
     }
+
+    // 고유 조회자 식별자 (로그인 사용자는 사용자 ID, 그 외에는 클라이언트 IP)
+    private String viewerKey(CustomUserDetails userDetails, HttpServletRequest request) {
+        if (userDetails != null) {
+            return "u:" + userDetails.getId();
+        }
+        return "ip:" + ClientIpUtil.extract(request);
+    }
 }
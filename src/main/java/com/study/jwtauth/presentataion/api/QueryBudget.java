@@ -0,0 +1,22 @@
+package com.study.jwtauth.presentataion.api;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 엔드포인트의 SQL 문장 수 예산 (요청 한 번에 실행할 수 있는 최대 문장 수)
+ *
+ * - 캐시 적중 없이 전체 개수를 COUNT로 구하는 가장 비싼 경로 기준 (ID 시퀀스 조회 포함)
+ * - 목록 API는 페이지 크기와 무관해야 함 - 행마다 쿼리가 늘어나면(N+1) 예산을 넘음
+ * - QueryBudgetTest가 50건 페이지로 검사하고, query-budget.enabled=true(dev)이면 초과 요청을 경고 로그로 기록
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface QueryBudget {
+
+    int value();
+}
@@ -0,0 +1,21 @@
+package com.study.jwtauth.presentataion.dto.common;
+
+/**
+ * 페이지 응답의 전체 개수(totalElements) 계산 방식
+ * - 목록 API의 count 파라미터로 선택 (엔드포인트마다 기본값이 다름)
+ */
+public enum CountMode {
+    EXACT("매 요청 COUNT 쿼리"),
+    CACHED("COUNT 결과 캐시, 변경 시 무효화"),
+    APPROXIMATE("별도로 유지되는 카운터 사용 (근사값)");
+
+    private final String description;
+
+    CountMode(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
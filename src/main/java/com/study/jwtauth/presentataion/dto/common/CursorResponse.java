@@ -0,0 +1,23 @@
+package com.study.jwtauth.presentataion.dto.common;
+
+import java.util.List;
+
+/**
+ * 커서 기반 페이지네이션 응답 DTO
+ * - nextCursor를 다음 요청의 cursor 파라미터로 그대로 전달 (형식은 엔드포인트마다 다르며 해석하지 않음)
+ * - 마지막 페이지이면 nextCursor는 null, hasNext는 false
+ * - 전체 개수를 세지 않으므로 랭킹처럼 순서가 계속 바뀌는 목록에 적합
+ */
+public record CursorResponse<T>(
+        List<T> content,
+        String nextCursor,
+        boolean hasNext
+) {
+    public static <T> CursorResponse<T> of(List<T> content, String nextCursor) {
+        return new CursorResponse<>(content, nextCursor, nextCursor != null);
+    }
+
+    public static <T> CursorResponse<T> empty() {
+        return new CursorResponse<>(List.of(), null, false);
+    }
+}
@@ -1,13 +1,16 @@
 package com.study.jwtauth.presentataion.dto.common;
 
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
+import java.io.Serializable;
 import java.util.List;
 
 /**
  * 페이지네이션 응답 DTO (Page용)
  * - 전체 페이지 정보 포함
  * - 페이지 번호 UI에 적합
+ * - totalExact가 false이면 totalElements/totalPages는 근사값 (hasNext/last는 항상 정확)
  */
 public record PageResponse<T>(
         List<T> content,
@@ -18,11 +21,16 @@ public record PageResponse<T>(
         boolean first,
         boolean last,
         boolean hasNext,
-        boolean hasPrevious
-) {
+        boolean hasPrevious,
+        boolean totalExact
+) implements Serializable {
     public static <T> PageResponse<T> of(Page<T> page) {
+        return of(page, page.getContent());
+    }
+
+    public static <T> PageResponse<T> of(Page<?> page, List<T> content) {
         return new PageResponse<>(
-                page.getContent(),
+                content,
                 page.getNumber(),
                 page.getSize(),
                 page.getTotalElements(),
@@ -30,7 +38,35 @@ public record PageResponse<T>(
                 page.isFirst(),
                 page.isLast(),
                 page.hasNext(),
-                page.hasPrevious()
+                page.hasPrevious(),
+                true
+        );
+    }
+
+    /**
+     * COUNT 없이 조회한 Slice + 별도로 구한 전체 개수로 생성
+     * 다음 페이지 여부는 Slice 기준이며, 전체 개수가 현재 페이지와 모순되면 보정
+     * (범위를 벗어난 빈 페이지는 앞 페이지 수로 개수를 추정할 수 없으므로 전체 개수를 그대로 사용)
+     */
+    public static <T> PageResponse<T> of(Slice<?> slice, List<T> content, long totalElements, boolean totalExact) {
+        long total = totalElements;
+        if (slice.hasContent()) {
+            long seen = (long) slice.getNumber() * slice.getSize() + slice.getNumberOfElements();
+            total = slice.hasNext() ? Math.max(totalElements, seen + 1) : Math.max(totalElements, seen);
+        }
+        int totalPages = slice.getSize() == 0 ? 1 : (int) Math.ceil((double) total / slice.getSize());
+
+        return new PageResponse<>(
+                content,
+                slice.getNumber(),
+                slice.getSize(),
+                total,
+                totalPages,
+                slice.isFirst(),
+                !slice.hasNext(),
+                slice.hasNext(),
+                slice.hasPrevious(),
+                totalExact
         );
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,29 @@
+package com.study.jwtauth.presentataion.dto.response;
+
+import com.study.jwtauth.infrastructure.logging.BoundedAsyncAppender;
+
+/**
+ * 비동기 로그 큐 상태 응답 DTO (노드 기준)
+ *
+ * @param capacity 큐 크기
+ * @param depth    현재 대기 중인 이벤트 수
+ * @param dropped  버린 이벤트 수 (시작 이후 누적)
+ * @param waited   큐가 가득 차 WARN/ERROR 기록이 대기한 횟수 (시작 이후 누적)
+ */
+public record AsyncLogStatsResponse(
+        String name,
+        int capacity,
+        int depth,
+        long dropped,
+        long waited
+) {
+    public static AsyncLogStatsResponse from(BoundedAsyncAppender.Stats stats) {
+        return new AsyncLogStatsResponse(
+                stats.name(),
+                stats.capacity(),
+                stats.depth(),
+                stats.dropped(),
+                stats.waited()
+        );
+    }
+}
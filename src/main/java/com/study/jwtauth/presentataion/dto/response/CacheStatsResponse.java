@@ -0,0 +1,39 @@
+package com.study.jwtauth.presentataion.dto.response;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.study.jwtauth.infrastructure.cache.TwoLevelCache;
+
+/**
+ * 캐시 통계 응답 DTO (노드 기준)
+ */
+public record CacheStatsResponse(
+        String name,
+        long localHits,
+        long remoteHits,
+        long misses,
+        double hitRatio,
+        long localSize
+) {
+    public static CacheStatsResponse from(TwoLevelCache.Stats stats) {
+        return new CacheStatsResponse(
+                stats.name(),
+                stats.localHits(),
+                stats.remoteHits(),
+                stats.misses(),
+                stats.hitRatio(),
+                stats.localSize()
+        );
+    }
+
+    // 로컬 전용 캐시 (Redis 단계 없음)
+    public static CacheStatsResponse ofLocal(String name, CacheStats stats, long localSize) {
+        return new CacheStatsResponse(
+                name,
+                stats.hitCount(),
+                0L,
+                stats.missCount(),
+                stats.hitRate(),
+                localSize
+        );
+    }
+}
@@ -3,6 +3,7 @@ package com.study.jwtauth.presentataion.dto.response;
 import com.study.jwtauth.domain.comment.Comment;
 import com.study.jwtauth.domain.user.User;
 
+import java.io.Serializable;
 import java.time.LocalDateTime;
 
 public record CommentResponse(
@@ -15,8 +16,9 @@ public record CommentResponse(
         Integer depth,
         Long replyCount,
         LocalDateTime createdAt,
-        LocalDateTime updatedAt
-) {
+        LocalDateTime updatedAt,
+        Long version
+) implements Serializable {
     public static CommentResponse from(Comment comment) {
         return new CommentResponse(
                 comment.getId(),
@@ -28,7 +30,8 @@ public record CommentResponse(
                 comment.getDepth(),
                 null,
                 comment.getCreatedAt(),
-                comment.getUpdatedAt()
+                comment.getUpdatedAt(),
+                comment.getVersion()
         );
     }
 
@@ -43,7 +46,8 @@ public record CommentResponse(
                 comment.getDepth(),
                 null,
                 comment.getCreatedAt(),
-                comment.getUpdatedAt()
+                comment.getUpdatedAt(),
+                comment.getVersion()
         );
     }
 
@@ -58,7 +62,8 @@ public record CommentResponse(
                 comment.getDepth(),
                 replyCount,
                 comment.getCreatedAt(),
-                comment.getUpdatedAt()
+                comment.getUpdatedAt(),
+                comment.getVersion()
         );
     }
 }
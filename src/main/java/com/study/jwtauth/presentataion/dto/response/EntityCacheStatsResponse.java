@@ -0,0 +1,39 @@
+package com.study.jwtauth.presentataion.dto.response;
+
+import java.util.List;
+
+/**
+ * Hibernate 2차 캐시 통계 응답 DTO (노드 기준, 애플리케이션 시작 이후 누적)
+ *
+ * @param statisticsEnabled   통계 수집 여부 (hibernate.generate_statistics, 꺼져 있으면 모든 값이 0)
+ * @param regions             영역별 적중/미스/적재 수
+ * @param userCacheHits       User 엔티티를 캐시에서 찾은 횟수 (DB 조회를 대신한 횟수)
+ * @param userDbLoads         User 엔티티를 DB에서 읽은 횟수
+ * @param naturalIdCacheHits  email → ID 조회를 캐시에서 찾은 횟수
+ * @param naturalIdDbLookups  email → ID 조회를 DB에서 수행한 횟수
+ * @param queryCacheHits      쿼리 캐시 적중 횟수
+ * @param queryCacheMisses    쿼리 캐시 미스 횟수 (DB에서 쿼리 실행)
+ */
+public record EntityCacheStatsResponse(
+        boolean statisticsEnabled,
+        List<Region> regions,
+        long userCacheHits,
+        long userDbLoads,
+        long naturalIdCacheHits,
+        long naturalIdDbLookups,
+        long queryCacheHits,
+        long queryCacheMisses
+) {
+
+    /**
+     * 캐시 영역별 통계
+     */
+    public record Region(String name, long hits, long misses, long puts, double hitRatio, long size) {
+
+        public static Region of(String name, long hits, long misses, long puts, long size) {
+            long requests = hits + misses;
+            double hitRatio = requests == 0 ? 0.0 : (double) hits / requests;
+            return new Region(name, hits, misses, puts, hitRatio, size);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.study.jwtauth.presentataion.dto.response;
+
+import java.time.LocalDateTime;
+
+/**
+ * JFR 기록 상태 응답 DTO (노드 기준)
+ *
+ * @param state           NEW / RUNNING / STOPPED / CLOSED
+ * @param file            기록이 끝나면 저장되는 파일 경로 (서버 로컬 디스크)
+ * @param durationSeconds 기록 시간 (지나면 자동 종료 후 파일로 저장)
+ */
+public record JfrRecordingResponse(
+        long id,
+        String name,
+        String state,
+        String file,
+        LocalDateTime startedAt,
+        long durationSeconds
+) {
+}
@@ -0,0 +1,107 @@
+package com.study.jwtauth.presentataion.dto.response;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.study.jwtauth.domain.post.Post;
+import com.study.jwtauth.infrastructure.query.PostCounters;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 상세 응답 (캐시된 JSON 본문 + 실시간 카운터)
+ *
+ * PostResponse와 같은 필드를 내려주지만, 카운터를 제외한 본문은 미리 직렬화된 값을 그대로 쓰고
+ * likeCount, viewCount, uniqueViewCount, isPopular, version만 응답 시점에 이어 붙임
+ */
+public final class PostDetailResponse implements JsonSerializable {
+
+    private final SerializableString body;
+    private final Integer likeCount;
+    private final Integer viewCount;
+    private final Long uniqueViewCount;
+    private final boolean popular;
+    private final Long version;
+
+    private PostDetailResponse(SerializableString body, Integer likeCount, Integer viewCount,
+                               Long uniqueViewCount, boolean popular, Long version) {
+        this.body = body;
+        this.likeCount = likeCount;
+        this.viewCount = viewCount;
+        this.uniqueViewCount = uniqueViewCount;
+        this.popular = popular;
+        this.version = version;
+    }
+
+    /**
+     * 캐시할 본문 (카운터 제외)
+     */
+    public record Body(
+            Long id,
+            String title,
+            String content,
+            Long authorId,
+            String authorNickname,
+            LocalDateTime createdAt,
+            LocalDateTime updatedAt
+    ) {
+        public static Body of(Post post, String authorNickname) {
+            return new Body(
+                    post.getId(),
+                    post.getTitle(),
+                    post.getContent(),
+                    post.getAuthorId(),
+                    authorNickname,
+                    post.getCreatedAt(),
+                    post.getUpdatedAt()
+            );
+        }
+
+        // 닫는 중괄호를 뺀 JSON 객체로 직렬화 (카운터를 이어 붙이기 위함)
+        public SerializableString serialize(ObjectMapper objectMapper) throws IOException {
+            String json = new String(objectMapper.writeValueAsBytes(this), StandardCharsets.UTF_8);
+            return new SerializedString(json.substring(0, json.lastIndexOf('}')));
+        }
+    }
+
+    // viewCount: DB 값에 아직 반영되지 않은 조회수를 더한 값
+    public static PostDetailResponse of(SerializableString body, PostCounters counters,
+                                        int viewCount, Long uniqueViewCount) {
+        return new PostDetailResponse(
+                body,
+                counters.likeCount(),
+                viewCount,
+                uniqueViewCount,
+                counters.isPopular(),
+                counters.version()
+        );
+    }
+
+    // 수정/삭제 요청의 If-Match 값 (ETag)
+    public Long version() {
+        return version;
+    }
+
+    @Override
+    public void serialize(JsonGenerator gen, SerializerProvider serializers) throws IOException {
+        gen.writeRawValue(body);
+        gen.writeRaw(",\"likeCount\":" + likeCount
+                + ",\"viewCount\":" + viewCount
+                + ",\"uniqueViewCount\":" + uniqueViewCount
+                + ",\"isPopular\":" + popular
+                + ",\"version\":" + version
+                + "}");
+    }
+
+    @Override
+    public void serializeWithType(JsonGenerator gen, SerializerProvider serializers,
+                                  TypeSerializer typeSer) throws IOException {
+        serialize(gen, serializers);
+    }
+}
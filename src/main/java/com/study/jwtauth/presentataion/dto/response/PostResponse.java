@@ -3,6 +3,7 @@ package com.study.jwtauth.presentataion.dto.response;
 import com.study.jwtauth.domain.post.Post;
 import com.study.jwtauth.domain.user.User;
 
+import java.io.Serializable;
 import java.time.LocalDateTime;
 
 public record PostResponse(
@@ -13,10 +14,12 @@ public record PostResponse(
         String authorNickname,
         Integer likeCount,
         Integer viewCount,
+        Long uniqueViewCount,
         boolean isPopular,
         LocalDateTime createdAt,
-        LocalDateTime updatedAt
-) {
+        LocalDateTime updatedAt,
+        Long version
+) implements Serializable {
 
     public static PostResponse from(Post post) {
         return new PostResponse(
@@ -27,9 +30,11 @@ public record PostResponse(
                 null,
                 post.getLikeCount(),
                 post.getViewCount(),
+                null,
                 post.isPopular(),
                 post.getCreatedAt(),
-                post.getUpdatedAt()
+                post.getUpdatedAt(),
+                post.getVersion()
         );
     }
 
@@ -42,9 +47,11 @@ public record PostResponse(
                 authorNickname,
                 post.getLikeCount(),
                 post.getViewCount(),
+                null,
                 post.isPopular(),
                 post.getCreatedAt(),
-                post.getUpdatedAt()
+                post.getUpdatedAt(),
+                post.getVersion()
         );
     }
 
@@ -57,9 +64,29 @@ public record PostResponse(
                 author != null ? author.getNickname() : "알 수 없음",
                 post.getLikeCount(),
                 post.getViewCount(),
+                null,
                 post.isPopular(),
                 post.getCreatedAt(),
-                post.getUpdatedAt()
+                post.getUpdatedAt(),
+                post.getVersion()
+        );
+    }
+
+    // 추정 고유 조회자 수 반영 (HyperLogLog 추정치, 알 수 없으면 null)
+    public PostResponse withUniqueViewCount(Long uniqueViewCount) {
+        return new PostResponse(
+                id,
+                title,
+                content,
+                authorId,
+                authorNickname,
+                likeCount,
+                viewCount,
+                uniqueViewCount,
+                isPopular,
+                createdAt,
+                updatedAt,
+                version
         );
     }
-}
\ No newline at end of file
+}
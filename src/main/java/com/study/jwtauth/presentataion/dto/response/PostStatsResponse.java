@@ -0,0 +1,43 @@
+package com.study.jwtauth.presentataion.dto.response;
+
+import com.study.jwtauth.infrastructure.stats.PostActivityStats;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 게시글 활동 통계 응답 DTO (시간별 / 일별, UTC 기준)
+ * complete가 false이면 통계 저장소를 사용할 수 없어 일부 집계만 포함됨
+ */
+public record PostStatsResponse(
+        Long postId,
+        List<BucketResponse> hourly,
+        List<BucketResponse> daily,
+        boolean complete
+) {
+
+    public record BucketResponse(
+            Instant start,
+            long views,
+            long likes,
+            long comments
+    ) {
+        public static BucketResponse from(PostActivityStats.Bucket bucket) {
+            return new BucketResponse(
+                    bucket.start(),
+                    bucket.views(),
+                    bucket.likes(),
+                    bucket.comments()
+            );
+        }
+    }
+
+    public static PostStatsResponse of(Long postId, PostActivityStats.Snapshot snapshot) {
+        return new PostStatsResponse(
+                postId,
+                snapshot.hourly().stream().map(BucketResponse::from).toList(),
+                snapshot.daily().stream().map(BucketResponse::from).toList(),
+                snapshot.complete()
+        );
+    }
+}
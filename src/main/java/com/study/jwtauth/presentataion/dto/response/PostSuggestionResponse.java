@@ -0,0 +1,18 @@
+package com.study.jwtauth.presentataion.dto.response;
+
+import com.study.jwtauth.infrastructure.search.PostTitleIndex;
+
+/**
+ * 게시글 제목 자동완성 응답 DTO
+ */
+public record PostSuggestionResponse(
+        Long id,
+        String title
+) {
+    public static PostSuggestionResponse from(PostTitleIndex.Suggestion suggestion) {
+        return new PostSuggestionResponse(
+                suggestion.postId(),
+                suggestion.title()
+        );
+    }
+}
@@ -0,0 +1,36 @@
+package com.study.jwtauth.presentataion.dto.response;
+
+import com.study.jwtauth.infrastructure.datasource.SqlStatementStats;
+
+/**
+ * SQL 문장 형태별 실행 통계 응답 DTO (노드 기준)
+ *
+ * @param sql         문장 형태 (리터럴은 ?로 치환됨)
+ * @param count       실행 횟수
+ * @param totalMillis 총 소요 시간 (ms)
+ * @param avgMillis   평균 소요 시간 (ms)
+ * @param maxMillis   최대 소요 시간 (ms)
+ * @param slowCount   느린 문장 기준 이상 걸린 횟수
+ */
+public record SqlStatementStatsResponse(
+        String sql,
+        long count,
+        double totalMillis,
+        double avgMillis,
+        double maxMillis,
+        long slowCount
+) {
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    public static SqlStatementStatsResponse from(SqlStatementStats.Snapshot snapshot) {
+        double avgNanos = snapshot.count() > 0 ? (double) snapshot.totalNanos() / snapshot.count() : 0.0;
+        return new SqlStatementStatsResponse(
+                snapshot.sql(),
+                snapshot.count(),
+                snapshot.totalNanos() / NANOS_PER_MILLI,
+                avgNanos / NANOS_PER_MILLI,
+                snapshot.maxNanos() / NANOS_PER_MILLI,
+                snapshot.slowCount()
+        );
+    }
+}
@@ -1,13 +1,17 @@
 package com.study.jwtauth.presentataion.exception;
 
+import com.study.jwtauth.domain.comment.Comment;
 import com.study.jwtauth.domain.exception.BusinessException;
 import com.study.jwtauth.domain.exception.ErrorCode;
+import com.study.jwtauth.domain.post.Post;
 import com.study.jwtauth.infrastructure.logging.StructuredLogger;
 import com.study.jwtauth.infrastructure.security.CustomUserDetails;
 import com.study.jwtauth.presentataion.dto.common.ApiResponse;
 import com.study.jwtauth.presentataion.dto.common.ExceptionDto;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -18,12 +22,19 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Slf4j
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+    // If-Match로 버전을 검사하는 엔티티별 412 응답 코드
+    private static final Map<String, ErrorCode> VERSION_CONFLICT_CODES = Map.of(
+            Post.class.getName(), ErrorCode.POST_VERSION_CONFLICT,
+            Comment.class.getName(), ErrorCode.COMMENT_VERSION_CONFLICT
+    );
+
     /**
      * Bean Validation 실패 시 발생하는 예외 처리
      * (@Valid, @Validated 어노테이션으로 검증 실패 시)
@@ -170,6 +181,36 @@ public class GlobalExceptionHandler {
         return ApiResponse.error(errorCode.getStatus(), exceptionDto);
     }
 
+    /**
+     * 낙관적 잠금 충돌 처리
+     * (조회~커밋 사이에 다른 요청이 같은 엔티티를 먼저 수정/삭제한 경우)
+     * - If-Match를 보낸 요청의 게시글/댓글 충돌: 전제 조건 실패이므로 If-Match 불일치와 같은 코드(412)
+     * - If-Match 없이 수정한 경우나 그 밖의 엔티티: 409
+     */
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    protected ApiResponse<Void> handleOptimisticLockingFailureException(
+            ObjectOptimisticLockingFailureException e, HttpServletRequest request) {
+        ErrorCode errorCode = request.getHeader(HttpHeaders.IF_MATCH) == null
+                ? ErrorCode.CONCURRENT_MODIFICATION
+                : VERSION_CONFLICT_CODES.getOrDefault(e.getPersistentClassName(), ErrorCode.CONCURRENT_MODIFICATION);
+
+        UserInfo userInfo = extractUserInfo();
+        StructuredLogger.logError(
+                log,
+                "OptimisticLockingFailureException",
+                errorCode.getCode(),
+                userInfo.userId(),
+                userInfo.email(),
+                request.getRequestURI(),
+                "Concurrent modification: " + e.getPersistentClassName() + "#" + e.getIdentifier(),
+                null
+        );
+
+        ExceptionDto exceptionDto = ExceptionDto.of(errorCode);
+
+        return ApiResponse.error(errorCode.getStatus(), exceptionDto);
+    }
+
     /**
      * 비즈니스 로직 예외 처리
      */
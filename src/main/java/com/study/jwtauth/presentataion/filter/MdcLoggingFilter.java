@@ -1,5 +1,7 @@
 package com.study.jwtauth.presentataion.filter;
 
+import com.study.jwtauth.infrastructure.logging.RequestIdGenerator;
+import com.study.jwtauth.infrastructure.security.util.ClientIpUtil;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -11,12 +13,15 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.UUID;
 
 /**
  * MDC 로깅 필터
  * 요청의 가장 처음에 실행되어 전역 컨텍스트(requestId, clientIp)를 설정
  * ThreadLocal 기반으로 Filter → Interceptor → Controller → Service 모든 계층에서 접근 가능
+ *
+ * 로드밸런서/상위 서비스가 X-Request-Id를 보내면 검증 후 그대로 사용하고, 없거나 형식이 잘못되면 새로 생성
+ * 사용한 요청 ID는 응답 헤더(X-Request-Id)로 돌려주어 클라이언트 문의 시 로그를 찾을 수 있게 함
+ * 상태 확인(/actuator/health/**)은 로그를 남기지 않으므로 제외
  */
 @Component
 @Order(Ordered.HIGHEST_PRECEDENCE) // 가장 먼저 실행
@@ -25,16 +30,31 @@ public class MdcLoggingFilter extends OncePerRequestFilter {
     private static final String REQUEST_ID_KEY = "requestId";
     private static final String CLIENT_IP_KEY = "clientIp";
 
+    private static final String HEALTH_PREFIX = "/actuator/health";
+
+    public static final String REQUEST_ID_HEADER = "X-Request-Id";
+
+    // 접근 로그 샘플링 기준 (MDC가 아닌 요청 단위로 조회)
+    public static final String REQUEST_ID_ATTRIBUTE = MdcLoggingFilter.class.getName() + ".requestId";
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return request.getRequestURI().startsWith(request.getContextPath() + HEALTH_PREFIX);
+    }
+
     @Override
     protected void doFilterInternal(HttpServletRequest request,
                                     HttpServletResponse response,
                                     FilterChain filterChain) throws ServletException, IOException {
         try {
-            // 1. 고유 요청 ID 생성 (전체 요청 추적용)
-            MDC.put(REQUEST_ID_KEY, UUID.randomUUID().toString());
+            // 1. 요청 ID 결정 (상위에서 전달된 값 우선, 전체 요청 추적용)
+            String requestId = resolveRequestId(request);
+            MDC.put(REQUEST_ID_KEY, requestId);
+            request.setAttribute(REQUEST_ID_ATTRIBUTE, requestId);
+            response.setHeader(REQUEST_ID_HEADER, requestId);
 
             // 2. 클라이언트 IP 설정
-            MDC.put(CLIENT_IP_KEY, extractClientIp(request));
+            MDC.put(CLIENT_IP_KEY, ClientIpUtil.extract(request));
 
             // 다음 필터 체인 실행 (Security Filter, Interceptor 등)
             filterChain.doFilter(request, response);
@@ -44,26 +64,14 @@ public class MdcLoggingFilter extends OncePerRequestFilter {
         }
     }
 
-    /**
-     * 클라이언트 실제 IP 추출 (프록시/로드밸런서 고려)
-     */
-    private String extractClientIp(HttpServletRequest request) {
-        String ip = request.getHeader("X-Forwarded-For");
-        if (ip == null || ip.isEmpty() || "unknown".equalsIgnoreCase(ip)) {
-            ip = request.getHeader("Proxy-Client-IP");
+    private String resolveRequestId(HttpServletRequest request) {
+        String incoming = request.getHeader(REQUEST_ID_HEADER);
+        if (incoming != null) {
+            incoming = incoming.trim();
+            if (RequestIdGenerator.isValid(incoming)) {
+                return incoming;
+            }
         }
-        if (ip == null || ip.isEmpty() || "unknown".equalsIgnoreCase(ip)) {
-            ip = request.getHeader("WL-Proxy-Client-IP");
-        }
-        if (ip == null || ip.isEmpty() || "unknown".equalsIgnoreCase(ip)) {
-            ip = request.getRemoteAddr();
-        }
-
-        // X-Forwarded-For는 "client, proxy1, proxy2" 형식일 수 있음
-        if (ip != null && ip.contains(",")) {
-            ip = ip.split(",")[0].trim();
-        }
-
-        return ip;
+        return RequestIdGenerator.next();
     }
 }
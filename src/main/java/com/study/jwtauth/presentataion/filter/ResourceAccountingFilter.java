@@ -0,0 +1,63 @@
+package com.study.jwtauth.presentataion.filter;
+
+import com.study.jwtauth.infrastructure.config.AccessLogProperties;
+import com.study.jwtauth.infrastructure.metrics.RequestResourceUsage;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * 요청별 CPU 시간/할당 바이트 측정 필터 (logging.access.resource-accounting=true일 때)
+ *
+ * MdcLoggingFilter 다음에 실행되어 JWT 검증, 핸들러, 응답 직렬화까지 포함해 측정
+ * 비동기 처리로 다른 스레드에서 다시 디스패치되면 그 스레드에서 이어서 누적
+ * 결과는 ApiLoggingInterceptor가 접근 로그와 엔드포인트별 메트릭으로 기록
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+@RequiredArgsConstructor
+public class ResourceAccountingFilter extends OncePerRequestFilter {
+
+    private static final String API_PREFIX = "/api/";
+
+    private final AccessLogProperties properties;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isResourceAccounting()
+                || !RequestResourceUsage.isSupported()
+                || !request.getRequestURI().startsWith(request.getContextPath() + API_PREFIX);
+    }
+
+    // 비동기 처리 후 다른 스레드에서의 디스패치도 측정
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        RequestResourceUsage usage = (RequestResourceUsage) request.getAttribute(RequestResourceUsage.ATTRIBUTE);
+        if (usage == null) {
+            usage = new RequestResourceUsage();
+            request.setAttribute(RequestResourceUsage.ATTRIBUTE, usage);
+        }
+
+        usage.resume();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            usage.suspend();
+        }
+    }
+}
@@ -1,47 +1,45 @@
 package com.study.jwtauth.presentataion.interceptor;
 
+import com.study.jwtauth.infrastructure.logging.AccessLogSampler;
 import com.study.jwtauth.infrastructure.logging.StructuredLogger;
+import com.study.jwtauth.infrastructure.metrics.RequestResourceMetrics;
+import com.study.jwtauth.infrastructure.metrics.RequestResourceUsage;
 import com.study.jwtauth.infrastructure.security.CustomUserDetails;
+import com.study.jwtauth.presentataion.filter.MdcLoggingFilter;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
-import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
 import org.springframework.web.servlet.ModelAndView;
 
 /**
- * API 요청/응답 로깅 인터셉터
- * 구조화된 JSON 로그를 생성하여 모든 API 호출을 기록
+ * API 접근 로깅 인터셉터
+ * 요청 완료 시점에 요청당 한 건의 구조화된 JSON 접근 로그를 기록
+ * 정상 응답은 requestId 기준으로 샘플링하고, 에러/느린 요청은 항상 기록 (AccessLogSampler)
+ * 자원 측정이 켜져 있으면 CPU 시간/할당 바이트를 로그에 포함하고, 엔드포인트별 메트릭은 샘플링과 무관하게 모든 요청을 기록
  */
 @Component
-public class ApiLoggingInterceptor implements HandlerInterceptor {
+@RequiredArgsConstructor
+public class ApiLoggingInterceptor implements AsyncHandlerInterceptor {
 
     private static final Logger apiLogger = LoggerFactory.getLogger("API_LOGGER");
     private static final String START_TIME_ATTR = "startTime";
 
+    private final AccessLogSampler accessLogSampler;
+    private final RequestResourceMetrics resourceMetrics;
+
     @Override
     public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws Exception {
-        // 요청 시작 시간 기록
-        request.setAttribute(START_TIME_ATTR, System.currentTimeMillis());
-
-        // 인증 정보 추출
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        UserInfo userInfo = extractUserInfo(authentication);
-
-        // 구조화된 로그로 요청 정보 기록
-        // requestId, clientIp는 MdcLoggingFilter에서 이미 설정됨
-        StructuredLogger.logApiRequest(
-                apiLogger,
-                request.getMethod(),
-                request.getRequestURI(),
-                userInfo.userId(),
-                userInfo.email(),
-                request.getHeader("User-Agent")
-        );
-
+        // 요청 시작 시간 기록 (비동기 처리 후 재디스패치에서는 최초 시각 유지)
+        if (request.getAttribute(START_TIME_ATTR) == null) {
+            request.setAttribute(START_TIME_ATTR, System.currentTimeMillis());
+        }
         return true;
     }
 
@@ -56,23 +54,52 @@ public class ApiLoggingInterceptor implements HandlerInterceptor {
         Long startTime = (Long) request.getAttribute(START_TIME_ATTR);
         long duration = (startTime != null) ? System.currentTimeMillis() - startTime : 0;
 
+        RequestResourceUsage.Snapshot usage = resourceUsage(request);
+        if (usage != null) {
+            resourceMetrics.record(request.getMethod(), uriPattern(request), usage);
+        }
+
+        String requestId = (String) request.getAttribute(MdcLoggingFilter.REQUEST_ID_ATTRIBUTE);
+        int status = response.getStatus();
+        if (!accessLogSampler.shouldLog(requestId, status, duration, ex != null)) {
+            return;
+        }
+
         // 인증 정보 추출
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         UserInfo userInfo = extractUserInfo(authentication);
 
-        // 구조화된 로그로 응답 정보 기록
-        StructuredLogger.logApiResponse(
+        StructuredLogger.logApiAccess(
                 apiLogger,
                 request.getMethod(),
                 request.getRequestURI(),
                 userInfo.userId(),
                 userInfo.email(),
-                response.getStatus(),
+                request.getHeader("User-Agent"),
+                status,
                 duration,
-                ex != null ? ex.getMessage() : null
+                accessLogSampler.isSlow(duration),
+                ex != null ? ex.getMessage() : null,
+                accessLogSampler.getSampleRate(),
+                usage
         );
     }
 
+    /**
+     * 지금까지 측정된 CPU 시간/할당 바이트 (측정 필터가 동작하지 않았으면 null)
+     * 응답 직렬화는 이미 끝났으므로 필터가 측정을 멈추기 전이어도 요청 처리 대부분이 포함됨
+     */
+    private RequestResourceUsage.Snapshot resourceUsage(HttpServletRequest request) {
+        Object usage = request.getAttribute(RequestResourceUsage.ATTRIBUTE);
+        return usage instanceof RequestResourceUsage resourceUsage ? resourceUsage.snapshot() : null;
+    }
+
+    // 엔드포인트 단위 집계를 위해 실제 URI 대신 매핑된 URI 패턴 사용
+    private String uriPattern(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : "UNKNOWN";
+    }
+
     /**
      * 사용자 정보 추출
      */
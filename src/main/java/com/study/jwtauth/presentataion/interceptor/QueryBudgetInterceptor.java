@@ -0,0 +1,71 @@
+package com.study.jwtauth.presentataion.interceptor;
+
+import com.study.jwtauth.infrastructure.config.QueryBudgetProperties;
+import com.study.jwtauth.infrastructure.datasource.StatementCounter;
+import com.study.jwtauth.presentataion.api.QueryBudget;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+/**
+ * SQL 문장 수 예산 초과 경고 인터셉터 (query-budget.enabled=true일 때만 등록)
+ *
+ * - 핸들러 실행 ~ 응답 직렬화 동안 실행된 문장 수를 세어 @QueryBudget과 비교
+ * - 필터(인증 등)에서 실행된 문장과 비동기로 처리되는 요청은 세지 않음
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class QueryBudgetInterceptor implements AsyncHandlerInterceptor {
+
+    private static final String COUNTER_ATTRIBUTE = QueryBudgetInterceptor.class.getName() + ".counter";
+
+    private final QueryBudgetProperties properties;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod) {
+            request.setAttribute(COUNTER_ATTRIBUTE, StatementCounter.start());
+        }
+        return true;
+    }
+
+    // 비동기 처리는 다른 스레드에서 이어지므로 측정 중단
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        StatementCounter counter = removeCounter(request);
+        if (counter != null) {
+            counter.close();
+        }
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        StatementCounter counter = removeCounter(request);
+        if (counter == null) {
+            return;
+        }
+        counter.close();
+
+        HandlerMethod handlerMethod = (HandlerMethod) handler;
+        int budget = budgetOf(handlerMethod);
+        if (counter.count() > budget) {
+            log.warn("SQL 문장 수 예산 초과: {} {}, handler={}, statements={}, budget={}",
+                    request.getMethod(), request.getRequestURI(), handlerMethod.getShortLogMessage(),
+                    counter.count(), budget);
+        }
+    }
+
+    private int budgetOf(HandlerMethod handlerMethod) {
+        QueryBudget budget = handlerMethod.getMethodAnnotation(QueryBudget.class);
+        return budget != null ? budget.value() : properties.getDefaultBudget();
+    }
+
+    private static StatementCounter removeCounter(HttpServletRequest request) {
+        Object counter = request.getAttribute(COUNTER_ATTRIBUTE);
+        request.removeAttribute(COUNTER_ATTRIBUTE);
+        return (StatementCounter) counter;
+    }
+}
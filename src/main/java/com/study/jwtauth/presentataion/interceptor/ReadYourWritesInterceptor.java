@@ -0,0 +1,70 @@
+package com.study.jwtauth.presentataion.interceptor;
+
+import com.study.jwtauth.infrastructure.datasource.ReadYourWritesTracker;
+import com.study.jwtauth.infrastructure.datasource.RoutingContext;
+import com.study.jwtauth.infrastructure.security.CustomUserDetails;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.util.Set;
+
+/**
+ * 읽기/쓰기 라우팅 요청 힌트 인터셉터 (datasource.routing.enabled=true일 때만 등록)
+ *
+ * - 쓰기 요청(POST/PUT/PATCH/DELETE): 요청 전체를 주 DB로 고정, 성공하면 사용자의 최근 쓰기 기록
+ * - 읽기 요청: 최근 쓰기 기록이 있는 사용자면 주 DB로 고정
+ */
+@RequiredArgsConstructor
+public class ReadYourWritesInterceptor implements HandlerInterceptor {
+
+    private static final Set<String> READ_METHODS = Set.of(
+            HttpMethod.GET.name(),
+            HttpMethod.HEAD.name(),
+            HttpMethod.OPTIONS.name()
+    );
+
+    private final ReadYourWritesTracker tracker;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (isWrite(request)) {
+            RoutingContext.pinToPrimary();
+            return true;
+        }
+
+        Long userId = currentUserId();
+        if (userId != null && tracker.isWithinWindow(userId)) {
+            RoutingContext.pinToPrimary();
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        try {
+            Long userId = currentUserId();
+            if (isWrite(request) && userId != null && ex == null && response.getStatus() < 400) {
+                tracker.markWrite(userId);
+            }
+        } finally {
+            RoutingContext.clear();
+        }
+    }
+
+    private static boolean isWrite(HttpServletRequest request) {
+        return !READ_METHODS.contains(request.getMethod());
+    }
+
+    private static Long currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof CustomUserDetails userDetails) {
+            return userDetails.getId();
+        }
+        return null;
+    }
+}
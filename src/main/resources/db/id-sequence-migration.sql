@@ -0,0 +1,73 @@
+-- =====================================================================
+-- AUTO_INCREMENT → 시퀀스(pooled-lo, 50개 단위 할당) ID 전환 (MariaDB 10.3+)
+--
+-- 배경
+--   GenerationType.IDENTITY는 INSERT 직후 생성된 키를 읽어야 해서 Hibernate가 INSERT를 배치로 묶지 못함
+--   엔티티 ID를 시퀀스에서 50개씩 미리 할당받아 INSERT 배치(hibernate.jdbc.batch_size=50)를 사용
+--
+-- 절차
+--   1. 새 버전 배포 전에 이 스크립트 실행
+--      - 테이블별 시퀀스를 (실행 시점 최대 ID + @headroom)부터, 50씩 증가하도록 생성
+--      - 스크립트 실행부터 교체 완료까지 기존 버전(IDENTITY)이 계속 INSERT하므로 최대 ID 바로 다음부터 시작하면
+--        기존 버전이 만든 ID와 새 버전의 시퀀스 ID가 충돌함 → 그 사이 INSERT될 수 있는 행 수보다 큰 여유분을 둠
+--      - 교체 완료까지의 INSERT가 @headroom(기본 10000)을 넘을 수 있으면 값을 늘리거나,
+--        실행부터 교체 완료까지 쓰기를 중단(점검 모드)한 상태로 진행
+--      - 스크립트 없이 배포하면 Hibernate(ddl-auto: update)가 1부터 시작하는 시퀀스를 만들어 기존 ID와 충돌함
+--   2. 새 버전 배포
+--      - 기존 버전(IDENTITY)과 새 버전이 동시에 INSERT하는 동안에도 기존 버전의 ID는 여유분 안에서만 증가하지만,
+--        새 버전이 INSERT한 뒤에는 AUTO_INCREMENT 카운터가 시퀀스 범위로 올라가므로 전체 인스턴스를 한 번에 교체
+--      - id 컬럼의 AUTO_INCREMENT는 그대로 둠 (명시적 ID INSERT도 허용되고, 카운터가 최대값을 따라가므로 롤백 가능)
+--   3. 안정화 이후 (선택) AUTO_INCREMENT 제거 - 맨 아래 주석 참고
+--
+-- 롤백
+--   이전 버전으로 되돌리면 AUTO_INCREMENT가 다시 사용됨 (시퀀스는 남겨 둬도 무방)
+--   재전환 시 이 스크립트의 시퀀스 시작값을 다시 맞춰야 하므로 시퀀스를 삭제한 뒤 다시 실행
+--
+-- INCREMENT BY 값은 엔티티의 @SequenceGenerator(allocationSize = 50)와 같아야 함
+-- =====================================================================
+
+-- 실행부터 교체 완료까지 기존 버전이 INSERT할 수 있는 행 수보다 커야 함 (절차 1 참고)
+SET @headroom = 10000;
+
+-- 게시글
+SET @start = (SELECT COALESCE(MAX(id), 0) + @headroom FROM posts);
+SET @ddl = CONCAT('CREATE SEQUENCE IF NOT EXISTS posts_seq START WITH ', @start, ' INCREMENT BY 50');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- 댓글
+SET @start = (SELECT COALESCE(MAX(id), 0) + @headroom FROM comments);
+SET @ddl = CONCAT('CREATE SEQUENCE IF NOT EXISTS comments_seq START WITH ', @start, ' INCREMENT BY 50');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- 좋아요
+SET @start = (SELECT COALESCE(MAX(id), 0) + @headroom FROM post_likes);
+SET @ddl = CONCAT('CREATE SEQUENCE IF NOT EXISTS post_likes_seq START WITH ', @start, ' INCREMENT BY 50');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- 사용자
+SET @start = (SELECT COALESCE(MAX(id), 0) + @headroom FROM users);
+SET @ddl = CONCAT('CREATE SEQUENCE IF NOT EXISTS users_seq START WITH ', @start, ' INCREMENT BY 50');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- 사용자 인증 제공자
+SET @start = (SELECT COALESCE(MAX(id), 0) + @headroom FROM user_providers);
+SET @ddl = CONCAT('CREATE SEQUENCE IF NOT EXISTS user_providers_seq START WITH ', @start, ' INCREMENT BY 50');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- 3. (선택) 안정화 이후 AUTO_INCREMENT 제거 - 롤백할 수 없게 되므로 마지막에 실행
+-- (users.id는 user_providers.user_id 외래 키가 참조하므로 SET FOREIGN_KEY_CHECKS = 0 상태에서 실행)
+-- ALTER TABLE posts MODIFY id BIGINT NOT NULL;
+-- ALTER TABLE comments MODIFY id BIGINT NOT NULL;
+-- ALTER TABLE post_likes MODIFY id BIGINT NOT NULL;
+-- ALTER TABLE user_providers MODIFY id BIGINT NOT NULL;
+-- ALTER TABLE users MODIFY id BIGINT NOT NULL;
@@ -0,0 +1,18 @@
+-- =====================================================================
+-- 게시글/댓글 낙관적 잠금용 version 컬럼 추가 (MariaDB)
+--
+-- 배경
+--   Post/Comment에 @Version을 추가하여 동시 수정이 서로를 덮어쓰지 않게 함 (If-Match 조건부 수정/삭제)
+--   기존 행의 version이 NULL이면 Hibernate가 버전을 증가시키지 못하므로 0으로 채워 추가
+--
+-- 절차
+--   새 버전 배포 전에 실행 (ddl-auto: update보다 먼저 컬럼을 만들어 기존 행에 기본값을 채움)
+--   기존 버전은 version 컬럼을 사용하지 않으므로 배포 중 혼재해도 무방
+--   (단, 기존 버전의 수정은 version을 올리지 않으므로 전체 교체 전까지는 충돌 감지가 완전하지 않음)
+--
+-- 롤백
+--   이전 버전은 컬럼을 무시하므로 그대로 두어도 됨
+-- =====================================================================
+
+ALTER TABLE posts ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE comments ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,106 @@
+package com.study.jwtauth.application.service;
+
+import com.study.jwtauth.domain.post.Post;
+import com.study.jwtauth.domain.post.PostActivityEvent;
+import com.study.jwtauth.domain.post.PostActivityType;
+import com.study.jwtauth.domain.post.PostRepository;
+import com.study.jwtauth.domain.postlike.PostLikeRepository;
+import com.study.jwtauth.domain.user.UserRepository;
+import com.study.jwtauth.infrastructure.query.PostLikeQueryDao;
+import com.study.jwtauth.infrastructure.query.PostQueryDao;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PostLikeService 테스트")
+class PostLikeServiceTest {
+
+    @Mock
+    private PostLikeRepository postLikeRepository;
+
+    @Mock
+    private PostLikeQueryDao postLikeQueryDao;
+
+    @Mock
+    private PostQueryDao postQueryDao;
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private TotalCountService totalCountService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private PostLikeService postLikeService;
+
+    private Post post;
+
+    @BeforeEach
+    void setUp() {
+        post = Post.create("title", "content", 1L);
+        ReflectionTestUtils.setField(post, "id", 10L);
+    }
+
+    @Nested
+    @DisplayName("onPostDeleted 메서드 테스트")
+    class OnPostDeleted {
+
+        @Test
+        @DisplayName("게시글이 삭제되면 좋아요한 사용자들의 좋아요한 게시글 개수 캐시를 무효화한다")
+        void evictsLikedPostCountsOfLikers() {
+            // given
+            given(postLikeRepository.findUserIdsByPostId(10L)).willReturn(List.of(2L, 3L));
+
+            // when
+            postLikeService.onPostDeleted(PostActivityEvent.of(post, PostActivityType.DELETED));
+
+            // then
+            verify(totalCountService).evictAfterCommit("likes:user:2", "likes:user:3");
+        }
+
+        @Test
+        @DisplayName("좋아요가 없는 게시글은 무효화하지 않는다")
+        void skipsPostWithoutLikes() {
+            // given
+            given(postLikeRepository.findUserIdsByPostId(10L)).willReturn(List.of());
+
+            // when
+            postLikeService.onPostDeleted(PostActivityEvent.of(post, PostActivityType.DELETED));
+
+            // then
+            verify(totalCountService, never()).evictAfterCommit(any(String[].class));
+        }
+
+        @Test
+        @DisplayName("삭제가 아닌 활동은 무시한다")
+        void ignoresOtherActivities() {
+            // when
+            postLikeService.onPostDeleted(PostActivityEvent.of(post, PostActivityType.LIKED));
+
+            // then
+            verifyNoInteractions(postLikeRepository, totalCountService);
+        }
+    }
+}
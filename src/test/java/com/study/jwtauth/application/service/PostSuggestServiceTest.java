@@ -0,0 +1,89 @@
+package com.study.jwtauth.application.service;
+
+import com.study.jwtauth.domain.post.Post;
+import com.study.jwtauth.domain.post.PostActivityEvent;
+import com.study.jwtauth.domain.post.PostActivityType;
+import com.study.jwtauth.domain.post.PostRepository;
+import com.study.jwtauth.domain.post.PostTitleView;
+import com.study.jwtauth.infrastructure.config.SuggestProperties;
+import com.study.jwtauth.presentataion.dto.response.PostSuggestionResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("PostSuggestService 테스트")
+class PostSuggestServiceTest {
+
+    private PostRepository postRepository;
+    private PostSuggestService postSuggestService;
+
+    @BeforeEach
+    void setUp() {
+        postRepository = mock(PostRepository.class);
+        postSuggestService = new PostSuggestService(postRepository, new SuggestProperties());
+    }
+
+    private static Post post(Long id, String title) {
+        Post post = Post.create(title, "content", 1L);
+        ReflectionTestUtils.setField(post, "id", id);
+        return post;
+    }
+
+    private static PostTitleView titleView(Long id, String title) {
+        PostTitleView view = mock(PostTitleView.class);
+        given(view.getId()).willReturn(id);
+        given(view.getTitle()).willReturn(title);
+        given(view.getLikeCount()).willReturn(0);
+        given(view.getViewCount()).willReturn(0);
+        return view;
+    }
+
+    private List<Long> suggestIds(String query) {
+        return postSuggestService.suggest(query, 10).stream().map(PostSuggestionResponse::id).toList();
+    }
+
+    @Test
+    @DisplayName("재구축 중에 커밋된 작성/삭제는 새 인덱스에도 반영된다")
+    void rebuild_ReplaysChangesDuringRebuild() {
+        // given - 기존 인덱스에 있던 게시글
+        postSuggestService.onPostActivity(PostActivityEvent.of(post(2L, "spring old"), PostActivityType.CREATED));
+        PostTitleView stale = titleView(2L, "spring old");
+
+        // DB 조회 결과를 만드는 동안 다른 요청이 게시글을 작성/삭제 (조회 결과에는 반영되지 않은 상태)
+        given(postRepository.findActiveTitles(any(Pageable.class))).willAnswer(invocation -> {
+            postSuggestService.onPostActivity(PostActivityEvent.of(post(3L, "spring new"), PostActivityType.CREATED));
+            postSuggestService.onPostActivity(PostActivityEvent.of(post(2L, "spring old"), PostActivityType.DELETED));
+            return List.of(stale);
+        });
+
+        // when
+        postSuggestService.rebuild();
+
+        // then
+        assertThat(suggestIds("spring")).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("재구축이 끝난 뒤의 변경은 다시 기록하지 않고 새 인덱스에만 반영된다")
+    void rebuild_AppliesLaterChangesToNewIndex() {
+        // given
+        PostTitleView existing = titleView(1L, "jpa basics");
+        given(postRepository.findActiveTitles(any(Pageable.class))).willReturn(List.of(existing));
+        postSuggestService.rebuild();
+
+        // when
+        postSuggestService.onPostActivity(PostActivityEvent.of(post(4L, "jpa advanced"), PostActivityType.CREATED));
+
+        // then
+        assertThat(suggestIds("jpa")).containsExactlyInAnyOrder(1L, 4L);
+    }
+}
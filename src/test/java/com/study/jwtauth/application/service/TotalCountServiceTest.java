@@ -0,0 +1,193 @@
+package com.study.jwtauth.application.service;
+
+import com.study.jwtauth.application.service.TotalCountService.Total;
+import com.study.jwtauth.infrastructure.cache.CacheNames;
+import com.study.jwtauth.presentataion.dto.common.CountMode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TotalCountService 테스트")
+class TotalCountServiceTest {
+
+    private static final String KEY = "posts:active";
+
+    private Cache cache;
+    private TotalCountService totalCountService;
+    private AtomicInteger countQueries;
+    private LongSupplier exactCounter;
+
+    @BeforeEach
+    void setUp() {
+        ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager(CacheNames.PAGE_COUNTS);
+        cache = cacheManager.getCache(CacheNames.PAGE_COUNTS);
+        totalCountService = new TotalCountService(cacheManager);
+        countQueries = new AtomicInteger();
+        exactCounter = () -> {
+            countQueries.incrementAndGet();
+            return 42L;
+        };
+    }
+
+    // 다음 페이지가 있는 첫 페이지 (전체 개수를 알 수 없음)
+    private static Slice<Integer> middleSlice() {
+        return new SliceImpl<>(List.of(1, 2, 3), PageRequest.of(0, 3), true);
+    }
+
+    @Test
+    @DisplayName("마지막 페이지는 COUNT 없이 현재 페이지로 정확한 개수를 계산한다")
+    void count_LastPageWithoutQuery() {
+        // given
+        Slice<Integer> lastPage = new SliceImpl<>(List.of(7, 8), PageRequest.of(2, 3), false);
+
+        // when
+        Total total = totalCountService.count(CountMode.EXACT, lastPage, KEY, exactCounter);
+
+        // then
+        assertThat(total).isEqualTo(new Total(8, true));
+        assertThat(countQueries).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("범위를 벗어난 빈 페이지는 현재 페이지로 계산하지 않고 COUNT를 실행한다")
+    void count_OutOfRangePageQueries() {
+        // given
+        Slice<Integer> outOfRange = new SliceImpl<>(List.of(), PageRequest.of(100, 10), false);
+
+        // when
+        Total total = totalCountService.count(CountMode.EXACT, outOfRange, KEY, exactCounter);
+
+        // then
+        assertThat(total).isEqualTo(new Total(42, true));
+        assertThat(countQueries).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("EXACT는 매 요청 COUNT를 실행한다")
+    void count_ExactQueriesEveryTime() {
+        // when
+        Total first = totalCountService.count(CountMode.EXACT, middleSlice(), KEY, exactCounter);
+        Total second = totalCountService.count(CountMode.EXACT, middleSlice(), KEY, exactCounter);
+
+        // then
+        assertThat(first).isEqualTo(new Total(42, true));
+        assertThat(second).isEqualTo(new Total(42, true));
+        assertThat(countQueries).hasValue(2);
+        assertThat(cache.get(KEY)).isNull();
+    }
+
+    @Test
+    @DisplayName("CACHED는 COUNT 결과를 캐시하여 재사용한다")
+    void count_CachedQueriesOnce() {
+        // when
+        Total first = totalCountService.count(CountMode.CACHED, middleSlice(), KEY, exactCounter);
+        Total second = totalCountService.count(CountMode.CACHED, middleSlice(), KEY, exactCounter);
+
+        // then
+        assertThat(first).isEqualTo(new Total(42, true));
+        assertThat(second).isEqualTo(new Total(42, true));
+        assertThat(countQueries).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("APPROXIMATE는 카운터 값을 근사값으로 반환한다")
+    void count_ApproximateUsesCounter() {
+        // when
+        Total total = totalCountService.count(CountMode.APPROXIMATE, middleSlice(), KEY, exactCounter,
+                () -> Optional.of(40L));
+
+        // then
+        assertThat(total).isEqualTo(new Total(40, false));
+        assertThat(countQueries).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("APPROXIMATE 카운터가 없으면 CACHED로 동작한다")
+    void count_ApproximateFallsBackToCached() {
+        // when
+        Total first = totalCountService.count(CountMode.APPROXIMATE, middleSlice(), KEY, exactCounter);
+        Total second = totalCountService.count(CountMode.APPROXIMATE, middleSlice(), KEY, exactCounter,
+                Optional::empty);
+
+        // then
+        assertThat(first).isEqualTo(new Total(42, true));
+        assertThat(second).isEqualTo(new Total(42, true));
+        assertThat(countQueries).hasValue(1);
+    }
+
+    @Nested
+    @DisplayName("evictAfterCommit")
+    class EvictAfterCommit {
+
+        @BeforeEach
+        void setUp() {
+            cache.put(KEY, 42L);
+            cache.put("posts:author:1", 5L);
+        }
+
+        @AfterEach
+        void tearDown() {
+            if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.clearSynchronization();
+            }
+        }
+
+        @Test
+        @DisplayName("트랜잭션 밖이면 즉시 무효화한다")
+        void evictsImmediatelyWithoutTransaction() {
+            // when
+            totalCountService.evictAfterCommit(KEY, "posts:author:1");
+
+            // then
+            assertThat(cache.get(KEY)).isNull();
+            assertThat(cache.get("posts:author:1")).isNull();
+        }
+
+        @Test
+        @DisplayName("트랜잭션 안이면 커밋 이후에 무효화한다")
+        void evictsAfterCommit() {
+            // given
+            TransactionSynchronizationManager.initSynchronization();
+
+            // when
+            totalCountService.evictAfterCommit(KEY);
+
+            // then
+            assertThat(cache.get(KEY)).isNotNull();
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            assertThat(cache.get(KEY)).isNull();
+            assertThat(cache.get("posts:author:1")).isNotNull();
+        }
+
+        @Test
+        @DisplayName("롤백되면 무효화하지 않는다")
+        void keepsOnRollback() {
+            // given
+            TransactionSynchronizationManager.initSynchronization();
+
+            // when
+            totalCountService.evictAfterCommit(KEY);
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+            // then
+            assertThat(cache.get(KEY)).isNotNull();
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.study.jwtauth.domain.user;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * User 2차 캐시 사용 검증 (자연 키 조회, 쿼리 캐시 힌트)
+ *
+ * 조회마다 별도 트랜잭션(세션)으로 실행하여 1차 캐시가 아닌 2차 캐시 적중을 Hibernate 통계로 확인
+ * (테스트 트랜잭션 안에서 저장하면 users 테이블이 커밋 전까지 변경 중으로 표시되어 쿼리 캐시를 사용하지 않음)
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.show-sql=false"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("User 2차 캐시")
+class UserRepositoryCacheTest {
+
+    private static final String EMAIL = "cached@example.com";
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transaction;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        transaction = new TransactionTemplate(transactionManager);
+        transaction.executeWithoutResult(status ->
+                userRepository.save(User.createOidcUser(EMAIL, "cached", "google", "g-cached")));
+
+        SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        sessionFactory.getCache().evictAllRegions();
+        statistics = sessionFactory.getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        transaction.executeWithoutResult(status -> userRepository.deleteAll());
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+    }
+
+    @Test
+    @DisplayName("email 조회는 두 번째부터 자연 키 캐시와 엔티티 캐시로 DB 조회 없이 처리한다")
+    void findByEmail_UsesNaturalIdCache() {
+        // when
+        Optional<User> first = transaction.execute(status -> userRepository.findByEmail(EMAIL));
+        long lookupsAfterFirst = statistics.getNaturalIdQueryExecutionCount();
+        long loadsAfterFirst = statistics.getEntityLoadCount();
+        Optional<User> second = transaction.execute(status -> userRepository.findByEmail(EMAIL));
+
+        // then
+        assertThat(first).isPresent();
+        assertThat(second).map(User::getEmail).contains(EMAIL);
+        assertThat(lookupsAfterFirst).isEqualTo(1);
+        assertThat(statistics.getNaturalIdQueryExecutionCount()).isEqualTo(lookupsAfterFirst);
+        assertThat(statistics.getNaturalIdCacheHitCount()).isPositive();
+        assertThat(statistics.getEntityLoadCount()).isEqualTo(loadsAfterFirst);
+    }
+
+    @Test
+    @DisplayName("없는 email은 빈 결과를 반환한다")
+    void findByEmail_Missing() {
+        // when
+        Optional<User> user = transaction.execute(status -> userRepository.findByEmail("missing@example.com"));
+
+        // then
+        assertThat(user).isEmpty();
+    }
+
+    @Test
+    @DisplayName("providers fetch join 조회는 쿼리 캐시 힌트로 두 번째부터 쿼리를 실행하지 않는다")
+    void findByEmailWithProvider_UsesQueryCache() {
+        // when
+        transaction.execute(status -> userRepository.findByEmailWithProvider(EMAIL));
+        long queriesAfterFirst = statistics.getQueryExecutionCount();
+        Optional<User> second = transaction.execute(status -> userRepository.findByEmailWithProvider(EMAIL));
+
+        // then
+        assertThat(second).isPresent();
+        assertThat(statistics.getQueryCacheHitCount()).isEqualTo(1);
+        assertThat(statistics.getQueryExecutionCount()).isEqualTo(queriesAfterFirst);
+        assertThat(statistics.getCacheRegionStatistics(UserCacheRegions.USER_QUERIES).getHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("provider 조회 결과는 users 변경이 커밋되면 다시 쿼리한다")
+    void findByProviderAndProviderId_InvalidatedByUpdate() {
+        // given
+        transaction.execute(status -> userRepository.findByProviderAndProviderId("google", "g-cached"));
+        transaction.executeWithoutResult(status -> userRepository.findByEmail(EMAIL)
+                .ifPresent(user -> user.updateOidcInfo("renamed")));
+        long queriesBefore = statistics.getQueryExecutionCount();
+
+        // when
+        Optional<User> user = transaction.execute(status ->
+                userRepository.findByProviderAndProviderId("google", "g-cached"));
+
+        // then
+        assertThat(user).map(User::getNickname).contains("renamed");
+        assertThat(statistics.getQueryExecutionCount()).isEqualTo(queriesBefore + 1);
+    }
+}
@@ -0,0 +1,208 @@
+package com.study.jwtauth.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 2단계 캐시 동작 검증
+ *
+ * 두 노드(nodeA, nodeB)가 L2(ConcurrentMapCache)를 공유하고 L1(Caffeine)은 각자 보관
+ * 무효화 메시지 수신은 invalidateLocal 호출로 대신함
+ */
+@DisplayName("TwoLevelCache 단위 테스트")
+class TwoLevelCacheTest {
+
+    private static final String NAME = "comment";
+
+    private Cache remote;
+    private CacheInvalidationBus invalidationBus;
+    private TwoLevelCache nodeA;
+    private TwoLevelCache nodeB;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        remote = new ConcurrentMapCache(NAME);
+        invalidationBus = mock(CacheInvalidationBus.class);
+        nodeA = newNode();
+        nodeB = newNode();
+        loads = new AtomicInteger();
+    }
+
+    private TwoLevelCache newNode() {
+        return new TwoLevelCache(NAME, Caffeine.newBuilder().maximumSize(100).build(), remote, invalidationBus);
+    }
+
+    private String load(String value) {
+        loads.incrementAndGet();
+        return value;
+    }
+
+    @Nested
+    @DisplayName("조회")
+    class ReadThrough {
+
+        @Test
+        @DisplayName("미스는 원본을 한 번 로드해 L1/L2에 채우고 무효화 메시지를 발행하지 않는다")
+        void missLoadsOnceWithoutBroadcast() {
+            // when
+            String first = nodeA.get(1L, () -> load("v1"));
+            String second = nodeA.get(1L, () -> load("v2"));
+
+            // then
+            assertThat(first).isEqualTo("v1");
+            assertThat(second).isEqualTo("v1");
+            assertThat(loads).hasValue(1);
+            assertThat(remote.get("1")).isNotNull();
+            assertThat(nodeA.stats().misses()).isEqualTo(1);
+            assertThat(nodeA.stats().localHits()).isEqualTo(1);
+            verify(invalidationBus, never()).publish(anyString(), any());
+        }
+
+        @Test
+        @DisplayName("다른 노드가 L2에 채운 값은 원본 로드 없이 L1에 채운다")
+        void remoteHitFillsLocal() {
+            // given
+            nodeA.get(1L, () -> load("v1"));
+
+            // when
+            String fromRemote = nodeB.get(1L, () -> load("other"));
+            Cache.ValueWrapper fromLocal = nodeB.get(1L);
+
+            // then
+            assertThat(fromRemote).isEqualTo("v1");
+            assertThat(fromLocal).isNotNull();
+            assertThat(fromLocal.get()).isEqualTo("v1");
+            assertThat(loads).hasValue(1);
+            assertThat(nodeB.stats().remoteHits()).isEqualTo(1);
+            assertThat(nodeB.stats().localHits()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("L1/L2에 없으면 get(key)는 null을 반환한다")
+        void missWithoutLoaderReturnsNull() {
+            // when & then
+            assertThat(nodeA.get(1L)).isNull();
+            assertThat(nodeA.stats().misses()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("원본 로드 실패는 캐시하지 않고 ValueRetrievalException으로 전달한다")
+        void loaderFailureIsNotCached() {
+            // when & then
+            assertThatThrownBy(() -> nodeA.get(1L, () -> {
+                throw new IllegalStateException("boom");
+            })).isInstanceOf(Cache.ValueRetrievalException.class).hasCauseInstanceOf(IllegalStateException.class);
+            assertThat(nodeA.get(1L, () -> load("v1"))).isEqualTo("v1");
+        }
+    }
+
+    @Nested
+    @DisplayName("변경")
+    class Writes {
+
+        @Test
+        @DisplayName("put은 L1/L2를 바꾸고 다른 노드에 무효화 메시지를 발행한다")
+        void putBroadcasts() {
+            // when
+            nodeA.put(1L, "v1");
+
+            // then
+            assertThat(nodeA.get(1L).get()).isEqualTo("v1");
+            assertThat(remote.get("1").get()).isEqualTo("v1");
+            verify(invalidationBus).publish(NAME, "1");
+        }
+
+        @Test
+        @DisplayName("다른 노드의 변경 메시지를 받으면 L1만 비우고 L2의 새 값을 읽는다")
+        void remoteInvalidationRefreshesFromL2() {
+            // given - 두 노드의 L1에 같은 값
+            nodeA.get(1L, () -> load("v1"));
+            nodeB.get(1L, () -> load("v1"));
+
+            // when - nodeA의 변경, nodeB는 무효화 메시지 수신
+            nodeA.put(1L, "v2");
+            nodeB.invalidateLocal("1");
+
+            // then
+            assertThat(nodeB.get(1L).get()).isEqualTo("v2");
+            assertThat(nodeB.stats().remoteHits()).isEqualTo(2);
+            assertThat(loads).hasValue(1);
+        }
+
+        @Test
+        @DisplayName("evict는 L1/L2에서 제거하고 무효화 메시지를 발행한다")
+        void evictBroadcasts() {
+            // given
+            nodeA.get(1L, () -> load("v1"));
+
+            // when
+            nodeA.evict(1L);
+
+            // then
+            assertThat(remote.get("1")).isNull();
+            assertThat(nodeA.get(1L)).isNull();
+            verify(invalidationBus).publish(NAME, "1");
+        }
+
+        @Test
+        @DisplayName("null 저장은 제거로 처리한다")
+        void putNullEvicts() {
+            // given
+            nodeA.put(1L, "v1");
+
+            // when
+            nodeA.put(1L, null);
+
+            // then
+            assertThat(nodeA.get(1L)).isNull();
+            assertThat(remote.get("1")).isNull();
+        }
+
+        @Test
+        @DisplayName("clear는 L1/L2 전체를 비우고 key 없는 무효화 메시지를 발행한다")
+        void clearBroadcastsAll() {
+            // given
+            nodeA.get(1L, () -> load("v1"));
+            nodeA.get(2L, () -> load("v2"));
+
+            // when
+            nodeA.clear();
+
+            // then
+            assertThat(nodeA.get(1L)).isNull();
+            assertThat(nodeA.get(2L)).isNull();
+            assertThat(remote.get("1")).isNull();
+            verify(invalidationBus).publish(NAME, null);
+        }
+
+        @Test
+        @DisplayName("key 없는 무효화 메시지를 받으면 L1 전체를 비운다")
+        void remoteClearInvalidatesAllLocal() {
+            // given
+            nodeB.get(1L, () -> load("v1"));
+            remote.clear();
+
+            // when
+            nodeB.invalidateLocal(null);
+
+            // then
+            assertThat(nodeB.get(1L)).isNull();
+        }
+    }
+}
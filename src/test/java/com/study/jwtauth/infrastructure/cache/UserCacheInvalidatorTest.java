@@ -0,0 +1,167 @@
+package com.study.jwtauth.infrastructure.cache;
+
+import com.study.jwtauth.domain.post.Post;
+import com.study.jwtauth.domain.user.User;
+import com.study.jwtauth.domain.user.UserCacheRegions;
+import com.study.jwtauth.domain.user.UserProvider;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.cache.spi.CacheImplementor;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.service.spi.ServiceRegistryImplementor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("UserCacheInvalidator 단위 테스트")
+class UserCacheInvalidatorTest {
+
+    private static final String PROVIDERS_ROLE = User.class.getName() + ".providers";
+
+    private CacheImplementor cache;
+    private CacheInvalidationBus invalidationBus;
+    private EventListenerRegistry listenerRegistry;
+    private UserCacheInvalidator invalidator;
+    private Consumer<String> remoteHandler;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        EntityManagerFactory entityManagerFactory = mock(EntityManagerFactory.class);
+        SessionFactoryImplementor sessionFactory = mock(SessionFactoryImplementor.class);
+        ServiceRegistryImplementor serviceRegistry = mock(ServiceRegistryImplementor.class);
+        cache = mock(CacheImplementor.class);
+        invalidationBus = mock(CacheInvalidationBus.class);
+        listenerRegistry = mock(EventListenerRegistry.class);
+        given(entityManagerFactory.unwrap(SessionFactoryImplementor.class)).willReturn(sessionFactory);
+        given(sessionFactory.getCache()).willReturn(cache);
+        given(sessionFactory.getServiceRegistry()).willReturn(serviceRegistry);
+        given(serviceRegistry.getService(EventListenerRegistry.class)).willReturn(listenerRegistry);
+
+        invalidator = new UserCacheInvalidator(entityManagerFactory, invalidationBus);
+
+        ArgumentCaptor<Consumer<String>> handler = ArgumentCaptor.forClass(Consumer.class);
+        verify(invalidationBus).subscribe(eq(UserCacheInvalidator.CACHE_NAME), handler.capture());
+        remoteHandler = handler.getValue();
+    }
+
+    private static User user(Long id) {
+        User user = User.createOidcUser("user" + id + "@example.com", "user" + id, "google", "g-" + id);
+        ReflectionTestUtils.setField(user, "id", id);
+        return user;
+    }
+
+    @Test
+    @DisplayName("커밋 이후 이벤트 리스너로 등록한다")
+    void registersPostCommitListeners() {
+        verify(listenerRegistry).appendListeners(EventType.POST_COMMIT_INSERT, invalidator);
+        verify(listenerRegistry).appendListeners(EventType.POST_COMMIT_UPDATE, invalidator);
+        verify(listenerRegistry).appendListeners(EventType.POST_COMMIT_DELETE, invalidator);
+    }
+
+    @Test
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    @DisplayName("User Aggregate 엔티티만 커밋 이후 처리 대상이다")
+    void requiresPostCommitHandling_OnlyUserAggregate() {
+        // given
+        EntityPersister userPersister = mock(EntityPersister.class);
+        EntityPersister providerPersister = mock(EntityPersister.class);
+        EntityPersister postPersister = mock(EntityPersister.class);
+        given(userPersister.getMappedClass()).willReturn((Class) User.class);
+        given(providerPersister.getMappedClass()).willReturn((Class) UserProvider.class);
+        given(postPersister.getMappedClass()).willReturn((Class) Post.class);
+
+        // when & then
+        assertThat(invalidator.requiresPostCommitHandling(userPersister)).isTrue();
+        assertThat(invalidator.requiresPostCommitHandling(providerPersister)).isTrue();
+        assertThat(invalidator.requiresPostCommitHandling(postPersister)).isFalse();
+    }
+
+    @Test
+    @DisplayName("User 변경은 사용자 ID로 무효화 메시지를 발행한다")
+    void publishesUserId() {
+        // given
+        PostUpdateEvent event = mock(PostUpdateEvent.class);
+        given(event.getEntity()).willReturn(user(7L));
+
+        // when
+        invalidator.onPostUpdate(event);
+
+        // then
+        verify(invalidationBus).publish(UserCacheInvalidator.CACHE_NAME, "7");
+    }
+
+    @Test
+    @DisplayName("UserProvider 변경은 소유 사용자 ID로 무효화 메시지를 발행한다")
+    void publishesOwnerIdOfProvider() {
+        // given
+        UserProvider provider = user(8L).getProviders().iterator().next();
+        PostInsertEvent event = mock(PostInsertEvent.class);
+        given(event.getEntity()).willReturn(provider);
+
+        // when
+        invalidator.onPostInsert(event);
+
+        // then
+        verify(invalidationBus).publish(UserCacheInvalidator.CACHE_NAME, "8");
+    }
+
+    @Test
+    @DisplayName("롤백된 변경은 발행하지 않는다")
+    void ignoresCommitFailure() {
+        // given
+        PostDeleteEvent event = mock(PostDeleteEvent.class);
+        given(event.getEntity()).willReturn(user(9L));
+
+        // when
+        invalidator.onPostDeleteCommitFailed(event);
+
+        // then
+        verify(invalidationBus, never()).publish(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("다른 노드의 변경은 해당 사용자와 자연 키, 쿼리 캐시 영역을 제거한다")
+    void remoteInvalidation_EvictsUser() {
+        // when
+        remoteHandler.accept("7");
+
+        // then
+        verify(cache).evictEntityData(User.class, 7L);
+        verify(cache).evictCollectionData(PROVIDERS_ROLE, 7L);
+        verify(cache).evictNaturalIdData(User.class);
+        verify(cache).evictQueryRegion(UserCacheRegions.USER_QUERIES);
+        verify(cache, never()).evictEntityData(User.class);
+    }
+
+    @Test
+    @DisplayName("key가 없는 메시지는 User Aggregate 영역 전체를 제거한다")
+    void remoteInvalidation_EvictsAll() {
+        // when
+        remoteHandler.accept(null);
+
+        // then
+        verify(cache).evictEntityData(User.class);
+        verify(cache).evictEntityData(UserProvider.class);
+        verify(cache).evictCollectionData(PROVIDERS_ROLE);
+        verify(cache).evictNaturalIdData(User.class);
+        verify(cache).evictQueryRegion(UserCacheRegions.USER_QUERIES);
+    }
+}
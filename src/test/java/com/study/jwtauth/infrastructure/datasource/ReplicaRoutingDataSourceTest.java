@@ -0,0 +1,95 @@
+package com.study.jwtauth.infrastructure.datasource;
+
+import com.study.jwtauth.infrastructure.config.DataSourceRoutingConfig;
+import com.study.jwtauth.infrastructure.config.DataSourceRoutingProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.show-sql=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("routing")
+@Import(DataSourceRoutingConfig.class)
+@EnableConfigurationProperties(DataSourceRoutingProperties.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("ReplicaRoutingDataSource 테스트")
+class ReplicaRoutingDataSourceTest {
+
+    private static final String PRIMARY = "PRIMARY";
+    private static final String REPLICA = "REPLICA";
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ReplicaDataSources replicaDataSources;
+
+    @AfterEach
+    void tearDown() {
+        RoutingContext.clear();
+        replicaDataSources.checkReplicas();
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 복제본으로 보낸다")
+    void readOnlyTransactionGoesToReplica() {
+        assertThat(databaseIn(true)).isEqualTo(REPLICA);
+    }
+
+    @Test
+    @DisplayName("쓰기 트랜잭션은 주 DB로 보낸다")
+    void readWriteTransactionGoesToPrimary() {
+        assertThat(databaseIn(false)).isEqualTo(PRIMARY);
+    }
+
+    @Test
+    @DisplayName("주 DB로 고정된 요청은 읽기 전용 트랜잭션도 주 DB로 보낸다")
+    void pinnedRequestGoesToPrimary() {
+        RoutingContext.pinToPrimary();
+
+        assertThat(databaseIn(true)).isEqualTo(PRIMARY);
+    }
+
+    @Test
+    @DisplayName("정상 복제본이 없으면 주 DB로 대체하고, 상태 확인 후 복제본으로 복귀한다")
+    void fallsBackToPrimaryWhileReplicaIsDown() {
+        replicaDataSources.markDown("replica-0", new SQLException("test"));
+
+        assertThat(databaseIn(true)).isEqualTo(PRIMARY);
+
+        replicaDataSources.checkReplicas();
+
+        assertThat(replicaDataSources.healthyReplicas()).containsExactly("replica-0");
+        assertThat(databaseIn(true)).isEqualTo(REPLICA);
+    }
+
+    // 트랜잭션 안에서 실제로 연결된 H2 데이터베이스 이름
+    private String databaseIn(boolean readOnly) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(readOnly);
+        return transactionTemplate.execute(status ->
+                new JdbcTemplate(dataSource).queryForObject("SELECT DATABASE()", String.class));
+    }
+}
@@ -0,0 +1,100 @@
+package com.study.jwtauth.infrastructure.datasource;
+
+import com.study.jwtauth.infrastructure.config.SlowQueryProperties;
+import com.study.jwtauth.infrastructure.datasource.SqlStatementStats.Snapshot;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SqlStatementStats 단위 테스트")
+class SqlStatementStatsTest {
+
+    private static final long MILLI = 1_000_000L;
+
+    private SlowQueryProperties properties;
+    private SqlStatementStats stats;
+
+    @BeforeEach
+    void setUp() {
+        properties = new SlowQueryProperties();
+        properties.setThreshold(Duration.ofMillis(100));
+        properties.setMaxStatements(3);
+        stats = new SqlStatementStats(properties);
+    }
+
+    @Test
+    @DisplayName("리터럴과 IN 목록을 ?로 바꾸고 공백을 정리한다")
+    void normalize_RedactsLiterals() {
+        // when
+        String shape = SqlStatementStats.normalize(
+                "select *\n  from users where email = 'a@b.com' and id in (1, 2,3) and age > 20 and name = 'O''Neil'",
+                2000);
+
+        // then
+        assertThat(shape).isEqualTo("select * from users where email = ? and id in (?...) and age > ? and name = ?");
+        assertThat(shape).doesNotContain("a@b.com", "Neil", "20");
+    }
+
+    @Test
+    @DisplayName("긴 SQL은 최대 길이로 자른다")
+    void normalize_Truncates() {
+        // when
+        String shape = SqlStatementStats.normalize("select a, b, c from t", 8);
+
+        // then
+        assertThat(shape).isEqualTo("select a...");
+    }
+
+    @Test
+    @DisplayName("같은 형태의 문장을 하나로 집계하고 기준 이상 걸린 횟수를 센다")
+    void afterExecute_AggregatesByShape() {
+        // when
+        stats.afterExecute("select * from posts where id = ?", 10 * MILLI);
+        stats.afterExecute("select * from posts where id = ?", 150 * MILLI);
+        stats.afterExecute("select * from users where id = 1", 5 * MILLI);
+        stats.afterExecute("select * from users where id = 2", 5 * MILLI);
+
+        // then
+        List<Snapshot> top = stats.top(10);
+        assertThat(top).hasSize(2);
+        assertThat(top.get(0)).isEqualTo(new Snapshot("select * from posts where id = ?", 2, 160 * MILLI, 150 * MILLI, 1));
+        assertThat(top.get(1)).isEqualTo(new Snapshot("select * from users where id = ?", 2, 10 * MILLI, 5 * MILLI, 0));
+    }
+
+    @Test
+    @DisplayName("보관 한도를 넘는 문장 형태는 (other)로 합산한다")
+    void afterExecute_OverflowsToOther() {
+        // when
+        stats.afterExecute("select a from t", MILLI);
+        stats.afterExecute("select b from t", MILLI);
+        stats.afterExecute("select c from t", MILLI);
+        stats.afterExecute("select d from t", MILLI);
+        stats.afterExecute("select e from t", MILLI);
+
+        // then
+        assertThat(stats.top(10))
+                .hasSize(4)
+                .filteredOn(snapshot -> snapshot.sql().equals(SqlStatementStats.OTHER))
+                .singleElement()
+                .extracting(Snapshot::count)
+                .isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("초기화하면 집계가 비워진다")
+    void reset_ClearsAggregates() {
+        // given
+        stats.afterExecute("select 1", MILLI);
+
+        // when
+        stats.reset();
+
+        // then
+        assertThat(stats.top(10)).isEmpty();
+    }
+}
@@ -0,0 +1,78 @@
+package com.study.jwtauth.infrastructure.health;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("CachedHealthIndicator 단위 테스트")
+class CachedHealthIndicatorTest {
+
+    @Test
+    @DisplayName("ttl 동안에는 이전 확인 결과를 재사용한다")
+    void health_ReusesResultWithinTtl() {
+        // given
+        CountingIndicator indicator = new CountingIndicator(Duration.ofMinutes(1), false);
+
+        // when
+        indicator.health();
+        Health health = indicator.health();
+
+        // then
+        assertThat(health.getStatus()).isEqualTo(Status.UP);
+        assertThat(indicator.checks.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("ttl이 지나면 다시 확인한다")
+    void health_RechecksAfterTtl() {
+        // given
+        CountingIndicator indicator = new CountingIndicator(Duration.ZERO, false);
+
+        // when
+        indicator.health();
+        indicator.health();
+
+        // then
+        assertThat(indicator.checks.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("확인 중 예외가 발생하면 DOWN이다")
+    void health_DownOnException() {
+        // given
+        CountingIndicator indicator = new CountingIndicator(Duration.ofMinutes(1), true);
+
+        // when
+        Health health = indicator.health();
+
+        // then
+        assertThat(health.getStatus()).isEqualTo(Status.DOWN);
+        assertThat(health.getDetails()).containsKey("error");
+    }
+
+    private static class CountingIndicator extends CachedHealthIndicator {
+
+        private final AtomicInteger checks = new AtomicInteger();
+        private final boolean failing;
+
+        CountingIndicator(Duration ttl, boolean failing) {
+            super(ttl);
+            this.failing = failing;
+        }
+
+        @Override
+        protected void check(Health.Builder builder) {
+            checks.incrementAndGet();
+            if (failing) {
+                throw new IllegalStateException("connection refused");
+            }
+            builder.up();
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.study.jwtauth.infrastructure.health;
+
+import com.study.jwtauth.infrastructure.config.HealthCheckProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("DatabaseReadinessIndicator 단위 테스트")
+class DatabaseReadinessIndicatorTest {
+
+    @Test
+    @DisplayName("유효한 커넥션을 얻으면 UP이다")
+    void health_UpWhenConnectionValid() throws Exception {
+        // given
+        Connection connection = mock(Connection.class);
+        given(connection.isValid(anyInt())).willReturn(true);
+        DataSource dataSource = mock(DataSource.class);
+        given(dataSource.getConnection()).willReturn(connection);
+        DatabaseReadinessIndicator indicator = new DatabaseReadinessIndicator(dataSource, properties());
+
+        // when
+        Health health = indicator.health();
+
+        // then
+        assertThat(health.getStatus()).isEqualTo(Status.UP);
+    }
+
+    @Test
+    @DisplayName("커넥션 획득이 막히면 풀의 대기 시간이 아닌 설정한 시간 안에 DOWN으로 응답한다")
+    void health_DownWithinTimeoutWhenAcquisitionBlocks() throws Exception {
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+        DataSource dataSource = mock(DataSource.class);
+        given(dataSource.getConnection()).willAnswer(invocation -> {
+            release.await();
+            return mock(Connection.class);
+        });
+        DatabaseReadinessIndicator indicator = new DatabaseReadinessIndicator(dataSource, properties());
+
+        // when
+        long start = System.nanoTime();
+        Health health = indicator.health();
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        release.countDown();
+
+        // then
+        assertThat(health.getStatus()).isEqualTo(Status.DOWN);
+        assertThat(health.getDetails()).containsKey("reason");
+        assertThat(elapsedMillis).isLessThan(5_000);
+        indicator.shutdown();
+    }
+
+    private static HealthCheckProperties properties() {
+        HealthCheckProperties properties = new HealthCheckProperties();
+        properties.setCacheTtl(Duration.ZERO);
+        properties.setTimeout(Duration.ofMillis(200));
+        return properties;
+    }
+}
@@ -0,0 +1,73 @@
+package com.study.jwtauth.infrastructure.health;
+
+import com.study.jwtauth.infrastructure.config.HealthCheckProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("RedisReadinessIndicator 단위 테스트")
+class RedisReadinessIndicatorTest {
+
+    @Test
+    @DisplayName("PING에 응답하면 UP이다")
+    void health_UpWhenPingAnswered() {
+        // given
+        RedisConnection connection = mock(RedisConnection.class);
+        given(connection.ping()).willReturn("PONG");
+        RedisConnectionFactory connectionFactory = mock(RedisConnectionFactory.class);
+        given(connectionFactory.getConnection()).willReturn(connection);
+        RedisReadinessIndicator indicator = new RedisReadinessIndicator(connectionFactory, properties());
+
+        // when
+        Health health = indicator.health();
+
+        // then
+        assertThat(health.getStatus()).isEqualTo(Status.UP);
+        assertThat(health.getDetails()).containsEntry("ping", "PONG");
+        indicator.shutdown();
+    }
+
+    @Test
+    @DisplayName("PING이 막히면 명령 시간 제한이 아닌 설정한 시간 안에 DOWN으로 응답한다")
+    void health_DownWithinTimeoutWhenPingBlocks() {
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+        RedisConnection connection = mock(RedisConnection.class);
+        given(connection.ping()).willAnswer(invocation -> {
+            release.await();
+            return "PONG";
+        });
+        RedisConnectionFactory connectionFactory = mock(RedisConnectionFactory.class);
+        given(connectionFactory.getConnection()).willReturn(connection);
+        RedisReadinessIndicator indicator = new RedisReadinessIndicator(connectionFactory, properties());
+
+        // when
+        long start = System.nanoTime();
+        Health health = indicator.health();
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        release.countDown();
+
+        // then
+        assertThat(health.getStatus()).isEqualTo(Status.DOWN);
+        assertThat(health.getDetails()).containsKey("reason");
+        assertThat(elapsedMillis).isLessThan(5_000);
+        indicator.shutdown();
+    }
+
+    private static HealthCheckProperties properties() {
+        HealthCheckProperties properties = new HealthCheckProperties();
+        properties.setCacheTtl(Duration.ZERO);
+        properties.setTimeout(Duration.ofMillis(200));
+        return properties;
+    }
+}
@@ -0,0 +1,61 @@
+package com.study.jwtauth.infrastructure.logging;
+
+import com.study.jwtauth.infrastructure.config.AccessLogProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("AccessLogSampler 단위 테스트")
+class AccessLogSamplerTest {
+
+    private static AccessLogSampler sampler(double sampleRate) {
+        AccessLogProperties properties = new AccessLogProperties();
+        properties.setSampleRate(sampleRate);
+        properties.setSlowThreshold(Duration.ofMillis(500));
+        return new AccessLogSampler(properties);
+    }
+
+    @Test
+    @DisplayName("에러, 예외, 느린 요청은 샘플링 비율과 무관하게 기록한다")
+    void alwaysLogsErrorsAndSlowRequests() {
+        AccessLogSampler sampler = sampler(0.0);
+
+        assertThat(sampler.shouldLog("req", 200, 10, false)).isFalse();
+        assertThat(sampler.shouldLog("req", 404, 10, false)).isTrue();
+        assertThat(sampler.shouldLog("req", 500, 10, false)).isTrue();
+        assertThat(sampler.shouldLog("req", 200, 10, true)).isTrue();
+        assertThat(sampler.shouldLog("req", 200, 500, false)).isTrue();
+    }
+
+    @Test
+    @DisplayName("같은 requestId는 항상 같은 샘플링 결과를 낸다")
+    void samplingIsDeterministicPerRequestId() {
+        AccessLogSampler sampler = sampler(0.5);
+
+        for (int i = 0; i < 100; i++) {
+            String requestId = UUID.randomUUID().toString();
+            boolean first = sampler.isSampled(requestId);
+            assertThat(sampler.isSampled(requestId)).isEqualTo(first);
+        }
+    }
+
+    @Test
+    @DisplayName("정상 요청은 설정한 비율에 가깝게 기록된다")
+    void sampledFractionFollowsRate() {
+        AccessLogSampler sampler = sampler(0.1);
+
+        int sampled = 0;
+        int total = 20_000;
+        for (int i = 0; i < total; i++) {
+            if (sampler.isSampled(UUID.randomUUID().toString())) {
+                sampled++;
+            }
+        }
+
+        assertThat(sampled / (double) total).isBetween(0.08, 0.12);
+    }
+}
@@ -0,0 +1,104 @@
+package com.study.jwtauth.infrastructure.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.core.AppenderBase;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("BoundedAsyncAppender 단위 테스트")
+class BoundedAsyncAppenderTest {
+
+    private final LoggerContext context = new LoggerContext();
+    private final BlockingAppender downstream = new BlockingAppender();
+    private final BoundedAsyncAppender appender = new BoundedAsyncAppender();
+
+    @BeforeEach
+    void setUp() {
+        downstream.setContext(context);
+        downstream.start();
+
+        appender.setContext(context);
+        appender.setName("TEST_ASYNC");
+        appender.setQueueSize(4);
+        appender.setDiscardingThreshold(2);
+        appender.addAppender(downstream);
+        appender.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        downstream.release.countDown();
+        appender.stop();
+    }
+
+    @Test
+    @DisplayName("큐 여유 공간이 임계값 이하이면 INFO는 버리고 WARN/ERROR는 보관한다")
+    void discardsInfoButKeepsWarnAndError() throws InterruptedException {
+        // given - 첫 이벤트를 기록 중인 상태로 하위 Appender를 멈춤 (큐는 비어 있음)
+        appender.doAppend(event(Level.INFO, "blocking"));
+        assertThat(downstream.entered.await(1, TimeUnit.SECONDS)).isTrue();
+
+        // when - 여유 공간 4 → 2까지 INFO 보관, 이후 INFO는 버림, WARN/ERROR는 남은 공간 사용
+        appender.doAppend(event(Level.INFO, "info-1"));
+        appender.doAppend(event(Level.INFO, "info-2"));
+        appender.doAppend(event(Level.INFO, "info-dropped"));
+        appender.doAppend(event(Level.WARN, "warn"));
+        appender.doAppend(event(Level.ERROR, "error"));
+
+        // then
+        BoundedAsyncAppender.Stats stats = appender.stats();
+        assertThat(stats.depth()).isEqualTo(4);
+        assertThat(stats.dropped()).isEqualTo(1);
+
+        downstream.release.countDown();
+        appender.stop();
+        assertThat(downstream.messages)
+                .containsExactly("blocking", "info-1", "info-2", "warn", "error");
+    }
+
+    @Test
+    @DisplayName("시작한 Appender는 상태 조회 목록에 등록되고 종료하면 제거된다")
+    void registersWhileStarted() {
+        assertThat(BoundedAsyncAppender.registered()).contains(appender);
+
+        downstream.release.countDown();
+        appender.stop();
+
+        assertThat(BoundedAsyncAppender.registered()).doesNotContain(appender);
+    }
+
+    private LoggingEvent event(Level level, String message) {
+        return new LoggingEvent(getClass().getName(), context.getLogger("test"), level, message, null, null);
+    }
+
+    // 첫 이벤트에서 release될 때까지 대기하는 하위 Appender
+    private static class BlockingAppender extends AppenderBase<ILoggingEvent> {
+
+        private final CountDownLatch entered = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+        private final List<String> messages = new CopyOnWriteArrayList<>();
+
+        @Override
+        protected void append(ILoggingEvent event) {
+            entered.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            messages.add(event.getFormattedMessage());
+        }
+    }
+}
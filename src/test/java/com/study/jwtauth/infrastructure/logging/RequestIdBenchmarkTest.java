@@ -0,0 +1,81 @@
+package com.study.jwtauth.infrastructure.logging;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 요청 ID 생성 성능 비교 (RequestIdGenerator vs UUID.randomUUID())
+ *
+ * 64개 스레드가 동시에 생성할 때의 처리량을 출력
+ * 기본 test 태스크에서는 제외 - ./gradlew benchmark 로 실행
+ */
+@Tag("benchmark")
+@DisplayName("요청 ID 생성 성능 비교")
+class RequestIdBenchmarkTest {
+
+    private static final int THREADS = 64;
+    private static final int WARMUP_PER_THREAD = 20_000;
+    private static final int MEASURE_PER_THREAD = 200_000;
+
+    @Test
+    @DisplayName("64 스레드 동시 생성 처리량")
+    void concurrentThroughput() throws Exception {
+        Supplier<String> ulid = RequestIdGenerator::next;
+        Supplier<String> uuid = () -> UUID.randomUUID().toString();
+
+        run(ulid, WARMUP_PER_THREAD);
+        run(uuid, WARMUP_PER_THREAD);
+
+        long ulidNanos = run(ulid, MEASURE_PER_THREAD);
+        long uuidNanos = run(uuid, MEASURE_PER_THREAD);
+
+        long total = (long) THREADS * MEASURE_PER_THREAD;
+        System.out.printf("RequestIdGenerator : %,d ids/s (%,d ms)%n", total * 1_000_000_000L / ulidNanos, ulidNanos / 1_000_000);
+        System.out.printf("UUID.randomUUID()  : %,d ids/s (%,d ms)%n", total * 1_000_000_000L / uuidNanos, uuidNanos / 1_000_000);
+
+        assertThat(ulidNanos).isPositive();
+    }
+
+    // 모든 스레드가 동시에 시작하도록 맞춘 뒤 전체 소요 시간(ns) 반환
+    private long run(Supplier<String> generator, int perThread) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            CountDownLatch ready = new CountDownLatch(THREADS);
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<Integer>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                futures.add(executor.submit(() -> {
+                    ready.countDown();
+                    start.await();
+                    int sink = 0;
+                    for (int i = 0; i < perThread; i++) {
+                        sink += generator.get().length();
+                    }
+                    return sink;
+                }));
+            }
+
+            ready.await();
+            long begin = System.nanoTime();
+            start.countDown();
+            for (Future<Integer> future : futures) {
+                future.get();
+            }
+            return System.nanoTime() - begin;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
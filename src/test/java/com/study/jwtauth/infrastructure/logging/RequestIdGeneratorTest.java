@@ -0,0 +1,54 @@
+package com.study.jwtauth.infrastructure.logging;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("RequestIdGenerator 단위 테스트")
+class RequestIdGeneratorTest {
+
+    @Test
+    @DisplayName("ULID 형식(26자 Crockford Base32)으로 인코딩한다")
+    void encodesUlid() {
+        assertThat(RequestIdGenerator.encode(0L, 0L, 0L)).isEqualTo("00000000000000000000000000");
+        assertThat(RequestIdGenerator.encode((1L << 48) - 1, 0xFFFFL, -1L)).isEqualTo("7ZZZZZZZZZZZZZZZZZZZZZZZZZ");
+        assertThat(RequestIdGenerator.encode(1L, 0L, 1L)).isEqualTo("00000000010000000000000001");
+    }
+
+    @Test
+    @DisplayName("생성 시각이 늦은 ID가 문자열 순서로도 뒤에 온다")
+    void timeOrdered() {
+        String earlier = RequestIdGenerator.encode(1_700_000_000_000L, 0xFFFFL, -1L);
+        String later = RequestIdGenerator.encode(1_700_000_000_001L, 0L, 0L);
+
+        assertThat(earlier).isLessThan(later);
+    }
+
+    @Test
+    @DisplayName("연속 생성한 ID는 중복되지 않는다")
+    void unique() {
+        Set<String> ids = new HashSet<>();
+        for (int i = 0; i < 100_000; i++) {
+            ids.add(RequestIdGenerator.next());
+        }
+
+        assertThat(ids).hasSize(100_000);
+        assertThat(ids).allSatisfy(id -> assertThat(RequestIdGenerator.isValid(id)).isTrue());
+    }
+
+    @Test
+    @DisplayName("상위 요청 ID는 허용 문자와 길이만 통과한다")
+    void validatesIncoming() {
+        assertThat(RequestIdGenerator.isValid("3f2b1c9e-8a7d-4e6f-9b0a-1c2d3e4f5a6b")).isTrue();
+        assertThat(RequestIdGenerator.isValid("Root=1-67891233-abcdef012345678912345678")).isFalse();
+        assertThat(RequestIdGenerator.isValid("lb.trace_01:abc")).isTrue();
+        assertThat(RequestIdGenerator.isValid("")).isFalse();
+        assertThat(RequestIdGenerator.isValid("a b")).isFalse();
+        assertThat(RequestIdGenerator.isValid("abc\ninjected")).isFalse();
+        assertThat(RequestIdGenerator.isValid("a".repeat(65))).isFalse();
+    }
+}
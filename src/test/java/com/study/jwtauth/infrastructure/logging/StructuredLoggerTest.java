@@ -0,0 +1,95 @@
+package com.study.jwtauth.infrastructure.logging;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.study.jwtauth.infrastructure.metrics.RequestResourceUsage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.slf4j.event.KeyValuePair;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("StructuredLogger 단위 테스트")
+class StructuredLoggerTest {
+
+    private final LoggerContext context = new LoggerContext();
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+    private Logger logger;
+
+    @BeforeEach
+    void setUp() {
+        appender.setContext(context);
+        appender.start();
+        logger = context.getLogger("TEST_LOGGER");
+        logger.addAppender(appender);
+    }
+
+    @AfterEach
+    void tearDown() {
+        MDC.clear();
+        context.stop();
+    }
+
+    @Test
+    @DisplayName("필드를 이벤트의 key-value로 기록하고 요청 MDC는 유지한다")
+    void attachesFieldsWithoutTouchingMdc() {
+        MDC.put("requestId", "req-1");
+
+        StructuredLogger.logAuthSuccess(logger, "user@example.com", 7L, null);
+
+        assertThat(MDC.get("requestId")).isEqualTo("req-1");
+        ILoggingEvent event = appender.list.get(0);
+        assertThat(event.getMessage()).isEqualTo("Authentication successful");
+        assertThat(keyValues(event)).containsExactly(
+                Map.entry("email", "user@example.com"),
+                Map.entry("userId", "7"),
+                Map.entry("provider", "local"),
+                Map.entry("result", "success"));
+    }
+
+    @Test
+    @DisplayName("접근 로그는 5xx면 ERROR, 느리면 WARN으로 기록하고 없는 값은 생략한다")
+    void accessLogLevels() {
+        StructuredLogger.logApiAccess(logger, "GET", "/api/posts", null, null, null, 503, 12, false, null, 0.1, null);
+        StructuredLogger.logApiAccess(logger, "GET", "/api/posts", 1L, "a@b.c", "curl", 200, 1500, true, null, 0.1, null);
+
+        assertThat(appender.list.get(0).getLevel()).isEqualTo(ch.qos.logback.classic.Level.ERROR);
+        assertThat(keyValues(appender.list.get(0))).doesNotContainKeys("userId", "userEmail", "userAgent", "error");
+        assertThat(appender.list.get(1).getLevel()).isEqualTo(ch.qos.logback.classic.Level.WARN);
+        assertThat(keyValues(appender.list.get(1))).containsEntry("duration", "1500");
+    }
+
+    @Test
+    @DisplayName("측정된 CPU 시간/할당 바이트만 접근 로그에 포함한다")
+    void accessLogResourceUsage() {
+        StructuredLogger.logApiAccess(logger, "GET", "/api/posts", null, null, null, 200, 5, false, null, 1.0,
+                new RequestResourceUsage.Snapshot(2_500_000L, 4096L));
+        StructuredLogger.logApiAccess(logger, "GET", "/api/posts", null, null, null, 200, 5, false, null, 1.0,
+                new RequestResourceUsage.Snapshot(-1L, 4096L));
+
+        assertThat(keyValues(appender.list.get(0)))
+                .containsEntry("cpuTimeMicros", "2500")
+                .containsEntry("allocatedBytes", "4096");
+        assertThat(keyValues(appender.list.get(1)))
+                .doesNotContainKey("cpuTimeMicros")
+                .containsEntry("allocatedBytes", "4096");
+    }
+
+    private static Map<String, Object> keyValues(ILoggingEvent event) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        if (event.getKeyValuePairs() != null) {
+            for (KeyValuePair pair : event.getKeyValuePairs()) {
+                values.put(pair.key, pair.value);
+            }
+        }
+        return values;
+    }
+}
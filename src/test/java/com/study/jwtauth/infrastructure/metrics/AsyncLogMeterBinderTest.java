@@ -0,0 +1,106 @@
+package com.study.jwtauth.infrastructure.metrics;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.core.AppenderBase;
+import com.study.jwtauth.infrastructure.logging.BoundedAsyncAppender;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("AsyncLogMeterBinder 단위 테스트")
+class AsyncLogMeterBinderTest {
+
+    private static final String NAME = "METRICS_ASYNC";
+
+    private final LoggerContext context = new LoggerContext();
+    private final BlockingAppender downstream = new BlockingAppender();
+    private final BoundedAsyncAppender appender = new BoundedAsyncAppender();
+    private SimpleMeterRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        downstream.setContext(context);
+        downstream.start();
+
+        appender.setContext(context);
+        appender.setName(NAME);
+        appender.setQueueSize(4);
+        appender.setDiscardingThreshold(2);
+        appender.addAppender(downstream);
+        appender.start();
+
+        registry = new SimpleMeterRegistry();
+        new AsyncLogMeterBinder().bindTo(registry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        downstream.release.countDown();
+        appender.stop();
+    }
+
+    @Test
+    @DisplayName("큐 깊이와 버린 이벤트 수를 appender 태그로 노출한다")
+    void exposesQueueDepthAndDropped() throws InterruptedException {
+        // given - 하위 Appender를 멈춘 상태에서 큐를 임계값까지 채우고 INFO 하나를 버림
+        appender.doAppend(event("blocking"));
+        assertThat(downstream.entered.await(1, TimeUnit.SECONDS)).isTrue();
+        appender.doAppend(event("info-1"));
+        appender.doAppend(event("info-2"));
+        appender.doAppend(event("info-dropped"));
+
+        // when
+        double depth = registry.get("logging.async.queue.depth").tag("appender", NAME).gauge().value();
+        double capacity = registry.get("logging.async.queue.capacity").tag("appender", NAME).gauge().value();
+        double dropped = registry.get("logging.async.dropped").tag("appender", NAME).functionCounter().count();
+        double waited = registry.get("logging.async.waited").tag("appender", NAME).functionCounter().count();
+
+        // then
+        assertThat(depth).isEqualTo(2);
+        assertThat(capacity).isEqualTo(4);
+        assertThat(dropped).isEqualTo(1);
+        assertThat(waited).isZero();
+    }
+
+    @Test
+    @DisplayName("종료된 Appender의 큐 깊이는 NaN이다")
+    void stoppedAppenderReportsNaN() {
+        // when
+        downstream.release.countDown();
+        appender.stop();
+
+        // then
+        assertThat(registry.get("logging.async.queue.depth").tag("appender", NAME).gauge().value()).isNaN();
+    }
+
+    private LoggingEvent event(String message) {
+        return new LoggingEvent(getClass().getName(), context.getLogger("test"), Level.INFO, message, null, null);
+    }
+
+    // 첫 이벤트에서 release될 때까지 대기하는 하위 Appender
+    private static class BlockingAppender extends AppenderBase<ILoggingEvent> {
+
+        private final CountDownLatch entered = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+
+        @Override
+        protected void append(ILoggingEvent event) {
+            entered.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.study.jwtauth.infrastructure.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("RequestResourceMetrics 단위 테스트")
+class RequestResourceMetricsTest {
+
+    private SimpleMeterRegistry registry;
+    private RequestResourceMetrics metrics;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        metrics = new RequestResourceMetrics(registry);
+    }
+
+    @Test
+    @DisplayName("같은 엔드포인트는 같은 미터에 누적하고 엔드포인트별로 구분한다")
+    void record_PerEndpoint() {
+        // when
+        metrics.record("GET", "/api/posts", new RequestResourceUsage.Snapshot(1_000_000L, 1024L));
+        metrics.record("GET", "/api/posts", new RequestResourceUsage.Snapshot(3_000_000L, 2048L));
+        metrics.record("GET", "/api/posts/{postId}", new RequestResourceUsage.Snapshot(500_000L, 512L));
+
+        // then
+        Timer cpu = registry.get("http.server.requests.cpu").tags("method", "GET", "uri", "/api/posts").timer();
+        DistributionSummary allocation = registry.get("http.server.requests.allocation")
+                .tags("method", "GET", "uri", "/api/posts").summary();
+        assertThat(cpu.count()).isEqualTo(2);
+        assertThat(cpu.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(4.0);
+        assertThat(allocation.totalAmount()).isEqualTo(3072.0);
+        assertThat(registry.get("http.server.requests.cpu").timers()).hasSize(2);
+        assertThat(registry.get("http.server.requests.allocation").summaries()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("JVM이 지원하지 않는 항목(-1)은 등록하지 않는다")
+    void record_SkipsUnsupported() {
+        // when
+        metrics.record("GET", "/api/posts", new RequestResourceUsage.Snapshot(-1L, 1024L));
+
+        // then
+        assertThat(registry.find("http.server.requests.cpu").timer()).isNull();
+        assertThat(registry.get("http.server.requests.allocation").summary().count()).isEqualTo(1);
+    }
+}
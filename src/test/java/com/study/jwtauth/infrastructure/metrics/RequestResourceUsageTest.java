@@ -0,0 +1,124 @@
+package com.study.jwtauth.infrastructure.metrics;
+
+import com.study.jwtauth.infrastructure.metrics.RequestResourceUsage.Snapshot;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * 요청 처리 스레드가 바뀌는 경우(비동기 디스패치)의 누적 검증
+ * 스레드 할당 바이트 카운터를 지원하는 JVM에서만 실행
+ */
+@DisplayName("RequestResourceUsage 단위 테스트")
+class RequestResourceUsageTest {
+
+    private static final int SEGMENT_BYTES = 1024 * 1024;
+    private static final int OUTSIDE_BYTES = 16 * SEGMENT_BYTES;
+
+    // 할당이 최적화로 제거되지 않도록 보관
+    private volatile byte[] sink;
+
+    private RequestResourceUsage usage;
+
+    @BeforeEach
+    void setUp() {
+        usage = new RequestResourceUsage();
+        assumeTrue(usage.snapshot().allocatedBytes() >= 0, "스레드 할당 카운터 미지원 JVM");
+    }
+
+    private void allocate(int bytes) {
+        sink = new byte[bytes];
+    }
+
+    private static void runOn(ExecutorService executor, Runnable task) throws Exception {
+        executor.submit(task).get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    @DisplayName("다른 스레드에서 이어진 구간도 누적하고 구간 밖 할당은 제외한다")
+    void accumulatesAcrossThreads() throws Exception {
+        ExecutorService first = Executors.newSingleThreadExecutor();
+        ExecutorService second = Executors.newSingleThreadExecutor();
+        try {
+            // given - 요청 스레드에서 처리 후 반납, 비동기 완료 후 다른 스레드에서 다시 디스패치
+            runOn(first, () -> {
+                usage.resume();
+                allocate(SEGMENT_BYTES);
+                usage.suspend();
+                allocate(OUTSIDE_BYTES);
+            });
+            runOn(second, () -> {
+                allocate(OUTSIDE_BYTES);
+                usage.resume();
+                allocate(SEGMENT_BYTES);
+                usage.suspend();
+            });
+
+            // when
+            Snapshot snapshot = usage.snapshot();
+
+            // then
+            assertThat(snapshot.allocatedBytes()).isBetween(2L * SEGMENT_BYTES, (long) OUTSIDE_BYTES);
+        } finally {
+            first.shutdownNow();
+            second.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("진행 중인 구간은 그 구간의 스레드에서 조회할 때만 포함한다")
+    void snapshotIncludesOpenSegmentOnlyOnOwnThread() throws Exception {
+        ExecutorService other = Executors.newSingleThreadExecutor();
+        try {
+            // given
+            usage.resume();
+            allocate(SEGMENT_BYTES);
+
+            // when
+            Snapshot onOtherThread = other.submit(usage::snapshot).get(5, TimeUnit.SECONDS);
+            Snapshot onOwnThread = usage.snapshot();
+            usage.suspend();
+
+            // then
+            assertThat(onOtherThread.allocatedBytes()).isZero();
+            assertThat(onOwnThread.allocatedBytes()).isGreaterThanOrEqualTo(SEGMENT_BYTES);
+        } finally {
+            other.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("닫히지 않은 구간을 다른 스레드에서 이어가면 그 구간은 버린다")
+    void discardsSegmentClosedOnAnotherThread() throws Exception {
+        ExecutorService first = Executors.newSingleThreadExecutor();
+        ExecutorService second = Executors.newSingleThreadExecutor();
+        try {
+            // given - 첫 스레드의 구간이 suspend 없이 남은 상태 (다른 스레드의 카운터는 읽을 수 없음)
+            runOn(first, () -> {
+                usage.resume();
+                allocate(OUTSIDE_BYTES);
+            });
+            runOn(second, () -> {
+                usage.resume();
+                allocate(SEGMENT_BYTES);
+                usage.suspend();
+            });
+
+            // when
+            Snapshot snapshot = usage.snapshot();
+
+            // then
+            assertThat(snapshot.allocatedBytes()).isBetween((long) SEGMENT_BYTES, (long) OUTSIDE_BYTES);
+        } finally {
+            first.shutdownNow();
+            second.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.study.jwtauth.infrastructure.query;
+
+import com.study.jwtauth.domain.comment.Comment;
+import com.study.jwtauth.domain.comment.CommentRepository;
+import com.study.jwtauth.domain.post.Post;
+import com.study.jwtauth.domain.post.PostRepository;
+import com.study.jwtauth.domain.user.User;
+import com.study.jwtauth.domain.user.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 조건부 GET 검증값(ContentStamp)에 작성자 닉네임 변경이 반영되는지 검증
+ *
+ * 응답 본문에는 작성자 닉네임이 포함되므로 닉네임이 바뀌면 이전 ETag로 보낸 If-None-Match가 일치하지 않아야 함
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.show-sql=false"
+})
+@DisplayName("조건부 GET 검증값 조회")
+class ContentStampQueryTest {
+
+    private static final LocalDateTime SAME_TIME = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    private PostQueryDao postQueryDao;
+    private CommentQueryDao commentQueryDao;
+
+    private Long authorId;
+    private Long postId;
+    private Long commentId;
+
+    @BeforeEach
+    void setUp() {
+        JdbcClient jdbcClient = JdbcClient.create(dataSource);
+        postQueryDao = new PostQueryDao(jdbcClient);
+        commentQueryDao = new CommentQueryDao(jdbcClient);
+
+        User author = userRepository.save(User.createOidcUser("author@example.com", "author", "google", "g-author"));
+        authorId = author.getId();
+        postId = postRepository.save(Post.create("title", "content", authorId)).getId();
+        Comment comment = commentRepository.save(Comment.createComment("comment", postId, authorId));
+        commentId = comment.getId();
+        commentRepository.save(Comment.createReply("reply", postId, authorId, commentId));
+        entityManager.flush();
+
+        // 닉네임 변경 시각이 이전 값보다 항상 뒤가 되도록 작성 시각을 과거로 고정
+        jdbcClient.sql("UPDATE users SET updated_at = :time").param("time", SAME_TIME).update();
+        jdbcClient.sql("UPDATE comments SET updated_at = :time").param("time", SAME_TIME).update();
+        entityManager.clear();
+    }
+
+    private void changeNickname(String nickname) {
+        userRepository.findById(authorId).orElseThrow().updateOidcInfo(nickname);
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    // 이전 응답의 ETag를 If-None-Match로 보낸 재검증 요청이 304로 처리되는지
+    private static boolean notModified(ContentStamp previous, ContentStamp current) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, "W/\"" + previous.fingerprint() + "\"");
+        return new ServletWebRequest(request, new MockHttpServletResponse())
+                .checkNotModified("W/\"" + current.fingerprint() + "\"");
+    }
+
+    private void assertNicknameChangeBreaksIfNoneMatch(Supplier<ContentStamp> stamp) {
+        // given
+        ContentStamp before = stamp.get();
+        assertThat(notModified(before, stamp.get())).isTrue();
+
+        // when
+        changeNickname("renamed");
+        ContentStamp after = stamp.get();
+
+        // then
+        assertThat(after.fingerprint()).isNotEqualTo(before.fingerprint());
+        assertThat(notModified(before, after)).isFalse();
+    }
+
+    @Test
+    @DisplayName("게시글 댓글 목록 검증값은 작성자 닉네임이 바뀌면 달라진다")
+    void postCommentsStamp_ChangesOnNicknameChange() {
+        assertNicknameChangeBreaksIfNoneMatch(() -> commentQueryDao.findPostCommentsStamp(postId));
+    }
+
+    @Test
+    @DisplayName("답글 목록 검증값은 작성자 닉네임이 바뀌면 달라진다")
+    void repliesStamp_ChangesOnNicknameChange() {
+        assertNicknameChangeBreaksIfNoneMatch(() -> commentQueryDao.findRepliesStamp(commentId));
+    }
+
+    @Test
+    @DisplayName("목록 검증값의 Last-Modified는 작성자 변경 시각까지 반영한다")
+    void postCommentsStamp_LastModifiedIncludesAuthor() {
+        // when
+        changeNickname("renamed");
+        ContentStamp stamp = commentQueryDao.findPostCommentsStamp(postId);
+
+        // then
+        assertThat(stamp.lastModified()).isAfter(SAME_TIME);
+    }
+
+    @Test
+    @DisplayName("게시글 상세 검증값은 작성자 닉네임이 바뀌면 달라진다")
+    void postStamp_ChangesOnNicknameChange() {
+        assertNicknameChangeBreaksIfNoneMatch(() -> postQueryDao.findActivePostCounters(postId).orElseThrow().stamp());
+    }
+}
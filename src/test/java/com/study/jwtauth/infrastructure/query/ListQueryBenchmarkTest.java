@@ -0,0 +1,262 @@
+package com.study.jwtauth.infrastructure.query;
+
+import com.study.jwtauth.domain.comment.Comment;
+import com.study.jwtauth.domain.comment.CommentRepository;
+import com.study.jwtauth.domain.comment.CommentStatus;
+import com.study.jwtauth.domain.post.Post;
+import com.study.jwtauth.domain.post.PostRepository;
+import com.study.jwtauth.domain.post.PostStatus;
+import com.study.jwtauth.domain.postlike.PostLike;
+import com.study.jwtauth.domain.postlike.PostLikeRepository;
+import com.study.jwtauth.domain.user.User;
+import com.study.jwtauth.domain.user.UserRepository;
+import com.study.jwtauth.presentataion.dto.response.CommentResponse;
+import com.study.jwtauth.presentataion.dto.response.PostLikeResponse;
+import com.study.jwtauth.presentataion.dto.response.PostResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.jdbc.core.simple.JdbcClient;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 목록 조회 경로 성능 비교 (JPA 엔티티 + 응답 변환 vs JDBC 직접 매핑)
+ *
+ * 같은 데이터셋에서 두 경로의 결과가 같은지 확인한 뒤 평균 소요 시간을 출력
+ * 기본 test 태스크에서는 제외 - ./gradlew benchmark 로 실행
+ */
+@Tag("benchmark")
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.format_sql=false"
+})
+@DisplayName("목록 조회 JPA/JDBC 경로 성능 비교")
+class ListQueryBenchmarkTest {
+
+    private static final int USER_COUNT = 200;
+    private static final int POST_COUNT = 2000;
+    private static final int COMMENT_COUNT = 300;
+    private static final int LIKED_POST_COUNT = 300;
+    private static final int WARMUP_ITERATIONS = 200;
+    private static final int MEASURE_ITERATIONS = 1000;
+    private static final Pageable PAGE = PageRequest.of(1, 20);
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private PostLikeRepository postLikeRepository;
+
+    private PostQueryDao postQueryDao;
+    private CommentQueryDao commentQueryDao;
+    private PostLikeQueryDao postLikeQueryDao;
+
+    private Long hotPostId;
+    private Long authorId;
+    private Long likerId;
+
+    @BeforeEach
+    void setUp() {
+        JdbcClient jdbcClient = JdbcClient.create(dataSource);
+        postQueryDao = new PostQueryDao(jdbcClient);
+        commentQueryDao = new CommentQueryDao(jdbcClient);
+        postLikeQueryDao = new PostLikeQueryDao(jdbcClient);
+
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < USER_COUNT; i++) {
+            users.add(User.createOidcUser("user" + i + "@example.com", "user" + i, "google", "g-" + i));
+        }
+        users = userRepository.saveAll(users);
+
+        List<Post> posts = new ArrayList<>();
+        for (int i = 0; i < POST_COUNT; i++) {
+            Long postAuthorId = users.get(i % USER_COUNT).getId();
+            posts.add(Post.create("title " + i, "content ".repeat(50) + i, postAuthorId));
+        }
+        posts = postRepository.saveAll(posts);
+
+        hotPostId = posts.get(0).getId();
+        authorId = users.get(0).getId();
+        likerId = users.get(1).getId();
+
+        List<Comment> comments = new ArrayList<>();
+        for (int i = 0; i < COMMENT_COUNT; i++) {
+            comments.add(Comment.createComment("comment " + i, hotPostId, users.get(i % USER_COUNT).getId()));
+        }
+        comments = commentRepository.saveAll(comments);
+
+        List<Comment> replies = new ArrayList<>();
+        for (int i = 0; i < COMMENT_COUNT; i++) {
+            for (int r = 0; r < i % 4; r++) {
+                replies.add(Comment.createReply("reply " + r, hotPostId, users.get(r).getId(), comments.get(i).getId()));
+            }
+        }
+        commentRepository.saveAll(replies);
+
+        List<PostLike> likes = new ArrayList<>();
+        for (User user : users) {
+            likes.add(PostLike.create(hotPostId, user.getId()));
+        }
+        for (int i = 1; i <= LIKED_POST_COUNT; i++) {
+            likes.add(PostLike.create(posts.get(i).getId(), likerId));
+        }
+        postLikeRepository.saveAll(likes);
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("전체 게시글 목록")
+    void activePosts() {
+        compare(
+                "posts",
+                () -> toPostResponses(postRepository.findByStatusOrderByCreatedAtDescIdDesc(PostStatus.ACTIVE, PAGE)),
+                () -> postQueryDao.findActivePosts(PAGE).getContent(),
+                PostResponse::id
+        );
+    }
+
+    @Test
+    @DisplayName("작성자 게시글 목록")
+    void postsByAuthor() {
+        compare(
+                "posts by author",
+                () -> toPostResponses(postRepository.findByAuthorIdAndStatusOrderByCreatedAtDescIdDesc(authorId, PostStatus.ACTIVE, PageRequest.of(0, 10))),
+                () -> postQueryDao.findActivePostsByAuthor(authorId, PageRequest.of(0, 10)).getContent(),
+                PostResponse::id
+        );
+    }
+
+    @Test
+    @DisplayName("게시글 댓글 목록 (답글 수 포함)")
+    void commentsByPost() {
+        compare(
+                "comments",
+                () -> {
+                    Slice<Comment> comments = commentRepository.findCommentsByPostIdAndStatus(hotPostId, CommentStatus.ACTIVE, PAGE);
+                    Map<Long, User> authors = usersById(comments.getContent().stream().map(Comment::getAuthorId).toList());
+                    return comments.getContent().stream()
+                            .map(comment -> CommentResponse.of(
+                                    comment,
+                                    authors.get(comment.getAuthorId()),
+                                    commentRepository.countByParentCommentIdAndStatus(comment.getId(), CommentStatus.ACTIVE)
+                            ))
+                            .toList();
+                },
+                () -> commentQueryDao.findCommentsByPostId(hotPostId, PAGE).getContent(),
+                comment -> comment.id() + ":" + comment.replyCount()
+        );
+    }
+
+    @Test
+    @DisplayName("게시글 좋아요 사용자 목록")
+    void likesByPost() {
+        // JPA 경로는 정렬이 없으므로 건수만 비교
+        compare(
+                "post likes",
+                () -> {
+                    Slice<PostLike> likes = postLikeRepository.findByPostId(hotPostId, PAGE);
+                    Map<Long, User> users = usersById(likes.getContent().stream().map(PostLike::getUserId).toList());
+                    return likes.getContent().stream()
+                            .map(like -> PostLikeResponse.of(like, users.get(like.getUserId())))
+                            .toList();
+                },
+                () -> postLikeQueryDao.findByPostId(hotPostId, PAGE).getContent(),
+                like -> 1
+        );
+    }
+
+    @Test
+    @DisplayName("사용자가 좋아요한 게시글 목록")
+    void likedPosts() {
+        compare(
+                "liked posts",
+                () -> {
+                    Slice<PostLike> likes = postLikeRepository.findByUserIdWithActivePost(likerId, PAGE);
+                    Map<Long, Post> posts = postRepository.findAllById(likes.getContent().stream().map(PostLike::getPostId).toList())
+                            .stream()
+                            .collect(Collectors.toMap(Post::getId, post -> post));
+                    Map<Long, User> authors = usersById(posts.values().stream().map(Post::getAuthorId).toList());
+                    return likes.getContent().stream()
+                            .map(like -> posts.get(like.getPostId()))
+                            .map(post -> PostResponse.of(post, authors.get(post.getAuthorId())))
+                            .toList();
+                },
+                () -> postQueryDao.findActivePostsLikedBy(likerId, PAGE).getContent(),
+                PostResponse::id
+        );
+    }
+
+    // 두 경로의 결과 비교 후 평균 소요 시간 출력
+    private <T> void compare(String name, Supplier<List<T>> jpaPath, Supplier<List<T>> jdbcPath,
+                             Function<T, Object> identity) {
+        List<T> expected = jpaPath.get();
+        entityManager.clear();
+        List<T> actual = jdbcPath.get();
+
+        assertThat(actual).isNotEmpty();
+        assertThat(actual).map(identity).containsExactlyElementsOf(expected.stream().map(identity).toList());
+
+        double jpaMicros = measure(jpaPath);
+        double jdbcMicros = measure(jdbcPath);
+        System.out.printf("[benchmark] %-16s JPA %8.1f us/op | JDBC %8.1f us/op | x%.2f%n",
+                name, jpaMicros, jdbcMicros, jpaMicros / jdbcMicros);
+    }
+
+    // 반복마다 영속성 컨텍스트를 비워 1차 캐시 재사용을 막음 (요청마다 새 컨텍스트인 실제 환경과 동일)
+    private double measure(Supplier<?> query) {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            query.get();
+            entityManager.clear();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURE_ITERATIONS; i++) {
+            query.get();
+            entityManager.clear();
+        }
+        return (System.nanoTime() - start) / 1_000.0 / MEASURE_ITERATIONS;
+    }
+
+    private List<PostResponse> toPostResponses(Slice<Post> posts) {
+        Map<Long, User> authors = usersById(posts.getContent().stream().map(Post::getAuthorId).toList());
+        return posts.getContent().stream()
+                .map(post -> PostResponse.of(post, authors.get(post.getAuthorId())))
+                .toList();
+    }
+
+    private Map<Long, User> usersById(List<Long> userIds) {
+        return userRepository.findAllById(userIds.stream().distinct().toList())
+                .stream()
+                .collect(Collectors.toMap(User::getId, user -> user));
+    }
+}
@@ -0,0 +1,216 @@
+package com.study.jwtauth.infrastructure.query;
+
+import com.study.jwtauth.domain.comment.Comment;
+import com.study.jwtauth.domain.comment.CommentRepository;
+import com.study.jwtauth.domain.comment.CommentStatus;
+import com.study.jwtauth.domain.post.Post;
+import com.study.jwtauth.domain.post.PostRepository;
+import com.study.jwtauth.domain.post.PostStatus;
+import com.study.jwtauth.domain.postlike.PostLike;
+import com.study.jwtauth.domain.postlike.PostLikeRepository;
+import com.study.jwtauth.domain.user.User;
+import com.study.jwtauth.domain.user.UserRepository;
+import com.study.jwtauth.presentataion.dto.response.CommentResponse;
+import com.study.jwtauth.presentataion.dto.response.PostResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.jdbc.core.simple.JdbcClient;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 목록 조회 JDBC 경로(*QueryDao)와 JPA 경로의 결과 동일성 검증
+ *
+ * 정렬 기준 시각이 모두 같은 데이터로 페이지를 나누어 조회하여 id 보조 정렬까지 일치하는지 확인
+ * (성능 비교는 ListQueryBenchmarkTest, benchmark 태스크에서 실행)
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.show-sql=false"
+})
+@DisplayName("목록 조회 JPA/JDBC 경로 동일성")
+class ListQueryEquivalenceTest {
+
+    private static final int USER_COUNT = 5;
+    private static final int POST_COUNT = 12;
+    private static final int COMMENT_COUNT = 12;
+    private static final LocalDateTime SAME_TIME = LocalDateTime.of(2025, 1, 1, 0, 0);
+    private static final List<Pageable> PAGES = List.of(PageRequest.of(0, 5), PageRequest.of(1, 5), PageRequest.of(2, 5));
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private PostLikeRepository postLikeRepository;
+
+    private PostQueryDao postQueryDao;
+    private CommentQueryDao commentQueryDao;
+
+    private Long postId;
+    private Long authorId;
+    private Long likerId;
+
+    @BeforeEach
+    void setUp() {
+        JdbcClient jdbcClient = JdbcClient.create(dataSource);
+        postQueryDao = new PostQueryDao(jdbcClient);
+        commentQueryDao = new CommentQueryDao(jdbcClient);
+
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < USER_COUNT; i++) {
+            users.add(User.createOidcUser("user" + i + "@example.com", "user" + i, "google", "g-" + i));
+        }
+        users = userRepository.saveAll(users);
+        authorId = users.get(0).getId();
+        likerId = users.get(1).getId();
+
+        List<Post> posts = new ArrayList<>();
+        for (int i = 0; i < POST_COUNT; i++) {
+            // 절반은 같은 작성자 (작성자별 목록도 여러 페이지)
+            Long postAuthorId = i % 2 == 0 ? authorId : users.get(i % USER_COUNT).getId();
+            posts.add(Post.create("title " + i, "content " + i, postAuthorId));
+        }
+        posts = postRepository.saveAll(posts);
+        postId = posts.get(0).getId();
+
+        List<Comment> comments = new ArrayList<>();
+        for (int i = 0; i < COMMENT_COUNT; i++) {
+            comments.add(Comment.createComment("comment " + i, postId, users.get(i % USER_COUNT).getId()));
+        }
+        comments = commentRepository.saveAll(comments);
+
+        List<Comment> replies = new ArrayList<>();
+        for (int i = 0; i < COMMENT_COUNT; i++) {
+            for (int r = 0; r < i % 3; r++) {
+                replies.add(Comment.createReply("reply " + r, postId, users.get(r).getId(), comments.get(i).getId()));
+            }
+        }
+        commentRepository.saveAll(replies);
+
+        List<PostLike> likes = new ArrayList<>();
+        for (Post post : posts) {
+            likes.add(PostLike.create(post.getId(), likerId));
+        }
+        postLikeRepository.saveAll(likes);
+        entityManager.flush();
+
+        // 정렬 기준 시각을 모두 같게 하여 보조 정렬(id)만으로 순서가 정해지도록 함
+        jdbcClient.sql("UPDATE posts SET created_at = :time").param("time", SAME_TIME).update();
+        jdbcClient.sql("UPDATE comments SET created_at = :time").param("time", SAME_TIME).update();
+        jdbcClient.sql("UPDATE post_likes SET liked_at = :time").param("time", SAME_TIME).update();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("전체 게시글 목록")
+    void activePosts() {
+        for (Pageable page : PAGES) {
+            // when
+            List<PostResponse> expected = toPostResponses(
+                    postRepository.findByStatusOrderByCreatedAtDescIdDesc(PostStatus.ACTIVE, page).getContent());
+            entityManager.clear();
+            Slice<PostResponse> actual = postQueryDao.findActivePosts(page);
+
+            // then
+            assertThat(actual.getContent()).containsExactlyElementsOf(expected);
+        }
+    }
+
+    @Test
+    @DisplayName("작성자 게시글 목록")
+    void postsByAuthor() {
+        for (Pageable page : PAGES) {
+            // when
+            List<PostResponse> expected = toPostResponses(postRepository
+                    .findByAuthorIdAndStatusOrderByCreatedAtDescIdDesc(authorId, PostStatus.ACTIVE, page).getContent());
+            entityManager.clear();
+            Slice<PostResponse> actual = postQueryDao.findActivePostsByAuthor(authorId, page);
+
+            // then
+            assertThat(actual.getContent()).containsExactlyElementsOf(expected);
+        }
+    }
+
+    @Test
+    @DisplayName("게시글 댓글 목록 (답글 수 포함)")
+    void commentsByPost() {
+        for (Pageable page : PAGES) {
+            // when
+            List<Comment> comments = commentRepository
+                    .findCommentsByPostIdAndStatus(postId, CommentStatus.ACTIVE, page).getContent();
+            Map<Long, User> authors = usersById(comments.stream().map(Comment::getAuthorId).toList());
+            List<CommentResponse> expected = comments.stream()
+                    .map(comment -> CommentResponse.of(
+                            comment,
+                            authors.get(comment.getAuthorId()),
+                            commentRepository.countByParentCommentIdAndStatus(comment.getId(), CommentStatus.ACTIVE)
+                    ))
+                    .toList();
+            entityManager.clear();
+            Slice<CommentResponse> actual = commentQueryDao.findCommentsByPostId(postId, page);
+
+            // then
+            assertThat(actual.getContent()).containsExactlyElementsOf(expected);
+        }
+    }
+
+    @Test
+    @DisplayName("사용자가 좋아요한 게시글 목록")
+    void likedPosts() {
+        for (Pageable page : PAGES) {
+            // when
+            List<Long> likedPostIds = postLikeRepository.findByUserIdWithActivePost(likerId, page).getContent()
+                    .stream()
+                    .map(PostLike::getPostId)
+                    .toList();
+            Map<Long, Post> posts = postRepository.findAllById(likedPostIds)
+                    .stream()
+                    .collect(Collectors.toMap(Post::getId, post -> post));
+            List<PostResponse> expected = toPostResponses(likedPostIds.stream().map(posts::get).toList());
+            entityManager.clear();
+            Slice<PostResponse> actual = postQueryDao.findActivePostsLikedBy(likerId, page);
+
+            // then
+            assertThat(actual.getContent()).containsExactlyElementsOf(expected);
+        }
+    }
+
+    private List<PostResponse> toPostResponses(List<Post> posts) {
+        Map<Long, User> authors = usersById(posts.stream().map(Post::getAuthorId).toList());
+        return posts.stream()
+                .map(post -> PostResponse.of(post, authors.get(post.getAuthorId())))
+                .toList();
+    }
+
+    private Map<Long, User> usersById(List<Long> userIds) {
+        return userRepository.findAllById(userIds.stream().distinct().toList())
+                .stream()
+                .collect(Collectors.toMap(User::getId, user -> user));
+    }
+}
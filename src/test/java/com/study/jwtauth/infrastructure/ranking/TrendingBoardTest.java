@@ -0,0 +1,88 @@
+package com.study.jwtauth.infrastructure.ranking;
+
+import com.study.jwtauth.domain.post.exception.InvalidCursorException;
+import com.study.jwtauth.infrastructure.config.TrendingProperties;
+import com.study.jwtauth.infrastructure.ranking.TrendingBoard.TrendingPage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@DisplayName("TrendingBoard 단위 테스트")
+class TrendingBoardTest {
+
+    private StringRedisTemplate redisTemplate;
+    private TrendingBoard trendingBoard;
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate = mock(StringRedisTemplate.class);
+        trendingBoard = new TrendingBoard(redisTemplate, new TrendingProperties());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"abc", "_12", "1.5_", "1.5_abc", "NaN_3", "1.5_-3"})
+    @DisplayName("형식이 잘못된 커서는 첫 페이지로 대체하지 않고 거부한다")
+    void page_RejectsInvalidCursor(String cursor) {
+        // when & then
+        assertThatThrownBy(() -> trendingBoard.page(cursor, 2))
+                .isInstanceOf(InvalidCursorException.class);
+        verifyNoInteractions(redisTemplate);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    @DisplayName("커서의 점수와 게시글 ID로 이어서 조회하고 마지막 항목으로 다음 커서를 만든다")
+    void page_ContinuesFromCursor() {
+        // given - 동점 항목이 이어지는 경우 (같은 점수는 member 역순)
+        given(redisTemplate.execute(any(RedisScript.class), anyList(), any(), any(), any()))
+                .willReturn(List.of(
+                        "0000000000000000005", "1.5",
+                        "0000000000000000004", "1.5",
+                        "0000000000000000003", "1.5"
+                ));
+
+        // when
+        Optional<TrendingPage> page = trendingBoard.page("1.5_6", 2);
+
+        // then
+        assertThat(page).isPresent();
+        assertThat(page.get().postIds()).containsExactly(5L, 4L);
+        assertThat(page.get().nextCursor()).isEqualTo("1.5_4");
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of("trending:post")),
+                eq("1.5"), eq("0000000000000000006"), eq("3"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    @DisplayName("다음 항목이 없으면 다음 커서는 null")
+    void page_LastPageHasNoCursor() {
+        // given
+        given(redisTemplate.execute(any(RedisScript.class), anyList(), any(), any(), any()))
+                .willReturn(List.of("0000000000000000002", "0.5"));
+
+        // when
+        Optional<TrendingPage> page = trendingBoard.page("1.5_3", 2);
+
+        // then
+        assertThat(page).isPresent();
+        assertThat(page.get().postIds()).containsExactly(2L);
+        assertThat(page.get().nextCursor()).isNull();
+    }
+}
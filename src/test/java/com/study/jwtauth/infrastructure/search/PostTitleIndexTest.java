@@ -0,0 +1,170 @@
+package com.study.jwtauth.infrastructure.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("PostTitleIndex 단위 테스트")
+class PostTitleIndexTest {
+
+    private PostTitleIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new PostTitleIndex(100, 20, 4, 3);
+    }
+
+    private List<Long> suggestIds(String prefix, int limit) {
+        return index.suggest(prefix, limit)
+                .stream()
+                .map(PostTitleIndex.Suggestion::postId)
+                .toList();
+    }
+
+    @Nested
+    @DisplayName("suggest 메서드 테스트")
+    class Suggest {
+
+        @Test
+        @DisplayName("제목 접두어와 단어 시작 위치로 게시글을 찾는다")
+        void suggest_ByTitleAndWordPrefix() {
+            // given
+            index.put(1L, "Spring Boot 입문", 10);
+            index.put(2L, "Learning Spring Security", 5);
+
+            // when & then
+            assertThat(suggestIds("spr", 10)).containsExactly(1L, 2L);
+            assertThat(suggestIds("SECU", 10)).containsExactly(2L);
+            assertThat(suggestIds("입문", 10)).containsExactly(1L);
+            assertThat(suggestIds("boot  입", 10)).containsExactly(1L);
+        }
+
+        @Test
+        @DisplayName("가중치가 높은 순서로 limit 개수만큼 반환한다")
+        void suggest_OrderedByWeight() {
+            // given
+            index.put(1L, "java 기초", 1);
+            index.put(2L, "java 심화", 30);
+            index.put(3L, "java 실전", 20);
+
+            // when & then
+            assertThat(suggestIds("java", 2)).containsExactly(2L, 3L);
+        }
+
+        @Test
+        @DisplayName("일치하는 접두어가 없으면 빈 목록을 반환한다")
+        void suggest_NoMatch_ReturnsEmpty() {
+            index.put(1L, "kotlin", 1);
+
+            assertThat(suggestIds("java", 5)).isEmpty();
+            assertThat(suggestIds("   ", 5)).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("증분 갱신 테스트")
+    class IncrementalUpdate {
+
+        @Test
+        @DisplayName("제거된 게시글 자리는 하위 후보로 다시 채워진다")
+        void remove_RefillsCandidates() {
+            // given - 노드당 후보 3개
+            index.put(1L, "redis a", 40);
+            index.put(2L, "redis b", 30);
+            index.put(3L, "redis c", 20);
+            index.put(4L, "redis d", 10);
+
+            // when
+            index.remove(1L);
+
+            // then
+            assertThat(suggestIds("redis", 10)).containsExactly(2L, 3L, 4L);
+            assertThat(index.contains(1L)).isFalse();
+        }
+
+        @Test
+        @DisplayName("제목이 수정되면 이전 제목으로는 검색되지 않는다")
+        void put_ReplacesPreviousTitle() {
+            index.put(1L, "old title", 1);
+            index.put(1L, "new title", 1);
+
+            assertThat(suggestIds("old", 5)).isEmpty();
+            assertThat(suggestIds("new", 5)).containsExactly(1L);
+            assertThat(index.size()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("좋아요로 가중치가 오르면 후보 목록에 편입된다")
+        void updateWeight_RepositionsCandidate() {
+            // given
+            index.put(1L, "jpa a", 30);
+            index.put(2L, "jpa b", 20);
+            index.put(3L, "jpa c", 10);
+            index.put(4L, "jpa d", 5);
+            assertThat(suggestIds("jpa", 10)).doesNotContain(4L);
+
+            // when
+            index.updateWeight(4L, 100, true);
+
+            // then
+            assertThat(suggestIds("jpa", 10)).startsWith(4L);
+        }
+
+        @Test
+        @DisplayName("최대 게시글 수를 넘으면 가중치가 가장 낮은 게시글을 제거한다")
+        void put_OverCapacity_EvictsLowest() {
+            // given
+            PostTitleIndex small = new PostTitleIndex(2, 20, 4, 3);
+            small.put(1L, "a", 10);
+            small.put(2L, "b", 1);
+
+            // when
+            small.put(3L, "c", 5);
+
+            // then
+            assertThat(small.size()).isEqualTo(2);
+            assertThat(small.contains(2L)).isFalse();
+            assertThat(small.contains(3L)).isTrue();
+        }
+
+        @Test
+        @DisplayName("가중치만 갱신된 게시글도 갱신된 가중치 기준으로 제거 대상을 고른다")
+        void put_OverCapacity_EvictsByUpdatedWeight() {
+            // given
+            PostTitleIndex small = new PostTitleIndex(2, 20, 4, 3);
+            small.put(1L, "a", 10);
+            small.put(2L, "b", 1);
+            small.updateWeight(1L, 0, false);
+            small.updateWeight(2L, 20, false);
+
+            // when
+            small.put(3L, "c", 5);
+
+            // then
+            assertThat(small.contains(1L)).isFalse();
+            assertThat(small.contains(2L)).isTrue();
+            assertThat(small.contains(3L)).isTrue();
+        }
+
+        @Test
+        @DisplayName("가장 낮은 가중치보다 낮은 게시글은 추가하지 않는다")
+        void put_OverCapacity_RejectsLowerWeight() {
+            // given
+            PostTitleIndex small = new PostTitleIndex(2, 20, 4, 3);
+            small.put(1L, "a", 10);
+            small.put(2L, "b", 5);
+
+            // when
+            small.put(3L, "c", 1);
+
+            // then
+            assertThat(small.size()).isEqualTo(2);
+            assertThat(small.contains(3L)).isFalse();
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.study.jwtauth.infrastructure.stats;
+
+import com.study.jwtauth.infrastructure.config.StatsProperties;
+import com.study.jwtauth.infrastructure.stats.PostActivityStats.Bucket;
+import com.study.jwtauth.infrastructure.stats.PostActivityStats.Metric;
+import com.study.jwtauth.infrastructure.stats.PostActivityStats.Snapshot;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("PostActivityStats 단위 테스트")
+class PostActivityStatsTest {
+
+    private static final long HOUR = 60 * 60 * 1000L;
+
+    // 2025-01-10T05:30:00Z
+    private static final long NOW = Instant.parse("2025-01-10T05:30:00Z").toEpochMilli();
+
+    private StringRedisTemplate redisTemplate;
+    private PostActivityStats stats;
+
+    @BeforeEach
+    void setUp() {
+        StatsProperties properties = new StatsProperties();
+        properties.setHourlyBuckets(3);
+        properties.setDailyBuckets(2);
+        redisTemplate = mock(StringRedisTemplate.class);
+        stats = new PostActivityStats(redisTemplate, properties);
+    }
+
+    @Test
+    @DisplayName("Redis에 반영된 값과 이 노드의 미반영분을 합산한다")
+    void snapshot_MergesRedisAndPending() {
+        // given - 시간 구간 3개(03시, 04시, 05시), 일 구간 2개(09일, 10일) 순서의 HMGET 결과
+        given(redisTemplate.executePipelined(any(RedisCallback.class))).willReturn(List.of(
+                Arrays.asList(null, null, null),
+                Arrays.asList("1", null, null),
+                Arrays.asList("2", "1", null),
+                Arrays.asList("5", null, null),
+                Arrays.asList("3", "1", null)
+        ));
+        stats.record(1L, 10L, Metric.VIEWS, NOW);
+        stats.record(1L, 10L, Metric.COMMENTS, NOW);
+        stats.record(2L, 20L, Metric.VIEWS, NOW);
+
+        // when
+        Snapshot snapshot = stats.snapshot(1L, NOW);
+
+        // then
+        assertThat(snapshot.complete()).isTrue();
+        assertThat(snapshot.hourly()).hasSize(3);
+        assertThat(snapshot.daily()).hasSize(2);
+        Bucket currentHour = snapshot.hourly().get(2);
+        assertThat(currentHour.start()).isEqualTo(Instant.parse("2025-01-10T05:00:00Z"));
+        assertThat(currentHour.views()).isEqualTo(3);
+        assertThat(currentHour.likes()).isEqualTo(1);
+        assertThat(currentHour.comments()).isEqualTo(1);
+        assertThat(snapshot.hourly().get(1).views()).isEqualTo(1);
+        Bucket today = snapshot.daily().get(1);
+        assertThat(today.start()).isEqualTo(Instant.parse("2025-01-10T00:00:00Z"));
+        assertThat(today.views()).isEqualTo(4);
+        assertThat(today.comments()).isEqualTo(1);
+        assertThat(snapshot.daily().get(0).views()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("보관 기간을 벗어난 미반영분은 스냅샷에 포함하지 않는다")
+    void snapshot_IgnoresPendingOutsideWindow() {
+        // given
+        given(redisTemplate.executePipelined(any(RedisCallback.class))).willReturn(List.of());
+        stats.record(1L, 10L, Metric.LIKES, NOW - 3 * HOUR);
+
+        // when
+        Snapshot snapshot = stats.snapshot(1L, NOW);
+
+        // then - 시간 구간에서는 빠지고 같은 날의 일 구간에는 포함
+        assertThat(snapshot.hourly()).extracting(Bucket::likes).containsOnly(0L);
+        assertThat(snapshot.daily().get(1).likes()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("조회 중 Redis 장애가 나면 예외 대신 이 노드의 미반영분만 담은 불완전한 스냅샷을 반환한다")
+    void snapshot_ReturnsIncompleteOnRedisFailure() {
+        // given
+        given(redisTemplate.executePipelined(any(RedisCallback.class)))
+                .willThrow(new RedisConnectionFailureException("down"));
+        stats.record(1L, 10L, Metric.VIEWS, NOW);
+
+        // when
+        Snapshot snapshot = stats.snapshot(1L, NOW);
+
+        // then
+        assertThat(snapshot.complete()).isFalse();
+        assertThat(snapshot.hourly()).hasSize(3);
+        assertThat(snapshot.daily()).hasSize(2);
+        assertThat(snapshot.hourly().get(2).views()).isEqualTo(1);
+        assertThat(snapshot.hourly().get(0).views()).isZero();
+    }
+
+    @Test
+    @DisplayName("반영에 실패하면 미반영분과 작성자를 다음 주기로 남긴다")
+    void flush_KeepsPendingOnFailure() {
+        // given
+        given(redisTemplate.executePipelined(any(RedisCallback.class)))
+                .willThrow(new RedisConnectionFailureException("down"))
+                .willReturn(List.of());
+        stats.record(1L, 10L, Metric.VIEWS, NOW);
+
+        // when
+        stats.flush();
+
+        // then
+        assertThat(stats.findAuthorId(1L)).contains(10L);
+        assertThat(stats.snapshot(1L, NOW).hourly().get(2).views()).isEqualTo(1);
+        verify(redisTemplate, never()).opsForValue();
+    }
+
+    @Test
+    @DisplayName("작성자 조회 중 Redis 장애가 나면 empty를 반환한다")
+    void findAuthorId_ReturnsEmptyOnRedisFailure() {
+        // given
+        @SuppressWarnings("unchecked")
+        ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.get("stats:post:1:author")).willThrow(new RedisConnectionFailureException("down"));
+
+        // when & then
+        assertThat(stats.findAuthorId(1L)).isEmpty();
+    }
+}
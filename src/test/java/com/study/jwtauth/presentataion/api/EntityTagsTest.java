@@ -0,0 +1,53 @@
+package com.study.jwtauth.presentataion.api;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("EntityTags 단위 테스트")
+class EntityTagsTest {
+
+    @Nested
+    @DisplayName("expectedVersions 메서드 테스트")
+    class ExpectedVersions {
+
+        @Test
+        @DisplayName("If-Match가 없거나 *이면 버전을 검사하지 않는다")
+        void expectedVersions_AbsentOrAny() {
+            assertThat(EntityTags.expectedVersions(null)).isNull();
+            assertThat(EntityTags.expectedVersions(" ")).isNull();
+            assertThat(EntityTags.expectedVersions("*")).isNull();
+        }
+
+        @Test
+        @DisplayName("발급한 ETag에서 버전을 읽는다")
+        void expectedVersions_FromIssuedTag() {
+            assertThat(EntityTags.expectedVersions(EntityTags.of(3L))).containsExactly(3L);
+        }
+
+        @Test
+        @DisplayName("나열된 태그 중 어느 것이든 일치로 인정한다")
+        void expectedVersions_AnyListedTag() {
+            assertThat(EntityTags.expectedVersions("\"4\", \"5\"")).containsExactlyInAnyOrder(4L, 5L);
+            assertThat(EntityTags.expectedVersions("\"abc\", \"5\"")).containsExactly(5L);
+        }
+
+        @Test
+        @DisplayName("약한 태그는 강한 비교에서 일치하지 않는다")
+        void expectedVersions_WeakTag() {
+            assertThat(EntityTags.expectedVersions("W/\"7\"")).isEmpty();
+            assertThat(EntityTags.expectedVersions("W/\"7-12\"")).isEmpty();
+            assertThat(EntityTags.expectedVersions("W/\"7\", \"8\"")).containsExactly(8L);
+        }
+
+        @Test
+        @DisplayName("형식이 잘못된 태그는 어떤 버전과도 일치하지 않는다")
+        void expectedVersions_Malformed() {
+            assertThat(EntityTags.expectedVersions("3")).isEmpty();
+            assertThat(EntityTags.expectedVersions("\"abc\"")).isEmpty();
+            assertThat(EntityTags.expectedVersions("\"7-12\"")).isEmpty();
+        }
+    }
+}
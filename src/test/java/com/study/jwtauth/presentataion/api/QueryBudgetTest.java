@@ -0,0 +1,426 @@
+package com.study.jwtauth.presentataion.api;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.study.jwtauth.application.service.CommentService;
+import com.study.jwtauth.application.service.PostLikeService;
+import com.study.jwtauth.application.service.PostService;
+import com.study.jwtauth.application.service.PostStatsService;
+import com.study.jwtauth.application.service.PostViewCountService;
+import com.study.jwtauth.application.service.TotalCountService;
+import com.study.jwtauth.domain.comment.Comment;
+import com.study.jwtauth.domain.comment.CommentRepository;
+import com.study.jwtauth.domain.post.Post;
+import com.study.jwtauth.domain.post.PostRepository;
+import com.study.jwtauth.domain.postlike.PostLike;
+import com.study.jwtauth.domain.postlike.PostLikeRepository;
+import com.study.jwtauth.domain.user.User;
+import com.study.jwtauth.domain.user.UserRepository;
+import com.study.jwtauth.infrastructure.cache.EarlyRefreshCache;
+import com.study.jwtauth.infrastructure.cache.PostDetailCache;
+import com.study.jwtauth.infrastructure.config.DataSourceInstrumentationConfig;
+import com.study.jwtauth.infrastructure.config.PageCacheProperties;
+import com.study.jwtauth.infrastructure.datasource.StatementCounter;
+import com.study.jwtauth.infrastructure.query.CommentQueryDao;
+import com.study.jwtauth.infrastructure.query.PostLikeQueryDao;
+import com.study.jwtauth.infrastructure.query.PostQueryDao;
+import com.study.jwtauth.infrastructure.ranking.PostLeaderboard;
+import com.study.jwtauth.infrastructure.ranking.TrendingBoard;
+import com.study.jwtauth.infrastructure.ranking.UniqueViewCounter;
+import com.study.jwtauth.infrastructure.stats.PostActivityStats;
+import com.study.jwtauth.presentataion.dto.common.CountMode;
+import com.study.jwtauth.presentataion.dto.request.CreateCommentRequest;
+import com.study.jwtauth.presentataion.dto.request.CreatePostRequest;
+import com.study.jwtauth.presentataion.dto.request.UpdateCommentRequest;
+import com.study.jwtauth.presentataion.dto.request.UpdatePostRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.web.bind.annotation.RequestMapping;
+
+import javax.sql.DataSource;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 엔드포인트 SQL 문장 수 예산 (@QueryBudget) 검사
+ *
+ * 50건 페이지(다음 페이지 있음, EXACT 개수)로 각 엔드포인트가 사용하는 서비스 호출을 실행하고
+ * InstrumentedDataSource로 센 문장 수가 컨트롤러에 선언된 예산 이하인지 확인
+ * 캐시와 Redis 랭킹은 사용하지 않음 (DB로 가는 가장 비싼 경로 기준)
+ * 쓰기 엔드포인트는 측정 구간 안에서 flush하여 커밋 시점에 나갈 INSERT/UPDATE도 셈
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.format_sql=false",
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=false"
+})
+@Import(DataSourceInstrumentationConfig.class)
+@DisplayName("엔드포인트 SQL 문장 수 예산")
+class QueryBudgetTest {
+
+    private static final int PAGE_SIZE = 50;
+    private static final int USER_COUNT = 60;
+    private static final int POST_COUNT = 120;
+    private static final int AUTHOR_POST_COUNT = 60;
+    private static final int COMMENT_COUNT = 60;
+
+    private static final Pageable PAGE = PageRequest.of(0, PAGE_SIZE);
+
+    private static final List<Class<?>> CONTROLLERS = List.of(
+            PostController.class,
+            PostCommentController.class,
+            CommentController.class,
+            AuthController.class,
+            AdminController.class,
+            HomeController.class
+    );
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private PostLikeRepository postLikeRepository;
+
+    private PostService postService;
+    private PostStatsService postStatsService;
+    private PostLikeService postLikeService;
+    private CommentService commentService;
+
+    private Long authorId;
+    private Long likerId;
+    private Long otherUserId;
+    private Long hotPostId;
+    private Long hotCommentId;
+    private List<Long> postIds;
+
+    @BeforeEach
+    void setUp() {
+        createServices();
+
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < USER_COUNT; i++) {
+            users.add(User.createOidcUser("user" + i + "@example.com", "user" + i, "google", "g-" + i));
+        }
+        users = userRepository.saveAll(users);
+        authorId = users.get(0).getId();
+        likerId = users.get(1).getId();
+        otherUserId = users.get(2).getId();
+
+        // 앞의 AUTHOR_POST_COUNT개는 authorId가, 나머지는 여러 사용자가 작성
+        List<Post> posts = new ArrayList<>();
+        for (int i = 0; i < POST_COUNT; i++) {
+            Long postAuthorId = i < AUTHOR_POST_COUNT ? authorId : users.get(i % USER_COUNT).getId();
+            posts.add(Post.create("title " + i, "content " + i, postAuthorId));
+        }
+        posts = postRepository.saveAll(posts);
+        postIds = posts.stream().map(Post::getId).toList();
+        hotPostId = postIds.get(0);
+
+        List<Comment> comments = new ArrayList<>();
+        for (int i = 0; i < COMMENT_COUNT; i++) {
+            comments.add(Comment.createComment("comment " + i, hotPostId, users.get(i % USER_COUNT).getId()));
+        }
+        comments = commentRepository.saveAll(comments);
+        hotCommentId = comments.get(0).getId();
+
+        // 첫 댓글에는 authorId의 답글 여러 개, 나머지 댓글에는 답글 하나씩
+        List<Comment> replies = new ArrayList<>();
+        for (int i = 0; i < COMMENT_COUNT; i++) {
+            replies.add(Comment.createReply("reply " + i, hotPostId, authorId, hotCommentId));
+        }
+        for (int i = 1; i < COMMENT_COUNT; i++) {
+            replies.add(Comment.createReply("reply", hotPostId, likerId, comments.get(i).getId()));
+        }
+        commentRepository.saveAll(replies);
+
+        List<PostLike> likes = new ArrayList<>();
+        for (User user : users) {
+            likes.add(PostLike.create(hotPostId, user.getId()));
+        }
+        for (int i = 1; i <= AUTHOR_POST_COUNT; i++) {
+            likes.add(PostLike.create(postIds.get(i), likerId));
+        }
+        postLikeRepository.saveAll(likes);
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    // 캐시/랭킹(Redis)은 목으로 두어 항상 DB 경로를 실행
+    private void createServices() {
+        JdbcClient jdbcClient = JdbcClient.create(dataSource);
+        PostQueryDao postQueryDao = new PostQueryDao(jdbcClient);
+        TotalCountService totalCountService = new TotalCountService(new ConcurrentMapCacheManager());
+        ApplicationEventPublisher eventPublisher = event -> {
+        };
+
+        EarlyRefreshCache earlyRefreshCache = mock(EarlyRefreshCache.class);
+        given(earlyRefreshCache.get(anyString(), any()))
+                .willAnswer(invocation -> invocation.<Supplier<?>>getArgument(1).get());
+        TrendingBoard trendingBoard = mock(TrendingBoard.class);
+        given(trendingBoard.page(any(), anyInt()))
+                .willAnswer(invocation -> Optional.of(new TrendingBoard.TrendingPage(
+                        postIds.subList(0, invocation.<Integer>getArgument(1)), null)));
+        PostDetailCache postDetailCache = mock(PostDetailCache.class);
+        given(postDetailCache.get(any(), anyLong(), any()))
+                .willAnswer(invocation -> invocation.<Function<Long, PostDetailCache.Entry>>getArgument(2)
+                        .apply(invocation.getArgument(0)));
+
+        postService = new PostService(
+                postRepository,
+                postQueryDao,
+                userRepository,
+                mock(PostLeaderboard.class),
+                trendingBoard,
+                mock(UniqueViewCounter.class),
+                postDetailCache,
+                earlyRefreshCache,
+                new PageCacheProperties(),
+                totalCountService,
+                new PostViewCountService(postRepository),
+                new ObjectMapper(),
+                eventPublisher
+        );
+        PostActivityStats postActivityStats = mock(PostActivityStats.class);
+        given(postActivityStats.findAuthorId(anyLong())).willReturn(Optional.empty());
+        given(postActivityStats.snapshot(anyLong(), anyLong()))
+                .willReturn(new PostActivityStats.Snapshot(List.of(), List.of(), true));
+        postStatsService = new PostStatsService(postActivityStats, postRepository);
+        postLikeService = new PostLikeService(
+                postLikeRepository,
+                new PostLikeQueryDao(jdbcClient),
+                postQueryDao,
+                postRepository,
+                userRepository,
+                totalCountService,
+                eventPublisher
+        );
+        commentService = new CommentService(
+                commentRepository,
+                new CommentQueryDao(jdbcClient),
+                userRepository,
+                postRepository,
+                totalCountService,
+                new ConcurrentMapCacheManager(),
+                eventPublisher
+        );
+    }
+
+    @Test
+    @DisplayName("모든 컨트롤러 엔드포인트에 예산이 선언되어 있다")
+    void everyEndpointDeclaresBudget() {
+        List<String> missing = CONTROLLERS.stream()
+                .flatMap(controller -> Arrays.stream(controller.getDeclaredMethods()))
+                .filter(method -> AnnotatedElementUtils.hasAnnotation(method, RequestMapping.class))
+                .filter(method -> !method.isAnnotationPresent(QueryBudget.class))
+                .map(method -> method.getDeclaringClass().getSimpleName() + "." + method.getName())
+                .toList();
+
+        assertThat(missing).isEmpty();
+    }
+
+    @Test
+    @DisplayName("게시글 목록")
+    void posts() {
+        assertWithinBudget(PostController.class, "getPosts",
+                () -> postService.getPosts(PAGE, CountMode.EXACT));
+        assertWithinBudget(PostController.class, "getPosts",
+                () -> postService.getPosts(sortedBy("createdAt"), CountMode.EXACT));
+    }
+
+    @Test
+    @DisplayName("게시글 상세 (본문 캐시 적재 포함)")
+    void post() {
+        assertWithinBudget(PostController.class, "getPost",
+                () -> postService.getPost(hotPostId, "viewer", stamp -> false));
+    }
+
+    @Test
+    @DisplayName("게시글 통계 (최근 활동이 없어 작성자 확인을 DB로)")
+    void postStats() {
+        assertWithinBudget(PostController.class, "getPostStats",
+                () -> postStatsService.getStats(hotPostId, authorId));
+    }
+
+    @Test
+    @DisplayName("게시글 작성/수정/삭제")
+    void postWrites() {
+        assertWithinBudget(PostController.class, "createPost",
+                () -> postService.createPost(new CreatePostRequest("new title", "new content"), authorId));
+        assertWithinBudget(PostController.class, "updatePost",
+                () -> postService.updatePost(postIds.get(1), new UpdatePostRequest("updated", "updated"), authorId, null));
+        assertWithinBudget(PostController.class, "deletePost",
+                () -> postService.deletePost(postIds.get(2), authorId, null));
+    }
+
+    @Test
+    @DisplayName("좋아요/좋아요 취소/좋아요 여부")
+    void likeWrites() {
+        assertWithinBudget(PostController.class, "likePost",
+                () -> postLikeService.likePost(postIds.get(AUTHOR_POST_COUNT + 3), likerId));
+        assertWithinBudget(PostController.class, "unlikePost",
+                () -> postLikeService.unlikePost(postIds.get(1), likerId));
+        assertWithinBudget(PostController.class, "checkLikeStatus",
+                () -> postLikeService.isLiked(hotPostId, likerId));
+    }
+
+    @Test
+    @DisplayName("댓글/답글 작성/수정/삭제")
+    void commentWrites() {
+        assertWithinBudget(PostCommentController.class, "createComment",
+                () -> commentService.createComment(hotPostId, new CreateCommentRequest("new comment"), otherUserId));
+        assertWithinBudget(PostCommentController.class, "createReply",
+                () -> commentService.createReply(hotPostId, hotCommentId, new CreateCommentRequest("new reply"), otherUserId));
+        assertWithinBudget(PostCommentController.class, "updateComment",
+                () -> commentService.updateComment(hotCommentId, new UpdateCommentRequest("updated"), authorId, null));
+        assertWithinBudget(PostCommentController.class, "deleteComment",
+                () -> commentService.deleteComment(hotCommentId, authorId, null));
+    }
+
+    @Test
+    @DisplayName("내 게시글 목록")
+    void myPosts() {
+        assertWithinBudget(PostController.class, "getMyPosts",
+                () -> postService.getMyPosts(authorId, PAGE, CountMode.EXACT));
+        assertWithinBudget(PostController.class, "getMyPosts",
+                () -> postService.getMyPosts(authorId, sortedBy("createdAt"), CountMode.EXACT));
+    }
+
+    @Test
+    @DisplayName("인기글 목록 (랭킹을 사용할 수 없어 DB로 대체)")
+    void popularPosts() {
+        assertWithinBudget(PostController.class, "getMostViewedPosts",
+                () -> postService.getMostViewedPosts(PAGE));
+        assertWithinBudget(PostController.class, "getMostViewedPosts",
+                () -> postService.getMostLikedPosts(0, PAGE));
+        assertWithinBudget(PostController.class, "getMostViewedPosts",
+                () -> postService.getMostUniqueViewedPosts(PAGE));
+    }
+
+    @Test
+    @DisplayName("트렌딩 게시글 목록")
+    void trendingPosts() {
+        assertWithinBudget(PostController.class, "getTrendingPosts",
+                () -> postService.getTrendingPosts(null, PAGE_SIZE));
+    }
+
+    @Test
+    @DisplayName("게시글 좋아요 사용자 목록")
+    void postLikes() {
+        assertWithinBudget(PostController.class, "getPostLikes",
+                () -> postLikeService.getPostLikes(hotPostId, PAGE, CountMode.EXACT));
+        assertWithinBudget(PostController.class, "getPostLikes",
+                () -> postLikeService.getPostLikes(hotPostId, sortedBy("likedAt"), CountMode.EXACT));
+    }
+
+    @Test
+    @DisplayName("좋아요한 게시글 목록")
+    void likedPosts() {
+        assertWithinBudget(PostController.class, "getLikedPosts",
+                () -> postLikeService.getLikedPosts(likerId, PAGE, CountMode.EXACT));
+    }
+
+    @Test
+    @DisplayName("게시글의 댓글 목록 (검증값 계산 포함, 정렬 지정 시 답글 수 집계)")
+    void postComments() {
+        assertWithinBudget(PostCommentController.class, "getComments", () -> {
+            commentService.getCommentsStamp(hotPostId);
+            commentService.getCommentsByPostId(hotPostId, PAGE, CountMode.EXACT);
+        });
+        assertWithinBudget(PostCommentController.class, "getComments", () -> {
+            commentService.getCommentsStamp(hotPostId);
+            commentService.getCommentsByPostId(hotPostId, sortedBy("createdAt"), CountMode.EXACT);
+        });
+    }
+
+    @Test
+    @DisplayName("답글 목록 (검증값 계산 포함)")
+    void replies() {
+        assertWithinBudget(PostCommentController.class, "getReplies", () -> {
+            commentService.getRepliesStamp(hotCommentId);
+            commentService.getRepliesByCommentId(hotCommentId, PAGE, CountMode.EXACT);
+        });
+    }
+
+    @Test
+    @DisplayName("내 댓글 목록")
+    void myComments() {
+        assertWithinBudget(CommentController.class, "getMyComments",
+                () -> commentService.getCommentsByAuthor(authorId, PAGE, CountMode.EXACT));
+    }
+
+    @Test
+    @DisplayName("댓글 상세")
+    void comment() {
+        assertWithinBudget(PostCommentController.class, "getComment",
+                () -> commentService.getComment(hotCommentId));
+    }
+
+    // 영속성 컨텍스트를 비운 뒤 실행 (이전 조회 결과를 재사용하지 않도록)
+    // 실행 후 측정 구간 안에서 flush (쓰기 지연된 INSERT/UPDATE/DELETE까지 셈)
+    private void assertWithinBudget(Class<?> controller, String endpoint, Runnable request) {
+        int budget = budgetOf(controller, endpoint);
+        entityManager.clear();
+
+        int statements;
+        try (StatementCounter counter = StatementCounter.start()) {
+            request.run();
+            entityManager.flush();
+            statements = counter.count();
+        }
+
+        assertThat(statements)
+                .as("%s.%s 실행 문장 수 (예산 %d)", controller.getSimpleName(), endpoint, budget)
+                .isBetween(1, budget);
+    }
+
+    private static int budgetOf(Class<?> controller, String endpoint) {
+        Method method = Arrays.stream(controller.getDeclaredMethods())
+                .filter(candidate -> candidate.getName().equals(endpoint))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("엔드포인트 없음: " + endpoint));
+        return method.getAnnotation(QueryBudget.class).value();
+    }
+
+    private static Pageable sortedBy(String property) {
+        return PageRequest.of(0, PAGE_SIZE, Sort.by(Sort.Direction.DESC, property));
+    }
+}
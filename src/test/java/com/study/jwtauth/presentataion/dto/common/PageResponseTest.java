@@ -0,0 +1,60 @@
+package com.study.jwtauth.presentataion.dto.common;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("PageResponse 테스트")
+class PageResponseTest {
+
+    @Test
+    @DisplayName("전체 개수가 현재 페이지보다 작으면 현재 페이지 기준으로 보정한다")
+    void of_RaisesTotalToSeenElements() {
+        // given - 캐시된 개수(20)가 실제보다 작은 경우
+        Slice<Integer> slice = new SliceImpl<>(List.of(1, 2, 3, 4, 5, 6, 7, 8, 9, 10), PageRequest.of(2, 10), true);
+
+        // when
+        PageResponse<Integer> response = PageResponse.of(slice, slice.getContent(), 20, true);
+
+        // then
+        assertThat(response.totalElements()).isEqualTo(31);
+        assertThat(response.totalPages()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("범위를 벗어난 빈 페이지는 전체 개수를 그대로 사용한다")
+    void of_OutOfRangePageKeepsTotal() {
+        // given - 30건인데 100번째 페이지 요청
+        Slice<Integer> slice = new SliceImpl<>(List.of(), PageRequest.of(100, 10), false);
+
+        // when
+        PageResponse<Integer> response = PageResponse.of(slice, slice.getContent(), 30, true);
+
+        // then
+        assertThat(response.totalElements()).isEqualTo(30);
+        assertThat(response.totalPages()).isEqualTo(3);
+        assertThat(response.totalExact()).isTrue();
+        assertThat(response.last()).isTrue();
+        assertThat(response.content()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("빈 첫 페이지는 전체 개수 0")
+    void of_EmptyFirstPage() {
+        // given
+        Slice<Integer> slice = new SliceImpl<>(List.of(), PageRequest.of(0, 10), false);
+
+        // when
+        PageResponse<Integer> response = PageResponse.of(slice, slice.getContent(), 0, true);
+
+        // then
+        assertThat(response.totalElements()).isZero();
+        assertThat(response.totalPages()).isZero();
+    }
+}